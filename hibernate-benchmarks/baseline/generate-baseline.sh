@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+#
+# SPDX-License-Identifier: LGPL-2.1-or-later
+# Copyright Red Hat Inc. and Hibernate Authors
+#
+# Regenerates baseline/results.json by running the benchmarks, as first introduced
+# by this module, against the given commit of the tree (by default, the commit
+# preceding the module). The commit is recorded in the "jvmArgs" of every result.
+#
+# Usage: hibernate-benchmarks/baseline/generate-baseline.sh [<commit>]
+
+set -euo pipefail
+
+root=$(git rev-parse --show-toplevel)
+module_commit=$(git -C "$root" log --diff-filter=A --format=%H -- hibernate-benchmarks/hibernate-benchmarks.gradle | tail -n 1)
+baseline_commit=$(git -C "$root" rev-parse "${1:-$module_commit^}")
+
+worktree=$(mktemp -d)
+trap 'git -C "$root" worktree remove --force "$worktree"' EXIT
+git -C "$root" worktree add --detach "$worktree" "$baseline_commit"
+
+# The benchmarks of the module as first introduced only use APIs of the baseline,
+# while the build script of the current tree records the measured commit
+git -C "$worktree" checkout "$module_commit" -- hibernate-benchmarks settings.gradle
+git -C "$root" show HEAD:hibernate-benchmarks/hibernate-benchmarks.gradle > "$worktree/hibernate-benchmarks/hibernate-benchmarks.gradle"
+
+( cd "$worktree" && ./gradlew :hibernate-benchmarks:jmh -Pjmh.commit="$baseline_commit" )
+cp "$worktree/hibernate-benchmarks/build/jmh/results.json" "$root/hibernate-benchmarks/baseline/results.json"
+echo "Baseline of $baseline_commit written to hibernate-benchmarks/baseline/results.json"
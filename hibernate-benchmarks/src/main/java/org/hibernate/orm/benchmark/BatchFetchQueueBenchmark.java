@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the selection of a batch of ids by {@link BatchFetchQueue} in a session
+ * holding many uninitialized proxies, and of a batch of collection keys in a session
+ * holding many uninitialized collections. The cost should not depend on the number
+ * of queued proxies or collections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchFetchQueueBenchmark {
+
+	private static final int BATCH_SIZE = 32;
+
+	@Param({ "1000", "10000", "100000" })
+	public int proxies;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private BatchFetchQueue batchFetchQueue;
+	private EntityPersister persister;
+	private int next;
+
+	private SessionImplementor collectionSession;
+	private BatchFetchQueue collectionBatchFetchQueue;
+	private CollectionPersister collectionPersister;
+	private Long[] collectionKeys;
+	private int nextCollection;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory(
+				Map.of( FetchSettings.DEFAULT_BATCH_FETCH_SIZE, BATCH_SIZE )
+		);
+		session = (SessionImplementor) sessionFactory.openSession();
+		for ( long id = 1; id <= proxies; id++ ) {
+			session.getReference( Customer.class, id );
+		}
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Customer.class );
+		batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+
+		BenchmarkSupport.populate( sessionFactory, proxies, 0 );
+		collectionSession = (SessionImplementor) sessionFactory.openSession();
+		// each customer has an uninitialized collection of orders
+		collectionKeys = collectionSession.createSelectionQuery( "from Customer order by id", Customer.class )
+				.getResultList()
+				.stream()
+				.map( Customer::getId )
+				.toArray( Long[]::new );
+		collectionPersister = sessionFactory.getMappingMetamodel()
+				.getCollectionDescriptor( Customer.class.getName() + ".orders" );
+		collectionBatchFetchQueue = collectionSession.getPersistenceContextInternal().getBatchFetchQueue();
+	}
+
+	@TearDown
+	public void tearDown() {
+		collectionSession.close();
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object[] selectBatch() {
+		next = next == proxies ? 1 : next + 1;
+		return batchFetchQueue.getBatchLoadableEntityIds( persister, (long) next, BATCH_SIZE );
+	}
+
+	@Benchmark
+	public Object[] selectCollectionBatch() {
+		nextCollection = nextCollection == collectionKeys.length - 1 ? 0 : nextCollection + 1;
+		return collectionBatchFetchQueue.getCollectionBatch(
+				collectionPersister,
+				collectionKeys[nextCollection],
+				BATCH_SIZE
+		);
+	}
+}
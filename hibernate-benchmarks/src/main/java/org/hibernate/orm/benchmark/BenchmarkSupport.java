@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.SchemaToolingSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.AuditEntry;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.orm.benchmark.model.OrderLine;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+import org.hibernate.orm.benchmark.model.Shipment;
+import org.hibernate.tool.schema.Action;
+
+/**
+ * Bootstraps the benchmark domain model against an embedded H2 database.
+ * <p>
+ * Every call to {@link #buildSessionFactory(Map)} uses its own in-memory
+ * database, so benchmarks with different settings never share state.
+ */
+public final class BenchmarkSupport {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSupport() {
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory(Map<String, Object> settings) {
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Customer.class )
+				.addAnnotatedClass( PurchaseOrder.class )
+				.addAnnotatedClass( OrderLine.class )
+				.addAnnotatedClass( AuditEntry.class )
+				.addAnnotatedClass( Shipment.class )
+				.setProperty(
+						JdbcSettings.JAKARTA_JDBC_URL,
+						"jdbc:h2:mem:bench" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+				)
+				.setProperty( JdbcSettings.JAKARTA_JDBC_USER, "sa" )
+				.setProperty( JdbcSettings.POOL_SIZE, 4 )
+				.setProperty( SchemaToolingSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, Action.CREATE_DROP );
+		settings.forEach( (name, value) -> configuration.setProperty( name, value.toString() ) );
+		final SessionFactory sessionFactory = configuration.buildSessionFactory();
+		return (SessionFactoryImplementor) sessionFactory;
+	}
+
+	/**
+	 * Insert {@code customers} customers, each owning {@code ordersPerCustomer} orders.
+	 */
+	public static void populate(SessionFactory sessionFactory, int customers, int ordersPerCustomer) {
+		sessionFactory.inTransaction( session -> {
+			final LocalDate since = LocalDate.of( 2020, 1, 1 );
+			final LocalDateTime placedAt = LocalDateTime.of( 2024, 6, 1, 12, 0 );
+			for ( int i = 0; i < customers; i++ ) {
+				final Customer customer = new Customer(
+						"customer-" + i,
+						"customer-" + i + "@example.org",
+						i % 500,
+						since.plusDays( i % 1000 )
+				);
+				session.persist( customer );
+				for ( int j = 0; j < ordersPerCustomer; j++ ) {
+					session.persist( new PurchaseOrder(
+							customer,
+							j % 2 == 0 ? "OPEN" : "SHIPPED",
+							BigDecimal.valueOf( 1000 + i * 7L + j, 2 ),
+							placedAt.plusMinutes( j )
+					) );
+				}
+				if ( i % 500 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+		} );
+	}
+}
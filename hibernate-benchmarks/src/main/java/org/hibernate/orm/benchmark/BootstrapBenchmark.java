@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.EnvironmentSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
+import org.hibernate.jpa.boot.spi.Bootstrap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+
+/**
+ * Measures the bootstrap of a persistence unit whose classes are discovered
+ * by scanning, with and without reusing the stored result of an earlier scan.
+ * <p>
+ * The persistence unit is a directory of generated entity classes, each with
+ * a few basic attributes and a many-to-one association to another one, so
+ * that the saving is measured against the bootstrap of a model of realistic
+ * size, rather than against the scanning of unrelated classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class BootstrapBenchmark {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+	private static final String MODEL_PACKAGE = "org.hibernate.orm.benchmark.generated.";
+
+	@Param({ "500" })
+	public int entityCount;
+
+	@Param({ "false", "true" })
+	public boolean scanCache;
+
+	private Path modelDirectory;
+	private URLClassLoader modelClassLoader;
+	private Path cacheFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		modelDirectory = Files.createTempDirectory( "hibernate-model" );
+		generateModel( modelDirectory, entityCount );
+		modelClassLoader = new URLClassLoader(
+				new URL[] { modelDirectory.toUri().toURL() },
+				BootstrapBenchmark.class.getClassLoader()
+		);
+		if ( scanCache ) {
+			cacheFile = Files.createTempFile( "hibernate-scan", ".bin" );
+			Files.delete( cacheFile );
+			// store the scan result used by every measured bootstrap
+			bootstrap().close();
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		if ( cacheFile != null ) {
+			Files.deleteIfExists( cacheFile );
+		}
+		modelClassLoader.close();
+		try ( Stream<Path> files = Files.walk( modelDirectory ) ) {
+			for ( Path file : files.sorted( Comparator.reverseOrder() ).toList() ) {
+				Files.delete( file );
+			}
+		}
+	}
+
+	@Benchmark
+	public void bootstrapWithScanning() {
+		bootstrap().close();
+	}
+
+	private EntityManagerFactory bootstrap() {
+		final ParsedPersistenceXmlDescriptor persistenceUnit = new ParsedPersistenceXmlDescriptor( location() );
+		persistenceUnit.setName( "bootstrap-benchmark" );
+
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put(
+				JdbcSettings.JAKARTA_JDBC_URL,
+				"jdbc:h2:mem:bootstrap" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+		);
+		settings.put( JdbcSettings.JAKARTA_JDBC_USER, "sa" );
+		settings.put( EnvironmentSettings.CLASSLOADERS, List.of( modelClassLoader ) );
+		if ( cacheFile != null ) {
+			settings.put( PersistenceSettings.SCANNER_CACHE_FILE, cacheFile.toString() );
+		}
+		return Bootstrap.getEntityManagerFactoryBuilder( persistenceUnit, settings ).build();
+	}
+
+	private URL location() {
+		try {
+			return modelDirectory.toUri().toURL();
+		}
+		catch (MalformedURLException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	/**
+	 * Writes the class files of the given number of entities, where entity
+	 * {@code i} has a many-to-one association to entity {@code i / 2}.
+	 */
+	private static void generateModel(Path directory, int entityCount) throws IOException {
+		final ByteBuddy byteBuddy = new ByteBuddy();
+		for ( int i = 0; i < entityCount; i++ ) {
+			final TypeDescription parent = new TypeDescription.Latent(
+					MODEL_PACKAGE + "Entity" + ( i / 2 ),
+					Modifier.PUBLIC,
+					TypeDescription.Generic.OBJECT
+			);
+			try ( DynamicType.Unloaded<?> entity = byteBuddy.subclass( Object.class )
+					.name( MODEL_PACKAGE + "Entity" + i )
+					.annotateType( AnnotationDescription.Builder.ofType( Entity.class ).build() )
+					.defineField( "id", Long.class, Visibility.PRIVATE )
+					.annotateField( AnnotationDescription.Builder.ofType( Id.class ).build() )
+					.defineField( "name", String.class, Visibility.PRIVATE )
+					.defineField( "amount", BigDecimal.class, Visibility.PRIVATE )
+					.defineField( "created", LocalDate.class, Visibility.PRIVATE )
+					.defineField( "quantity", int.class, Visibility.PRIVATE )
+					.defineField( "parent", parent, Visibility.PRIVATE )
+					.annotateField( AnnotationDescription.Builder.ofType( ManyToOne.class ).build() )
+					.make() ) {
+				entity.saveIn( directory.toFile() );
+			}
+		}
+	}
+}
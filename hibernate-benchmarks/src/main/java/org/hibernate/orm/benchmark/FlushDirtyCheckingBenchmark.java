@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dirty checking performed by {@code DefaultFlushEntityEventListener}
+ * when flushing a session holding many managed entities.
+ * <p>
+ * {@link #flushClean()} exercises the pure snapshot comparison (no SQL is issued),
+ * while {@link #flushFewDirty()} modifies one entity in a hundred before flushing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlushDirtyCheckingBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	public int entities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private Transaction transaction;
+	private List<Customer> customers;
+	private int round;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( Map.of() );
+		BenchmarkSupport.populate( sessionFactory, entities, 0 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = sessionFactory.openSession();
+		transaction = session.beginTransaction();
+		customers = session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeSession() {
+		transaction.rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flushClean() {
+		session.flush();
+	}
+
+	@Benchmark
+	public void flushFewDirty() {
+		round++;
+		for ( int i = round % 100; i < customers.size(); i += 100 ) {
+			final Customer customer = customers.get( i );
+			customer.setLoyaltyPoints( customer.getLoyaltyPoints() + 1 );
+		}
+		session.flush();
+	}
+}
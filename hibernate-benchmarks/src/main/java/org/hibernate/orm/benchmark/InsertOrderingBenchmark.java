@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.action.internal.AbstractEntityInsertAction;
+import org.hibernate.action.internal.EntityInsertAction;
+import org.hibernate.engine.internal.InsertActionSorter;
+import org.hibernate.engine.spi.ExecutableList;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.orm.benchmark.model.AuditEntry;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.orm.benchmark.model.OrderLine;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the ordering of the inserts of a flush by {@link InsertActionSorter}, compared with
+ * the {@linkplain LegacyInsertActionSorter previous implementation}.
+ * <p>
+ * The inserts form randomly shaped graphs: each customer has a random number of orders, each
+ * order a random number of lines, and audit entries are scattered in between. The inserts of
+ * the customers are randomly interleaved, in an order which respects their dependencies, just
+ * like the cascade order of a flush.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertOrderingBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int inserts;
+
+	@Param({ "legacy", "topological" })
+	public String sorter;
+
+	@Param("42")
+	public long seed;
+
+	private SessionFactoryImplementor sessionFactory;
+	private EventSource session;
+	private ExecutableList.Sorter<AbstractEntityInsertAction> insertActionSorter;
+	private List<AbstractEntityInsertAction> insertActions;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( Map.of() );
+		session = (EventSource) sessionFactory.openSession();
+		insertActionSorter = "legacy".equals( sorter ) ? LegacyInsertActionSorter.INSTANCE : InsertActionSorter.INSTANCE;
+		insertActions = new ArrayList<>( inserts );
+		for ( Object entity : randomGraphs( new Random( seed ) ) ) {
+			final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( entity.getClass() );
+			insertActions.add( new EntityInsertAction( null, persister.getValues( entity ), entity, null,
+					persister, false, session ) );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<AbstractEntityInsertAction> sort() {
+		final List<AbstractEntityInsertAction> actions = new ArrayList<>( insertActions );
+		insertActionSorter.sort( actions );
+		return actions;
+	}
+
+	/**
+	 * The entities to insert, each one after the entities it depends on.
+	 */
+	private List<Object> randomGraphs(Random random) {
+		final LocalDate since = LocalDate.of( 2020, 1, 1 );
+		final LocalDateTime placedAt = LocalDateTime.of( 2024, 6, 1, 12, 0 );
+		final Instant recordedAt = Instant.parse( "2024-06-01T12:00:00Z" );
+		final List<Iterator<Object>> graphs = new ArrayList<>();
+		int count = 0;
+		while ( count < inserts ) {
+			final List<Object> graph = new ArrayList<>();
+			final Customer customer = new Customer( "customer-" + count, "customer@example.org", 0, since );
+			graph.add( customer );
+			final int orders = random.nextInt( 8 );
+			for ( int i = 0; i < orders; i++ ) {
+				final PurchaseOrder order = new PurchaseOrder( customer, "OPEN", BigDecimal.TEN, placedAt );
+				graph.add( order );
+				final int lines = random.nextInt( 6 );
+				for ( int j = 0; j < lines; j++ ) {
+					graph.add( new OrderLine( order, "sku-" + j, 1, BigDecimal.ONE ) );
+				}
+				if ( random.nextBoolean() ) {
+					graph.add( new AuditEntry( "PurchaseOrder", i, "INSERT", recordedAt ) );
+				}
+			}
+			count += graph.size();
+			graphs.add( graph.iterator() );
+		}
+
+		final List<Object> entities = new ArrayList<>( count );
+		while ( !graphs.isEmpty() && entities.size() < inserts ) {
+			final int index = random.nextInt( graphs.size() );
+			final Iterator<Object> graph = graphs.get( index );
+			entities.add( graph.next() );
+			if ( !graph.hasNext() ) {
+				graphs.set( index, graphs.get( graphs.size() - 1 ) );
+				graphs.remove( graphs.size() - 1 );
+			}
+		}
+		return entities;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.AuditEntry;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.orm.benchmark.model.OrderLine;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures statement batching in {@code BatchImpl} for a flush which
+ * interleaves inserts of several entity types, executing either JDBC batches
+ * of single-row inserts, or {@linkplain BatchSettings#MULTI_ROW_INSERTS
+ * multi-row inserts}.
+ * <p>
+ * Each invocation persists {@link #orders} orders, each with two lines and an
+ * audit entry, flushes, and rolls the transaction back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcBatchingBenchmark {
+
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	@Param({ "false", "true" })
+	public boolean orderInserts;
+
+	@Param({ "false", "true" })
+	public boolean multiRowInserts;
+
+	@Param("500")
+	public int orders;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( Map.of(
+				BatchSettings.STATEMENT_BATCH_SIZE, batchSize,
+				BatchSettings.ORDER_INSERTS, orderInserts,
+				BatchSettings.MULTI_ROW_INSERTS, multiRowInserts
+		) );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void mixedInserts() {
+		final LocalDateTime placedAt = LocalDateTime.of( 2024, 6, 1, 12, 0 );
+		final Instant recordedAt = Instant.parse( "2024-06-01T12:00:00Z" );
+		try ( Session session = sessionFactory.openSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			final Customer customer = new Customer( "batch", "batch@example.org", 0, LocalDate.of( 2020, 1, 1 ) );
+			session.persist( customer );
+			for ( int i = 0; i < orders; i++ ) {
+				final PurchaseOrder order = new PurchaseOrder( customer, "OPEN", BigDecimal.TEN, placedAt );
+				session.persist( order );
+				session.persist( new OrderLine( order, "sku-" + i, 1, BigDecimal.ONE ) );
+				session.persist( new OrderLine( order, "sku-" + ( i + 1 ), 2, BigDecimal.ONE ) );
+				session.persist( new AuditEntry( "PurchaseOrder", i, "INSERT", recordedAt ) );
+			}
+			session.flush();
+			transaction.rollback();
+		}
+	}
+}
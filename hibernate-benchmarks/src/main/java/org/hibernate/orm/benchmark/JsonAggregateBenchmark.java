@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.dialect.JsonHelper;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.mapping.EmbeddableMappingType;
+import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
+import org.hibernate.orm.benchmark.model.Shipment;
+import org.hibernate.orm.benchmark.model.ShippingDetails;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the JSON codec of embeddable aggregates, {@code JsonHelper},
+ * against the Jackson {@code FormatMapper} for the same embeddable.
+ * <p>
+ * Run with {@code -Pjmh.profilers=gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonAggregateBenchmark {
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EmbeddableMappingType mappingType;
+	private JavaType<ShippingDetails> javaType;
+	private JacksonJsonFormatMapper jackson;
+
+	private ShippingDetails details;
+	private String json;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( Map.of() );
+		// only used as WrapperOptions
+		session = (SessionImplementor) sessionFactory.openSession();
+		final EmbeddedAttributeMapping attributeMapping = (EmbeddedAttributeMapping) sessionFactory
+				.getMappingMetamodel()
+				.getEntityDescriptor( Shipment.class )
+				.findAttributeMapping( "details" );
+		mappingType = attributeMapping.getEmbeddableTypeDescriptor();
+		javaType = sessionFactory.getTypeConfiguration().getJavaTypeRegistry()
+				.resolveDescriptor( ShippingDetails.class );
+		jackson = new JacksonJsonFormatMapper();
+
+		details = new ShippingDetails(
+				"Jane \"JD\" Doe",
+				"1 Main Street",
+				"Springfield",
+				"12345-6789",
+				3,
+				new BigDecimal( "12.75" ),
+				LocalDate.of( 2024, 6, 1 ),
+				UUID.fromString( "1b4e28ba-2fa1-11d2-883f-0016d3cca427" )
+		);
+		json = JsonHelper.toString( mappingType, details, session );
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public String writeJsonHelper() {
+		return JsonHelper.toString( mappingType, details, session );
+	}
+
+	@Benchmark
+	public String writeJackson() {
+		return jackson.toString( details, javaType, session );
+	}
+
+	@Benchmark
+	public ShippingDetails readJsonHelper() throws SQLException {
+		return JsonHelper.fromString( mappingType, json, true, session );
+	}
+
+	@Benchmark
+	public ShippingDetails readJackson() {
+		return jackson.fromString( json, javaType, session );
+	}
+}
@@ -0,0 +1,321 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.action.internal.AbstractEntityInsertAction;
+import org.hibernate.engine.spi.ExecutableList;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+/**
+ * The insert ordering of {@link org.hibernate.engine.spi.ActionQueue} before it was replaced by
+ * {@link org.hibernate.engine.internal.InsertActionSorter}, kept as the reference for
+ * {@link InsertOrderingBenchmark}.
+ * <p>
+ * It discovers the transitive incoming dependencies of every insert, groups the inserts by entity
+ * name, and schedules the groups one by one, as long as all their dependencies are scheduled.
+ */
+final class LegacyInsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
+	static final LegacyInsertActionSorter INSTANCE = new LegacyInsertActionSorter();
+
+	private static class InsertInfo {
+		private final AbstractEntityInsertAction insertAction;
+		// Inserts in this set must be executed before this insert
+		private Set<InsertInfo> transitiveIncomingDependencies;
+		// Child dependencies of i.e. one-to-many or inverse one-to-one
+		// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
+		private Set<InsertInfo> outgoingDependencies;
+		// The current index of the insert info within an insert schedule
+		private int index;
+
+		public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
+			this.insertAction = insertAction;
+			this.index = index;
+		}
+
+		public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
+			final Object[] propertyValues = insertAction.getState();
+			final Type[] propertyTypes = insertAction.getPersister().getPropertyTypes();
+			for ( int i = 0, propertyTypesLength = propertyTypes.length; i < propertyTypesLength; i++ ) {
+				addDirectDependency( propertyTypes[i], propertyValues[i], insertInfosByEntity );
+			}
+		}
+
+		public void propagateChildDependencies() {
+			if ( outgoingDependencies != null ) {
+				for ( InsertInfo childDependency : outgoingDependencies ) {
+					if (childDependency.transitiveIncomingDependencies == null) {
+						childDependency.transitiveIncomingDependencies = new HashSet<>();
+					}
+					childDependency.transitiveIncomingDependencies.add( this );
+				}
+			}
+		}
+
+		public void buildTransitiveDependencies(Set<InsertInfo> visited) {
+			if ( transitiveIncomingDependencies != null ) {
+				visited.addAll( transitiveIncomingDependencies );
+				for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
+					insertInfo.addTransitiveDependencies(this, visited);
+				}
+				visited.clear();
+			}
+		}
+
+		public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
+			if ( transitiveIncomingDependencies != null ) {
+				for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
+					if ( visited.add(insertInfo) ) {
+						origin.transitiveIncomingDependencies.add( insertInfo );
+						insertInfo.addTransitiveDependencies( origin, visited );
+					}
+				}
+			}
+		}
+
+		private void addDirectDependency(Type type, Object value, IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
+			if ( value == null ) {
+				return;
+			}
+			if ( type instanceof EntityType entityType ) {
+				final InsertInfo insertInfo = insertInfosByEntity.get( value );
+				if ( insertInfo != null ) {
+					if ( entityType.isOneToOne()
+							&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+						if ( !entityType.isReferenceToPrimaryKey() ) {
+							if ( outgoingDependencies == null ) {
+								outgoingDependencies = new HashSet<>();
+							}
+							outgoingDependencies.add(insertInfo);
+						}
+					}
+					else {
+						if ( transitiveIncomingDependencies == null ) {
+							transitiveIncomingDependencies = new HashSet<>();
+						}
+						transitiveIncomingDependencies.add( insertInfo );
+					}
+				}
+			}
+			else if ( type instanceof CollectionType collectionType ) {
+				final PluralAttributeMapping pluralAttributeMapping = insertAction.getSession()
+						.getFactory()
+						.getMappingMetamodel()
+						.getCollectionDescriptor( collectionType.getRole() )
+						.getAttributeMapping();
+				// We only care about mappedBy one-to-many associations, because for these,
+				// the elements depend on the collection owner
+				if ( pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
+						&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
+					final Iterator<?> elementsIterator = collectionType.getElementsIterator( value );
+					while ( elementsIterator.hasNext() ) {
+						final Object element = elementsIterator.next();
+						final InsertInfo insertInfo = insertInfosByEntity.get( element );
+						if ( insertInfo != null ) {
+							if ( outgoingDependencies == null ) {
+								outgoingDependencies = new HashSet<>();
+							}
+							outgoingDependencies.add( insertInfo );
+						}
+					}
+				}
+			}
+			else if ( type instanceof ComponentType compositeType ) {
+				// Support recursive checks of composite type properties for associations and collections.
+				final SharedSessionContractImplementor session = insertAction.getSession();
+				final Object[] componentValues = compositeType.getPropertyValues( value, session );
+				for ( int j = 0; j < componentValues.length; ++j ) {
+					final Type componentValueType = compositeType.getSubtypes()[j];
+					final Object componentValue = componentValues[j];
+					addDirectDependency( componentValueType, componentValue, insertInfosByEntity );
+				}
+			}
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o )  {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			final InsertInfo that = (InsertInfo) o;
+			return insertAction.equals( that.insertAction );
+		}
+
+		@Override
+		public int hashCode() {
+			return insertAction.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "InsertInfo{" +
+				"insertAction=" + insertAction +
+				'}';
+		}
+	}
+
+	private LegacyInsertActionSorter() {
+	}
+
+	/**
+	 * Sort the insert actions.
+	 */
+	public void sort(List<AbstractEntityInsertAction> insertions) {
+		final int insertInfoCount = insertions.size();
+		// Build up dependency metadata for insert actions
+		final InsertInfo[] insertInfos = new InsertInfo[insertInfoCount];
+		// A map of all insert infos keyed by the entity instance
+		// This is needed to discover insert infos for direct dependencies
+		final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
+		// Construct insert infos and build a map for that, keyed by entity instance
+		for (int i = 0; i < insertInfoCount; i++) {
+			final AbstractEntityInsertAction insertAction = insertions.get(i);
+			final InsertInfo insertInfo = new InsertInfo(insertAction, i);
+			insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
+			insertInfos[i] = insertInfo;
+		}
+		// First we must discover the direct dependencies
+		for (int i = 0; i < insertInfoCount; i++) {
+			insertInfos[i].buildDirectDependencies(insertInfosByEntity);
+		}
+		// Then we can propagate child dependencies to the insert infos incoming dependencies
+		for (int i = 0; i < insertInfoCount; i++) {
+			insertInfos[i].propagateChildDependencies();
+		}
+		// Finally, we add all the transitive incoming dependencies
+		// and then group insert infos into EntityInsertGroup keyed by entity name
+		final Set<InsertInfo> visited = new HashSet<>();
+		final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
+		for (int i = 0; i < insertInfoCount; i++) {
+			final InsertInfo insertInfo = insertInfos[i];
+			insertInfo.buildTransitiveDependencies( visited );
+
+			final String entityName = insertInfo.insertAction.getPersister().getEntityName();
+			EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
+			if (entityInsertGroup == null) {
+				insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
+			}
+			entityInsertGroup.add(insertInfo);
+		}
+		// Now we can go through the EntityInsertGroups and schedule all the ones
+		// for which we have already scheduled all the dependentEntityNames
+		final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
+		int schedulePosition = 0;
+		int lastScheduleSize;
+		do {
+			lastScheduleSize = scheduledEntityNames.size();
+			final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
+			while (iterator.hasNext()) {
+				final EntityInsertGroup insertGroup = iterator.next();
+				if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
+					schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
+					scheduledEntityNames.add(insertGroup.entityName);
+					iterator.remove();
+				}
+			}
+			// we try to schedule entity groups over and over again, until we can't schedule any further
+		} while (lastScheduleSize != scheduledEntityNames.size());
+		insertions.clear();
+		for (InsertInfo insertInfo : insertInfos) {
+			insertions.add(insertInfo.insertAction);
+		}
+	}
+
+	private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
+		final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
+		// The bitset is there to quickly query if an index is already scheduled
+		final BitSet bitSet = new BitSet(insertInfos.length);
+		// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
+		int smallestScheduledIndex = -1;
+		// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
+		int biggestScheduledIndex = -1;
+		for (int i = 0; i < insertInfosToSchedule.size(); i++) {
+			final int index = insertInfosToSchedule.get(i).index;
+			bitSet.set(index);
+			smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
+			biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
+		}
+		final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
+		if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
+			// In this case, the order is already correct and we can skip some copying
+			return nextSchedulePosition;
+		}
+		// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
+		int shiftSchedulePosition = nextSchedulePosition;
+		for (int i = 0; i < insertInfosToSchedule.size(); i++) {
+			final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
+			final int targetSchedulePosition = schedulePosition + i;
+			newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
+			insertInfoToSchedule.index = targetSchedulePosition;
+			final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
+			// Move the insert info previously located at the target schedule position to the current shift position
+			if (!bitSet.get(targetSchedulePosition)) {
+				oldInsertInfo.index = shiftSchedulePosition;
+				// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
+				bitSet.set(targetSchedulePosition);
+				newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
+			}
+		}
+		// We have to shift all the elements up to the biggestMovedIndex + 1
+		biggestScheduledIndex++;
+		for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
+			// Only copy the old insert info over if it wasn't already scheduled
+			if (!bitSet.get(i)) {
+				final InsertInfo insertInfo = insertInfos[i];
+				insertInfo.index = shiftSchedulePosition;
+				newInsertInfos[shiftSchedulePosition++] = insertInfo;
+			}
+		}
+		// Copy over the newly reordered array part into the main array
+		System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
+		return nextSchedulePosition;
+	}
+
+	public static class EntityInsertGroup {
+		private final String entityName;
+		private final List<InsertInfo> insertInfos = new ArrayList<>();
+		private final Set<String> dependentEntityNames = new HashSet<>();
+
+		public EntityInsertGroup(String entityName) {
+			this.entityName = entityName;
+		}
+
+		public void add(InsertInfo insertInfo) {
+			insertInfos.add(insertInfo);
+			if (insertInfo.transitiveIncomingDependencies != null) {
+				for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
+					dependentEntityNames.add(dependency.insertAction.getEntityName());
+				}
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "EntityInsertGroup{" +
+				"entityName='" + entityName + '\'' +
+				'}';
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures entity lookups against a populated {@code StatefulPersistenceContext},
+ * both as raw {@link EntityKey} lookups and through {@code Session.find()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceContextLookupBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int entities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private PersistenceContext persistenceContext;
+	private EntityKey[] keys;
+	private Long[] ids;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( Map.of() );
+		BenchmarkSupport.populate( sessionFactory, entities, 0 );
+
+		session = (SessionImplementor) sessionFactory.openSession();
+		final List<Customer> customers =
+				session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+		final EntityPersister persister =
+				sessionFactory.getMappingMetamodel().getEntityDescriptor( Customer.class );
+		persistenceContext = session.getPersistenceContextInternal();
+		keys = new EntityKey[customers.size()];
+		ids = new Long[customers.size()];
+		for ( int i = 0; i < customers.size(); i++ ) {
+			ids[i] = customers.get( i ).getId();
+			keys[i] = session.generateEntityKey( ids[i], persister );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	private int nextIndex() {
+		next = next + 1 == keys.length ? 0 : next + 1;
+		return next;
+	}
+
+	@Benchmark
+	public Object getEntity() {
+		return persistenceContext.getEntity( keys[nextIndex()] );
+	}
+
+	@Benchmark
+	public Object getEntry() {
+		return persistenceContext.getEntry( persistenceContext.getEntity( keys[nextIndex()] ) );
+	}
+
+	@Benchmark
+	public Customer find() {
+		return session.find( Customer.class, ids[nextIndex()] );
+	}
+}
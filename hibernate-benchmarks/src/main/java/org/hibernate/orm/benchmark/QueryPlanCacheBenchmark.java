@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures HQL interpretation lookups in {@code QueryInterpretationCacheStandardImpl},
+ * both directly and through {@code Session.createSelectionQuery()}.
+ * <p>
+ * The set of distinct query strings is always smaller than the cache, so after
+ * warmup every lookup is expected to be a hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class QueryPlanCacheBenchmark {
+
+	@Param({ "16", "1024" })
+	public int distinctQueries;
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryEngine queryEngine;
+	private String[] queries;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( Map.of() );
+		queryEngine = sessionFactory.getQueryEngine();
+		queries = new String[distinctQueries];
+		for ( int i = 0; i < distinctQueries; i++ ) {
+			queries[i] = "from PurchaseOrder o where o.status = :status and o.id > " + i;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+		private Session session;
+		private int next;
+
+		@Setup
+		public void openSession(QueryPlanCacheBenchmark benchmark) {
+			session = benchmark.sessionFactory.openSession();
+		}
+
+		@TearDown
+		public void closeSession() {
+			session.close();
+		}
+
+		int nextIndex(int bound) {
+			next = next + 1 == bound ? 0 : next + 1;
+			return next;
+		}
+	}
+
+	@Benchmark
+	public HqlInterpretation<PurchaseOrder> interpretationLookup(ThreadState state) {
+		return queryEngine.interpretHql( queries[state.nextIndex( distinctQueries )], PurchaseOrder.class );
+	}
+
+	@Benchmark
+	public SelectionQuery<PurchaseOrder> createSelectionQuery(ThreadState state) {
+		return state.session.createSelectionQuery( queries[state.nextIndex( distinctQueries )], PurchaseOrder.class );
+	}
+}
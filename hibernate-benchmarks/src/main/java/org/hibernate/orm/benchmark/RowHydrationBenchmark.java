@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures row hydration through {@code StandardRowReader}, for managed
+ * entities (with a fetched to-one association) and for scalar projections.
+ * <p>
+ * With {@code compiledRowReaders}, compares the interpreted reader with the
+ * readers generated for {@value QuerySettings#COMPILED_ROW_READERS_ENABLED}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowHydrationBenchmark {
+
+	@Param({ "100", "1000" })
+	public int rows;
+
+	@Param({ "false", "true" })
+	public boolean compiledRowReaders;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory(
+				Map.of( QuerySettings.COMPILED_ROW_READERS_ENABLED, compiledRowReaders )
+		);
+		BenchmarkSupport.populate( sessionFactory, rows / 10, 10 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> entities() {
+		return sessionFactory.fromSession( session -> session
+				.createSelectionQuery( "from PurchaseOrder o join fetch o.customer", PurchaseOrder.class )
+				.getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		return sessionFactory.fromSession( session -> session
+				.createSelectionQuery( "select o.id, o.status, o.total, o.placedAt from PurchaseOrder o", Object[].class )
+				.getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<OrderSummary> constructorResults() {
+		return sessionFactory.fromSession( session -> session
+				.createSelectionQuery(
+						"select new " + OrderSummary.class.getName() + "(o.id, o.status, o.total) from PurchaseOrder o",
+						OrderSummary.class
+				)
+				.getResultList()
+		);
+	}
+
+	public record OrderSummary(Long id, String status, BigDecimal total) {
+	}
+}
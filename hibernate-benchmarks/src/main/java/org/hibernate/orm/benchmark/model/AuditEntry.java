@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+@Entity
+public class AuditEntry {
+	@Id
+	@GeneratedValue
+	private Long id;
+	private String entityName;
+	private long entityId;
+	private String action;
+	private Instant recordedAt;
+
+	protected AuditEntry() {
+	}
+
+	public AuditEntry(String entityName, long entityId, String action, Instant recordedAt) {
+		this.entityName = entityName;
+		this.entityId = entityId;
+		this.action = action;
+		this.recordedAt = recordedAt;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public long getEntityId() {
+		return entityId;
+	}
+
+	public String getAction() {
+		return action;
+	}
+
+	public Instant getRecordedAt() {
+		return recordedAt;
+	}
+}
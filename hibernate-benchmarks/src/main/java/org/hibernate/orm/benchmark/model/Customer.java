@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+@Entity
+public class Customer {
+	@Id
+	@GeneratedValue
+	private Long id;
+	private String name;
+	private String email;
+	private int loyaltyPoints;
+	private LocalDate customerSince;
+	@OneToMany(mappedBy = "customer")
+	private List<PurchaseOrder> orders = new ArrayList<>();
+
+	protected Customer() {
+	}
+
+	public Customer(String name, String email, int loyaltyPoints, LocalDate customerSince) {
+		this.name = name;
+		this.email = email;
+		this.loyaltyPoints = loyaltyPoints;
+		this.customerSince = customerSince;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public int getLoyaltyPoints() {
+		return loyaltyPoints;
+	}
+
+	public void setLoyaltyPoints(int loyaltyPoints) {
+		this.loyaltyPoints = loyaltyPoints;
+	}
+
+	public LocalDate getCustomerSince() {
+		return customerSince;
+	}
+
+	public List<PurchaseOrder> getOrders() {
+		return orders;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class OrderLine {
+	@Id
+	@GeneratedValue
+	private Long id;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private PurchaseOrder purchaseOrder;
+	private String sku;
+	private int quantity;
+	private BigDecimal unitPrice;
+
+	protected OrderLine() {
+	}
+
+	public OrderLine(PurchaseOrder purchaseOrder, String sku, int quantity, BigDecimal unitPrice) {
+		this.purchaseOrder = purchaseOrder;
+		this.sku = sku;
+		this.quantity = quantity;
+		this.unitPrice = unitPrice;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public PurchaseOrder getPurchaseOrder() {
+		return purchaseOrder;
+	}
+
+	public String getSku() {
+		return sku;
+	}
+
+	public int getQuantity() {
+		return quantity;
+	}
+
+	public BigDecimal getUnitPrice() {
+		return unitPrice;
+	}
+}
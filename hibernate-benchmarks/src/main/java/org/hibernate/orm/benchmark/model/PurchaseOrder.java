@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "purchase_order")
+public class PurchaseOrder {
+	@Id
+	@GeneratedValue
+	private Long id;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Customer customer;
+	private String status;
+	private BigDecimal total;
+	private LocalDateTime placedAt;
+
+	protected PurchaseOrder() {
+	}
+
+	public PurchaseOrder(Customer customer, String status, BigDecimal total, LocalDateTime placedAt) {
+		this.customer = customer;
+		this.status = status;
+		this.total = total;
+		this.placedAt = placedAt;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public BigDecimal getTotal() {
+		return total;
+	}
+
+	public void setTotal(BigDecimal total) {
+		this.total = total;
+	}
+
+	public LocalDateTime getPlacedAt() {
+		return placedAt;
+	}
+}
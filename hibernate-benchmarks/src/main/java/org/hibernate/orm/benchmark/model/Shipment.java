@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+@Entity
+public class Shipment {
+	@Id
+	@GeneratedValue
+	private Long id;
+	@JdbcTypeCode(SqlTypes.JSON)
+	private ShippingDetails details;
+
+	protected Shipment() {
+	}
+
+	public Shipment(ShippingDetails details) {
+		this.details = details;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public ShippingDetails getDetails() {
+		return details;
+	}
+}
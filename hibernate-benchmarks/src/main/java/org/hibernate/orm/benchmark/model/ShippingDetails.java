@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import jakarta.persistence.Embeddable;
+
+/**
+ * Mapped as a JSON aggregate by {@link Shipment}. The accessors are public
+ * so that the same class can also be (de)serialized by Jackson.
+ */
+@Embeddable
+public class ShippingDetails {
+	private String recipient;
+	private String street;
+	private String city;
+	private String postalCode;
+	private int parcels;
+	private BigDecimal weight;
+	private LocalDate shippedOn;
+	private UUID trackingNumber;
+
+	public ShippingDetails() {
+	}
+
+	public ShippingDetails(
+			String recipient,
+			String street,
+			String city,
+			String postalCode,
+			int parcels,
+			BigDecimal weight,
+			LocalDate shippedOn,
+			UUID trackingNumber) {
+		this.recipient = recipient;
+		this.street = street;
+		this.city = city;
+		this.postalCode = postalCode;
+		this.parcels = parcels;
+		this.weight = weight;
+		this.shippedOn = shippedOn;
+		this.trackingNumber = trackingNumber;
+	}
+
+	public String getRecipient() {
+		return recipient;
+	}
+
+	public void setRecipient(String recipient) {
+		this.recipient = recipient;
+	}
+
+	public String getStreet() {
+		return street;
+	}
+
+	public void setStreet(String street) {
+		this.street = street;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public void setCity(String city) {
+		this.city = city;
+	}
+
+	public String getPostalCode() {
+		return postalCode;
+	}
+
+	public void setPostalCode(String postalCode) {
+		this.postalCode = postalCode;
+	}
+
+	public int getParcels() {
+		return parcels;
+	}
+
+	public void setParcels(int parcels) {
+		this.parcels = parcels;
+	}
+
+	public BigDecimal getWeight() {
+		return weight;
+	}
+
+	public void setWeight(BigDecimal weight) {
+		this.weight = weight;
+	}
+
+	public LocalDate getShippedOn() {
+		return shippedOn;
+	}
+
+	public void setShippedOn(LocalDate shippedOn) {
+		this.shippedOn = shippedOn;
+	}
+
+	public UUID getTrackingNumber() {
+		return trackingNumber;
+	}
+
+	public void setTrackingNumber(UUID trackingNumber) {
+		this.trackingNumber = trackingNumber;
+	}
+}
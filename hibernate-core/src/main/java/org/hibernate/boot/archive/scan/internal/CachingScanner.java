@@ -0,0 +1,408 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.ArchiveHelper;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link Scanner} which stores the result of the scan performed by another
+ * {@code Scanner} in a file, and reuses it as long as the scanned archives do
+ * not change, instead of scanning them again.
+ * <p>
+ * The stored result is keyed by a fingerprint of the scan environment, the
+ * scan options, the Hibernate version, and the name, size and modification
+ * time of every file of the scanned archives. Archives which are not files
+ * or directories cannot be fingerprinted, and are always scanned.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#SCANNER_CACHE_FILE
+ *
+ * @since 7.0
+ */
+public class CachingScanner implements Scanner {
+	private static final Logger log = Logger.getLogger( CachingScanner.class );
+
+	private static final int MAGIC = 0x48534352; // "HSCR"
+	private static final int FORMAT_VERSION = 1;
+
+	private final Scanner delegate;
+	private final Path cacheFile;
+
+	public CachingScanner(Scanner delegate, Path cacheFile) {
+		this.delegate = delegate;
+		this.cacheFile = cacheFile;
+	}
+
+	@Override
+	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters params) {
+		final String fingerprint = fingerprint( environment, options );
+		if ( fingerprint == null ) {
+			log.debugf( "Scanned archives cannot be fingerprinted; not using scan cache [%s]", cacheFile );
+			return delegate.scan( environment, options, params );
+		}
+
+		final ScanResult cachedResult = read( fingerprint, environment );
+		if ( cachedResult != null ) {
+			log.debugf( "Using cached scan result [%s]", cacheFile );
+			return cachedResult;
+		}
+
+		final ScanResult scanResult = delegate.scan( environment, options, params );
+		write( fingerprint, scanResult );
+		return scanResult;
+	}
+
+	private ScanResult read(String fingerprint, ScanEnvironment environment) {
+		if ( !Files.isRegularFile( cacheFile ) ) {
+			return null;
+		}
+		try ( DataInputStream input = new DataInputStream( Files.newInputStream( cacheFile ) ) ) {
+			if ( input.readInt() != MAGIC
+					|| input.readInt() != FORMAT_VERSION
+					|| !fingerprint.equals( input.readUTF() ) ) {
+				log.debugf( "Scan cache [%s] is stale", cacheFile );
+				return null;
+			}
+
+			final List<URL> urls = scannedUrls( environment );
+
+			final Set<PackageDescriptor> packages = new HashSet<>();
+			for ( int i = input.readInt(); i > 0; i-- ) {
+				final String name = input.readUTF();
+				packages.add( new CachedPackageDescriptor(
+						name,
+						new ArchiveEntryStreamAccess( name.replace( '.', '/' ) + "/package-info.class", urls )
+				) );
+			}
+
+			final Set<ClassDescriptor> classes = new HashSet<>();
+			final ClassDescriptor.Categorization[] categorizations = ClassDescriptor.Categorization.values();
+			for ( int i = input.readInt(); i > 0; i-- ) {
+				final String name = input.readUTF();
+				final ClassDescriptor.Categorization categorization = categorizations[input.readByte()];
+				classes.add( new CachedClassDescriptor(
+						name,
+						categorization,
+						new ArchiveEntryStreamAccess( name.replace( '.', '/' ) + ".class", urls )
+				) );
+			}
+
+			final Set<MappingFileDescriptor> mappingFiles = new HashSet<>();
+			for ( int i = input.readInt(); i > 0; i-- ) {
+				final String name = input.readUTF();
+				final byte[] bytes = new byte[input.readInt()];
+				input.readFully( bytes );
+				mappingFiles.add( new DisabledScanner.MappingFileDescriptorImpl(
+						name,
+						new ByteArrayInputStreamAccess( name, bytes )
+				) );
+			}
+
+			return new CachedScanResult( packages, classes, mappingFiles );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read scan cache [%s]", cacheFile );
+			return null;
+		}
+	}
+
+	private void write(String fingerprint, ScanResult scanResult) {
+		try {
+			final Path directory = cacheFile.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			final Path temporaryFile = Files.createTempFile( directory, cacheFile.getFileName().toString(), ".tmp" );
+			try {
+				try ( DataOutputStream output = new DataOutputStream( Files.newOutputStream( temporaryFile ) ) ) {
+					output.writeInt( MAGIC );
+					output.writeInt( FORMAT_VERSION );
+					output.writeUTF( fingerprint );
+
+					output.writeInt( scanResult.getLocatedPackages().size() );
+					for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+						output.writeUTF( packageDescriptor.getName() );
+					}
+
+					output.writeInt( scanResult.getLocatedClasses().size() );
+					for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+						output.writeUTF( classDescriptor.getName() );
+						output.writeByte( classDescriptor.getCategorization().ordinal() );
+					}
+
+					output.writeInt( scanResult.getLocatedMappingFiles().size() );
+					for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+						final byte[] bytes;
+						try ( InputStream stream = mappingFileDescriptor.getStreamAccess().accessInputStream() ) {
+							bytes = ArchiveHelper.getBytesFromInputStream( stream );
+						}
+						output.writeUTF( mappingFileDescriptor.getName() );
+						output.writeInt( bytes.length );
+						output.write( bytes );
+					}
+				}
+				try {
+					Files.move( temporaryFile, cacheFile,
+							StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move( temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING );
+				}
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+			log.debugf( "Stored scan result in scan cache [%s]", cacheFile );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to write scan cache [%s]", cacheFile );
+		}
+	}
+
+	/**
+	 * A fingerprint of everything the result of the scan depends on, or
+	 * {@code null} if one of the scanned archives cannot be fingerprinted.
+	 */
+	static String fingerprint(ScanEnvironment environment, ScanOptions options) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		update( digest, Version.getVersionString() );
+		update( digest, Boolean.toString( options.canDetectUnlistedClassesInRoot() ) );
+		update( digest, Boolean.toString( options.canDetectUnlistedClassesInNonRoot() ) );
+		update( digest, Boolean.toString( options.canDetectHibernateMappingFiles() ) );
+		if ( environment.getExplicitlyListedClassNames() != null ) {
+			for ( String name : environment.getExplicitlyListedClassNames() ) {
+				update( digest, name );
+			}
+		}
+		update( digest, "|" );
+		if ( environment.getExplicitlyListedMappingFiles() != null ) {
+			for ( String name : environment.getExplicitlyListedMappingFiles() ) {
+				update( digest, name );
+			}
+		}
+		update( digest, "|" );
+		try {
+			for ( URL url : scannedUrls( environment ) ) {
+				update( digest, url.toExternalForm() );
+				final Path archive = archivePath( url );
+				if ( archive == null ) {
+					return null;
+				}
+				else if ( Files.isDirectory( archive ) ) {
+					try ( Stream<Path> files = Files.walk( archive ) ) {
+						for ( Path file : (Iterable<Path>) files.filter( Files::isRegularFile ).sorted()::iterator ) {
+							update( digest, archive.relativize( file ).toString() );
+							updateFileState( digest, file );
+						}
+					}
+				}
+				else if ( Files.isRegularFile( archive ) ) {
+					updateFileState( digest, archive );
+				}
+				else {
+					update( digest, "missing" );
+				}
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to fingerprint scanned archives" );
+			return null;
+		}
+		return HexFormat.of().formatHex( digest.digest() );
+	}
+
+	private static void updateFileState(MessageDigest digest, Path file) throws IOException {
+		update( digest, Long.toString( Files.size( file ) ) );
+		update( digest, Long.toString( Files.getLastModifiedTime( file ).toMillis() ) );
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	private static List<URL> scannedUrls(ScanEnvironment environment) {
+		final List<URL> urls = new ArrayList<>();
+		if ( environment.getRootUrl() != null ) {
+			urls.add( environment.getRootUrl() );
+		}
+		if ( environment.getNonRootUrls() != null ) {
+			urls.addAll( environment.getNonRootUrls() );
+		}
+		return urls;
+	}
+
+	/**
+	 * The file or directory holding the archive at the given URL, or
+	 * {@code null} if the archive is not a file or directory.
+	 */
+	private static Path archivePath(URL url) {
+		try {
+			switch ( url.getProtocol() ) {
+				case "file":
+					return Path.of( url.toURI() );
+				case "jar":
+					final String file = url.getFile();
+					final int separator = file.indexOf( "!/" );
+					final URI uri = new URI( separator < 0 ? file : file.substring( 0, separator ) );
+					return "file".equals( uri.getScheme() ) ? Path.of( uri ) : null;
+				default:
+					return null;
+			}
+		}
+		catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Access to an entry of one of the scanned archives, which is located
+	 * only when it is actually read.
+	 */
+	private static class ArchiveEntryStreamAccess implements InputStreamAccess {
+		private final String entryName;
+		private final List<URL> urls;
+
+		private ArchiveEntryStreamAccess(String entryName, List<URL> urls) {
+			this.entryName = entryName;
+			this.urls = urls;
+		}
+
+		@Override
+		public String getStreamName() {
+			return entryName;
+		}
+
+		@Override
+		public InputStream accessInputStream() {
+			for ( URL url : urls ) {
+				final ArchiveEntry entry =
+						StandardArchiveDescriptorFactory.INSTANCE.buildArchiveDescriptor( url )
+								.findEntry( entryName );
+				if ( entry != null ) {
+					return entry.getStreamAccess().accessInputStream();
+				}
+			}
+			throw new HibernateException( "Could not locate scanned archive entry : " + entryName );
+		}
+	}
+
+	private static class CachedClassDescriptor implements ClassDescriptor {
+		private final String name;
+		private final Categorization categorization;
+		private final InputStreamAccess streamAccess;
+
+		private CachedClassDescriptor(String name, Categorization categorization, InputStreamAccess streamAccess) {
+			this.name = name;
+			this.categorization = categorization;
+			this.streamAccess = streamAccess;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public Categorization getCategorization() {
+			return categorization;
+		}
+
+		@Override
+		public InputStreamAccess getStreamAccess() {
+			return streamAccess;
+		}
+	}
+
+	private static class CachedPackageDescriptor implements PackageDescriptor {
+		private final String name;
+		private final InputStreamAccess streamAccess;
+
+		private CachedPackageDescriptor(String name, InputStreamAccess streamAccess) {
+			this.name = name;
+			this.streamAccess = streamAccess;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public InputStreamAccess getStreamAccess() {
+			return streamAccess;
+		}
+	}
+
+	private static class CachedScanResult implements ScanResult {
+		private final Set<PackageDescriptor> packages;
+		private final Set<ClassDescriptor> classes;
+		private final Set<MappingFileDescriptor> mappingFiles;
+
+		private CachedScanResult(
+				Set<PackageDescriptor> packages,
+				Set<ClassDescriptor> classes,
+				Set<MappingFileDescriptor> mappingFiles) {
+			this.packages = packages;
+			this.classes = classes;
+			this.mappingFiles = mappingFiles;
+		}
+
+		@Override
+		public Set<PackageDescriptor> getLocatedPackages() {
+			return packages;
+		}
+
+		@Override
+		public Set<ClassDescriptor> getLocatedClasses() {
+			return classes;
+		}
+
+		@Override
+		public Set<MappingFileDescriptor> getLocatedMappingFiles() {
+			return mappingFiles;
+		}
+	}
+}
@@ -171,15 +171,19 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private final int multiLoadParallelism;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean batchPipeliningEnabled;
+	private boolean multiRowInsertsEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
+	private final boolean compiledRowReadersEnabled;
 
 	// JPA callbacks
 	private final boolean callbacksEnabled;
@@ -209,6 +213,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheKeyInvalidationEnabled;
+	private long queryCacheMaxSize;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
@@ -364,6 +370,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
+		multiLoadParallelism = getInt( MULTI_LOAD_PARALLELISM, settings, 1 );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
 
@@ -371,6 +378,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 
 		orderUpdatesEnabled = getBoolean( ORDER_UPDATES, settings );
 		orderInsertsEnabled = getBoolean( ORDER_INSERTS, settings );
+		batchPipeliningEnabled = getBoolean( BATCH_PIPELINING, settings );
+		multiRowInsertsEnabled = getBoolean( MULTI_ROW_INSERTS, settings );
 
 		callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, settings, true );
 
@@ -419,6 +428,9 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 					configurationService.getSetting( QUERY_CACHE_LAYOUT,
 							value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 							CacheLayout.FULL );
+			queryCacheKeyInvalidationEnabled =
+					configurationService.getSetting( QUERY_CACHE_KEY_INVALIDATION, BOOLEAN, false );
+			queryCacheMaxSize = ConfigurationHelper.getLong( QUERY_CACHE_MAX_SIZE, settings, -1 );
 			timestampsCacheFactory =
 					strategySelector.resolveDefaultableStrategy( TimestampsCacheFactory.class,
 							settings.get( QUERY_CACHE_FACTORY ), StandardTimestampsCacheFactory.INSTANCE );
@@ -435,6 +447,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 			secondLevelCacheEnabled = false;
 			queryCacheEnabled = false;
 			queryCacheLayout = CacheLayout.AUTO;
+			queryCacheKeyInvalidationEnabled = false;
+			queryCacheMaxSize = -1;
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
@@ -523,6 +537,9 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		preferJdbcDatetimeTypes =
 				getBoolean( AvailableSettings.NATIVE_PREFER_JDBC_DATETIME_TYPES, settings, false );
 
+		compiledRowReadersEnabled =
+				getBoolean( AvailableSettings.COMPILED_ROW_READERS_ENABLED, settings, false );
+
 		defaultSessionProperties = initializeDefaultSessionProperties( configurationService );
 
 		defaultCacheStoreMode = defaultCacheStoreMode( defaultSessionProperties );
@@ -951,6 +968,11 @@ public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public int getMultiLoadParallelism() {
+		return multiLoadParallelism;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -976,6 +998,16 @@ public boolean isOrderInsertsEnabled() {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isBatchPipeliningEnabled() {
+		return batchPipeliningEnabled;
+	}
+
+	@Override
+	public boolean isMultiRowInsertsEnabled() {
+		return multiRowInsertsEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1011,6 +1043,16 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheKeyInvalidationEnabled() {
+		return queryCacheKeyInvalidationEnabled;
+	}
+
+	@Override
+	public long getQueryCacheMaxSize() {
+		return queryCacheMaxSize;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1271,6 +1313,11 @@ public boolean isPreferJdbcDatetimeTypesInNativeQueriesEnabled() {
 		return preferJdbcDatetimeTypes;
 	}
 
+	@Override
+	public boolean isCompiledRowReadersEnabled() {
+		return compiledRowReadersEnabled;
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// In-flight mutation access
 
@@ -6,6 +6,7 @@
 
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -15,6 +16,7 @@
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.CachingScanner;
 import org.hibernate.boot.archive.scan.internal.DisabledScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
@@ -34,9 +36,13 @@
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.engine.config.spi.StandardConverters;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.PersistenceSettings.SCANNER_CACHE_FILE;
+import static org.hibernate.internal.util.StringHelper.isEmpty;
+
 /**
  * Coordinates the process of executing {@link Scanner} (if enabled)
  * and applying the resources (classes, packages and mappings) discovered.
@@ -69,7 +75,7 @@ public void coordinateScan(
 
 		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
 		// to the index as we discovered them via scanning and .  Currently
-		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
+		final Scanner scanner = applyScanCache( buildScanner( bootstrapContext, classLoaderAccess ), bootstrapContext );
 		final ScanResult scanResult = scanner.scan(
 				bootstrapContext.getScanEnvironment(),
 				bootstrapContext.getScanOptions(),
@@ -79,6 +85,15 @@ public void coordinateScan(
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
 	}
 
+	private static Scanner applyScanCache(Scanner scanner, BootstrapContext bootstrapContext) {
+		final String cacheFile = bootstrapContext.getConfigurationService()
+				.getSetting( SCANNER_CACHE_FILE, StandardConverters.STRING );
+		// the disabled scanner does not scan, so there is nothing to cache
+		return isEmpty( cacheFile ) || scanner instanceof DisabledScanner
+				? scanner
+				: new CachingScanner( scanner, Path.of( cacheFile ) );
+	}
+
 	private static final Class<?>[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
 
 	@SuppressWarnings("unchecked")
@@ -25,6 +25,9 @@
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
+import org.hibernate.cache.spi.entry.JavaSerializationCacheEntryCodec;
+import org.hibernate.cache.spi.entry.StandardCacheEntryCodec;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
@@ -123,6 +126,7 @@ public StrategySelector buildSelector(ClassLoaderService classLoaderService) {
 		addImplicitNamingStrategies( strategySelector );
 		addColumnOrderingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addCacheEntryCodecs( strategySelector );
 		addJsonFormatMappers( strategySelector );
 		addXmlFormatMappers( strategySelector );
 
@@ -300,6 +304,19 @@ private static void addCacheKeysFactories(StrategySelectorImpl strategySelector)
 		);
 	}
 
+	private static void addCacheEntryCodecs(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+				CacheEntryCodec.class,
+				StandardCacheEntryCodec.SHORT_NAME,
+				StandardCacheEntryCodec.class
+		);
+		strategySelector.registerStrategyImplementor(
+				CacheEntryCodec.class,
+				JavaSerializationCacheEntryCodec.SHORT_NAME,
+				JavaSerializationCacheEntryCodec.class
+		);
+	}
+
 	private static void addJsonFormatMappers(StrategySelectorImpl strategySelector) {
 		strategySelector.registerStrategyImplementor(
 				FormatMapper.class,
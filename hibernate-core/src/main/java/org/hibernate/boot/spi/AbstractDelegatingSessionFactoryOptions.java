@@ -189,6 +189,11 @@ public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public int getMultiLoadParallelism() {
+		return delegate.getMultiLoadParallelism();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -214,6 +219,16 @@ public boolean isOrderInsertsEnabled() {
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isBatchPipeliningEnabled() {
+		return delegate.isBatchPipeliningEnabled();
+	}
+
+	@Override
+	public boolean isMultiRowInsertsEnabled() {
+		return delegate.isMultiRowInsertsEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -264,6 +279,16 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheKeyInvalidationEnabled() {
+		return delegate.isQueryCacheKeyInvalidationEnabled();
+	}
+
+	@Override
+	public long getQueryCacheMaxSize() {
+		return delegate.getQueryCacheMaxSize();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -538,6 +563,11 @@ public boolean isPreferJdbcDatetimeTypesInNativeQueriesEnabled() {
 		return delegate.isPreferJdbcDatetimeTypesInNativeQueriesEnabled();
 	}
 
+	@Override
+	public boolean isCompiledRowReadersEnabled() {
+		return delegate.isCompiledRowReadersEnabled();
+	}
+
 	@Override
 	public CacheStoreMode getCacheStoreMode(Map<String, Object> properties) {
 		return delegate.getCacheStoreMode( properties );
@@ -202,6 +202,13 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#MULTI_LOAD_PARALLELISM
+	 */
+	default int getMultiLoadParallelism() {
+		return 1;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.FetchSettings#MAX_FETCH_DEPTH
 	 */
@@ -227,6 +234,16 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 */
+	boolean isBatchPipeliningEnabled();
+
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 */
+	boolean isMultiRowInsertsEnabled();
+
 	/**
 	 * @see org.hibernate.cfg.MultiTenancySettings#MULTI_TENANT_CONNECTION_PROVIDER
 	 */
@@ -260,6 +277,29 @@ default boolean isAllowRefreshDetachedEntity() {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_INVALIDATION
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isQueryCacheKeyInvalidationEnabled() {
+		return false;
+	}
+
+	/**
+	 * The approximate maximum size, in bytes, of the results held by each
+	 * query cache region, or a negative value if the size is not bounded.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_MAX_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getQueryCacheMaxSize() {
+		return -1;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY
 	 */
@@ -617,6 +657,18 @@ default JavaType<Object> getDefaultTenantIdentifierJavaType() {
 	 */
 	boolean isPreferJdbcDatetimeTypesInNativeQueriesEnabled();
 
+	/**
+	 * Should the row readers of query results be generated as bytecode
+	 * specific to the shape of each result?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#COMPILED_ROW_READERS_ENABLED
+	 */
+	default boolean isCompiledRowReadersEnabled() {
+		return false;
+	}
+
 	/**
 	 * @param properties the Session properties
 	 * @return either the CacheStoreMode as defined in the Session specific properties,
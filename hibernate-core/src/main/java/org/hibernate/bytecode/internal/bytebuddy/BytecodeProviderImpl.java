@@ -576,6 +576,10 @@ public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
 
+	public ByteBuddyState getByteBuddyState() {
+		return byteBuddyState;
+	}
+
 	private static class GetPropertyValues implements ByteCodeAppender {
 
 		private final Class<?> clazz;
@@ -98,7 +98,8 @@ public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					sessionFactory.getSessionFactoryOptions().getQueryCacheMaxSize()
 			);
 		}
 		else {
@@ -537,7 +538,8 @@ protected QueryResultsCache makeQueryResultsRegionAccess(String regionName) {
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				sessionFactory.getSessionFactoryOptions().getQueryCacheMaxSize()
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
@@ -555,9 +557,18 @@ public Set<String> getCacheRegionNames() {
 
 	@Override
 	public void evictRegion(String regionName) {
-		getRegion( regionName ).clear();
+		// a query results cache keeps track of the results it holds
+		final QueryResultsCache queryResultsCache = getQueryResultsCacheStrictly( regionName );
+		if ( queryResultsCache != null ) {
+			queryResultsCache.clear();
+		}
+		final Region region = getRegion( regionName );
+		if ( queryResultsCache == null || region != queryResultsCache.getRegion() ) {
+			region.clear();
+		}
 		final QueryResultsRegion queryResultsRegionWithDuplicateName = queryResultsRegionsByDuplicateName.get( regionName );
-		if ( queryResultsRegionWithDuplicateName != null ) {
+		if ( queryResultsRegionWithDuplicateName != null
+				&& ( queryResultsCache == null || queryResultsRegionWithDuplicateName != queryResultsCache.getRegion() ) ) {
 			queryResultsRegionWithDuplicateName.clear();
 		}
 	}
@@ -6,13 +6,20 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.QuerySpacePartition;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
@@ -24,6 +31,13 @@
  * The standard implementation of the Hibernate QueryCache interface.  Works
  * hind-in-hand with {@link TimestampsCache} to help in recognizing
  * stale query results.
+ * <p>
+ * If a {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_MAX_SIZE maximum size}
+ * is given, the estimated sizes of the result lists put into the region are tracked, and
+ * the least recently used result lists are removed from the region when their total
+ * exceeds it. Result lists found to be stale are removed right away, and result lists
+ * which are no longer found in the region, because the region evicted them, are no
+ * longer tracked.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -32,12 +46,25 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final long maxSize;
+
+	// the estimated sizes of the result lists put into the region, least recently used first
+	private final LinkedHashMap<QueryKey, Long> sizes = new LinkedHashMap<>( 16, 0.75f, true );
+	private long size;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
 			TimestampsCache timestampsCache) {
+		this( cacheRegion, timestampsCache, -1 );
+	}
+
+	QueryResultsCacheImpl(
+			QueryResultsRegion cacheRegion,
+			TimestampsCache timestampsCache,
+			long maxSize) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.maxSize = maxSize;
 	}
 
 	@Override
@@ -61,6 +88,15 @@ public boolean put(
 				deepCopy( results )
 		);
 
+		final long resultsSize = maxSize < 0 ? 0 : estimateSize( cacheItem.results );
+		if ( maxSize >= 0 && resultsSize > maxSize ) {
+			if ( L2CACHE_LOGGER.isDebugEnabled() ) {
+				L2CACHE_LOGGER.debugf( "Not caching query results of estimated size %s, exceeding the maximum size %s",
+						resultsSize, maxSize );
+			}
+			return false;
+		}
+
 		final EventMonitor eventMonitor = session.getEventMonitor();
 		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
 		try {
@@ -78,9 +114,139 @@ public boolean put(
 			session.getEventListenerManager().cachePutEnd();
 		}
 
+		if ( maxSize >= 0 ) {
+			recordSize( key, resultsSize, session );
+		}
+
 		return true;
 	}
 
+	private void recordSize(QueryKey key, long resultsSize, SharedSessionContractImplementor session) {
+		final List<QueryKey> keysToRemove = new ArrayList<>();
+		synchronized ( sizes ) {
+			final Long previousSize = sizes.remove( key );
+			if ( previousSize != null ) {
+				size -= previousSize;
+			}
+			sizes.put( key, resultsSize );
+			size += resultsSize;
+			// since the new results do not exceed the maximum size,
+			// this never removes the key which was just put
+			final Iterator<Map.Entry<QueryKey, Long>> entries = sizes.entrySet().iterator();
+			while ( size > maxSize ) {
+				final Map.Entry<QueryKey, Long> entry = entries.next();
+				size -= entry.getValue();
+				keysToRemove.add( entry.getKey() );
+				entries.remove();
+			}
+		}
+		for ( QueryKey keyToRemove : keysToRemove ) {
+			cacheRegion.removeFromCache( keyToRemove, session );
+		}
+	}
+
+	/**
+	 * Record an access to the result list of the given key, which makes it the most
+	 * recently used result list.
+	 */
+	private void recordAccess(QueryKey key) {
+		if ( maxSize >= 0 ) {
+			synchronized ( sizes ) {
+				sizes.get( key );
+			}
+		}
+	}
+
+	/**
+	 * Stop tracking the size of the result list of the given key, which is no
+	 * longer held in the region.
+	 */
+	private void forgetSize(QueryKey key) {
+		if ( maxSize >= 0 ) {
+			synchronized ( sizes ) {
+				final Long previousSize = sizes.remove( key );
+				if ( previousSize != null ) {
+					size -= previousSize;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove the stale result list of the given key, which will never be returned.
+	 */
+	private void removeStale(QueryKey key, SharedSessionContractImplementor session) {
+		if ( maxSize >= 0 ) {
+			cacheRegion.removeFromCache( key, session );
+			forgetSize( key );
+		}
+	}
+
+	/**
+	 * The approximate size, in bytes, of the result lists held in the region,
+	 * or zero if no {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_MAX_SIZE
+	 * maximum size} is given.
+	 */
+	public long getSize() {
+		synchronized ( sizes ) {
+			return size;
+		}
+	}
+
+	/**
+	 * Estimate the size of the given value held by a cached result list, assuming
+	 * compressed references, which is only as accurate as it needs to be for
+	 * bounding the size of the region.
+	 */
+	static long estimateSize(Object value) {
+		if ( value == null ) {
+			return 0;
+		}
+		else if ( value instanceof Object[] array ) {
+			long size = 16 + 4L * array.length;
+			for ( Object element : array ) {
+				size += estimateSize( element );
+			}
+			return size;
+		}
+		else if ( value instanceof Collection<?> collection ) {
+			long size = 24 + 4L * collection.size();
+			for ( Object element : collection ) {
+				size += estimateSize( element );
+			}
+			return size;
+		}
+		else if ( value instanceof String string ) {
+			return 40 + string.length();
+		}
+		else if ( value instanceof byte[] bytes ) {
+			return 16 + bytes.length;
+		}
+		else if ( value instanceof char[] chars ) {
+			return 16 + 2L * chars.length;
+		}
+		else if ( value instanceof Enum<?> ) {
+			// shared instances
+			return 0;
+		}
+		else if ( value instanceof Number || value instanceof Boolean || value instanceof Character ) {
+			return 16;
+		}
+		else {
+			// temporal values, identifiers, or the metadata of the results
+			return 32;
+		}
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		cacheRegion.clear();
+		synchronized ( sizes ) {
+			sizes.clear();
+			size = 0;
+		}
+	}
+
 	private static <T> List<T> deepCopy(List<T> results) {
 		return new ArrayList<>( results );
 	}
@@ -100,19 +266,23 @@ public List<?> get(
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Query results were not found in cache" );
 			}
+			// in case the region evicted them
+			forgetSize( key );
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !isUpToDate( key, spaces, cacheItem.timestamp, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
+			removeStale( key, session );
 			return null;
 		}
 
 		if ( loggerDebugEnabled ) {
 			L2CACHE_LOGGER.debug( "Returning cached query results" );
 		}
+		recordAccess( key );
 
 		// No need to copy results, since consumers will never mutate
 		return cacheItem.results;
@@ -133,23 +303,68 @@ public List<?> get(
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Query results were not found in cache" );
 			}
+			// in case the region evicted them
+			forgetSize( key );
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !isUpToDate( key, spaces, cacheItem.timestamp, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
+			removeStale( key, session );
 			return null;
 		}
 
 		if ( loggerDebugEnabled ) {
 			L2CACHE_LOGGER.debug( "Returning cached query results" );
 		}
+		recordAccess( key );
 
 		return deepCopy( cacheItem.results );
 	}
 
+	private boolean isUpToDate(
+			QueryKey key,
+			String[] spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return key.getSpacePartitions() == null
+				? timestampsCache.isUpToDate( spaces, timestamp, session )
+				: isUpToDate( key, Arrays.asList( spaces ), timestamp, session );
+	}
+
+	private boolean isUpToDate(
+			QueryKey key,
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		final QuerySpacePartition[] partitions = key.getSpacePartitions();
+		if ( partitions == null ) {
+			return timestampsCache.isUpToDate( spaces, timestamp, session );
+		}
+		else {
+			// the partitioned spaces are checked only for changes to their partitions
+			final List<String> otherSpaces = new ArrayList<>( spaces.size() );
+			for ( String space : spaces ) {
+				if ( !isPartitioned( space, partitions ) ) {
+					otherSpaces.add( space );
+				}
+			}
+			return timestampsCache.isUpToDate( otherSpaces, timestamp, session )
+				&& timestampsCache.isUpToDate( partitions, timestamp, session );
+		}
+	}
+
+	private static boolean isPartitioned(String space, QuerySpacePartition[] partitions) {
+		for ( QuerySpacePartition partition : partitions ) {
+			if ( partition.getSpace().equals( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		final EventMonitor eventMonitor = session.getEventMonitor();
@@ -5,7 +5,10 @@
 package org.hibernate.cache.internal;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
+import org.hibernate.cache.spi.QuerySpacePartition;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
@@ -29,9 +32,19 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
 	private final TimestampsRegion timestampsRegion;
+	private final boolean keyInvalidationEnabled;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, false );
+	}
+
+	/**
+	 * @param keyInvalidationEnabled whether {@linkplain QuerySpacePartition partitions}
+	 * of spaces are tracked, as per {@link org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_INVALIDATION}
+	 */
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, boolean keyInvalidationEnabled) {
 		this.timestampsRegion = timestampsRegion;
+		this.keyInvalidationEnabled = keyInvalidationEnabled;
 	}
 
 	@Override
@@ -43,6 +56,19 @@ public TimestampsRegion getRegion() {
 	public void preInvalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		preInvalidateKeys( keyInvalidationEnabled ? withUnknownRows( spaces ) : spaces, session );
+	}
+
+	@Override
+	public void preInvalidate(
+			QuerySpacePartition[] partitions,
+			SharedSessionContractImplementor session) {
+		preInvalidateKeys( withSpaces( partitions ), session );
+	}
+
+	private void preInvalidateKeys(
+			Object[] keys,
+			SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor factory = session.getFactory();
 		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
 
@@ -54,7 +80,7 @@ public void preInvalidate(
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( String space : spaces ) {
+		for ( Object space : keys ) {
 			if ( debugEnabled ) {
 				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
 			}
@@ -88,13 +114,26 @@ public void preInvalidate(
 	public void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		invalidateKeys( keyInvalidationEnabled ? withUnknownRows( spaces ) : spaces, session );
+	}
+
+	@Override
+	public void invalidate(
+			QuerySpacePartition[] partitions,
+			SharedSessionContractImplementor session) {
+		invalidateKeys( withSpaces( partitions ), session );
+	}
+
+	private void invalidateKeys(
+			Object[] keys,
+			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		final boolean stats = statistics.isStatisticsEnabled();
 
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( String space : spaces ) {
+		for ( Object space : keys ) {
 			if ( debugEnabled ) {
 				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
 			}
@@ -123,6 +162,33 @@ public void invalidate(
 		}
 	}
 
+	/**
+	 * A change to a space, without a partition, might affect any of its rows,
+	 * so when partitions are tracked, it also invalidates the partition of
+	 * unknown rows.
+	 */
+	private static Object[] withUnknownRows(String[] spaces) {
+		final Object[] keys = new Object[spaces.length * 2];
+		for ( int i = 0; i < spaces.length; i++ ) {
+			keys[2 * i] = spaces[i];
+			keys[2 * i + 1] = QuerySpacePartition.unknownRows( spaces[i] );
+		}
+		return keys;
+	}
+
+	/**
+	 * A change to a partition of a space is also a change to the space,
+	 * for query results which are not restricted to partitions.
+	 */
+	private static Object[] withSpaces(QuerySpacePartition[] partitions) {
+		final Set<Object> keys = new LinkedHashSet<>();
+		for ( QuerySpacePartition partition : partitions ) {
+			keys.add( partition.getSpace() );
+			keys.add( partition );
+		}
+		return keys.toArray();
+	}
+
 	@Override
 	public boolean isUpToDate(
 			String[] spaces,
@@ -139,8 +205,24 @@ public boolean isUpToDate(
 		return true;
 	}
 
+	@Override
+	public boolean isUpToDate(
+			QuerySpacePartition[] partitions,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+
+		for ( QuerySpacePartition partition : partitions ) {
+			if ( isSpaceOutOfDate( partition, timestamp, session, statistics ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private boolean isSpaceOutOfDate(
-			String space,
+			Object space,
 			Long timestamp,
 			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
@@ -190,7 +272,7 @@ public boolean isUpToDate(
 		return true;
 	}
 
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+	private Long getLastUpdateTimestampForSpace(Object space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		final EventMonitor eventMonitor = session.getEventMonitor();
 		final DiagnosticEvent cacheGetEvent = eventMonitor.beginCacheGetEvent();
@@ -10,8 +10,8 @@
  * Specialized {@link Region} whose data is accessed directly,
  * without the need for key/item wrapping.
  *
- * Does not define a "remove" operation because Hibernate's
- * query and timestamps caches only ever "get" and "put".
+ * Hibernate's timestamps cache only ever "gets" and "puts".
+ * The query cache also "removes" results to bound its size.
  *
  * @author Steve Ebersole
  */
@@ -25,4 +25,13 @@ public interface DirectAccessRegion extends Region {
 	 * Put a value by key
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
+
+	/**
+	 * Remove a value by key, if the region supports it
+	 *
+	 * @since 7.0
+	 */
+	default void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		// by default, values are only removed by the eviction policy of the region
+	}
 }
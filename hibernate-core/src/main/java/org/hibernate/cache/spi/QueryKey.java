@@ -14,6 +14,8 @@
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryParameterBindings;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A key that identifies a particular query with bound parameter values.
  * This object is used as a key into the {@linkplain QueryResultsCache
@@ -39,6 +41,21 @@ public static QueryKey from(
 			Limit limit,
 			QueryParameterBindings parameterBindings,
 			SharedSessionContractImplementor session) {
+		return from( sqlQueryString, limit, parameterBindings, null, session );
+	}
+
+	/**
+	 * @param spacePartitions the {@linkplain QuerySpacePartition partitions} of spaces
+	 * the results of the query are restricted to, if known
+	 *
+	 * @since 7.0
+	 */
+	public static QueryKey from(
+			String sqlQueryString,
+			Limit limit,
+			QueryParameterBindings parameterBindings,
+			QuerySpacePartition @Nullable [] spacePartitions,
+			SharedSessionContractImplementor session) {
 		// todo (6.0) : here is where we should centralize cacheable-or-not
 		//		if this method returns null, the query should be considered un-cacheable
 		//
@@ -52,7 +69,8 @@ public static QueryKey from(
 				parameterBindings.generateQueryKeyMemento( session ),
 				limitToUse.getFirstRow(),
 				limitToUse.getMaxRows(),
-				session.getLoadQueryInfluencers().getEnabledFilterNames()
+				session.getLoadQueryInfluencers().getEnabledFilterNames(),
+				spacePartitions
 		);
 	}
 
@@ -62,6 +80,8 @@ public static QueryKey from(
 	private final Integer firstRow;
 	private final Integer maxRows;
 	private final String[] enabledFilterNames;
+	// derived from the parameter bindings, so not part of the identity of the key
+	private final QuerySpacePartition @Nullable [] spacePartitions;
 
 	/**
 	 * For performance reasons, the hashCode is cached; however, it is marked transient so that it can be
@@ -75,14 +95,39 @@ public QueryKey(
 			Integer firstRow,
 			Integer maxRows,
 			Set<String> enabledFilterNames) {
+		this( sql, parameterBindingsMemento, firstRow, maxRows, enabledFilterNames, null );
+	}
+
+	public QueryKey(
+			String sql,
+			ParameterBindingsMemento parameterBindingsMemento,
+			Integer firstRow,
+			Integer maxRows,
+			Set<String> enabledFilterNames,
+			QuerySpacePartition @Nullable [] spacePartitions) {
 		this.sqlQueryString = sql;
 		this.parameterBindingsMemento = parameterBindingsMemento;
 		this.firstRow = firstRow;
 		this.maxRows = maxRows;
 		this.enabledFilterNames = enabledFilterNames.toArray( String[]::new );
+		this.spacePartitions = spacePartitions;
 		this.hashCode = generateHashCode();
 	}
 
+	/**
+	 * The {@linkplain QuerySpacePartition partitions} which the results of the
+	 * query are restricted to, including the partitions of unknown rows of
+	 * their spaces, or {@code null} if the results are not restricted. Other
+	 * spaces of the query are not partitioned.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_INVALIDATION
+	 *
+	 * @since 7.0
+	 */
+	public QuerySpacePartition @Nullable [] getSpacePartitions() {
+		return spacePartitions;
+	}
+
 	/**
 	 * Deserialization hook used to re-init the cached hashcode which is needed for proper clustering support.
 	 *
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * A partition of the rows of a query space (table), used by the
+ * {@link TimestampsCache} to track invalidation of the rows with
+ * particular primary key values.
+ * <p>
+ * The rows are partitioned by the hash code of their primary key,
+ * into a fixed number of partitions, so that the number of timestamps
+ * tracked for a space is bounded. The {@linkplain #unknownRows(String)
+ * unknown rows} partition stands for changes to rows whose primary
+ * key is not known, and so must invalidate every partition.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_INVALIDATION
+ *
+ * @since 7.0
+ */
+@Incubating
+public final class QuerySpacePartition implements Serializable {
+	/**
+	 * The number of partitions of each space.
+	 */
+	public static final int PARTITION_COUNT = 1024;
+
+	private static final int UNKNOWN_ROWS = -1;
+
+	private final String space;
+	private final int partition;
+
+	private QuerySpacePartition(String space, int partition) {
+		this.space = space;
+		this.partition = partition;
+	}
+
+	/**
+	 * The partition of the given space holding the rows with a primary key
+	 * with the given hash code.
+	 */
+	public static QuerySpacePartition forKeyHashCode(String space, int keyHashCode) {
+		return new QuerySpacePartition( space, Math.floorMod( keyHashCode, PARTITION_COUNT ) );
+	}
+
+	/**
+	 * The partition of the given space standing for rows whose primary key is not known.
+	 */
+	public static QuerySpacePartition unknownRows(String space) {
+		return new QuerySpacePartition( space, UNKNOWN_ROWS );
+	}
+
+	public String getSpace() {
+		return space;
+	}
+
+	public boolean isUnknownRows() {
+		return partition == UNKNOWN_ROWS;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if ( this == object ) {
+			return true;
+		}
+		return object instanceof QuerySpacePartition that
+			&& partition == that.partition
+			&& space.equals( that.space );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * space.hashCode() + partition;
+	}
+
+	@Override
+	public String toString() {
+		return isUnknownRows() ? space + "#?" : space + "#" + partition;
+	}
+}
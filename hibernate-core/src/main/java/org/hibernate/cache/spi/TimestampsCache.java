@@ -5,6 +5,8 @@
 package org.hibernate.cache.spi;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -22,6 +24,11 @@
  *     staleness} against the {@code TimestampsCache} when it is read
  *     from a {@link QueryResultsRegion} by a {@link QueryResultsCache}.
  * </ul>
+ * <p>
+ * When {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_INVALIDATION
+ * key invalidation} is enabled, {@linkplain QuerySpacePartition partitions} of
+ * query spaces are also invalidated and checked. Implementations which do not
+ * track partitions fall back to their spaces.
  *
  * @author Steve Ebersole
  */
@@ -65,6 +72,55 @@ boolean isUpToDate(
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Perform pre-invalidation of the passed partitions of spaces
+	 * against the timestamp region data.
+	 * <p>
+	 * This also pre-invalidates the spaces themselves.
+	 *
+	 * @since 7.0
+	 */
+	default void preInvalidate(
+			QuerySpacePartition[] partitions,
+			SharedSessionContractImplementor session) {
+		preInvalidate( spaces( partitions ), session );
+	}
+
+	/**
+	 * Perform invalidation of the passed partitions of spaces
+	 * against the timestamp region data.
+	 * <p>
+	 * This also invalidates the spaces themselves.
+	 *
+	 * @since 7.0
+	 */
+	default void invalidate(
+			QuerySpacePartition[] partitions,
+			SharedSessionContractImplementor session) {
+		invalidate( spaces( partitions ), session );
+	}
+
+	/**
+	 * Perform an up-to-date check for the given partitions of spaces as
+	 * part of verifying the validity of cached query results.
+	 *
+	 * @since 7.0
+	 */
+	default boolean isUpToDate(
+			QuerySpacePartition[] partitions,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return isUpToDate( spaces( partitions ), timestamp, session );
+	}
+
+	private static String[] spaces(QuerySpacePartition[] partitions) {
+		final Set<String> spaces = new LinkedHashSet<>();
+		for ( QuerySpacePartition partition : partitions ) {
+			spaces.add( partition.getSpace() );
+		}
+		return spaces.toArray( new String[0] );
+	}
+
 	default void clear() throws CacheException {
 		getRegion().clear();
 	}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Converts the values held by a second-level cache region to bytes and back,
+ * for cache providers which store them outside the heap, on disk, or on
+ * other nodes. The values are typically {@linkplain CacheEntry entity entries},
+ * {@linkplain CollectionCacheEntry collection entries}, natural ids, and the
+ * wrappers of these values used by the {@code read-write} access strategy.
+ * <p>
+ * A codec is selected using {@value org.hibernate.cfg.CacheSettings#CACHE_ENTRY_CODEC}.
+ *
+ * @see StandardCacheEntryCodec
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface CacheEntryCodec {
+	/**
+	 * Encode the given value.
+	 *
+	 * @param value The value held by the cache region
+	 * @param factory The session factory whose cache holds the value
+	 *
+	 * @return The bytes, or {@code null} if the value cannot be encoded, in
+	 * which case the value should not be cached
+	 */
+	byte[] encode(Object value, SessionFactoryImplementor factory);
+
+	/**
+	 * Decode a value previously {@linkplain #encode encoded} by this codec.
+	 *
+	 * @param bytes The bytes of the value
+	 * @param factory The session factory whose cache holds the value
+	 *
+	 * @return The value, or {@code null} if the bytes were written by an
+	 * incompatible version of the codec or of the domain model, in which
+	 * case the value should be treated as missing from the cache
+	 */
+	Object decode(byte[] bytes, SessionFactoryImplementor factory);
+}
@@ -42,6 +42,10 @@ public Serializable[] getState() {
 		return (Serializable[]) state;
 	}
 
+	Object getRawState() {
+		return state;
+	}
+
 	/**
 	 * Assembles the collection from the cached state.
 	 *
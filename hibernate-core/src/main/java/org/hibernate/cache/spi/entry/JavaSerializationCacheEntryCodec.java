@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * A {@link CacheEntryCodec} which uses Java serialization.
+ *
+ * @since 7.0
+ */
+public class JavaSerializationCacheEntryCodec implements CacheEntryCodec {
+	public static final String SHORT_NAME = "java";
+	public static final JavaSerializationCacheEntryCodec INSTANCE = new JavaSerializationCacheEntryCodec();
+
+	@Override
+	public byte[] encode(Object value, SessionFactoryImplementor factory) {
+		return value instanceof Serializable serializable ? SerializationHelper.serialize( serializable ) : null;
+	}
+
+	@Override
+	public Object decode(byte[] bytes, SessionFactoryImplementor factory) {
+		return SerializationHelper.deserialize( bytes );
+	}
+}
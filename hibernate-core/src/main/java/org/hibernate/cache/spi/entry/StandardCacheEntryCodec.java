@@ -0,0 +1,481 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.SerializationException;
+import org.hibernate.type.Type;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * The default {@link CacheEntryCodec}, which writes cache entries in a
+ * compact binary format.
+ * <p>
+ * The bytes start with the version of the format. The state of an entity
+ * is written along with the entity name and a fingerprint of the names and
+ * types of its attributes, and of the constants of its enumerated types, so
+ * that an entry written for a different version of the domain model is
+ * ignored rather than misread. Values of the Java
+ * types most commonly held by the disassembled state are written as a
+ * one-byte tag followed by their content, without any class descriptor, and
+ * the value of an attribute of enumerated type is written as its ordinal.
+ * Any other value is written using Java serialization.
+ *
+ * @since 7.0
+ */
+public class StandardCacheEntryCodec implements CacheEntryCodec {
+	public static final String SHORT_NAME = "standard";
+	public static final StandardCacheEntryCodec INSTANCE = new StandardCacheEntryCodec();
+
+	private static final byte FORMAT_VERSION = 1;
+
+	// kinds of entries
+	private static final byte ENTITY_ENTRY = 1;
+	private static final byte COLLECTION_ENTRY = 2;
+	private static final byte READ_WRITE_ITEM = 3;
+	private static final byte OTHER = 4;
+
+	// tags of values
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte STRING = 3;
+	private static final byte LONG = 4;
+	private static final byte INTEGER = 5;
+	private static final byte SHORT = 6;
+	private static final byte BYTE = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte FLOAT = 9;
+	private static final byte CHARACTER = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte BIG_INTEGER = 12;
+	private static final byte UUID_VALUE = 13;
+	private static final byte BYTES = 14;
+	private static final byte LOCAL_DATE = 15;
+	private static final byte LOCAL_TIME = 16;
+	private static final byte LOCAL_DATE_TIME = 17;
+	private static final byte INSTANT = 18;
+	private static final byte DATE = 19;
+	private static final byte SQL_DATE = 20;
+	private static final byte SQL_TIMESTAMP = 21;
+	private static final byte ENUM_ORDINAL = 22;
+	private static final byte SERIALIZABLE_ARRAY = 23;
+	private static final byte OBJECT_ARRAY = 24;
+	private static final byte UNFETCHED = 25;
+	private static final byte UNKNOWN_BACK_REFERENCE = 26;
+	private static final byte SERIALIZED = 27;
+
+	// the values of enumerated types are written as ordinals,
+	// so the entries depend on the order of the constants
+	private static final ClassValue<Integer> ENUM_FINGERPRINTS = new ClassValue<>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			int fingerprint = 1;
+			for ( Object constant : type.getEnumConstants() ) {
+				fingerprint = 31 * fingerprint + ( (Enum<?>) constant ).name().hashCode();
+			}
+			return fingerprint;
+		}
+	};
+
+	// the persisters of a session factory which has been closed are not retained
+	private static final Map<EntityPersister, Integer> FINGERPRINTS = new ConcurrentReferenceHashMap<>();
+
+	@Override
+	public byte[] encode(Object value, SessionFactoryImplementor factory) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 128 );
+		final DataOutputStream output = new DataOutputStream( bytes );
+		try {
+			output.writeByte( FORMAT_VERSION );
+			writeEntry( value, output, factory );
+			return bytes.toByteArray();
+		}
+		catch (NotSerializableException | SerializationException e) {
+			L2CACHE_LOGGER.debugf( "Could not encode cache entry of type %s", value.getClass().getName() );
+			return null;
+		}
+		catch (IOException e) {
+			throw new SerializationException( "Could not encode cache entry", e );
+		}
+	}
+
+	@Override
+	public Object decode(byte[] bytes, SessionFactoryImplementor factory) {
+		final DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) );
+		try {
+			if ( input.readByte() != FORMAT_VERSION ) {
+				return null;
+			}
+			return readEntry( input, factory );
+		}
+		catch (IOException | SerializationException e) {
+			L2CACHE_LOGGER.debugf( e, "Could not decode cache entry" );
+			return null;
+		}
+	}
+
+	private static void writeEntry(Object value, DataOutputStream output, SessionFactoryImplementor factory)
+			throws IOException {
+		if ( value instanceof StandardCacheEntryImpl entry ) {
+			final EntityPersister persister =
+					factory.getMappingMetamodel().findEntityDescriptor( entry.getSubclass() );
+			final Serializable[] state = entry.getDisassembledState();
+			if ( persister != null && persister.getPropertyTypes().length == state.length ) {
+				final Type[] types = persister.getPropertyTypes();
+				output.writeByte( ENTITY_ENTRY );
+				writeString( entry.getSubclass(), output );
+				output.writeInt( fingerprint( persister ) );
+				writeValue( entry.getVersion(), null, output );
+				for ( int i = 0; i < state.length; i++ ) {
+					writeValue( state[i], types[i].getReturnedClass(), output );
+				}
+				return;
+			}
+		}
+		else if ( value instanceof CollectionCacheEntry entry ) {
+			output.writeByte( COLLECTION_ENTRY );
+			writeValue( entry.getRawState(), null, output );
+			return;
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Item item ) {
+			output.writeByte( READ_WRITE_ITEM );
+			writeVarLong( item.getTimestamp(), output );
+			writeValue( item.getVersion(), null, output );
+			writeEntry( item.getValue(), output, factory );
+			return;
+		}
+		output.writeByte( OTHER );
+		writeValue( value, null, output );
+	}
+
+	private static Object readEntry(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+		final byte kind = input.readByte();
+		switch ( kind ) {
+			case ENTITY_ENTRY: {
+				final String entityName = readString( input );
+				final int fingerprint = input.readInt();
+				final EntityPersister persister = factory.getMappingMetamodel().findEntityDescriptor( entityName );
+				if ( persister == null || fingerprint( persister ) != fingerprint ) {
+					// written for another version of the domain model
+					return null;
+				}
+				final Object version = readValue( input, null );
+				final Type[] types = persister.getPropertyTypes();
+				final Serializable[] state = new Serializable[types.length];
+				for ( int i = 0; i < state.length; i++ ) {
+					state[i] = (Serializable) readValue( input, types[i].getReturnedClass() );
+				}
+				return new StandardCacheEntryImpl( state, entityName, version );
+			}
+			case COLLECTION_ENTRY:
+				return new CollectionCacheEntry( (Serializable) readValue( input, null ) );
+			case READ_WRITE_ITEM: {
+				final long timestamp = readVarLong( input );
+				final Object version = readValue( input, null );
+				final Object value = readEntry( input, factory );
+				return value == null ? null : new AbstractReadWriteAccess.Item( value, version, timestamp );
+			}
+			case OTHER:
+				return readValue( input, null );
+			default:
+				throw new StreamCorruptedException( "Unknown kind of cache entry: " + kind );
+		}
+	}
+
+	private static int fingerprint(EntityPersister persister) {
+		return FINGERPRINTS.computeIfAbsent( persister, StandardCacheEntryCodec::computeFingerprint );
+	}
+
+	private static int computeFingerprint(EntityPersister persister) {
+		final String[] names = persister.getPropertyNames();
+		final Type[] types = persister.getPropertyTypes();
+		int fingerprint = 1;
+		for ( int i = 0; i < names.length; i++ ) {
+			fingerprint = 31 * fingerprint + names[i].hashCode();
+			fingerprint = 31 * fingerprint + types[i].getReturnedClassName().hashCode();
+			final Class<?> returnedClass = types[i].getReturnedClass();
+			if ( returnedClass != null && returnedClass.isEnum() ) {
+				fingerprint = 31 * fingerprint + ENUM_FINGERPRINTS.get( returnedClass );
+			}
+		}
+		return fingerprint;
+	}
+
+	private static void writeValue(Object value, Class<?> expectedType, DataOutputStream output)
+			throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN_BACK_REFERENCE );
+		}
+		else {
+			final Class<?> type = value.getClass();
+			if ( type == String.class ) {
+				output.writeByte( STRING );
+				writeString( (String) value, output );
+			}
+			else if ( type == Long.class ) {
+				output.writeByte( LONG );
+				writeVarLong( (Long) value, output );
+			}
+			else if ( type == Integer.class ) {
+				output.writeByte( INTEGER );
+				writeVarLong( (Integer) value, output );
+			}
+			else if ( type == Boolean.class ) {
+				output.writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( type == Short.class ) {
+				output.writeByte( SHORT );
+				output.writeShort( (Short) value );
+			}
+			else if ( type == Byte.class ) {
+				output.writeByte( BYTE );
+				output.writeByte( (Byte) value );
+			}
+			else if ( type == Double.class ) {
+				output.writeByte( DOUBLE );
+				output.writeDouble( (Double) value );
+			}
+			else if ( type == Float.class ) {
+				output.writeByte( FLOAT );
+				output.writeFloat( (Float) value );
+			}
+			else if ( type == Character.class ) {
+				output.writeByte( CHARACTER );
+				output.writeChar( (Character) value );
+			}
+			else if ( type == BigDecimal.class ) {
+				final BigDecimal decimal = (BigDecimal) value;
+				output.writeByte( BIG_DECIMAL );
+				writeVarLong( decimal.scale(), output );
+				writeBytes( decimal.unscaledValue().toByteArray(), output );
+			}
+			else if ( type == BigInteger.class ) {
+				output.writeByte( BIG_INTEGER );
+				writeBytes( ( (BigInteger) value ).toByteArray(), output );
+			}
+			else if ( type == UUID.class ) {
+				final UUID uuid = (UUID) value;
+				output.writeByte( UUID_VALUE );
+				output.writeLong( uuid.getMostSignificantBits() );
+				output.writeLong( uuid.getLeastSignificantBits() );
+			}
+			else if ( type == byte[].class ) {
+				output.writeByte( BYTES );
+				writeBytes( (byte[]) value, output );
+			}
+			else if ( type == LocalDate.class ) {
+				output.writeByte( LOCAL_DATE );
+				writeVarLong( ( (LocalDate) value ).toEpochDay(), output );
+			}
+			else if ( type == LocalTime.class ) {
+				output.writeByte( LOCAL_TIME );
+				writeVarLong( ( (LocalTime) value ).toNanoOfDay(), output );
+			}
+			else if ( type == LocalDateTime.class ) {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				output.writeByte( LOCAL_DATE_TIME );
+				writeVarLong( dateTime.toLocalDate().toEpochDay(), output );
+				writeVarLong( dateTime.toLocalTime().toNanoOfDay(), output );
+			}
+			else if ( type == Instant.class ) {
+				final Instant instant = (Instant) value;
+				output.writeByte( INSTANT );
+				writeVarLong( instant.getEpochSecond(), output );
+				writeVarLong( instant.getNano(), output );
+			}
+			else if ( type == Date.class ) {
+				output.writeByte( DATE );
+				writeVarLong( ( (Date) value ).getTime(), output );
+			}
+			else if ( type == java.sql.Date.class ) {
+				output.writeByte( SQL_DATE );
+				writeVarLong( ( (java.sql.Date) value ).getTime(), output );
+			}
+			else if ( type == java.sql.Timestamp.class ) {
+				final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+				output.writeByte( SQL_TIMESTAMP );
+				writeVarLong( timestamp.getTime(), output );
+				writeVarLong( timestamp.getNanos(), output );
+			}
+			else if ( expectedType != null && value instanceof Enum<?> enumValue
+					&& enumValue.getDeclaringClass() == expectedType ) {
+				output.writeByte( ENUM_ORDINAL );
+				writeVarLong( enumValue.ordinal(), output );
+			}
+			else if ( type == Serializable[].class || type == Object[].class ) {
+				final Object[] array = (Object[]) value;
+				output.writeByte( type == Serializable[].class ? SERIALIZABLE_ARRAY : OBJECT_ARRAY );
+				writeVarLong( array.length, output );
+				for ( Object element : array ) {
+					writeValue( element, null, output );
+				}
+			}
+			else if ( value instanceof Serializable serializable ) {
+				output.writeByte( SERIALIZED );
+				writeBytes( SerializationHelper.serialize( serializable ), output );
+			}
+			else {
+				throw new NotSerializableException( type.getName() );
+			}
+		}
+	}
+
+	private static Object readValue(DataInputStream input, Class<?> expectedType) throws IOException {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_BACK_REFERENCE:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case STRING:
+				return readString( input );
+			case LONG:
+				return readVarLong( input );
+			case INTEGER:
+				return (int) readVarLong( input );
+			case SHORT:
+				return input.readShort();
+			case BYTE:
+				return input.readByte();
+			case DOUBLE:
+				return input.readDouble();
+			case FLOAT:
+				return input.readFloat();
+			case CHARACTER:
+				return input.readChar();
+			case BIG_DECIMAL: {
+				final int scale = (int) readVarLong( input );
+				return new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( readBytes( input ) );
+			case UUID_VALUE:
+				return new UUID( input.readLong(), input.readLong() );
+			case BYTES:
+				return readBytes( input );
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( readVarLong( input ) );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( readVarLong( input ) );
+			case LOCAL_DATE_TIME: {
+				final LocalDate date = LocalDate.ofEpochDay( readVarLong( input ) );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong( input ) ) );
+			}
+			case INSTANT: {
+				final long seconds = readVarLong( input );
+				return Instant.ofEpochSecond( seconds, readVarLong( input ) );
+			}
+			case DATE:
+				return new Date( readVarLong( input ) );
+			case SQL_DATE:
+				return new java.sql.Date( readVarLong( input ) );
+			case SQL_TIMESTAMP: {
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( readVarLong( input ) );
+				timestamp.setNanos( (int) readVarLong( input ) );
+				return timestamp;
+			}
+			case ENUM_ORDINAL: {
+				final int ordinal = (int) readVarLong( input );
+				final Object[] constants = expectedType == null ? null : expectedType.getEnumConstants();
+				if ( constants == null || ordinal >= constants.length ) {
+					throw new StreamCorruptedException( "Unknown enumerated value: " + ordinal );
+				}
+				return constants[ordinal];
+			}
+			case SERIALIZABLE_ARRAY:
+			case OBJECT_ARRAY: {
+				final int length = (int) readVarLong( input );
+				final Object[] array = tag == SERIALIZABLE_ARRAY ? new Serializable[length] : new Object[length];
+				for ( int i = 0; i < length; i++ ) {
+					array[i] = readValue( input, null );
+				}
+				return array;
+			}
+			case SERIALIZED:
+				return SerializationHelper.deserialize( readBytes( input ) );
+			default:
+				throw new StreamCorruptedException( "Unknown tag of cached value: " + tag );
+		}
+	}
+
+	private static void writeString(String string, DataOutputStream output) throws IOException {
+		writeBytes( string.getBytes( UTF_8 ), output );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), UTF_8 );
+	}
+
+	private static void writeBytes(byte[] bytes, DataOutputStream output) throws IOException {
+		writeVarLong( bytes.length, output );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[(int) readVarLong( input )];
+		input.readFully( bytes );
+		return bytes;
+	}
+
+	// a zigzag-encoded variable-length integer, taking one byte for values between -64 and 63
+	private static void writeVarLong(long value, DataOutputStream output) throws IOException {
+		long zigzag = ( value << 1 ) ^ ( value >> 63 );
+		while ( ( zigzag & ~0x7FL ) != 0 ) {
+			output.writeByte( (int) ( ( zigzag & 0x7F ) | 0x80 ) );
+			zigzag >>>= 7;
+		}
+		output.writeByte( (int) zigzag );
+	}
+
+	private static long readVarLong(DataInputStream input) throws IOException {
+		long zigzag = 0;
+		for ( int shift = 0; shift < 64; shift += 7 ) {
+			final int b = input.readUnsignedByte();
+			zigzag |= (long) ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+			}
+		}
+		throw new StreamCorruptedException( "Malformed variable-length integer" );
+	}
+}
@@ -276,8 +276,11 @@ public final static class Item implements Serializable, Lockable {
 
 		/**
 		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
+		 *
+		 * @apiNote Public only so that a {@link org.hibernate.cache.spi.entry.CacheEntryCodec}
+		 * may recreate an item it has encoded.
 		 */
-		Item(Object value, Object version, long timestamp) {
+		public Item(Object value, Object version, long timestamp) {
 			this.value = value;
 			this.version = version;
 			this.timestamp = timestamp;
@@ -318,6 +321,14 @@ public Object getValue() {
 			return value;
 		}
 
+		public Object getVersion() {
+			return version;
+		}
+
+		public long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isUnlockable(SoftLock lock) {
 			return false;
@@ -42,6 +42,11 @@ public void putIntoCache(Object key, Object value, SharedSessionContractImplemen
 		getStorageAccess().putIntoCache( key, value, session );
 	}
 
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		getStorageAccess().removeFromCache( key, session );
+	}
+
 	@Override
 	public void clear() {
 		getStorageAccess().evictData();
@@ -55,6 +55,53 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable pipelining of JDBC batches across entity types.
+	 * <p>
+	 * By default, only consecutive statements with the same
+	 * {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey batch key} are batched
+	 * together, and so a flush which interleaves inserts of several entity types
+	 * executes many small batches, unless {@link #ORDER_INSERTS} is enabled. When
+	 * pipelining is enabled, a batch is kept open for each batch key, and the open
+	 * batches are executed in the order in which they were first needed. A statement
+	 * may only join a batch which already holds statements if it does not depend, for
+	 * example via a foreign key, on the statements of any batch opened after it, as
+	 * determined by {@link org.hibernate.engine.jdbc.batch.spi.BatchKey#dependsOn}.
+	 * Otherwise, all open batches are executed first.
+	 * <p>
+	 * This setting only has an effect when {@link #STATEMENT_BATCH_SIZE batching} is
+	 * enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * Enables rendering the rows of a batch of inserts into a table as a single
+	 * multi-row {@code insert ... values (...), (...)} statement, instead of
+	 * executing a JDBC batch of single-row statements.
+	 * <p>
+	 * Only inserts with no values generated by the database are batched, and so
+	 * the identifiers of the inserted rows are always known up front. The number
+	 * of rows per statement is limited by the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit parameter
+	 * count limit} of the dialect, and by a limit of 32767 parameters in any
+	 * case. The expected row count is verified for the statement as a whole,
+	 * and so an unexpected row count can't be attributed to a specific row.
+	 * <p>
+	 * This setting only has an effect when {@link #STATEMENT_BATCH_SIZE batching}
+	 * is enabled, and when the dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsert supports}
+	 * multi-row inserts.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.multi_row_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
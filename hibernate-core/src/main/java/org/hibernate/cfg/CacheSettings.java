@@ -107,6 +107,41 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, cached results of a query which restricts the primary key of
+	 * its only table to a list of values, for example {@code where b.id in :ids},
+	 * are invalidated only by changes to rows with one of these key values, and
+	 * by changes whose affected rows are not known, such as bulk updates.
+	 * <p>
+	 * Changes to other rows of the table, made by entity inserts, updates, and
+	 * deletes, no longer invalidate these results. Cached results of all other
+	 * queries are still invalidated by any change to one of their tables.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.QuerySpacePartition
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_KEY_INVALIDATION = "hibernate.cache.query_cache_key_invalidation";
+
+	/**
+	 * The approximate maximum size, in bytes, of the query results held by each
+	 * query cache region. When the limit is exceeded, the least recently used
+	 * results are removed from the region.
+	 * <p>
+	 * The size of each result list is estimated from the values it holds. The
+	 * limit is enforced by each {@code SessionFactory}, in addition to any limit
+	 * configured for the region by the cache provider.
+	 *
+	 * @settingDefault no limit
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_MAX_SIZE = "hibernate.cache.query_cache_max_size";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -210,6 +245,31 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * Specifies the {@link org.hibernate.cache.spi.entry.CacheEntryCodec} used by
+	 * cache providers which store second-level cache entries as bytes, either:
+	 * <ul>
+	 *     <li>an instance of {@code CacheEntryCodec},
+	 *     <li>a {@link Class} implementing {@code CacheEntryCodec},
+	 *     <li>the name of a class implementing {@code CacheEntryCodec},
+	 *     <li>{@code "standard"} as a short name for
+	 *         {@link org.hibernate.cache.spi.entry.StandardCacheEntryCodec}, or
+	 *     <li>{@code "java"} as a short name for
+	 *         {@link org.hibernate.cache.spi.entry.JavaSerializationCacheEntryCodec}.
+	 * </ul>
+	 * <p>
+	 * The JCache region factory stores the entries of entity, collection, and
+	 * natural id regions as bytes encoded by this codec only when it is specified,
+	 * while its off-heap variant always does. Query results and update timestamps
+	 * are never encoded.
+	 *
+	 * @settingDefault {@code "standard"}, for providers which always store entries as bytes
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CACHE_ENTRY_CODEC = "hibernate.cache.entry_codec";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -46,4 +47,91 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * Specifies the maximum number of chunks of a {@linkplain org.hibernate.MultiIdentifierLoadAccess
+	 * multi-load} which are read from the database at the same time. When more than one
+	 * chunk is needed to load all the requested ids, the rows of the later chunks are read
+	 * ahead, each over a separate JDBC connection obtained from the connection provider,
+	 * while the entities of the earlier chunks are being built by the thread of the session.
+	 * The reads are performed by the {@linkplain QuerySettings#QUERY_ASYNC_EXECUTOR executor
+	 * for asynchronous queries}.
+	 * <p>
+	 * Since the chunks are read outside the transaction of the session, they do not see
+	 * changes which were made by that transaction and not yet committed. Therefore, this
+	 * setting should only be enabled if entities are not multi-loaded after being modified
+	 * by the same transaction. Chunks are never read ahead if a lock is requested, or if
+	 * the entity has attributes of type {@link java.sql.Blob} or {@link java.sql.Clob}.
+	 *
+	 * @settingDefault {@code 1}, the chunks are read one after the other by the thread of
+	 *                 the session
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String MULTI_LOAD_PARALLELISM = "hibernate.multi_load_parallelism";
+
+	/**
+	 * When enabled, Hibernate adjusts the size of the batches used to
+	 * {@linkplain BatchSize batch fetch} each entity and collection role, based on
+	 * the number of proxies of the entity, or collections of the role, which are
+	 * actually initialized by a typical session. The {@linkplain #DEFAULT_BATCH_FETCH_SIZE
+	 * static batch size} of a role is used until a session using the role is closed,
+	 * and batch fetching is only adjusted for roles which have a static batch size.
+	 * <p>
+	 * The chosen sizes are reported by {@link org.hibernate.stat.Statistics#getBatchFetchSize(String)}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_MIN_SIZE
+	 * @see #ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH = "hibernate.batch_fetch.adaptive";
+
+	/**
+	 * The smallest batch size which may be chosen by {@linkplain #ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching}.
+	 *
+	 * @settingDefault {@code 2}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_MIN_SIZE = "hibernate.batch_fetch.adaptive.min_size";
+
+	/**
+	 * The largest batch size which may be chosen by {@linkplain #ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching}.
+	 *
+	 * @settingDefault {@code 256}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.batch_fetch.adaptive.max_size";
+
+	/**
+	 * A number of milliseconds during which concurrent loads by id of the same
+	 * {@linkplain org.hibernate.annotations.Immutable immutable} entity, by
+	 * different sessions, are coalesced into a single query. When another session
+	 * is already loading instances of the entity, the first session to load an
+	 * instance waits for the given duration, then loads every instance requested
+	 * in the meantime using a separate session and connection. Each session
+	 * receives its own copy of the instances it requested.
+	 * <p>
+	 * Only loads which are not affected by a lock, a filter, a fetch profile, or
+	 * an entity graph, of an entity with a basic identifier, are coalesced. Loads
+	 * by a session which takes part in a JTA transaction, or whose transaction
+	 * has already written to the database, are never coalesced, and an instance
+	 * which is not found by the coalesced query is loaded by the session itself.
+	 *
+	 * @settingDefault {@code 0}, loads are never coalesced
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LOAD_COALESCING_WINDOW = "hibernate.load_coalescing.window";
 }
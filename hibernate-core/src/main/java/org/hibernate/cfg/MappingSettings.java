@@ -600,4 +600,22 @@ public interface MappingSettings {
 	 */
 	String USE_NATIONALIZED_CHARACTER_DATA = "hibernate.use_nationalized_character_data";
 
+	/**
+	 * Specifies the number of threads used to finish the initialization of the entity and
+	 * collection persisters when the {@link SessionFactory} is built, that is, to generate
+	 * their static insert, update and delete operations and their loaders. Each persister
+	 * is still initialized by a single thread, and the phases of initialization are still
+	 * performed one after the other, so the resulting persisters do not depend on the
+	 * number of threads.
+	 * <p>
+	 * A value less than {@code 1} indicates that as many threads as there are available
+	 * processors should be used.
+	 *
+	 * @settingDefault {@code 1}, persisters are initialized by the bootstrap thread
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PERSISTER_INITIALIZATION_PARALLELISM = "hibernate.mapping.persister_initialization_parallelism";
+
 }
@@ -152,6 +152,26 @@ public interface PersistenceSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Specifies the path of a file in which the result of scanning is stored, so that
+	 * later bootstraps can reuse it instead of scanning the archives of the persistence
+	 * unit again. The stored result is only reused as long as the scanned archives, the
+	 * scan options and the version of Hibernate do not change; otherwise, the archives
+	 * are scanned again, and the file is overwritten.
+	 * <p>
+	 * Only archives which are files or directories are fingerprinted, and when any of the
+	 * scanned archives is not, the stored result is not used.
+	 *
+	 * @settingDefault none, the archives are scanned on every bootstrap
+	 *
+	 * @see #SCANNER
+	 * @see org.hibernate.boot.archive.scan.internal.CachingScanner
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SCANNER_CACHE_FILE = "hibernate.archive.scanner.cache_file";
+
 	/**
 	 * Allows JPA callbacks (via {@link jakarta.persistence.PreUpdate} and friends) to be
 	 * completely disabled. Mostly useful to save some memory when they are not used.
@@ -270,6 +270,58 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Specifies the eviction policy of the caches maintained by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}. Accepts:
+	 * <ul>
+	 *     <li>{@code lirs}, the default, for a store evicting entries using the
+	 *         LIRS algorithm,
+	 *     <li>{@code tinylfu}, for a store which only admits new entries if they
+	 *         are estimated to be used more frequently than the entries they
+	 *         would replace, making the cache resistant to bursts of queries
+	 *         executed only once, or
+	 *     <li>an instance of {@link org.hibernate.query.spi.QueryPlanCacheStoreFactory},
+	 *         its {@link Class}, or the name of its class.
+	 * </ul>
+	 *
+	 * @see org.hibernate.query.spi.QueryPlanCacheStoreFactory
+	 * @see org.hibernate.stat.Statistics#getQueryPlanCacheStatistics(String)
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_PLAN_CACHE_STORE = "hibernate.query.plan_cache_store";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} used to run queries
+	 * executed via {@link org.hibernate.query.SelectionQuery#getResultListAsync()}
+	 * or {@link org.hibernate.query.MutationQuery#executeUpdateAsync()}. Accepts
+	 * an instance of {@code Executor}, its {@link Class}, or the name of its class.
+	 * <p>
+	 * By default, each query is executed in a new virtual thread, or, on JDK
+	 * versions without virtual threads, in a pooled daemon thread.
+	 *
+	 * @see org.hibernate.query.spi.AsyncQueryExecutor
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_ASYNC_EXECUTOR = "hibernate.query.async_executor";
+
+	/**
+	 * When enabled, specifies that the {@linkplain org.hibernate.sql.results.spi.RowReader
+	 * row reader} for each distinct shape of query result should be generated as bytecode,
+	 * so that the calls it makes to the initializers and assemblers of the result are
+	 * specific to that shape. This lets the JIT compiler inline these calls, which
+	 * otherwise dispatch to many different implementations.
+	 * <p>
+	 * Requires Byte Buddy, and is disabled by default.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isCompiledRowReadersEnabled()
+	 *
+	 * @since 7.0
+	 */
+	String COMPILED_ROW_READERS_ENABLED = "hibernate.query.compiled_row_readers_enabled";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -83,6 +83,9 @@
 
 	private transient int instanceId;
 
+	// initialized by a batch fetch of another collection, and not yet accessed
+	private transient boolean prefetched;
+
 	/**
 	 * Not called by Hibernate, but used by non-JDK serialization,
 	 * eg. SOAP libraries.
@@ -183,6 +186,9 @@ protected boolean readSize() {
 				);
 			}
 		}
+		else if ( prefetched ) {
+			recordPrefetchedAccess();
+		}
 		return false;
 	}
 
@@ -342,6 +348,9 @@ protected Boolean readIndexExistence(final Object index) {
 					}
 			);
 		}
+		else if ( prefetched ) {
+			recordPrefetchedAccess();
+		}
 		return null;
 	}
 
@@ -364,6 +373,9 @@ protected Boolean readElementExistence(final Object element) {
 					}
 			);
 		}
+		else if ( prefetched ) {
+			recordPrefetchedAccess();
+		}
 		return null;
 	}
 
@@ -417,6 +429,9 @@ public Object doWork() {
 				return reader.element;
 			}
 		}
+		else if ( prefetched ) {
+			recordPrefetchedAccess();
+		}
 		return UNKNOWN;
 
 	}
@@ -632,6 +647,27 @@ protected final void initialize(final boolean writing) {
 					}
 			);
 		}
+		else if ( prefetched ) {
+			recordPrefetchedAccess();
+		}
+	}
+
+	/**
+	 * Mark this collection as initialized by a batch fetch of another collection, so
+	 * that its first access is recorded for {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching}, as if it had been initialized on demand.
+	 *
+	 * @since 7.0
+	 */
+	public void markPrefetched() {
+		prefetched = true;
+	}
+
+	private void recordPrefetchedAccess() {
+		prefetched = false;
+		if ( role != null && isConnectedToSession() ) {
+			session.getPersistenceContextInternal().getBatchFetchQueue().recordInitializations( role, 1 );
+		}
 	}
 
 	private void throwLazyInitializationExceptionIfNotConnected() {
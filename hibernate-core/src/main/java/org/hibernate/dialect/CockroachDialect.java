@@ -578,6 +578,11 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -1198,6 +1198,11 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -98,6 +98,12 @@ public boolean supportsIfExistsBeforeTableName() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		// DB2 z/OS only supports multi-row inserts with host variable arrays
+		return false;
+	}
+
 	@Override
 	public String getCreateIndexString(boolean unique) {
 		// we only create unique indexes, as opposed to unique constraints,
@@ -4667,6 +4667,22 @@ public boolean supportsValuesListForInsert() {
 		return true;
 	}
 
+	/**
+	 * Does this dialect support inserting several rows with a single statement
+	 * of form {@code insert into T (a, b) values (?, ?), (?, ?)}, which is the
+	 * single-row {@code insert} statement rendered for the dialect, with its
+	 * {@code values} tuple repeated?
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
@@ -1344,6 +1344,11 @@ public boolean supportsValuesListForInsert() {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return wrapped.supportsMultiRowInsert();
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
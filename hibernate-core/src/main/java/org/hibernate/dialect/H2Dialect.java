@@ -1078,6 +1078,11 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public String getDual() {
 		return "dual";
@@ -654,6 +654,11 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return identityColumnSupport;
@@ -53,13 +53,45 @@
 @Internal
 public class JsonHelper {
 
+	/**
+	 * The largest buffer which is kept for reuse by later serializations on the same thread
+	 */
+	private static final int MAX_RETAINED_BUFFER_LENGTH = 16 * 1024;
+	private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<>();
+
 	public static String toString(EmbeddableMappingType embeddableMappingType, Object value, WrapperOptions options) {
 		if ( value == null ) {
 			return null;
 		}
-		final StringBuilder sb = new StringBuilder();
-		toString( embeddableMappingType, value, options, new JsonAppender( sb ) );
-		return sb.toString();
+		final StringBuilder sb = acquireBuffer();
+		try {
+			toString( embeddableMappingType, value, options, new JsonAppender( sb ) );
+			return sb.toString();
+		}
+		finally {
+			releaseBuffer( sb );
+		}
+	}
+
+	/**
+	 * Take the buffer of the current thread, if there is one, so that serializing a large
+	 * aggregate does not grow a new buffer, step by step, every time. A serialization which
+	 * happens during another one, for example of a nested aggregate, uses a buffer of its own.
+	 */
+	private static StringBuilder acquireBuffer() {
+		final StringBuilder sb = BUFFER.get();
+		if ( sb == null ) {
+			return new StringBuilder();
+		}
+		BUFFER.set( null );
+		return sb;
+	}
+
+	private static void releaseBuffer(StringBuilder sb) {
+		if ( sb.capacity() <= MAX_RETAINED_BUFFER_LENGTH ) {
+			sb.setLength( 0 );
+			BUFFER.set( sb );
+		}
 	}
 
 	public static String arrayToString(MappingType elementMappingType, Object[] values, WrapperOptions options) {
@@ -409,6 +441,8 @@ private static int fromString(
 		int start = begin + 1;
 		State s = State.KEY_START;
 		int selectableIndex = -1;
+		// the keys are usually in the order of the selectables, as written by toString()
+		int expectedSelectableIndex = 0;
 		// The following parsing logic assumes JSON is well-formed,
 		// but for the sake of the Java compiler's flow analysis
 		// and hopefully also for a better understanding, contains throws for some syntax errors
@@ -435,8 +469,10 @@ private static int fromString(
 									string,
 									start,
 									i,
-									hasEscape
+									hasEscape,
+									expectedSelectableIndex
 							);
+							expectedSelectableIndex = selectableIndex + 1;
 							start = -1;
 							hasEscape = false;
 							break;
@@ -1129,7 +1165,17 @@ private static int getSelectableMapping(
 			String string,
 			int start,
 			int end,
-			boolean hasEscape) {
+			boolean hasEscape,
+			int expectedSelectableIndex) {
+		if ( !hasEscape && expectedSelectableIndex < embeddableMappingType.getJdbcValueCount() ) {
+			// check the expected selectable first, which avoids creating a string for the key
+			final String expectedName =
+					embeddableMappingType.getJdbcValueSelectable( expectedSelectableIndex ).getSelectableName();
+			if ( expectedName.length() == end - start
+					&& string.regionMatches( start, expectedName, 0, expectedName.length() ) ) {
+				return expectedSelectableIndex;
+			}
+		}
 		final String name = hasEscape
 				? unescape( string, start, end )
 				: string.substring( start, end );
@@ -1225,12 +1271,7 @@ private static Object fromString(
 						options
 				);
 			case SqlTypes.UUID:
-				return jdbcJavaType.wrap(
-						PrimitiveByteArrayJavaType.INSTANCE.fromString(
-								string.substring( start, end ).replace( "-", "" )
-						),
-						options
-				);
+				return jdbcJavaType.wrap( uuidBytes( string, start, end ), options );
 			case SqlTypes.DATE:
 				return jdbcJavaType.wrap(
 						JdbcDateJavaType.INSTANCE.fromEncodedString(
@@ -1311,6 +1352,21 @@ else if ( jdbcJavaType instanceof EnumJavaType<?> ) {
 		}
 	}
 
+	private static byte[] uuidBytes(String string, int start, int end) {
+		final byte[] bytes = new byte[16];
+		int byteIndex = 0;
+		for ( int i = start; i < end; i++ ) {
+			if ( string.charAt( i ) != '-' ) {
+				bytes[byteIndex++] = (byte) ( ( Character.digit( string.charAt( i ), 16 ) << 4 )
+						| Character.digit( string.charAt( ++i ), 16 ) );
+			}
+		}
+		if ( byteIndex != bytes.length ) {
+			throw new IllegalArgumentException( "Invalid UUID: " + string.substring( start, end ) );
+		}
+		return bytes;
+	}
+
 	private static String unescape(String string, int start, int end) {
 		final StringBuilder sb = new StringBuilder( end - start );
 		for ( int i = start; i < end; i++ ) {
@@ -1454,12 +1510,9 @@ public JsonAppender append(CharSequence csq, int start, int end) {
 
 		@Override
 		public void write(int v) {
-			final String hex = Integer.toHexString( v );
-			sb.ensureCapacity( sb.length() + hex.length() + 1 );
-			if ( ( hex.length() & 1 ) == 1 ) {
-				sb.append( '0' );
-			}
-			sb.append( hex );
+			// an OutputStream is written bytes, so only the lowest 8 bits count
+			sb.append( HEX_ARRAY[( v >>> 4 ) & 0x0F] );
+			sb.append( HEX_ARRAY[v & 0x0F] );
 		}
 
 		@Override
@@ -1511,7 +1564,10 @@ private void appendEscaped(char fragment) {
 				case 29:
 				case 30:
 				case 31:
-					sb.append( "\\u" ).append( Integer.toHexString( fragment ) );
+					// control characters must be written as four hex digits
+					sb.append( "\\u00" );
+					sb.append( HEX_ARRAY[fragment >>> 4] );
+					sb.append( HEX_ARRAY[fragment & 0x0F] );
 					break;
 				case '\b':
 					sb.append("\\b");
@@ -1185,6 +1185,11 @@ public boolean supportsIsTrue() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsCurrentTimestampSelection() {
 		return true;
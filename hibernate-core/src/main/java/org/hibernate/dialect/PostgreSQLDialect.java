@@ -809,6 +809,11 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -0,0 +1,259 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Internal;
+import org.hibernate.action.internal.AbstractEntityInsertAction;
+import org.hibernate.engine.spi.ExecutableList;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Orders the insertions of an {@link org.hibernate.engine.spi.ActionQueue} such that inserts
+ * against the same entity are grouped together (without violating constraints), when
+ * {@linkplain org.hibernate.cfg.BatchSettings#ORDER_INSERTS insert ordering} is enabled.
+ * The original order is generated by cascade order, which in turn is based on the directionality
+ * of foreign-keys. So even though we will be changing the ordering here, we need to make
+ * absolutely certain that we do not circumvent this FK ordering to the extent of causing
+ * constraint violations.
+ * <p>
+ * The dependencies between the inserted instances are projected onto a graph of entity names,
+ * which is then sorted topologically, using Kahn's algorithm, in passes over the entity names
+ * in the order in which they first occur in the insertions. The inserts of each entity name
+ * are scheduled together, in their original order. Sorting takes time linear in the number
+ * of inserts and of their associated instances.
+ * <p>
+ * The inserts of an entity name which depends on itself, directly or through a cycle of other
+ * entity names, can't be scheduled, and are left in their original order, after the inserts of
+ * all entity names which were scheduled.
+ */
+@Internal
+public final class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( InsertActionSorter.class );
+
+	/**
+	 * Singleton access
+	 */
+	public static final InsertActionSorter INSTANCE = new InsertActionSorter();
+
+	private InsertActionSorter() {
+	}
+
+	/**
+	 * Sort the insert actions.
+	 */
+	@Override
+	public void sort(List<AbstractEntityInsertAction> insertions) {
+		final int insertCount = insertions.size();
+		// Group the inserts by entity name, in the order in which the names first occur
+		final List<EntityInsertGroup> groups = new ArrayList<>();
+		final Map<String, EntityInsertGroup> groupsByEntityName = new HashMap<>();
+		// The group of every inserted instance, needed to discover the groups of direct dependencies
+		final IdentityHashMap<Object, EntityInsertGroup> groupsByEntity = new IdentityHashMap<>( insertCount );
+		final EntityInsertGroup[] groupOfInsert = new EntityInsertGroup[insertCount];
+		for ( int i = 0; i < insertCount; i++ ) {
+			final AbstractEntityInsertAction insertAction = insertions.get( i );
+			final String entityName = insertAction.getPersister().getEntityName();
+			EntityInsertGroup group = groupsByEntityName.get( entityName );
+			if ( group == null ) {
+				group = new EntityInsertGroup( groups.size() );
+				groupsByEntityName.put( entityName, group );
+				groups.add( group );
+			}
+			group.size++;
+			groupOfInsert[i] = group;
+			groupsByEntity.put( insertAction.getInstance(), group );
+		}
+		if ( groups.size() == 1 ) {
+			// Unless it depends on itself, the only group is already scheduled
+			if ( !dependsOnItself( insertions, groupOfInsert, groupsByEntity ) ) {
+				return;
+			}
+		}
+		else {
+			// Project the direct dependencies of every insert onto its group
+			for ( int i = 0; i < insertCount; i++ ) {
+				final AbstractEntityInsertAction insertAction = insertions.get( i );
+				addDirectDependencies( insertAction, groupOfInsert[i], groupsByEntity );
+			}
+		}
+
+		// Schedule the groups with no unscheduled dependencies, in passes over the groups
+		final int groupCount = groups.size();
+		final BitSet ready = new BitSet( groupCount );
+		for ( EntityInsertGroup group : groups ) {
+			group.unscheduledDependencies = group.dependencies == null ? 0 : group.dependencies.cardinality();
+			if ( group.unscheduledDependencies == 0 ) {
+				ready.set( group.index );
+			}
+		}
+		int schedulePosition = 0;
+		int scheduledCount = 0;
+		int next = ready.nextSetBit( 0 );
+		while ( next >= 0 ) {
+			ready.clear( next );
+			final EntityInsertGroup group = groups.get( next );
+			group.position = schedulePosition;
+			schedulePosition += group.size;
+			scheduledCount++;
+			if ( group.dependents != null ) {
+				for ( EntityInsertGroup dependent : group.dependents ) {
+					if ( --dependent.unscheduledDependencies == 0 ) {
+						ready.set( dependent.index );
+					}
+				}
+			}
+			next = ready.nextSetBit( next + 1 );
+			if ( next < 0 ) {
+				// start a new pass
+				next = ready.nextSetBit( 0 );
+			}
+		}
+		if ( scheduledCount < groupCount ) {
+			LOG.warn( "The batch containing " + insertCount + " statements could not be sorted. " +
+					"This might indicate a circular entity relationship." );
+		}
+
+		final AbstractEntityInsertAction[] sorted = new AbstractEntityInsertAction[insertCount];
+		for ( int i = 0; i < insertCount; i++ ) {
+			final EntityInsertGroup group = groupOfInsert[i];
+			if ( group.position < 0 ) {
+				// Unscheduled inserts keep their original order after all scheduled inserts
+				sorted[schedulePosition++] = insertions.get( i );
+			}
+			else {
+				sorted[group.position++] = insertions.get( i );
+			}
+		}
+		for ( int i = 0; i < insertCount; i++ ) {
+			insertions.set( i, sorted[i] );
+		}
+	}
+
+	private static boolean dependsOnItself(
+			List<AbstractEntityInsertAction> insertions,
+			EntityInsertGroup[] groupOfInsert,
+			IdentityHashMap<Object, EntityInsertGroup> groupsByEntity) {
+		final EntityInsertGroup group = groupOfInsert[0];
+		for ( int i = 0; i < insertions.size() && group.dependencies == null; i++ ) {
+			addDirectDependencies( insertions.get( i ), group, groupsByEntity );
+		}
+		return group.dependencies != null;
+	}
+
+	private static void addDirectDependencies(
+			AbstractEntityInsertAction insertAction,
+			EntityInsertGroup group,
+			IdentityHashMap<Object, EntityInsertGroup> groupsByEntity) {
+		final Object[] propertyValues = insertAction.getState();
+		final Type[] propertyTypes = insertAction.getPersister().getPropertyTypes();
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			addDirectDependency( insertAction, group, propertyTypes[i], propertyValues[i], groupsByEntity );
+		}
+	}
+
+	private static void addDirectDependency(
+			AbstractEntityInsertAction insertAction,
+			EntityInsertGroup group,
+			Type type,
+			@Nullable Object value,
+			IdentityHashMap<Object, EntityInsertGroup> groupsByEntity) {
+		if ( value == null ) {
+			return;
+		}
+		if ( type instanceof EntityType entityType ) {
+			final EntityInsertGroup dependency = groupsByEntity.get( value );
+			if ( dependency != null ) {
+				if ( entityType.isOneToOne()
+						&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+					// Child dependency of an inverse one-to-one
+					if ( !entityType.isReferenceToPrimaryKey() ) {
+						dependency.addDependency( group );
+					}
+				}
+				else {
+					group.addDependency( dependency );
+				}
+			}
+		}
+		else if ( type instanceof CollectionType collectionType ) {
+			final PluralAttributeMapping pluralAttributeMapping = insertAction.getSession()
+					.getFactory()
+					.getMappingMetamodel()
+					.getCollectionDescriptor( collectionType.getRole() )
+					.getAttributeMapping();
+			// We only care about mappedBy one-to-many associations, because for these,
+			// the elements depend on the collection owner
+			if ( pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
+					&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
+				final Iterator<?> elementsIterator = collectionType.getElementsIterator( value );
+				while ( elementsIterator.hasNext() ) {
+					final EntityInsertGroup dependent = groupsByEntity.get( elementsIterator.next() );
+					if ( dependent != null ) {
+						dependent.addDependency( group );
+					}
+				}
+			}
+		}
+		else if ( type instanceof ComponentType compositeType ) {
+			// Support recursive checks of composite type properties for associations and collections.
+			final SharedSessionContractImplementor session = insertAction.getSession();
+			final Object[] componentValues = compositeType.getPropertyValues( value, session );
+			final Type[] componentValueTypes = compositeType.getSubtypes();
+			for ( int j = 0; j < componentValues.length; ++j ) {
+				addDirectDependency( insertAction, group, componentValueTypes[j], componentValues[j], groupsByEntity );
+			}
+		}
+	}
+
+	/**
+	 * The inserts against an entity name, a node of the graph of entity names.
+	 */
+	private static final class EntityInsertGroup {
+		private final int index;
+		private int size;
+		// The indexes of the groups which must be inserted before this group
+		private @Nullable BitSet dependencies;
+		private @Nullable List<EntityInsertGroup> dependents;
+		private int unscheduledDependencies;
+		// The position of the next insert of this group, once it is scheduled
+		private int position = -1;
+
+		private EntityInsertGroup(int index) {
+			this.index = index;
+		}
+
+		private void addDependency(EntityInsertGroup dependency) {
+			if ( dependencies == null ) {
+				dependencies = new BitSet();
+			}
+			if ( !dependencies.get( dependency.index ) ) {
+				dependencies.set( dependency.index );
+				if ( dependency.dependents == null ) {
+					dependency.dependents = new ArrayList<>();
+				}
+				dependency.dependents.add( this );
+			}
+		}
+	}
+}
@@ -6,10 +6,17 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
 
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
@@ -23,8 +30,10 @@
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -45,11 +54,20 @@ public class BatchImpl implements Batch {
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
 
+	// The most parameters bound by a multi-row insert, whatever the dialect reports,
+	// since some drivers, such as older versions of pgJDBC, accept no more than this
+	private static final int MAX_PARAMETER_COUNT = Short.MAX_VALUE;
+
+	private final boolean multiRowInserts;
+	private final int parameterCountLimit;
+
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
 	private int batchPosition;
 	private boolean batchExecuted;
 	private StaleStateMapper[] staleStateMappers;
+	// The rows of the multi-row inserts, by table name
+	private Map<String, List<ObjIntConsumer<PreparedStatement>>> multiRowInsertRows;
 
 	public BatchImpl(
 			BatchKey key,
@@ -72,6 +90,14 @@ public BatchImpl(
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
+		final Dialect dialect = jdbcServices.getDialect();
+		this.multiRowInserts = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().isMultiRowInsertsEnabled()
+				&& dialect.supportsMultiRowInsert();
+		final int dialectParameterCountLimit = dialect.getParameterCountLimit();
+		this.parameterCountLimit = dialectParameterCountLimit > 0
+				? Math.min( dialectParameterCountLimit, MAX_PARAMETER_COUNT )
+				: MAX_PARAMETER_COUNT;
+
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_MESSAGE_LOGGER.createBatch(
 					batchSizeToUse,
@@ -131,7 +157,7 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 						);
 					}
 				}
-				else {
+				else if ( !addMultiRowInsertRow( tableName, statementDetails, jdbcValueBindings ) ) {
 					//noinspection resource
 					final PreparedStatement statement = statementDetails.resolveStatement();
 					sqlStatementLogger.logStatement( statementDetails.getSqlString() );
@@ -165,6 +191,32 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 		}
 	}
 
+	/**
+	 * Captures the values of the row, to be inserted by a multi-row insert when the
+	 * batch is executed, if {@linkplain org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 * enabled} for the statement.
+	 *
+	 * @return Whether the row was captured
+	 */
+	private boolean addMultiRowInsertRow(
+			String tableName,
+			PreparedStatementDetails statementDetails,
+			JdbcValueBindings jdbcValueBindings) {
+		if ( multiRowInserts && statementDetails.getMultiRowInsert() != null ) {
+			final ObjIntConsumer<PreparedStatement> row = jdbcValueBindings.captureRow( statementDetails );
+			if ( row != null ) {
+				jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+				if ( multiRowInsertRows == null ) {
+					multiRowInsertRows = new HashMap<>();
+				}
+				multiRowInsertRows.computeIfAbsent( tableName, name -> new ArrayList<>( batchSizeToUse ) )
+						.add( row );
+				return true;
+			}
+		}
+		return false;
+	}
+
 	protected void releaseStatements() {
 		statementGroup.release();
 	}
@@ -254,6 +306,17 @@ protected void performExecution() {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
 				final PreparedStatement statement = statementDetails.getStatement();
+				final List<ObjIntConsumer<PreparedStatement>> rows =
+						multiRowInsertRows == null ? null : multiRowInsertRows.get( tableName );
+				if ( rows != null && !rows.isEmpty() ) {
+					try {
+						executeMultiRowInserts( statementDetails, rows );
+					}
+					catch (RuntimeException re) {
+						abortBatch( re );
+						throw re;
+					}
+				}
 				if ( statement != null ) {
 					try {
 						if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
@@ -265,7 +328,7 @@ protected void performExecution() {
 								rowCounts = statement.executeBatch();
 							}
 							finally {
-								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql, batchPosition );
 								eventHandler.jdbcExecuteBatchEnd();
 							}
 							checkRowCounts( rowCounts, statementDetails );
@@ -289,6 +352,53 @@ protected void performExecution() {
 		finally {
 			jdbcCoordinator.afterStatementExecution();
 			batchPosition = 0;
+			if ( multiRowInsertRows != null ) {
+				multiRowInsertRows.clear();
+			}
+		}
+	}
+
+	/**
+	 * Inserts the captured rows with as few multi-row inserts as the
+	 * {@linkplain Dialect#getParameterCountLimit() parameter count limit} allows,
+	 * binding at most 32767 parameters per statement in any case.
+	 */
+	private void executeMultiRowInserts(
+			PreparedStatementDetails statementDetails,
+			List<ObjIntConsumer<PreparedStatement>> rows) {
+		final JdbcInsertMutation insert = statementDetails.getMultiRowInsert();
+		final int parameterCount = insert.getParameterBinders().size();
+		final int maxRows = parameterCount > 0
+				? Math.max( 1, parameterCountLimit / parameterCount )
+				: rows.size();
+		for ( int start = 0; start < rows.size(); start += maxRows ) {
+			final int rowCount = Math.min( maxRows, rows.size() - start );
+			final String sql = insert.getMultiRowSqlString( rowCount );
+			sqlStatementLogger.logStatement( sql );
+			final PreparedStatement statement =
+					jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+			try {
+				for ( int i = 0; i < rowCount; i++ ) {
+					rows.get( start + i ).accept( statement, i * parameterCount );
+				}
+				final int insertedRows = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+				checkMultiRowInsertCount( insertedRows, rowCount, statementDetails.getExpectation(), sql );
+			}
+			finally {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			}
+		}
+	}
+
+	private static void checkMultiRowInsertCount(int insertedRows, int rowCount, Expectation expectation, String sql) {
+		// the row count of the whole statement can't be attributed to a particular row
+		if ( !( expectation instanceof Expectation.None )
+				&& insertedRows != Statement.SUCCESS_NO_INFO
+				&& insertedRows != rowCount ) {
+			throw new StaleStateException(
+					"Multi-row insert returned unexpected row count " + insertedRows
+							+ " (expected row count " + rowCount + ") [" + sql + "]"
+			);
 		}
 	}
 
@@ -326,6 +436,9 @@ public void release() {
 			}
 		}
 		releaseStatements();
+		if ( multiRowInsertRows != null ) {
+			multiRowInsertRows.clear();
+		}
 		observers.clear();
 	}
 
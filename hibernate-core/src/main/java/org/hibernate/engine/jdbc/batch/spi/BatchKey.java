@@ -13,4 +13,22 @@ public interface BatchKey {
 	default String toLoggableString() {
 		return toString();
 	}
+
+	/**
+	 * Whether a statement with this key might have to be executed after a statement
+	 * with the given key which was added to a batch before it, for example, because
+	 * it references the row written by that statement via a foreign key.
+	 * <p>
+	 * Used when {@linkplain org.hibernate.cfg.BatchSettings#BATCH_PIPELINING pipelining}
+	 * batches, to decide whether a statement may be added to an open batch which is
+	 * executed before the batch of the given key.
+	 *
+	 * @implNote The default implementation always returns {@code true}, so that
+	 *           statements are never executed out of order.
+	 *
+	 * @since 7.0
+	 */
+	default boolean dependsOn(BatchKey key) {
+		return true;
+	}
 }
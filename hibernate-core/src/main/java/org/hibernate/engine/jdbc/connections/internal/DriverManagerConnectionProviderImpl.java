@@ -17,7 +17,9 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -357,6 +359,11 @@ public static class PooledConnections {
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads,
+		 * since connections are created while holding it.
+		 */
+		private final Lock growthLock = new ReentrantLock();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
@@ -430,12 +437,16 @@ private Connection poll() {
 			do {
 				conn = availableConnections.poll();
 				if ( conn == null ) {
-					synchronized (allConnections) {
+					growthLock.lock();
+					try {
 						if ( allConnections.size() < maxSize ) {
 							addConnections( 1 );
 							return poll();
 						}
 					}
+					finally {
+						growthLock.unlock();
+					}
 					throw new HibernateException(
 							"The internal connection pool has reached its maximum size and no connection is currently available" );
 				}
@@ -743,6 +743,16 @@ public boolean isJtaTrackByThread() {
 			return jtaTrackByThread;
 		}
 
+		@Override
+		public boolean isBatchPipeliningEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isMultiRowInsertsEnabled() {
+			return false;
+		}
+
 		@Override
 		public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 			return connectionHandlingMode;
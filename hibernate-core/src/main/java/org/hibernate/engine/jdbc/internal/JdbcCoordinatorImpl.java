@@ -57,6 +57,11 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * The open batches, if {@linkplain org.hibernate.cfg.BatchSettings#BATCH_PIPELINING pipelining} batches.
+	 */
+	private transient PipelinedBatches pipelinedBatches;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -151,6 +156,10 @@ public Connection close() {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
+			if ( pipelinedBatches != null && pipelinedBatches.hasPending() ) {
+				LOG.closingUnreleasedBatch();
+				pipelinedBatches.release();
+			}
 		}
 		finally {
 			connection = logicalConnection.close();
@@ -160,6 +169,13 @@ public Connection close() {
 
 	@Override
 	public Batch getBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatementGroup> statementGroupSupplier) {
+		if ( owner.getJdbcSessionContext().isBatchPipeliningEnabled() ) {
+			if ( pipelinedBatches == null ) {
+				pipelinedBatches = new PipelinedBatches( this );
+			}
+			return pipelinedBatches.getBatch( key, batchSize, statementGroupSupplier );
+		}
+
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
@@ -182,6 +198,9 @@ public Batch getBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatemen
 
 	@Override
 	public void executeBatch() {
+		if ( pipelinedBatches != null ) {
+			pipelinedBatches.execute();
+		}
 		if ( currentBatch != null ) {
 			try {
 				currentBatch.execute();
@@ -194,6 +213,9 @@ public void executeBatch() {
 
 	@Override
 	public void conditionallyExecuteBatch(BatchKey key) {
+		if ( pipelinedBatches != null ) {
+			pipelinedBatches.conditionallyExecute( key );
+		}
 		if ( currentBatch != null && !currentBatch.getKey().equals( key ) ) {
 			JdbcBatchLogging.BATCH_LOGGER.debugf( "Conditionally executing batch - %s", currentBatch.getKey() );
 			try {
@@ -207,6 +229,9 @@ public void conditionallyExecuteBatch(BatchKey key) {
 
 	@Override
 	public void abortBatch() {
+		if ( pipelinedBatches != null ) {
+			pipelinedBatches.release();
+		}
 		if ( currentBatch != null ) {
 			currentBatch.release();
 		}
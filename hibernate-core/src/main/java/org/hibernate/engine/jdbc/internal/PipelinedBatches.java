@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * The open batches of a {@link JdbcCoordinator} which
+ * {@linkplain org.hibernate.cfg.BatchSettings#BATCH_PIPELINING pipelines} batches.
+ * <p>
+ * Keeps one open batch per {@link BatchKey}, in the order in which the batches
+ * are executed. A statement joins the open batch of its key, even if batches for
+ * other keys were opened after it, as long as its key does not
+ * {@linkplain BatchKey#dependsOn depend} on any of the keys of those batches
+ * still holding statements. Otherwise, all open batches are executed before the
+ * statement is added. A batch about to be executed because it reached its batch
+ * size first executes the batches ahead of it.
+ */
+final class PipelinedBatches {
+	private final JdbcCoordinator jdbcCoordinator;
+
+	// in order of execution
+	private final LinkedHashMap<BatchKey, PipelinedBatch> batches = new LinkedHashMap<>();
+	private PipelinedBatch last;
+	// the batch most recently handed out, to which a statement may still be added
+	private PipelinedBatch current;
+
+	PipelinedBatches(JdbcCoordinator jdbcCoordinator) {
+		this.jdbcCoordinator = jdbcCoordinator;
+	}
+
+	private final class PipelinedBatch implements BatchObserver {
+		private final Batch batch;
+		// whether statements might have been added since the last execution
+		private boolean pending;
+
+		private PipelinedBatch(Batch batch) {
+			this.batch = batch;
+		}
+
+		@Override
+		public void batchExplicitlyExecuted() {
+			pending = false;
+		}
+
+		@Override
+		public void batchImplicitlyExecuted() {
+			// the statements of this batch may reference rows written
+			// by statements of the batches ahead of it in the pipeline
+			for ( PipelinedBatch batch : batches.values() ) {
+				if ( batch == this ) {
+					break;
+				}
+				else if ( batch.pending ) {
+					batch.batch.execute();
+				}
+			}
+			pending = false;
+		}
+	}
+
+	Batch getBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatementGroup> statementGroupSupplier) {
+		PipelinedBatch batch = batches.get( key );
+		if ( batch == null ) {
+			batch = new PipelinedBatch( jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getBatchBuilder()
+					.buildBatch( key, batchSize, statementGroupSupplier, jdbcCoordinator ) );
+			batches.put( key, batch );
+			last = batch;
+		}
+		else if ( batch != last ) {
+			if ( !batch.pending ) {
+				moveToEnd( key, batch );
+			}
+			else if ( dependsOnLaterBatch( key, batch ) ) {
+				BATCH_LOGGER.debugf( "Executing pipelined batches before adding to batch - %s", key.toLoggableString() );
+				executePending( null );
+				moveToEnd( key, batch );
+			}
+		}
+		batch.pending = true;
+		batch.batch.addObserver( batch );
+		current = batch;
+		return batch.batch;
+	}
+
+	private boolean dependsOnLaterBatch(BatchKey key, PipelinedBatch batch) {
+		boolean later = false;
+		for ( PipelinedBatch other : batches.values() ) {
+			if ( later ) {
+				if ( other.pending && key.dependsOn( other.batch.getKey() ) ) {
+					return true;
+				}
+			}
+			else if ( other == batch ) {
+				later = true;
+			}
+		}
+		return false;
+	}
+
+	private void moveToEnd(BatchKey key, PipelinedBatch batch) {
+		if ( batch != last ) {
+			batches.remove( key );
+			batches.put( key, batch );
+			last = batch;
+		}
+	}
+
+	private void executePending(PipelinedBatch retained) {
+		for ( PipelinedBatch batch : batches.values() ) {
+			if ( batch.pending && batch != retained ) {
+				batch.batch.execute();
+			}
+		}
+	}
+
+	/**
+	 * Execute the open batches before a statement which is not batched is executed.
+	 *
+	 * @param key the key of the batch which the statement belongs to, and which
+	 * may remain open if it is the last batch of the pipeline
+	 *
+	 * @see JdbcCoordinator#conditionallyExecuteBatch(BatchKey)
+	 */
+	void conditionallyExecute(BatchKey key) {
+		final PipelinedBatch retained = key == null ? null : batches.get( key );
+		if ( retained != null && retained == last ) {
+			executePending( retained );
+		}
+		else {
+			executePending( null );
+			if ( retained != null ) {
+				// a statement is about to be added to it
+				moveToEnd( key, retained );
+				retained.pending = true;
+			}
+		}
+	}
+
+	/**
+	 * @see JdbcCoordinator#executeBatch()
+	 */
+	void execute() {
+		try {
+			for ( PipelinedBatch batch : batches.values() ) {
+				batch.batch.execute();
+			}
+		}
+		finally {
+			release();
+			if ( current != null ) {
+				// keep track of it, in case a statement is still added to it,
+				// but it holds no statements until it is handed out again
+				batches.put( current.batch.getKey(), current );
+				last = current;
+				current.batch.addObserver( current );
+			}
+		}
+	}
+
+	/**
+	 * Release the open batches, which are then forgotten.
+	 *
+	 * @see JdbcCoordinator#abortBatch()
+	 */
+	void release() {
+		try {
+			for ( PipelinedBatch batch : batches.values() ) {
+				batch.pending = false;
+				batch.batch.release();
+			}
+		}
+		finally {
+			batches.clear();
+			last = null;
+		}
+	}
+
+	/**
+	 * Whether any open batch might hold statements which were not executed.
+	 */
+	boolean hasPending() {
+		for ( PipelinedBatch batch : batches.values() ) {
+			if ( batch.pending ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.engine.jdbc.mutation;
 
+import java.sql.PreparedStatement;
+import java.util.function.ObjIntConsumer;
+
 import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
@@ -39,6 +42,19 @@ default void bindValue(Object value, SelectableMapping selectableMapping, Parame
 	 */
 	void beforeStatement(PreparedStatementDetails statementDetails);
 
+	/**
+	 * Called, instead of {@link #beforeStatement}, when the values for the specified
+	 * table are bound later, as one of the rows of a multi-row statement.
+	 *
+	 * @return Binds the captured values to a statement, after the given number of
+	 * parameters of the previous rows, or {@code null} if the values can't be captured
+	 *
+	 * @since 7.0
+	 */
+	default ObjIntConsumer<PreparedStatement> captureRow(PreparedStatementDetails statementDetails) {
+		return null;
+	}
+
 	/**
 	 * Called after the execution of the operation for the specified table
 	 */
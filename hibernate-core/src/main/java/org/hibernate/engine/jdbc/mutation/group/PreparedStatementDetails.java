@@ -11,6 +11,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * Descriptor for details about a {@link PreparedStatement}
@@ -55,6 +56,18 @@ default boolean isCallable() {
 		return getStatement() instanceof CallableStatement;
 	}
 
+	/**
+	 * The insert executed by the statement, if it may be rendered as a
+	 * {@linkplain JdbcInsertMutation#isMultiRowCapable multi-row insert}, or {@code null}.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	default JdbcInsertMutation getMultiRowInsert() {
+		return null;
+	}
+
 	void releaseStatement(SharedSessionContractImplementor session);
 
 	default boolean toRelease(){
@@ -4,15 +4,18 @@
  */
 package org.hibernate.engine.jdbc.mutation.internal;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.ObjIntConsumer;
 
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.UnknownParameterException;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
 import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.model.MutationTarget;
@@ -24,6 +27,8 @@
  * @author Steve Ebersole
  */
 public class JdbcValueBindingsImpl implements JdbcValueBindings {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
 	private final MutationType mutationType;
 	private final MutationTarget<?> mutationTarget;
 	private final JdbcValueDescriptorAccess jdbcValueDescriptorAccess;
@@ -80,27 +85,39 @@ public void beforeStatement(PreparedStatementDetails statementDetails) {
 			statementDetails.resolveStatement();
 		}
 		else {
-			bindingGroup.forEachBinding( (binding) -> {
-				try {
-					binding.getValueBinder().bind(
-							statementDetails.resolveStatement(),
-							binding.getValue(),
-							binding.getPosition(),
-							session
-					);
-				}
-				catch (SQLException e) {
-					throw session.getJdbcServices().getSqlExceptionHelper().convert(
-							e,
-							String.format(
-									Locale.ROOT,
-									"Unable to bind parameter #%s - %s",
-									binding.getPosition(),
-									binding.getValue()
-							)
-					);
-				}
-			} );
+			bindingGroup.forEachBinding( (binding) -> bind( statementDetails.resolveStatement(), binding, 0 ) );
+		}
+	}
+
+	@Override
+	public ObjIntConsumer<PreparedStatement> captureRow(PreparedStatementDetails statementDetails) {
+		final BindingGroup bindingGroup = bindingGroupMap.get( statementDetails.getMutatingTableDetails().getTableName() );
+		// the bindings are cleared after the statement, so keep a copy
+		final Binding[] bindings = bindingGroup == null
+				? NO_BINDINGS
+				: bindingGroup.getBindings().toArray( NO_BINDINGS );
+		return (statement, parameterOffset) -> {
+			for ( Binding binding : bindings ) {
+				bind( statement, binding, parameterOffset );
+			}
+		};
+	}
+
+	private void bind(PreparedStatement statement, Binding binding, int parameterOffset) {
+		final int position = parameterOffset + binding.getPosition();
+		try {
+			binding.getValueBinder().bind( statement, binding.getValue(), position, session );
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					String.format(
+							Locale.ROOT,
+							"Unable to bind parameter #%s - %s",
+							position,
+							binding.getValue()
+					)
+			);
 		}
 	}
 
@@ -15,6 +15,7 @@
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * Describes a particular {@link PreparedStatement} within a {@linkplain PreparedStatementGroup group}
@@ -27,6 +28,7 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
 	private final Expectation expectation;
 	private final JdbcServices jdbcServices;
+	private final JdbcInsertMutation multiRowInsert;
 
 	private PreparedStatement statement;
 
@@ -56,6 +58,12 @@ public PreparedStatementDetailsStandard(
 		this.jdbcStatementCreator = jdbcStatementCreator;
 		this.expectation = expectation;
 		this.jdbcServices = jdbcServices;
+		this.multiRowInsert = tableMutation instanceof JdbcInsertMutation insert
+				&& insert.isMultiRowCapable()
+				&& sql.equals( insert.getSqlString() )
+				&& expectation == insert.getExpectation()
+						? insert
+						: null;
 	}
 
 	@Override
@@ -106,6 +114,11 @@ public Expectation getExpectation() {
 		return expectation;
 	}
 
+	@Override
+	public JdbcInsertMutation getMultiRowInsert() {
+		return multiRowInsert;
+	}
+
 	@Override
 	public boolean toRelease() {
 		return toRelease;
@@ -8,14 +8,9 @@
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
@@ -28,6 +23,7 @@
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -39,24 +35,25 @@
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.QuerySpacePartition;
+import org.hibernate.engine.internal.InsertActionSorter;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
-import org.hibernate.metamodel.mapping.PluralAttributeMapping;
-import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.LazyInitializer;
-import org.hibernate.type.CollectionType;
-import org.hibernate.type.ComponentType;
-import org.hibernate.type.EntityType;
-import org.hibernate.type.ForeignKeyDirection;
-import org.hibernate.type.Type;
+import org.hibernate.sql.exec.spi.JdbcSelectKeyRestriction;
+import org.hibernate.type.descriptor.java.JavaType;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.addAll;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
 /**
@@ -101,6 +98,7 @@ public class ActionQueue {
 
 
 	private transient boolean isTransactionCoordinatorShared;
+	private transient boolean executedWritesInTransaction;
 	private AfterTransactionCompletionProcessQueue afterTransactionProcesses;
 	private BeforeTransactionCompletionProcessQueue beforeTransactionProcesses;
 
@@ -416,14 +414,23 @@ public void addAction(BulkOperationCleanupAction action) {
 	}
 
 	private void registerCleanupActions(Executable executable) {
+		if ( session.isTransactionInProgress() ) {
+			executedWritesInTransaction = true;
+		}
 		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
 			if ( beforeTransactionProcesses == null ) {
 				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
 			}
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
-		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( executable.getPropertySpaces() );
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		if ( options.isQueryCacheEnabled() ) {
+			if ( options.isQueryCacheKeyInvalidationEnabled() ) {
+				invalidateSpacePartitions( List.of( executable ) );
+			}
+			else {
+				invalidateSpaces( executable.getPropertySpaces() );
+			}
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -536,6 +543,7 @@ private void prepareActions(@Nullable ExecutableList<?> queue) throws HibernateE
 	 * @param success Was the transaction successful.
 	 */
 	public void afterTransactionCompletion(boolean success) {
+		executedWritesInTransaction = false;
 		if ( !isTransactionCoordinatorShared ) {
 			// Execute completion actions only in transaction owner (aka parent session).
 			if ( afterTransactionProcesses != null ) {
@@ -657,11 +665,17 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 			}
 		}
 		finally {
-			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
+			final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+			if ( options.isQueryCacheEnabled() ) {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				if ( options.isQueryCacheKeyInvalidationEnabled() ) {
+					invalidateSpacePartitions( list );
+				}
+				else {
+					invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				}
 			}
 			// @NonNull String @Nullable [] - array nullable, elements not
 			// @Nullable String @NonNull [] - elements nullable, array not
@@ -701,6 +715,51 @@ private void invalidateSpaces(String @Nullable [] spaces) {
 		}
 	}
 
+	/**
+	 * Invalidate the partitions of the query spaces holding the rows affected
+	 * by the given actions, when the rows are identified by primary key, or
+	 * else the whole query spaces affected by the actions.
+	 *
+	 * @param executables The actions whose spaces to invalidate
+	 */
+	private void invalidateSpacePartitions(Iterable<? extends Executable> executables) {
+		final Set<String> spaces = new LinkedHashSet<>();
+		final Set<QuerySpacePartition> partitions = new LinkedHashSet<>();
+		for ( Executable executable : executables ) {
+			final QuerySpacePartition partition = spacePartition( executable );
+			if ( partition == null ) {
+				addAll( spaces, executable.getPropertySpaces() );
+			}
+			else {
+				partitions.add( partition );
+			}
+		}
+		invalidateSpaces( spaces.toArray( new String[0] ) );
+		if ( !partitions.isEmpty() ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.addSpacePartitionsToInvalidate( partitions );
+			session.getFactory().getCache().getTimestampsCache()
+					.preInvalidate( partitions.toArray( new QuerySpacePartition[0] ), session );
+		}
+	}
+
+	private static @Nullable QuerySpacePartition spacePartition(Executable executable) {
+		if ( executable instanceof EntityAction entityAction && entityAction.getId() != null ) {
+			final EntityPersister persister = entityAction.getPersister();
+			final JavaType<Object> keyJavaType = JdbcSelectKeyRestriction.keyJavaType( persister );
+			final String[] spaces = executable.getPropertySpaces();
+			if ( keyJavaType != null && spaces.length == 1 && spaces[0].equals( persister.getQuerySpaces()[0] ) ) {
+				return QuerySpacePartition.forKeyHashCode(
+						spaces[0],
+						keyJavaType.extractHashCode( entityAction.getId() )
+				);
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Returns a string representation of the object.
 	 *
@@ -810,12 +869,28 @@ public void sortCollectionActions() {
 	}
 
 	public void sortActions() {
-		if ( isOrderUpdatesEnabled() && updates != null ) {
-			// sort the updates by pk
-			updates.sort();
-		}
-		if ( isOrderInsertsEnabled() && insertions != null ) {
-			insertions.sort();
+		final boolean sortUpdates = isOrderUpdatesEnabled() && updates != null;
+		final boolean sortInsertions = isOrderInsertsEnabled() && insertions != null;
+		if ( sortUpdates || sortInsertions ) {
+			final EventMonitor eventMonitor = session.getEventMonitor();
+			final DiagnosticEvent sortEvent = eventMonitor.beginActionQueueSortEvent();
+			try {
+				if ( sortUpdates ) {
+					// sort the updates by pk
+					updates.sort();
+				}
+				if ( sortInsertions ) {
+					insertions.sort();
+				}
+			}
+			finally {
+				eventMonitor.completeActionQueueSortEvent(
+						sortEvent,
+						session,
+						sortInsertions ? insertions.size() : 0,
+						sortUpdates ? updates.size() : 0
+				);
+			}
 		}
 	}
 
@@ -859,6 +934,17 @@ public boolean hasBeforeTransactionActions() {
 				: beforeTransactionProcesses != null && beforeTransactionProcesses.hasActions();
 	}
 
+	/**
+	 * Whether any insert, update, or delete, or any bulk operation, was executed
+	 * by this session in the current transaction. Such changes are not visible
+	 * to other transactions until the current transaction commits.
+	 *
+	 * @since 7.0
+	 */
+	public boolean hasExecutedWritesInTransaction() {
+		return executedWritesInTransaction;
+	}
+
 	public boolean hasAnyQueuedActions() {
 		return hasUnresolvedEntityInsertActions()
 			|| nonempty( updates )
@@ -1039,6 +1125,7 @@ public void beforeTransactionCompletion() {
 	private static class AfterTransactionCompletionProcessQueue
 			extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
 		private final Set<String> querySpacesToInvalidate = new HashSet<>();
+		private final Set<QuerySpacePartition> querySpacePartitionsToInvalidate = new HashSet<>();
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
@@ -1048,6 +1135,10 @@ public void addSpaceToInvalidate(String space) {
 			querySpacesToInvalidate.add( space );
 		}
 
+		public void addSpacePartitionsToInvalidate(Set<QuerySpacePartition> partitions) {
+			querySpacePartitionsToInvalidate.addAll( partitions );
+		}
+
 		public void afterTransactionCompletion(boolean success) {
 			AfterTransactionCompletionProcess process;
 			while ( ( process = processes.poll() ) != null ) {
@@ -1068,8 +1159,15 @@ public void afterTransactionCompletion(boolean success) {
 						querySpacesToInvalidate.toArray(new String[0]),
 						session
 				);
+				if ( !querySpacePartitionsToInvalidate.isEmpty() ) {
+					session.getFactory().getCache().getTimestampsCache().invalidate(
+							querySpacePartitionsToInvalidate.toArray( new QuerySpacePartition[0] ),
+							session
+					);
+				}
 			}
 			querySpacesToInvalidate.clear();
+			querySpacePartitionsToInvalidate.clear();
 		}
 	}
 
@@ -1087,314 +1185,4 @@ private TransactionCompletionProcesses(
 			this.afterTransactionCompletionProcesses = afterTransactionCompletionProcessQueue;
 		}
 	}
-
-	/**
-	 * Order the {@link #insertions} queue such that we group inserts against the same entity together (without
-	 * violating constraints). The original order is generated by cascade order, which in turn is based on the
-	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
-	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
-	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
-	 * </p>
-	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
-	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
-	 * The inserts of insert groups which can't be scheduled, are going to be inserted in the original order.
-	 */
-	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
-		/**
-		 * Singleton access
-		 */
-		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
-
-		private static class InsertInfo {
-			private final AbstractEntityInsertAction insertAction;
-			// Inserts in this set must be executed before this insert
-			private Set<InsertInfo> transitiveIncomingDependencies;
-			// Child dependencies of i.e. one-to-many or inverse one-to-one
-			// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
-			private Set<InsertInfo> outgoingDependencies;
-			// The current index of the insert info within an insert schedule
-			private int index;
-
-			public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
-				this.insertAction = insertAction;
-				this.index = index;
-			}
-
-			public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
-				final Object[] propertyValues = insertAction.getState();
-				final Type[] propertyTypes = insertAction.getPersister().getPropertyTypes();
-				for ( int i = 0, propertyTypesLength = propertyTypes.length; i < propertyTypesLength; i++ ) {
-					addDirectDependency( propertyTypes[i], propertyValues[i], insertInfosByEntity );
-				}
-			}
-
-			public void propagateChildDependencies() {
-				if ( outgoingDependencies != null ) {
-					for ( InsertInfo childDependency : outgoingDependencies ) {
-						if (childDependency.transitiveIncomingDependencies == null) {
-							childDependency.transitiveIncomingDependencies = new HashSet<>();
-						}
-						childDependency.transitiveIncomingDependencies.add( this );
-					}
-				}
-			}
-
-			public void buildTransitiveDependencies(Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					visited.addAll( transitiveIncomingDependencies );
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
-						insertInfo.addTransitiveDependencies(this, visited);
-					}
-					visited.clear();
-				}
-			}
-
-			public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
-						if ( visited.add(insertInfo) ) {
-							origin.transitiveIncomingDependencies.add( insertInfo );
-							insertInfo.addTransitiveDependencies( origin, visited );
-						}
-					}
-				}
-			}
-
-			private void addDirectDependency(Type type, @Nullable Object value, IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
-				if ( value == null ) {
-					return;
-				}
-				if ( type instanceof EntityType entityType ) {
-					final InsertInfo insertInfo = insertInfosByEntity.get( value );
-					if ( insertInfo != null ) {
-						if ( entityType.isOneToOne()
-								&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
-							if ( !entityType.isReferenceToPrimaryKey() ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add(insertInfo);
-							}
-						}
-						else {
-							if ( transitiveIncomingDependencies == null ) {
-								transitiveIncomingDependencies = new HashSet<>();
-							}
-							transitiveIncomingDependencies.add( insertInfo );
-						}
-					}
-				}
-				else if ( type instanceof CollectionType collectionType ) {
-					final PluralAttributeMapping pluralAttributeMapping = insertAction.getSession()
-							.getFactory()
-							.getMappingMetamodel()
-							.getCollectionDescriptor( collectionType.getRole() )
-							.getAttributeMapping();
-					// We only care about mappedBy one-to-many associations, because for these,
-					// the elements depend on the collection owner
-					if ( pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
-							&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
-						final Iterator<?> elementsIterator = collectionType.getElementsIterator( value );
-						while ( elementsIterator.hasNext() ) {
-							final Object element = elementsIterator.next();
-							final InsertInfo insertInfo = insertInfosByEntity.get( element );
-							if ( insertInfo != null ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add( insertInfo );
-							}
-						}
-					}
-				}
-				else if ( type instanceof ComponentType compositeType ) {
-					// Support recursive checks of composite type properties for associations and collections.
-					final SharedSessionContractImplementor session = insertAction.getSession();
-					final Object[] componentValues = compositeType.getPropertyValues( value, session );
-					for ( int j = 0; j < componentValues.length; ++j ) {
-						final Type componentValueType = compositeType.getSubtypes()[j];
-						final Object componentValue = componentValues[j];
-						addDirectDependency( componentValueType, componentValue, insertInfosByEntity );
-					}
-				}
-			}
-
-			@Override
-			public boolean equals(@Nullable Object o) {
-				if ( this == o )  {
-					return true;
-				}
-				if ( o == null || getClass() != o.getClass() ) {
-					return false;
-				}
-
-				final InsertInfo that = (InsertInfo) o;
-				return insertAction.equals( that.insertAction );
-			}
-
-			@Override
-			public int hashCode() {
-				return insertAction.hashCode();
-			}
-
-			@Override
-			public String toString() {
-				return "InsertInfo{" +
-					"insertAction=" + insertAction +
-					'}';
-			}
-		}
-
-		public InsertActionSorter() {
-		}
-
-		/**
-		 * Sort the insert actions.
-		 */
-		public void sort(List<AbstractEntityInsertAction> insertions) {
-			final int insertInfoCount = insertions.size();
-			// Build up dependency metadata for insert actions
-			final InsertInfo[] insertInfos = new InsertInfo[insertInfoCount];
-			// A map of all insert infos keyed by the entity instance
-			// This is needed to discover insert infos for direct dependencies
-			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
-			// Construct insert infos and build a map for that, keyed by entity instance
-			for (int i = 0; i < insertInfoCount; i++) {
-				final AbstractEntityInsertAction insertAction = insertions.get(i);
-				final InsertInfo insertInfo = new InsertInfo(insertAction, i);
-				insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
-				insertInfos[i] = insertInfo;
-			}
-			// First we must discover the direct dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].buildDirectDependencies(insertInfosByEntity);
-			}
-			// Then we can propagate child dependencies to the insert infos incoming dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].propagateChildDependencies();
-			}
-			// Finally, we add all the transitive incoming dependencies
-			// and then group insert infos into EntityInsertGroup keyed by entity name
-			final Set<InsertInfo> visited = new HashSet<>();
-			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
-			for (int i = 0; i < insertInfoCount; i++) {
-				final InsertInfo insertInfo = insertInfos[i];
-				insertInfo.buildTransitiveDependencies( visited );
-
-				final String entityName = insertInfo.insertAction.getPersister().getEntityName();
-				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
-				if (entityInsertGroup == null) {
-					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
-				}
-				entityInsertGroup.add(insertInfo);
-			}
-			// Now we can go through the EntityInsertGroups and schedule all the ones
-			// for which we have already scheduled all the dependentEntityNames
-			final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
-			int schedulePosition = 0;
-			int lastScheduleSize;
-			do {
-				lastScheduleSize = scheduledEntityNames.size();
-				final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
-				while (iterator.hasNext()) {
-					final EntityInsertGroup insertGroup = iterator.next();
-					if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
-						schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
-						scheduledEntityNames.add(insertGroup.entityName);
-						iterator.remove();
-					}
-				}
-				// we try to schedule entity groups over and over again, until we can't schedule any further
-			} while (lastScheduleSize != scheduledEntityNames.size());
-			if ( !insertInfosByEntityName.isEmpty() ) {
-				LOG.warn("The batch containing " + insertions.size() + " statements could not be sorted. " +
-					"This might indicate a circular entity relationship.");
-			}
-			insertions.clear();
-			for (InsertInfo insertInfo : insertInfos) {
-				insertions.add(insertInfo.insertAction);
-			}
-		}
-
-		private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
-			final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
-			// The bitset is there to quickly query if an index is already scheduled
-			final BitSet bitSet = new BitSet(insertInfos.length);
-			// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
-			int smallestScheduledIndex = -1;
-			// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
-			int biggestScheduledIndex = -1;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final int index = insertInfosToSchedule.get(i).index;
-				bitSet.set(index);
-				smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
-				biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
-			}
-			final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
-			if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
-				// In this case, the order is already correct and we can skip some copying
-				return nextSchedulePosition;
-			}
-			// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
-			int shiftSchedulePosition = nextSchedulePosition;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
-				final int targetSchedulePosition = schedulePosition + i;
-				newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
-				insertInfoToSchedule.index = targetSchedulePosition;
-				final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
-				// Move the insert info previously located at the target schedule position to the current shift position
-				if (!bitSet.get(targetSchedulePosition)) {
-					oldInsertInfo.index = shiftSchedulePosition;
-					// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
-					bitSet.set(targetSchedulePosition);
-					newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
-				}
-			}
-			// We have to shift all the elements up to the biggestMovedIndex + 1
-			biggestScheduledIndex++;
-			for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
-				// Only copy the old insert info over if it wasn't already scheduled
-				if (!bitSet.get(i)) {
-					final InsertInfo insertInfo = insertInfos[i];
-					insertInfo.index = shiftSchedulePosition;
-					newInsertInfos[shiftSchedulePosition++] = insertInfo;
-				}
-			}
-			// Copy over the newly reordered array part into the main array
-			System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
-			return nextSchedulePosition;
-		}
-
-		public static class EntityInsertGroup {
-			private final String entityName;
-			private final List<InsertInfo> insertInfos = new ArrayList<>();
-			private final Set<String> dependentEntityNames = new HashSet<>();
-
-			public EntityInsertGroup(String entityName) {
-				this.entityName = entityName;
-			}
-
-			public void add(InsertInfo insertInfo) {
-				insertInfos.add(insertInfo);
-				if (insertInfo.transitiveIncomingDependencies != null) {
-					for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
-						dependentEntityNames.add(dependency.insertAction.getEntityName());
-					}
-				}
-			}
-
-			@Override
-			public String toString() {
-				return "EntityInsertGroup{" +
-					"entityName='" + entityName + '\'' +
-					'}';
-			}
-		}
-
-	}
-
 }
@@ -4,10 +4,9 @@
  */
 package org.hibernate.engine.spi;
 
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.function.Predicate;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -16,7 +15,6 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.internal.util.collections.CollectionHelper;
-import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -28,6 +26,8 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.emptyMap;
+
 /**
  * Keeps track of:<ul>
  *     <li>entity and collection keys that are available for batch fetching</li>
@@ -56,13 +56,20 @@ public class BatchFetchQueue {
 	 * A Map structure is used to segment the keys by entity type since loading can only be done for a particular entity
 	 * type at a time.
 	 */
-	private @Nullable Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys;
+	private @Nullable Map<String, BatchLoadableQueue<EntityKey, Object>> batchLoadableEntityKeys;
 
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching. Ultimately
 	 * used by {@link #getCollectionBatch} to build collection load batches.
 	 */
-	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
+	private @Nullable Map<String, BatchLoadableQueue<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
+
+	/**
+	 * The number of entity proxies and collections initialized during the session, by entity
+	 * name and collection role, recorded for {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching}. Unlike the rest of the queue, this survives {@link #clear()}.
+	 */
+	private @Nullable Map<String, Integer> initializationsByRole;
 
 	/**
 	 * Constructs a queue for the given context.
@@ -151,12 +158,8 @@ public void addBatchLoadableEntityKey(EntityKey key) {
 			if ( batchLoadableEntityKeys == null ) {
 				batchLoadableEntityKeys = CollectionHelper.mapOfSize( 12 );
 			}
-			final LinkedHashSet<EntityKey> keysForEntity = batchLoadableEntityKeys.computeIfAbsent(
-					key.getEntityName(),
-					k -> CollectionHelper.linkedSetOfSize( 8 )
-			);
-
-			keysForEntity.add( key );
+			batchLoadableEntityKeys.computeIfAbsent( key.getEntityName(), k -> new BatchLoadableQueue<>() )
+					.add( key, null, key.getIdentifier() );
 		}
 	}
 
@@ -169,9 +172,9 @@ public void addBatchLoadableEntityKey(EntityKey key) {
 	public void removeBatchLoadableEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable( context.getSession().getLoadQueryInfluencers() )
 				&& batchLoadableEntityKeys != null ) {
-			final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( key.getEntityName() );
-			if ( set != null ) {
-				set.remove( key );
+			final BatchLoadableQueue<EntityKey, Object> queue = batchLoadableEntityKeys.get( key.getEntityName() );
+			if ( queue != null ) {
+				queue.remove( key );
 			}
 		}
 	}
@@ -181,9 +184,9 @@ public void removeBatchLoadableEntityKey(EntityKey key) {
 	 */
 	public boolean containsEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable( context.getSession().getLoadQueryInfluencers() ) && batchLoadableEntityKeys != null ) {
-			LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( key.getEntityName() );
-			if ( set != null ) {
-				return set.contains( key );
+			final BatchLoadableQueue<EntityKey, Object> queue = batchLoadableEntityKeys.get( key.getEntityName() );
+			if ( queue != null ) {
+				return queue.contains( key );
 			}
 		}
 		return false;
@@ -202,118 +205,74 @@ public <T> void collectBatchLoadableEntityIds(
 			final EntityMappingType entityDescriptor) {
 		// make sure we load the id being loaded in the batch!
 		collector.accept( 0, loadingId );
-
-		if ( batchLoadableEntityKeys == null ) {
-			return;
-		}
-
-		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
-		if ( set == null ) {
-			return;
-		}
-
-		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
-
-		int batchPosition = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		for ( EntityKey key : set ) {
-			if ( checkForEnd && batchPosition == end ) {
-				// the first id found after the given id
-				return;
-			}
-
-			if ( identifierMapping.areEqual( loadingId, key.getIdentifier(), context.getSession() ) ) {
-				end = batchPosition;
-			}
-			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
-					//noinspection unchecked
-					collector.accept( batchPosition++, (T) key.getIdentifier() );
-				}
-			}
-
-			if ( batchPosition == domainBatchSize ) {
-				// end of array, start filling again from start
-				batchPosition = 1;
-				if ( end != -1 ) {
-					checkForEnd = true;
-				}
-			}
-		}
+		//noinspection unchecked
+		collectEntityIds( entityDescriptor, loadingId, domainBatchSize, (i, id) -> collector.accept( i, (T) id ) );
 	}
 
 	/**
-	 * Get a batch of unloaded identifiers for this class, using a slightly
-	 * complex algorithm that tries to grab keys registered immediately after
-	 * the given key.
+	 * Get a batch of unloaded identifiers for this class. The ids
+	 * registered immediately after the given id are preferred, and
+	 * if there are not enough of them, the ids registered immediately
+	 * before it.
 	 */
 	public Object [] getBatchLoadableEntityIds(
 			final EntityMappingType entityDescriptor,
 			final Object loadingId,
 			final int maxBatchSize) {
-
 		final Object[] ids = new Object[maxBatchSize];
 		// make sure we load the id being loaded in the batch!
 		ids[0] = loadingId;
+		collectEntityIds( entityDescriptor, loadingId, maxBatchSize, (i, id) -> ids[i] = id );
+		return ids;
+	}
 
-		if ( batchLoadableEntityKeys == null ) {
-			return ids;
+	private void collectEntityIds(
+			EntityMappingType entityDescriptor,
+			Object loadingId,
+			int batchSize,
+			IndexedConsumer<Object> collector) {
+		if ( batchLoadableEntityKeys == null || batchSize <= 1 ) {
+			return;
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
 		// TODO: this needn't exclude subclasses...
 
-		final LinkedHashSet<EntityKey> set =
+		final BatchLoadableQueue<EntityKey, Object> queue =
 				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
-		final EntityPersister entityPersister = entityDescriptor.getEntityPersister();
-		final Type identifierType = entityPersister.getIdentifierType();
-		if ( set != null ) {
-			for ( EntityKey key : set ) {
-				if ( checkForEnd && i == end ) {
-					// the first id found after the given id
-					return ids;
-				}
-
-				if ( identifierType.isEqual( loadingId, key.getIdentifier() ) ) {
-					end = i;
-				}
-				else {
-					if ( !isCached( key, entityPersister ) ) {
-						ids[i++] = key.getIdentifier();
-					}
-				}
-
-				if ( i == maxBatchSize ) {
-					i = 1; // end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
-				}
-			}
+		if ( queue == null || queue.isEmpty() ) {
+			return;
 		}
 
-		//we ran out of ids to try
-		return ids;
+		final SharedSessionContractImplementor session = context.getSession();
+		final EntityPersister entityPersister = entityDescriptor.getEntityPersister();
+		final boolean checkCache = session.getCacheMode().isGetEnabled() && entityPersister.canReadFromCache();
+		final BatchLoadableQueue.Node<EntityKey, Object> origin =
+				queue.get( session.generateEntityKey( loadingId, entityPersister ) );
+		final int[] position = { 1 };
+		queue.visitAround( origin, node -> {
+			if ( checkCache && isCached( node.key, entityPersister ) ) {
+				// no need to look at it again, it will be loaded from the cache
+				queue.park( node );
+			}
+			else {
+				// it might have been evicted from the cache since it was parked
+				queue.unpark( node );
+				collector.accept( position[0]++, node.value );
+			}
+			return position[0] < batchSize;
+		} );
 	}
 
 	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
-		}
-		return false;
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object key = cache.generateCacheKey(
+				entityKey.getIdentifier(),
+				persister,
+				session.getFactory(),
+				session.getTenantIdentifier()
+		);
+		return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
 	}
 
 
@@ -331,13 +290,9 @@ public void addBatchLoadableCollection(PersistentCollection<?> collection, Colle
 		}
 
 		assert persister != null : "@AssumeAssertion(nullness)";
-		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
-				batchLoadableCollections.computeIfAbsent(
-						persister.getRole(),
-						k -> CollectionHelper.linkedMapOfSize( 16 )
-				);
-
-		map.put( ce, collection );
+		final Object loadedKey = ce.getLoadedKey();
+		batchLoadableCollections.computeIfAbsent( persister.getRole(), k -> new BatchLoadableQueue<>() )
+				.add( ce, loadedKey == null ? null : new CollectionKey( persister, loadedKey ), collection );
 	}
 
 	/**
@@ -351,10 +306,10 @@ public void removeBatchLoadableCollection(CollectionEntry ce) {
 			return;
 		}
 		assert persister != null : "@AssumeAssertion(nullness)";
-		LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+		final BatchLoadableQueue<CollectionEntry, PersistentCollection<?>> queue =
 				batchLoadableCollections.get( persister.getRole() );
-		if ( map != null ) {
-			map.remove( ce );
+		if ( queue != null ) {
+			queue.remove( ce );
 		}
 	}
 
@@ -371,170 +326,332 @@ public <T> void collectBatchLoadableCollectionKeys(
 			@NonNull T keyBeingLoaded,
 			PluralAttributeMapping pluralAttributeMapping) {
 		collector.accept( 0, keyBeingLoaded );
+		//noinspection unchecked
+		collectCollectionKeys(
+				pluralAttributeMapping.getCollectionDescriptor(),
+				keyBeingLoaded,
+				batchSize,
+				(i, key) -> collector.accept( i, (T) key )
+		);
+	}
 
-		if ( batchLoadableCollections == null ) {
+	/**
+	 * Get a batch of uninitialized collection keys for a given role
+	 *
+	 * @param collectionPersister The persister for the collection role.
+	 * @param id A key that must be included in the batch fetch
+	 * @param batchSize the maximum number of keys to return
+	 * @return an array of collection keys, of length batchSize (padded with nulls)
+	 */
+	public Object [] getCollectionBatch(
+			final CollectionPersister collectionPersister,
+			final Object id,
+			final int batchSize) {
+		final Object[] keys = new Object[batchSize];
+		keys[0] = id;
+		collectCollectionKeys( collectionPersister, id, batchSize, (i, key) -> keys[i] = key );
+		return keys;
+	}
+
+	private void collectCollectionKeys(
+			CollectionPersister persister,
+			Object keyBeingLoaded,
+			int batchSize,
+			IndexedConsumer<Object> collector) {
+		if ( batchLoadableCollections == null || batchSize <= 1 ) {
 			return;
 		}
 
-		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
-				batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
-		if ( map == null ) {
+		final BatchLoadableQueue<CollectionEntry, PersistentCollection<?>> queue =
+				batchLoadableCollections.get( persister.getRole() );
+		if ( queue == null || queue.isEmpty() ) {
 			return;
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
-			final CollectionEntry ce = me.getKey();
-			final Object loadedKey = ce.getLoadedKey();
-			final PersistentCollection<?> collection = me.getValue();
-
+		final SharedSessionContractImplementor session = context.getSession();
+		final boolean checkCache = session.getCacheMode().isGetEnabled() && persister.hasCache();
+		final Type keyType = persister.getKeyType();
+		final SessionFactoryImplementor factory = persister.getFactory();
+		final BatchLoadableQueue.Node<CollectionEntry, PersistentCollection<?>> origin =
+				queue.lookup( new CollectionKey( persister, keyBeingLoaded ) );
+		final int[] position = { 1 };
+		queue.visitAround( origin, node -> {
+			final Object loadedKey = node.key.getLoadedKey();
 			if ( loadedKey == null ) {
 				// the loadedKey of the collectionEntry might be null as it might have been reset to null
 				// (see for example Collections.processDereferencedCollection()
 				// and CollectionEntry.afterAction())
 				// though we clear the queue on flush, it seems like a good idea to guard
 				// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-				continue;
+				return true;
 			}
 
-			if ( collection.wasInitialized() ) {
+			if ( node.value.wasInitialized() ) {
 				// should never happen
 				LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
-				continue;
+				return true;
 			}
 
-			if ( checkForEnd && i == end ) {
-				// the first key found after the given key
-				return;
+			if ( keyType.isEqual( keyBeingLoaded, loadedKey, factory ) ) {
+				// the lookup key of the entry was out of date
+				return true;
 			}
 
-			final boolean isEqual = pluralAttributeMapping.getKeyDescriptor().areEqual(
-					keyBeingLoaded,
-					loadedKey,
-					context.getSession()
-			);
-//			final boolean isEqual = collectionPersister.getKeyType().isEqual(
-//					id,
-//					loadedKey,
-//					collectionPersister.getFactory()
-//			);
-
-			if ( isEqual ) {
-				end = i;
+			if ( checkCache && isCached( loadedKey, persister ) ) {
+				// no need to look at it again, it will be loaded from the cache
+				queue.park( node );
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
-				//noinspection unchecked
-				collector.accept( i++, (T) loadedKey );
+			else {
+				// it might have been evicted from the cache since it was parked
+				queue.unpark( node );
+				collector.accept( position[0]++, loadedKey );
 			}
+			return position[0] < batchSize;
+		} );
+	}
 
-			if ( i == batchSize ) {
-				//end of array, start filling again from start
-				i = 1;
-				if ( end != -1 ) {
-					checkForEnd = true;
-				}
-			}
-		}
+	private boolean isCached(Object collectionKey, CollectionPersister persister) {
+		final SharedSessionContractImplementor session = context.getSession();
+		final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+		final Object cacheKey = cache.generateCacheKey(
+				collectionKey,
+				persister,
+				session.getFactory(),
+				session.getTenantIdentifier()
+		);
+		return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
+	}
 
-		//we ran out of keys to try
+	// adaptive batch fetching support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Record the initialization of entity proxies or collections, for
+	 * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive batch fetching}.
+	 *
+	 * @param role The entity name or collection role
+	 * @param count The number of proxies or collections initialized
+	 */
+	public void recordInitializations(String role, int count) {
+		if ( initializationsByRole == null ) {
+			initializationsByRole = CollectionHelper.mapOfSize( 12 );
+		}
+		initializationsByRole.merge( role, count, Integer::sum );
 	}
 
 	/**
-	 * Get a batch of uninitialized collection keys for a given role
+	 * The number of entity proxies and collections initialized during the session,
+	 * by entity name and collection role.
 	 *
-	 * @param collectionPersister The persister for the collection role.
-	 * @param id A key that must be included in the batch fetch
-	 * @param batchSize the maximum number of keys to return
-	 * @return an array of collection keys, of length batchSize (padded with nulls)
+	 * @see #recordInitializations(String, int)
 	 */
-	public Object [] getCollectionBatch(
-			final CollectionPersister collectionPersister,
-			final Object id,
-			final int batchSize) {
+	public Map<String, Integer> getInitializationsByRole() {
+		return initializationsByRole == null ? emptyMap() : initializationsByRole;
+	}
 
-		final Object[] keys = new Object[batchSize];
-		keys[0] = id;
+	public SharedSessionContractImplementor getSession() {
+		return context.getSession();
+	}
 
-		if ( batchLoadableCollections == null ) {
-			return keys;
+	/**
+	 * The keys of a single entity type or collection role which are eligible for
+	 * batch fetching, in the order they were registered.
+	 * <p>
+	 * The keys form a doubly-linked list, indexed by key, so that a batch of keys
+	 * around any registered key can be selected in time proportional to the size
+	 * of the batch, independently of the number of keys in the queue.
+	 * <p>
+	 * Keys which were found in the second-level cache while building a batch are
+	 * "parked": they are moved to a second list, so that they are not looked up in
+	 * the cache again by every subsequent batch, but they remain indexed until they
+	 * are {@linkplain #remove removed}. The parked keys are only visited by a batch
+	 * which could not be filled with the other keys, since they may have been
+	 * evicted from the cache in the meantime.
+	 */
+	private static final class BatchLoadableQueue<K, V> {
+		private final Map<K, Node<K, V>> index = new HashMap<>();
+		private @Nullable Map<Object, Node<K, V>> lookup;
+		private @Nullable Node<K, V> head;
+		private @Nullable Node<K, V> tail;
+		private @Nullable Node<K, V> parkedHead;
+		private @Nullable Node<K, V> parkedTail;
+
+		private static final class Node<K, V> {
+			private final K key;
+			private final @Nullable Object lookupKey;
+			private V value;
+			private @Nullable Node<K, V> previous;
+			private @Nullable Node<K, V> next;
+			private boolean parked;
+
+			private Node(K key, @Nullable Object lookupKey, V value) {
+				this.key = key;
+				this.lookupKey = lookupKey;
+				this.value = value;
+			}
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
-				batchLoadableCollections.get( collectionPersister.getRole() );
-		if ( map != null ) {
-			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
-				final CollectionEntry ce = me.getKey();
-				final Object loadedKey = ce.getLoadedKey();
-				final PersistentCollection<?> collection = me.getValue();
-
-				if ( loadedKey == null ) {
-					// the loadedKey of the collectionEntry might be null as it might have been reset to null
-					// (see for example Collections.processDereferencedCollection()
-					// and CollectionEntry.afterAction())
-					// though we clear the queue on flush, it seems like a good idea to guard
-					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-					continue;
-				}
+		boolean isEmpty() {
+			return head == null && parkedHead == null;
+		}
 
-				if ( collection.wasInitialized() ) {
-					// should never happen
-					LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
-					continue;
-				}
+		boolean contains(K key) {
+			return index.containsKey( key );
+		}
 
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
-				}
+		@Nullable Node<K, V> get(K key) {
+			return index.get( key );
+		}
+
+		@Nullable Node<K, V> lookup(Object lookupKey) {
+			return lookup == null ? null : lookup.get( lookupKey );
+		}
 
-				final boolean isEqual = collectionPersister.getKeyType().isEqual(
-						id,
-						loadedKey,
-						collectionPersister.getFactory()
-				);
+		/**
+		 * Append the key to the queue, unless it is already registered,
+		 * optionally making its node available by an additional lookup key.
+		 */
+		void add(K key, @Nullable Object lookupKey, V value) {
+			final Node<K, V> existing = index.get( key );
+			if ( existing != null ) {
+				existing.value = value;
+				return;
+			}
 
-				if ( isEqual ) {
-					end = i;
-					//checkForEnd = false;
+			final Node<K, V> node = new Node<>( key, lookupKey, value );
+			index.put( key, node );
+			if ( lookupKey != null ) {
+				if ( lookup == null ) {
+					lookup = new HashMap<>();
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
-					keys[i++] = loadedKey;
-					//count++;
+				lookup.put( lookupKey, node );
+			}
+			link( node );
+		}
+
+		void remove(K key) {
+			final Node<K, V> node = index.remove( key );
+			if ( node != null ) {
+				if ( node.lookupKey != null && lookup != null ) {
+					lookup.remove( node.lookupKey, node );
 				}
+				unlink( node );
+			}
+		}
+
+		void park(Node<K, V> node) {
+			if ( !node.parked ) {
+				unlink( node );
+				node.parked = true;
+				link( node );
+			}
+		}
 
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
+		void unpark(Node<K, V> node) {
+			if ( node.parked ) {
+				unlink( node );
+				node.parked = false;
+				link( node );
+			}
+		}
+
+		/**
+		 * Visit the nodes registered after the given origin node, in registration
+		 * order, and then the nodes registered before it, in reverse registration
+		 * order, until the visitor returns {@code false}. If there is no origin,
+		 * the nodes are visited from the most recently registered one. Finally, the
+		 * nodes which were parked before the visit are visited, from the most
+		 * recently parked one.
+		 * <p>
+		 * The visitor may {@linkplain #park park} or {@linkplain #unpark unpark}
+		 * the node it is visiting.
+		 */
+		void visitAround(@Nullable Node<K, V> origin, Predicate<Node<K, V>> visitor) {
+			// the nodes parked by this visit are not visited again
+			final Node<K, V> lastParked = parkedTail;
+			final Node<K, V> start = origin == null || origin.parked ? null : origin;
+			if ( start != null ) {
+				Node<K, V> node = start.next;
+				while ( node != null ) {
+					final Node<K, V> next = node.next;
+					if ( !visitor.test( node ) ) {
+						return;
 					}
+					node = next;
 				}
 			}
+			if ( visitBackwards( start == null ? tail : start.previous, origin, visitor ) ) {
+				visitBackwards( lastParked, origin, visitor );
+			}
 		}
-		return keys; //we ran out of keys to try
-	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
+		private boolean visitBackwards(
+				@Nullable Node<K, V> from,
+				@Nullable Node<K, V> origin,
+				Predicate<Node<K, V>> visitor) {
+			Node<K, V> node = from;
+			while ( node != null ) {
+				final Node<K, V> previous = node.previous;
+				if ( node != origin && !visitor.test( node ) ) {
+					return false;
+				}
+				node = previous;
+			}
+			return true;
 		}
-		return false;
-	}
 
-	public SharedSessionContractImplementor getSession() {
-		return context.getSession();
+		/**
+		 * Append the node to the list of parked nodes if it is parked,
+		 * or else to the list of registered nodes.
+		 */
+		private void link(Node<K, V> node) {
+			final Node<K, V> last = node.parked ? parkedTail : tail;
+			node.previous = last;
+			if ( last == null ) {
+				if ( node.parked ) {
+					parkedHead = node;
+				}
+				else {
+					head = node;
+				}
+			}
+			else {
+				last.next = node;
+			}
+			if ( node.parked ) {
+				parkedTail = node;
+			}
+			else {
+				tail = node;
+			}
+		}
+
+		private void unlink(Node<K, V> node) {
+			final Node<K, V> previous = node.previous;
+			final Node<K, V> next = node.next;
+			if ( previous == null ) {
+				if ( node.parked ) {
+					parkedHead = next;
+				}
+				else {
+					head = next;
+				}
+			}
+			else {
+				previous.next = next;
+			}
+			if ( next == null ) {
+				if ( node.parked ) {
+					parkedTail = previous;
+				}
+				else {
+					tail = previous;
+				}
+			}
+			else {
+				next.previous = previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
 	}
 }
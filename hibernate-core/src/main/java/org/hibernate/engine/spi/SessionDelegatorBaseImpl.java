@@ -9,6 +9,8 @@
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.Filter;
@@ -341,6 +343,11 @@ public JdbcCoordinator getJdbcCoordinator() {
 		return delegate.getJdbcCoordinator();
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		return delegate.executeAsync( work );
+	}
+
 	@Override
 	public JdbcServices getJdbcServices() {
 		return delegate.getJdbcServices();
@@ -6,6 +6,9 @@
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.TransactionRequiredException;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -208,6 +211,26 @@ default void checkOpen() {
 	 */
 	void prepareForQueryExecution(boolean requiresTxn);
 
+	/**
+	 * Run the given work, typically the execution of a query, using the
+	 * {@linkplain org.hibernate.query.spi.AsyncQueryExecutor asynchronous
+	 * query executor}.
+	 * <p>
+	 * Work submitted for the same session is never run concurrently: each
+	 * unit of work starts only after the previously submitted unit completed.
+	 * The session must not be used by the calling thread until the returned
+	 * stage completes, but the calling thread may, meanwhile, do other work,
+	 * for example with a different session.
+	 * <p>
+	 * Not supported when the session uses JTA transactions, since the work
+	 * would run outside the thread associated with the transaction.
+	 *
+	 * @throws IllegalStateException if the session uses JTA transactions
+	 *
+	 * @since 7.0
+	 */
+	<T> CompletionStage<T> executeAsync(Supplier<T> work);
+
 	/**
 	 * Marks current transaction, if any, for rollback only.
 	 */
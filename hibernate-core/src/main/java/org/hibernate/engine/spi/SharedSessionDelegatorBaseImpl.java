@@ -46,6 +46,8 @@
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * A wrapper class that delegates all method invocations to a delegate instance of
@@ -356,6 +358,11 @@ public JdbcCoordinator getJdbcCoordinator() {
 		return delegate.getJdbcCoordinator();
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		return delegate.executeAsync( work );
+	}
+
 	@Override
 	public JdbcServices getJdbcServices() {
 		return delegate.getJdbcServices();
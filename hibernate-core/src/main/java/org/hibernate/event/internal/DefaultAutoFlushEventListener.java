@@ -51,6 +51,9 @@ public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 				final ActionQueue actionQueue = source.getActionQueue();
 				final EventSource session = event.getSession();
 				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+				final StatisticsImplementor statistics = source.getFactory().getStatistics();
+				final boolean stats = statistics.isStatisticsEnabled();
+				final long startTime = stats ? System.nanoTime() : 0;
 				if ( !event.isSkipPreFlush() ) {
 					preFlush( session, persistenceContext );
 				}
@@ -72,9 +75,9 @@ public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 					finally {
 						eventMonitor.completeFlushEvent( flushEvent, event, true );
 					}
-					final StatisticsImplementor statistics = source.getFactory().getStatistics();
-					if ( statistics.isStatisticsEnabled() ) {
+					if ( stats ) {
 						statistics.flush();
+						statistics.flushLatency( System.nanoTime() - startTime );
 					}
 				}
 				else {
@@ -31,6 +31,9 @@ public void onFlush(FlushEvent event) throws HibernateException {
 		final EventMonitor eventMonitor = source.getEventMonitor();
 		if ( persistenceContext.getNumberOfManagedEntities() > 0
 				|| persistenceContext.getCollectionEntriesSize() > 0 ) {
+			final StatisticsImplementor statistics = source.getFactory().getStatistics();
+			final boolean stats = statistics.isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
 			final DiagnosticEvent flushEvent = eventMonitor.beginFlushEvent();
 			try {
 				source.getEventListenerManager().flushStart();
@@ -49,9 +52,9 @@ public void onFlush(FlushEvent event) throws HibernateException {
 
 			postPostFlush( source );
 
-			final StatisticsImplementor statistics = source.getFactory().getStatistics();
-			if ( statistics.isStatisticsEnabled() ) {
+			if ( stats ) {
 				statistics.flush();
+				statistics.flushLatency( System.nanoTime() - startTime );
 			}
 		}
 		else if ( source.getActionQueue().hasAnyQueuedActions() ) {
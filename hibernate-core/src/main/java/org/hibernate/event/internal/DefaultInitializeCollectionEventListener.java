@@ -53,13 +53,16 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 			}
 			else {
 				LOG.trace( "Collection not cached" );
+				final StatisticsImplementor statistics = source.getFactory().getStatistics();
+				final boolean stats = statistics.isStatisticsEnabled();
+				final long startTime = stats ? System.nanoTime() : 0;
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				LOG.trace( "Collection initialized" );
 
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
-				if ( statistics.isStatisticsEnabled() ) {
+				if ( stats ) {
 					statistics.fetchCollection( loadedPersister.getRole() );
+					statistics.collectionFetchLatency( loadedPersister.getRole(), System.nanoTime() - startTime );
 				}
 			}
 		}
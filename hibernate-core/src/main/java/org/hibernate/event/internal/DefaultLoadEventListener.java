@@ -591,6 +591,10 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 						+ infoString( persister, event.getEntityId(), event.getFactory() ) );
 		}
 
+		final StatisticsImplementor statistics = event.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+
 		final Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -599,6 +603,10 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 				event.getReadOnly()
 		);
 
+		if ( stats ) {
+			statistics.entityLoadLatency( persister.getEntityName(), System.nanoTime() - startTime );
+		}
+
 		// todo (6.0) : this is a change from previous versions
 		//		specifically the load call previously always returned a non-proxy
 		//		so we emulate that here.  Longer term we should make the
@@ -608,7 +616,6 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 		final LazyInitializer lazyInitializer = extractLazyInitializer( entity );
 		final Object impl = lazyInitializer != null ? lazyInitializer.getImplementation() : entity;
 
-		final StatisticsImplementor statistics = event.getFactory().getStatistics();
 		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
 			statistics.fetchEntity( event.getEntityClassName() );
 		}
@@ -103,6 +103,43 @@ public void completeJdbcBatchExecutionEvent(DiagnosticEvent jdbcBatchExecutionEv
 
 	}
 
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			int batchSize) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginQueryTranslationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeQueryTranslationEvent(
+			DiagnosticEvent queryTranslationEvent,
+			SharedSessionContractImplementor session,
+			String queryString,
+			boolean cacheHit) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginQueryExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeQueryExecutionEvent(
+			DiagnosticEvent queryExecutionEvent,
+			SharedSessionContractImplementor session,
+			String sql,
+			int rowCount,
+			int resultCount) {
+
+	}
+
 	@Override
 	public DiagnosticEvent beginCachePutEvent() {
 		return null;
@@ -239,6 +276,20 @@ public void completePrePartialFlush(
 
 	}
 
+	@Override
+	public DiagnosticEvent beginActionQueueSortEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeActionQueueSortEvent(
+			DiagnosticEvent actionQueueSortEvent,
+			SharedSessionContractImplementor session,
+			int insertCount,
+			int updateCount) {
+
+	}
+
 	@Override
 	public DiagnosticEvent beginEntityInsertEvent() {
 		return null;
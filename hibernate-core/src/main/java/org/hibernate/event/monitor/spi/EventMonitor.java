@@ -79,6 +79,28 @@ void completeJdbcBatchExecutionEvent(
 			DiagnosticEvent jdbcBatchExecutionEvent,
 			String statementSql);
 
+	void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			int batchSize);
+
+	DiagnosticEvent beginQueryTranslationEvent();
+
+	void completeQueryTranslationEvent(
+			DiagnosticEvent queryTranslationEvent,
+			SharedSessionContractImplementor session,
+			String queryString,
+			boolean cacheHit);
+
+	DiagnosticEvent beginQueryExecutionEvent();
+
+	void completeQueryExecutionEvent(
+			DiagnosticEvent queryExecutionEvent,
+			SharedSessionContractImplementor session,
+			String sql,
+			int rowCount,
+			int resultCount);
+
 	DiagnosticEvent beginCachePutEvent();
 
 	void completeCachePutEvent(
@@ -169,6 +191,14 @@ void completePrePartialFlush(
 			SharedSessionContractImplementor session
 	);
 
+	DiagnosticEvent beginActionQueueSortEvent();
+
+	void completeActionQueueSortEvent(
+			DiagnosticEvent actionQueueSortEvent,
+			SharedSessionContractImplementor session,
+			int insertCount,
+			int updateCount);
+
 	DiagnosticEvent beginEntityInsertEvent();
 
 	void completeEntityInsertEvent(DiagnosticEvent event, Object id, String entityName, boolean success, SharedSessionContractImplementor session);
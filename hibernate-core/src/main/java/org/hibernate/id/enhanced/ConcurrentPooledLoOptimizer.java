@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.getIntegralDataTypeHolder;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which does not serialize calls to
+ * {@link #generate(AccessCallback)}. Values are handed out by atomically
+ * incrementing a counter over the current block of values, and a thread
+ * only ever reads from the database when it reserves a new block.
+ * <p>
+ * The thread which hands out the value at the low-water mark of a block,
+ * half way through the block, reserves the next block right away, while
+ * other threads continue to take values from the current block. So,
+ * unless a whole half of a block is handed out during a single round
+ * trip to the database, no thread waits at a block boundary. If a block
+ * is exhausted before the next block has been reserved, the threads
+ * which need a value each reserve a block, and the blocks are queued
+ * for use in turn, so that no value is wasted.
+ * <p>
+ * The next block is reserved by a thread which needs a value, using the
+ * {@link AccessCallback} of its own session, rather than in the background,
+ * since the callback may only be used by the thread which owns the session.
+ *
+ * @see PooledLoOptimizer
+ *
+ * @since 7.0
+ */
+public class ConcurrentPooledLoOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			ConcurrentPooledLoOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code ConcurrentPooledLoOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public ConcurrentPooledLoOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final String tenantIdentifier = callback.getTenantIdentifier();
+		final GenerationState state = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		final IntegralDataTypeHolder value = getIntegralDataTypeHolder( getReturnClass() );
+		value.initialize( state.generate( callback, incrementSize ) );
+		return value.makeValue();
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * A block of values reserved from the database, with the first value
+	 * not yet handed out.
+	 */
+	private static class Block {
+		private final AtomicLong next;
+		private final long lowWaterMark;
+		private final long upperLimit;
+		// the block reserved after this one, if any
+		private final AtomicReference<Block> successor = new AtomicReference<>();
+
+		private Block(long sourceValue, int incrementSize) {
+			// handle cases where initial-value is less than one (hsqldb for instance)
+			this.next = new AtomicLong( Math.max( sourceValue, 1 ) );
+			this.lowWaterMark = sourceValue + incrementSize / 2;
+			this.upperLimit = sourceValue + incrementSize;
+		}
+
+		/**
+		 * Append the given block to the queue of blocks following this one.
+		 */
+		private void append(Block block) {
+			Block tail = this;
+			while ( !tail.successor.compareAndSet( null, block ) ) {
+				tail = tail.successor.get();
+			}
+		}
+	}
+
+	private static class GenerationState {
+		private final AtomicReference<Block> current = new AtomicReference<>();
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private long generate(AccessCallback callback, int incrementSize) {
+			Block block = current.get();
+			if ( block == null ) {
+				final Block first = reserve( callback, incrementSize );
+				block = current.compareAndSet( null, first ) ? first : current.get();
+				if ( block != first ) {
+					block.append( first );
+				}
+			}
+			while ( true ) {
+				final long value = block.next.getAndIncrement();
+				if ( value < block.upperLimit ) {
+					if ( value == block.lowWaterMark && block.successor.get() == null ) {
+						// at most one thread gets here for each block
+						block.append( reserve( callback, incrementSize ) );
+					}
+					return value;
+				}
+				// the block is exhausted, move on to the next one
+				Block successor = block.successor.get();
+				if ( successor == null ) {
+					// the next block has not been reserved yet
+					block.append( reserve( callback, incrementSize ) );
+					successor = block.successor.get();
+				}
+				current.compareAndSet( block, successor );
+				block = successor;
+			}
+		}
+
+		private Block reserve(AccessCallback callback, int incrementSize) {
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			lastSourceValue = sourceValue;
+			return new Block( sourceValue.makeValue().longValue(), incrementSize );
+		}
+	}
+}
@@ -5,9 +5,13 @@
 package org.hibernate.id.enhanced;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -19,6 +23,11 @@
  * Variation of {@link PooledOptimizer} which interprets the incoming database
  * value as the lo value, rather than the hi value, as well as using thread local
  * to cache the generation state.
+ * <p>
+ * Virtual threads are typically short-lived and numerous, so caching the state
+ * per virtual thread would reserve a new block of values for almost every value
+ * generated. Virtual threads therefore share a single generation state, guarded
+ * by a lock, just like {@link PooledLoOptimizer}.
  *
  * @author Stuart Douglas
  * @author Scott Marlow
@@ -35,6 +44,16 @@ public class PooledLoThreadLocalOptimizer extends AbstractOptimizer {
 	private final ThreadLocal<GenerationState> singleTenantState = ThreadLocal.withInitial( GenerationState::new );
 	private final ThreadLocal<Map<String, GenerationState>> multiTenantStates = ThreadLocal.withInitial( HashMap::new );
 
+	/**
+	 * {@code Thread.isVirtual()}, if running on JDK 21 or later
+	 */
+	private static final MethodHandle IS_VIRTUAL = isVirtualMethod();
+
+	// state shared by virtual threads
+	private final Lock sharedStateLock = new ReentrantLock();
+	private final GenerationState sharedSingleTenantState = new GenerationState();
+	private final Map<String, GenerationState> sharedMultiTenantStates = new HashMap<>();
+
 	/**
 	 * Constructs a {@code PooledLoThreadLocalOptimizer}.
 	 *
@@ -51,8 +70,48 @@ public PooledLoThreadLocalOptimizer(Class<?> returnClass, int incrementSize) {
 
 	@Override
 	public Serializable generate(AccessCallback callback) {
-		return locateGenerationState( callback.getTenantIdentifier() )
-				.generate( callback, incrementSize );
+		if ( isVirtual( Thread.currentThread() ) ) {
+			sharedStateLock.lock();
+			try {
+				return locateSharedGenerationState( callback.getTenantIdentifier() )
+						.generate( callback, incrementSize );
+			}
+			finally {
+				sharedStateLock.unlock();
+			}
+		}
+		else {
+			return locateGenerationState( callback.getTenantIdentifier() )
+					.generate( callback, incrementSize );
+		}
+	}
+
+	private GenerationState locateSharedGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? sharedSingleTenantState
+				: sharedMultiTenantStates.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	private static boolean isVirtual(Thread thread) {
+		if ( IS_VIRTUAL == null ) {
+			return false;
+		}
+		try {
+			return (boolean) IS_VIRTUAL.invokeExact( thread );
+		}
+		catch (Throwable e) {
+			throw new HibernateException( "Could not determine whether the current thread is virtual", e );
+		}
+	}
+
+	private static MethodHandle isVirtualMethod() {
+		try {
+			return MethodHandles.publicLookup()
+					.findVirtual( Thread.class, "isVirtual", MethodType.methodType( boolean.class ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
 	}
 
 	private GenerationState locateGenerationState(String tenantIdentifier) {
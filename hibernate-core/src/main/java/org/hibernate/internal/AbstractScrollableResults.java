@@ -4,11 +4,18 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.spi.RowReader;
@@ -16,6 +23,11 @@
 /**
  * Base implementation of the ScrollableResults interface intended for sharing between
  * {@link ScrollableResultsImpl} and {@link FetchingScrollableResultsImpl}
+ * <p>
+ * If the query {@linkplain QueryOptions#isDetachStreamedResults detaches streamed results},
+ * the entities loaded by the rows already consumed are detached from the persistence
+ * context each time the number of consumed rows reaches the JDBC fetch size, and when
+ * the results are closed.
  *
  * @author Steve Ebersole
  */
@@ -27,6 +39,12 @@
 	private final RowReader<R> rowReader;
 	private final SharedSessionContractImplementor persistenceContext;
 
+	// the entities loaded by the rows read since entities were last detached,
+	// or null if loaded entities are not detached
+	private final List<Object> loadedEntities;
+	private final int detachInterval;
+	private int rowsSinceDetach;
+
 	private boolean closed;
 
 	public AbstractScrollableResults(
@@ -42,6 +60,26 @@ public AbstractScrollableResults(
 		this.rowProcessingState = rowProcessingState;
 		this.rowReader = rowReader;
 		this.persistenceContext = persistenceContext;
+
+		final QueryOptions queryOptions = rowProcessingState.getQueryOptions();
+		if ( queryOptions.isDetachStreamedResults() && persistenceContext.isEventSource() ) {
+			detachInterval = detachInterval( queryOptions, persistenceContext );
+			loadedEntities = new ArrayList<>( detachInterval );
+		}
+		else {
+			detachInterval = 0;
+			loadedEntities = null;
+		}
+	}
+
+	private static int detachInterval(QueryOptions queryOptions, SharedSessionContractImplementor session) {
+		if ( queryOptions.getFetchSize() != null && queryOptions.getFetchSize() > 0 ) {
+			return queryOptions.getFetchSize();
+		}
+		final Integer jdbcFetchSize = session.getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+		return jdbcFetchSize != null && jdbcFetchSize > 0
+				? jdbcFetchSize
+				: DeferredResultSetAccess.DEFAULT_DETACHED_RESULTS_FETCH_SIZE;
 	}
 
 	@Override
@@ -78,6 +116,53 @@ protected SharedSessionContractImplementor getPersistenceContext() {
 		return persistenceContext;
 	}
 
+	/**
+	 * Finish up the processing of the current row, keeping track of the
+	 * entities it loaded, if they are to be detached once consumed.
+	 */
+	protected void finishUpRow() {
+		if ( loadedEntities == null ) {
+			jdbcValuesSourceProcessingState.finishUp( false );
+		}
+		else {
+			jdbcValuesSourceProcessingState.finishUp( this::entityLoaded );
+			rowsSinceDetach++;
+		}
+	}
+
+	private void entityLoaded(EntityHolder holder) {
+		final Object entity = holder.getEntity();
+		if ( entity != null ) {
+			loadedEntities.add( entity );
+		}
+	}
+
+	/**
+	 * Called before moving away from the current row, which has then been
+	 * consumed, to detach the entities loaded by the consumed rows, once
+	 * there are as many of them as the JDBC fetch size.
+	 */
+	protected void detachConsumedEntities() {
+		if ( loadedEntities != null && rowsSinceDetach >= detachInterval ) {
+			detachLoadedEntities();
+		}
+	}
+
+	private void detachLoadedEntities() {
+		if ( !persistenceContext.isClosed() ) {
+			final EventSource session = persistenceContext.asEventSource();
+			for ( Object entity : loadedEntities ) {
+				// the entity might already have been detached by
+				// the application, or by cascading a detach
+				if ( session.getPersistenceContextInternal().getEntry( entity ) != null ) {
+					session.evict( entity );
+				}
+			}
+		}
+		loadedEntities.clear();
+		rowsSinceDetach = 0;
+	}
+
 	protected void afterScrollOperation() {
 		getPersistenceContext().afterScrollOperation();
 	}
@@ -94,6 +179,9 @@ public final void close() {
 			jdbcValues.finishUp( persistenceContext );
 			getPersistenceContext().getJdbcCoordinator().afterStatementExecution();
 			closed = true;
+			if ( loadedEntities != null ) {
+				detachLoadedEntities();
+			}
 		}
 		// noop if already closed
 	}
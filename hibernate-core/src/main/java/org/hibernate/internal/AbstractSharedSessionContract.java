@@ -14,7 +14,11 @@
 import java.util.Objects;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jakarta.persistence.EntityGraph;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -78,6 +82,7 @@
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
+import org.hibernate.query.spi.AsyncQueryExecutor;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.sql.internal.NativeQueryImpl;
@@ -179,6 +184,9 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	//Lazily initialized
 	private transient ExceptionConverter exceptionConverter;
 
+	// the last unit of work submitted via executeAsync()
+	private transient CompletableFuture<?> lastAsyncWork;
+
 	public AbstractSharedSessionContract(SessionFactoryImpl factory, SessionCreationOptions options) {
 		this.factory = factory;
 		this.factoryOptions = factory.getSessionFactoryOptions();
@@ -460,6 +468,7 @@ public boolean isClosed() {
 	@Override
 	public void close() {
 		if ( !closed || waitingForAutoClose ) {
+			awaitAsyncWork();
 			try {
 				delayedAfterCompletion();
 			}
@@ -535,6 +544,42 @@ public void prepareForQueryExecution(boolean requiresTxn) {
 		}
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		checkOpen();
+		if ( getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta() ) {
+			// the work would run outside the thread associated with the JTA transaction
+			throw new IllegalStateException( "Asynchronous execution is not supported with JTA transactions" );
+		}
+		final Executor executor = factory.getServiceRegistry().requireService( AsyncQueryExecutor.class ).getExecutor();
+		final CompletableFuture<?> previous = lastAsyncWork;
+		// never run two units of work against this session concurrently
+		final CompletableFuture<T> result = previous == null || previous.isDone()
+				? CompletableFuture.supplyAsync( work, executor )
+				: previous.handleAsync( (ignored, failure) -> work.get(), executor );
+		lastAsyncWork = result;
+		// the caller must not be able to complete the link of the chain,
+		// which would release the next unit of work too early
+		return result.minimalCompletionStage();
+	}
+
+	/**
+	 * Wait for any asynchronous work to complete, so that it doesn't race
+	 * with closing the session.
+	 */
+	private void awaitAsyncWork() {
+		final CompletableFuture<?> previous = lastAsyncWork;
+		if ( previous != null ) {
+			lastAsyncWork = null;
+			try {
+				previous.join();
+			}
+			catch (RuntimeException e) {
+				// the failure was already reported via the CompletionStage
+			}
+		}
+	}
+
 	@Override
 	public void markForRollbackOnly() {
 		try {
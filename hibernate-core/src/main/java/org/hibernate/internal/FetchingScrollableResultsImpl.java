@@ -297,6 +297,8 @@ private boolean prepareCurrentRow() {
 		boolean last = false;
 		boolean resultProcessed = false;
 
+		detachConsumedEntities();
+
 		final EntityKey entityKey = getEntityKey();
 		final PersistenceContext persistenceContext = rowProcessingState.getSession().getPersistenceContext();
 		final LoadContexts loadContexts = persistenceContext.getLoadContexts();
@@ -326,7 +328,7 @@ private boolean prepareCurrentRow() {
 				}
 
 			}
-			getJdbcValuesSourceProcessingState().finishUp( false );
+			finishUpRow();
 		}
 		finally {
 			persistenceContext.afterLoad();
@@ -76,6 +76,16 @@ public boolean isJtaTrackByThread() {
 		return settings().isJtaTrackByThread();
 	}
 
+	@Override
+	public boolean isBatchPipeliningEnabled() {
+		return settings().isBatchPipeliningEnabled();
+	}
+
+	@Override
+	public boolean isMultiRowInsertsEnabled() {
+		return settings().isMultiRowInsertsEnabled();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
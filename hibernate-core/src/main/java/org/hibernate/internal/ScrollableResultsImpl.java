@@ -117,6 +117,7 @@ public boolean setRowNumber(int rowNumber) throws HibernateException {
 	}
 
 	private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
+		detachConsumedEntities();
 		if ( underlyingScrollSuccessful ) {
 			final PersistenceContext persistenceContext = getPersistenceContext().getPersistenceContext();
 			final LoadContexts loadContexts = persistenceContext.getLoadContexts();
@@ -126,7 +127,7 @@ private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
 				try {
 					currentRow = getRowReader().readRow( getRowProcessingState() );
 					getRowProcessingState().finishRowProcessing( true );
-					getJdbcValuesSourceProcessingState().finishUp( false );
+					finishUpRow();
 				}
 				finally {
 					persistenceContext.afterLoad();
@@ -119,6 +119,7 @@
 import org.hibernate.jpa.internal.util.ConfigurationHelper;
 import org.hibernate.jpa.internal.util.FlushModeTypeHelper;
 import org.hibernate.jpa.internal.util.LockModeTypeHelper;
+import org.hibernate.loader.ast.internal.AdaptiveBatchSizing;
 import org.hibernate.loader.internal.IdentifierLoadAccessImpl;
 import org.hibernate.loader.internal.LoadAccessContext;
 import org.hibernate.loader.internal.NaturalIdLoadAccessImpl;
@@ -252,6 +253,8 @@
 
 	private transient TransactionObserver transactionObserver;
 
+	private transient AdaptiveBatchSizing adaptiveBatchSizing;
+
 	public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
 
@@ -453,10 +456,21 @@ public void closeWithoutOpenChecks() {
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.closeSession();
 			}
+			final AdaptiveBatchSizing adaptiveBatchSizing = getAdaptiveBatchSizing();
+			if ( adaptiveBatchSizing.isEnabled() ) {
+				adaptiveBatchSizing.sessionCompleted( persistenceContext.getBatchFetchQueue().getInitializationsByRole() );
+			}
 			eventMonitor.completeSessionClosedEvent( sessionClosedEvent, this );
 		}
 	}
 
+	private AdaptiveBatchSizing getAdaptiveBatchSizing() {
+		if ( adaptiveBatchSizing == null ) {
+			adaptiveBatchSizing = getFactory().getServiceRegistry().requireService( AdaptiveBatchSizing.class );
+		}
+		return adaptiveBatchSizing;
+	}
+
 	private boolean isJpaBootstrap() {
 		return getSessionFactoryOptions().isJpaBootstrap();
 	}
@@ -1040,6 +1054,9 @@ public Object immediateLoad(String entityName, Object id) {
 		fireLoadNoChecks( event, IMMEDIATE_LOAD );
 		final Object result = event.getResult();
 		releaseLoadEvent( event );
+		if ( getAdaptiveBatchSizing().isEnabled() ) {
+			persistenceContext.getBatchFetchQueue().recordInitializations( entityName, 1 );
+		}
 		final LazyInitializer lazyInitializer = extractLazyInitializer( result );
 		return lazyInitializer != null ? lazyInitializer.getImplementation() : result;
 	}
@@ -0,0 +1,510 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link Map} implementation based on open addressing with linear probing, meant for the
+ * large, single-threaded maps held by the persistence context, such as the ones keyed by
+ * {@link org.hibernate.engine.spi.EntityKey} or {@link org.hibernate.engine.spi.CollectionKey}.
+ * <p>
+ * Contrary to {@link java.util.HashMap}, no node object is allocated per mapping: keys and
+ * values are stored next to each other in a single array, so each mapping costs two array
+ * slots (plus the free slots implied by the load factor) instead of a slot and a node.
+ * Removal uses backward-shift deletion, so the table never contains tombstones.
+ * <p>
+ * Since hash codes are not stored, the keys are expected to provide a cheap
+ * {@link Object#hashCode()}: both entity and collection keys cache it, and it is always
+ * compared before calling {@link Object#equals(Object)}. {@code null} keys are not supported.
+ * This map is not thread-safe.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class OpenAddressingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 29;
+	// Fibonacci hashing: spreads sequential hash codes (e.g. sequential ids) across the table
+	private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+	// keys at even positions, the corresponding values at the following odd position
+	private Object[] table;
+	private int capacity;
+	private int shift;
+	private int size;
+	private int resizeThreshold;
+	private int modCount;
+
+	public OpenAddressingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * Create a map able to hold {@code expectedSize} mappings without being resized.
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		int capacity = MINIMUM_CAPACITY;
+		while ( maxSizeFor( capacity ) < expectedSize && capacity < MAXIMUM_CAPACITY ) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private static int maxSizeFor(int capacity) {
+		// load factor of 0.75
+		return capacity - ( capacity >>> 2 );
+	}
+
+	private void allocate(int capacity) {
+		this.capacity = capacity;
+		table = new Object[capacity << 1];
+		shift = Integer.numberOfLeadingZeros( capacity ) + 1;
+		resizeThreshold = maxSizeFor( capacity );
+	}
+
+	private int indexFor(int hash) {
+		return ( hash * HASH_MULTIPLIER ) >>> shift;
+	}
+
+	/**
+	 * @return the slot holding the given key, or {@code -1} if there's none
+	 */
+	private int slotOf(Object key) {
+		final int hash = key.hashCode();
+		final Object[] table = this.table;
+		final int mask = capacity - 1;
+		for ( int slot = indexFor( hash ); ; slot = ( slot + 1 ) & mask ) {
+			final Object candidate = table[slot << 1];
+			if ( candidate == null ) {
+				return -1;
+			}
+			else if ( candidate == key || candidate.hashCode() == hash && key.equals( candidate ) ) {
+				return slot;
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && slotOf( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		final Object[] table = this.table;
+		for ( int i = 0; i < table.length; i += 2 ) {
+			if ( table[i] != null && Objects.equals( value, table[i + 1] ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int slot = slotOf( key );
+		//noinspection unchecked
+		return slot < 0 ? null : (V) table[( slot << 1 ) + 1];
+	}
+
+	@Override
+	public @Nullable V put(K key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(K key, V value) {
+		return put( key, value, true );
+	}
+
+	private @Nullable V put(K key, V value, boolean onlyIfAbsent) {
+		if ( key == null ) {
+			throw new NullPointerException( "This map does not support null keys" );
+		}
+		final int hash = key.hashCode();
+		final Object[] table = this.table;
+		final int mask = capacity - 1;
+		int slot = indexFor( hash );
+		for ( Object candidate; ( candidate = table[slot << 1] ) != null; slot = ( slot + 1 ) & mask ) {
+			if ( candidate == key || candidate.hashCode() == hash && key.equals( candidate ) ) {
+				final int valueIndex = ( slot << 1 ) + 1;
+				//noinspection unchecked
+				final V old = (V) table[valueIndex];
+				if ( !onlyIfAbsent || old == null ) {
+					table[valueIndex] = value;
+				}
+				return old;
+			}
+		}
+		table[slot << 1] = key;
+		table[( slot << 1 ) + 1] = value;
+		modCount++;
+		if ( ++size > resizeThreshold ) {
+			resize();
+		}
+		return null;
+	}
+
+	private void resize() {
+		final Object[] oldTable = table;
+		if ( capacity >= MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Maximum capacity exceeded" );
+		}
+		allocate( capacity << 1 );
+		final Object[] table = this.table;
+		final int mask = capacity - 1;
+		for ( int i = 0; i < oldTable.length; i += 2 ) {
+			final Object key = oldTable[i];
+			if ( key != null ) {
+				int slot = indexFor( key.hashCode() );
+				while ( table[slot << 1] != null ) {
+					slot = ( slot + 1 ) & mask;
+				}
+				table[slot << 1] = key;
+				table[( slot << 1 ) + 1] = oldTable[i + 1];
+			}
+		}
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int slot = slotOf( key );
+		if ( slot < 0 ) {
+			return null;
+		}
+		//noinspection unchecked
+		final V old = (V) table[( slot << 1 ) + 1];
+		removeSlot( slot );
+		return old;
+	}
+
+	/**
+	 * Empties the given slot, shifting back the following entries of the same
+	 * cluster which would otherwise become unreachable.
+	 */
+	private void removeSlot(int slot) {
+		final Object[] table = this.table;
+		final int mask = capacity - 1;
+		int gap = slot;
+		for ( int current = ( slot + 1 ) & mask; table[current << 1] != null; current = ( current + 1 ) & mask ) {
+			final int ideal = indexFor( table[current << 1].hashCode() );
+			// the entry may move to the gap only if its ideal slot is not between the gap and itself
+			if ( ( ( current - ideal ) & mask ) >= ( ( current - gap ) & mask ) ) {
+				table[gap << 1] = table[current << 1];
+				table[( gap << 1 ) + 1] = table[( current << 1 ) + 1];
+				gap = current;
+			}
+		}
+		table[gap << 1] = null;
+		table[( gap << 1 ) + 1] = null;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			// keep the current capacity, the map is likely to be filled again
+			Arrays.fill( table, null );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final Object[] table = this.table;
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < table.length; i += 2 ) {
+			final Object key = table[i];
+			if ( key != null ) {
+				//noinspection unchecked
+				action.accept( (K) key, (V) table[i + 1] );
+			}
+		}
+		if ( modCount != expectedModCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public @NonNull Set<K> keySet() {
+		return new KeySet();
+	}
+
+	@Override
+	public @NonNull Collection<V> values() {
+		return new Values();
+	}
+
+	@Override
+	public @NonNull Set<Map.Entry<K, V>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * Visits every slot exactly once, starting right after an empty slot: since removals
+	 * only ever shift entries backward within their cluster, an entry shifted by
+	 * {@link Iterator#remove()} always lands on a slot which is yet to be visited.
+	 */
+	private abstract class SlotIterator<E> implements Iterator<E> {
+		private final int capacity = OpenAddressingHashMap.this.capacity;
+		private final int start;
+		// offset of the next occupied slot, relative to start
+		private int offset;
+		private int lastReturnedOffset = -1;
+		private int expectedModCount = modCount;
+
+		SlotIterator() {
+			int emptySlot = 0;
+			while ( table[emptySlot << 1] != null ) {
+				emptySlot++;
+			}
+			start = emptySlot;
+			offset = 0;
+			advance();
+		}
+
+		private int slotAt(int offset) {
+			return ( start + offset ) & ( capacity - 1 );
+		}
+
+		private void advance() {
+			while ( offset < capacity && table[slotAt( offset ) << 1] == null ) {
+				offset++;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return offset < capacity;
+		}
+
+		int nextSlot() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( offset >= capacity ) {
+				throw new NoSuchElementException();
+			}
+			lastReturnedOffset = offset++;
+			advance();
+			return slotAt( lastReturnedOffset );
+		}
+
+		@Override
+		public void remove() {
+			if ( lastReturnedOffset < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			final int slot = slotAt( lastReturnedOffset );
+			removeSlot( slot );
+			expectedModCount = modCount;
+			if ( table[slot << 1] != null ) {
+				// a following entry was shifted into the removed slot: visit it next
+				offset = lastReturnedOffset;
+			}
+			lastReturnedOffset = -1;
+		}
+	}
+
+	private final class KeyIterator extends SlotIterator<K> {
+		@Override
+		public K next() {
+			//noinspection unchecked
+			return (K) table[nextSlot() << 1];
+		}
+	}
+
+	private final class ValueIterator extends SlotIterator<V> {
+		@Override
+		public V next() {
+			//noinspection unchecked
+			return (V) table[( nextSlot() << 1 ) + 1];
+		}
+	}
+
+	private final class EntryIterator extends SlotIterator<Map.Entry<K, V>> {
+		@Override
+		public Map.Entry<K, V> next() {
+			return new Entry( nextSlot() );
+		}
+	}
+
+	private final class Entry implements Map.Entry<K, V> {
+		private final K key;
+		private V value;
+
+		private Entry(int slot) {
+			//noinspection unchecked
+			this.key = (K) table[slot << 1];
+			//noinspection unchecked
+			this.value = (V) table[( slot << 1 ) + 1];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			final int slot = slotOf( key );
+			if ( slot < 0 ) {
+				throw new IllegalStateException( "Entry was removed from the map" );
+			}
+			final V old = this.value;
+			table[( slot << 1 ) + 1] = value;
+			this.value = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Map.Entry<?, ?> e
+				&& Objects.equals( key, e.getKey() )
+				&& Objects.equals( value, e.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode() ^ Objects.hashCode( value );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+
+	private final class KeySet extends AbstractSet<K> {
+		@Override
+		public @NonNull Iterator<K> iterator() {
+			return new KeyIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsKey( o );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if ( o != null ) {
+				final int slot = slotOf( o );
+				if ( slot >= 0 ) {
+					removeSlot( slot );
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+
+	private final class Values extends AbstractCollection<V> {
+		@Override
+		public @NonNull Iterator<V> iterator() {
+			return new ValueIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+		@Override
+		public @NonNull Iterator<Map.Entry<K, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( o instanceof Map.Entry<?, ?> entry && entry.getKey() != null ) {
+				final int slot = slotOf( entry.getKey() );
+				return slot >= 0 && Objects.equals( table[( slot << 1 ) + 1], entry.getValue() );
+			}
+			return false;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if ( contains( o ) ) {
+				removeSlot( slotOf( ( (Map.Entry<?, ?>) o ).getKey() ) );
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+}
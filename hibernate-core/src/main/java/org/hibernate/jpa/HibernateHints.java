@@ -61,6 +61,31 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for specifying that entities loaded while scrolling or
+	 * streaming the results of a query should be detached from the
+	 * persistence context once they have been consumed, so that the
+	 * memory used by a session streaming a large result set remains
+	 * bounded.
+	 * <p>
+	 * The entities loaded by a row are detached, as if by
+	 * {@link org.hibernate.Session#detach}, once the cursor has moved
+	 * past a number of rows equal to the JDBC fetch size. If no fetch
+	 * size is specified, a default fetch size is applied to the JDBC
+	 * statement, so that the driver does not read the whole result set
+	 * into memory up front.
+	 * <p>
+	 * An entity which is loaded again by a later row, after having been
+	 * detached, is represented by a new instance. Any modification made
+	 * to a detached entity is not flushed.
+	 *
+	 * @see org.hibernate.query.SelectionQuery#stream
+	 * @see org.hibernate.query.SelectionQuery#scroll
+	 *
+	 * @since 7.0
+	 */
+	String HINT_DETACH_STREAMED_RESULTS = "org.hibernate.detachStreamedResults";
+
 	/**
 	 * Hint for specifying whether results from a query should be
 	 * stored in the query cache.
@@ -4,6 +4,7 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import org.hibernate.collection.spi.AbstractPersistentCollection;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
@@ -35,6 +36,7 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 	private final SessionFactoryImplementor sessionFactory;
 
 	private final int keyJdbcCount;
+	private AdaptiveBatchSizing adaptiveBatchSizing;
 
 	final CollectionLoaderSingleKey singleKeyLoader;
 
@@ -75,6 +77,57 @@ public int getKeyJdbcCount() {
 		return keyJdbcCount;
 	}
 
+	private AdaptiveBatchSizing getAdaptiveBatchSizing() {
+		if ( adaptiveBatchSizing == null ) {
+			adaptiveBatchSizing = sessionFactory.getServiceRegistry().requireService( AdaptiveBatchSizing.class );
+		}
+		return adaptiveBatchSizing;
+	}
+
+	/**
+	 * The maximum number of collections to initialize in a batch, that is, the
+	 * {@linkplain #getDomainBatchSize() domain batch size}, unless it was
+	 * adjusted by {@linkplain AdaptiveBatchSizing adaptive batch fetching}.
+	 */
+	public int getEffectiveBatchSize() {
+		return getAdaptiveBatchSizing()
+				.getBatchSize( attributeMapping.getNavigableRole().getFullPath(), domainBatchSize );
+	}
+
+	/**
+	 * Record the on-demand initialization of a collection, for
+	 * {@linkplain AdaptiveBatchSizing adaptive batch fetching}.
+	 */
+	void recordInitialization(SharedSessionContractImplementor session) {
+		if ( getAdaptiveBatchSizing().isEnabled() ) {
+			session.getPersistenceContextInternal().getBatchFetchQueue().recordInitializations(
+					attributeMapping.getNavigableRole().getFullPath(),
+					1
+			);
+		}
+	}
+
+	/**
+	 * Mark the collections initialized by a batch along with the collection being loaded,
+	 * whose key comes first, so that they are only recorded for
+	 * {@linkplain AdaptiveBatchSizing adaptive batch fetching} once they are accessed.
+	 */
+	void markPrefetched(Object[] keys, SharedSessionContractImplementor session) {
+		if ( getAdaptiveBatchSizing().isEnabled() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( int i = 1; i < keys.length; i++ ) {
+				if ( keys[i] != null ) {
+					final CollectionKey collectionKey =
+							new CollectionKey( getLoadable().getCollectionDescriptor(), keys[i] );
+					if ( persistenceContext.getCollection( collectionKey )
+							instanceof AbstractPersistentCollection<?> collection ) {
+						collection.markPrefetched();
+					}
+				}
+			}
+		}
+	}
+
 	abstract void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContractImplementor session);
 
 	@Override
@@ -85,6 +138,7 @@ public PersistentCollection<?> load(Object key, SharedSessionContractImplementor
 		}
 
 		final Object[] keys = resolveKeysToInitialize( key, session );
+		recordInitialization( session );
 
 		if ( hasSingleId( keys ) ) {
 			return singleKeyLoader.load( key, session );
@@ -93,6 +147,7 @@ public PersistentCollection<?> load(Object key, SharedSessionContractImplementor
 		initializeKeys( key, keys, session );
 
 		finishInitializingKeys( keys, session );
+		markPrefetched( keys, session );
 
 		final CollectionKey collectionKey = new CollectionKey( getLoadable().getCollectionDescriptor(), key );
 		return session.getPersistenceContext().getCollection( collectionKey );
@@ -129,7 +184,7 @@ protected void finishInitializingKey(Object key, SharedSessionContractImplemento
 
 	@AllowReflection
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+		final int length = getEffectiveBatchSize();
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				getKeyType( getLoadable().getKeyDescriptor().getKeyPart() ),
 				length
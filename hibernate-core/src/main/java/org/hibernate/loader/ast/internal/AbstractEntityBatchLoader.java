@@ -21,12 +21,25 @@
 		implements EntityBatchLoader<T> {
 
 	private final SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
+	private AdaptiveBatchSizing adaptiveBatchSizing;
 
 	public AbstractEntityBatchLoader(EntityMappingType entityDescriptor, LoadQueryInfluencers loadQueryInfluencers) {
 		super( entityDescriptor, loadQueryInfluencers.getSessionFactory() );
 		this.singleIdLoader = new SingleIdEntityLoaderStandardImpl<>( entityDescriptor, loadQueryInfluencers );
 	}
 
+	/**
+	 * The maximum number of entities to initialize in a batch, that is, the
+	 * {@linkplain #getDomainBatchSize() domain batch size}, unless it was
+	 * adjusted by {@linkplain AdaptiveBatchSizing adaptive batch fetching}.
+	 */
+	protected int getEffectiveBatchSize() {
+		if ( adaptiveBatchSizing == null ) {
+			adaptiveBatchSizing = sessionFactory.getServiceRegistry().requireService( AdaptiveBatchSizing.class );
+		}
+		return adaptiveBatchSizing.getBatchSize( getLoadable().getEntityName(), getDomainBatchSize() );
+	}
+
 	protected abstract void initializeEntities(
 			Object[] idsToInitialize,
 			Object pkValue,
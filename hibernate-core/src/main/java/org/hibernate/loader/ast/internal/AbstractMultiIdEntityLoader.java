@@ -119,7 +119,10 @@ private List<T> orderedMultiLoad(
 
 		final List<Object> result = arrayList( ids.length );
 
-		final List<Object> idsInBatch = new ArrayList<>();
+		// when deferred, the batches are loaded together once all of them are known
+		final List<List<Object>> deferredBatches =
+				isBatchLoadingDeferred( lockOptions, session ) ? new ArrayList<>() : null;
+		List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
 		for ( int i = 0; i < ids.length; i++ ) {
@@ -132,9 +135,15 @@ private List<T> orderedMultiLoad(
 				idsInBatch.add( id );
 
 				if ( idsInBatch.size() >= maxBatchSize ) {
-					// we've hit the allotted max-batch-size, perform an "intermediate load"
-					loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
-					idsInBatch.clear();
+					if ( deferredBatches != null ) {
+						deferredBatches.add( idsInBatch );
+						idsInBatch = new ArrayList<>();
+					}
+					else {
+						// we've hit the allotted max-batch-size, perform an "intermediate load"
+						loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
+						idsInBatch.clear();
+					}
 				}
 
 				// Save the EntityKey instance for use later
@@ -143,7 +152,15 @@ private List<T> orderedMultiLoad(
 			}
 		}
 
-		if ( !idsInBatch.isEmpty() ) {
+		if ( deferredBatches != null ) {
+			if ( !idsInBatch.isEmpty() ) {
+				deferredBatches.add( idsInBatch );
+			}
+			if ( !deferredBatches.isEmpty() ) {
+				loadEntitiesInBatches( deferredBatches, lockOptions, loadOptions, session );
+			}
+		}
+		else if ( !idsInBatch.isEmpty() ) {
 			// we still have ids to load from the processing above since
 			// the last max-batch-size trigger, perform a load for them
 			loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
@@ -176,6 +193,29 @@ protected abstract void loadEntitiesById(
 			MultiIdLoadOptions loadOptions,
 			EventSource session);
 
+	/**
+	 * Whether the batches of ids of an ordered multi-load should be
+	 * {@linkplain #loadEntitiesInBatches loaded together}, once all
+	 * of them are known, rather than each as soon as it is complete.
+	 */
+	protected boolean isBatchLoadingDeferred(LockOptions lockOptions, EventSource session) {
+		return false;
+	}
+
+	/**
+	 * Load the entities with the given batches of ids, when the
+	 * {@linkplain #isBatchLoadingDeferred loading is deferred}.
+	 */
+	protected void loadEntitiesInBatches(
+			List<List<Object>> batches,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			EventSource session) {
+		for ( List<Object> idsInBatch : batches ) {
+			loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
+		}
+	}
+
 	protected boolean loadFromEnabledCaches(
 			MultiIdLoadOptions loadOptions,
 			EventSource session,
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.service.Service;
+
+/**
+ * Chooses the size of the batches used to batch fetch each entity and collection role,
+ * when {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive batch
+ * fetching} is enabled.
+ * <p>
+ * Each session records the number of proxies of each entity it initializes, and the
+ * number of collections of each role it initializes on demand or accesses after they
+ * were loaded by the batch of another collection, in its
+ * {@linkplain org.hibernate.engine.spi.BatchFetchQueue batch fetch queue}. When the
+ * session is closed, these counts are folded into an exponentially weighted moving
+ * average for each role, and the batch size of the role becomes this average, rounded
+ * up and bounded by the configured minimum and maximum sizes. Until then, the static
+ * batch size of the role is used.
+ *
+ * @since 7.0
+ */
+public final class AdaptiveBatchSizing implements Service {
+	/**
+	 * The weight of the last session in the moving average.
+	 */
+	private static final double SMOOTHING = 0.25;
+
+	private final boolean enabled;
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final Map<String, RoleBatchSize> batchSizes = new ConcurrentHashMap<>();
+
+	public AdaptiveBatchSizing(boolean enabled, int minBatchSize, int maxBatchSize) {
+		this.enabled = enabled;
+		this.minBatchSize = Math.max( 1, minBatchSize );
+		this.maxBatchSize = Math.max( this.minBatchSize, maxBatchSize );
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * The batch size to use for the given entity name or collection role.
+	 *
+	 * @param role The entity name or collection role
+	 * @param staticBatchSize The batch size configured for the role
+	 */
+	public int getBatchSize(String role, int staticBatchSize) {
+		if ( enabled ) {
+			final RoleBatchSize batchSize = batchSizes.get( role );
+			if ( batchSize != null ) {
+				return batchSize.size;
+			}
+		}
+		return staticBatchSize;
+	}
+
+	/**
+	 * The batch size chosen for the given entity name or collection role,
+	 * or {@code -1} if no batch size was chosen yet.
+	 */
+	public int getChosenBatchSize(String role) {
+		final RoleBatchSize batchSize = batchSizes.get( role );
+		return batchSize == null ? -1 : batchSize.size;
+	}
+
+	/**
+	 * Adjust the batch sizes for a completed session.
+	 *
+	 * @param initializationsByRole The number of initializations performed by the
+	 * session, by entity name or collection role
+	 */
+	public void sessionCompleted(Map<String, Integer> initializationsByRole) {
+		if ( enabled ) {
+			initializationsByRole.forEach( (role, count) ->
+					batchSizes.computeIfAbsent( role, r -> new RoleBatchSize() ).record( count ) );
+		}
+	}
+
+	private final class RoleBatchSize {
+		private double average = -1;
+		private volatile int size;
+
+		private synchronized void record(int initializations) {
+			average = average < 0 ? initializations : average + SMOOTHING * ( initializations - average );
+			size = Math.min( maxBatchSize, Math.max( minBatchSize, (int) Math.ceil( average ) ) );
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Map;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH;
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE;
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * Initiator for {@link AdaptiveBatchSizing}
+ *
+ * @since 7.0
+ */
+public class AdaptiveBatchSizingInitiator implements SessionFactoryServiceInitiator<AdaptiveBatchSizing> {
+	/**
+	 * Singleton access
+	 */
+	public static final AdaptiveBatchSizingInitiator INSTANCE = new AdaptiveBatchSizingInitiator();
+
+	@Override
+	public AdaptiveBatchSizing initiateService(SessionFactoryServiceInitiatorContext context) {
+		final Map<String, Object> settings =
+				context.getServiceRegistry().requireService( ConfigurationService.class ).getSettings();
+		return new AdaptiveBatchSizing(
+				getBoolean( ADAPTIVE_BATCH_FETCH, settings ),
+				getInt( ADAPTIVE_BATCH_FETCH_MIN_SIZE, settings, 2 ),
+				getInt( ADAPTIVE_BATCH_FETCH_MAX_SIZE, settings, 256 )
+		);
+	}
+
+	@Override
+	public Class<AdaptiveBatchSizing> getServiceInitiated() {
+		return AdaptiveBatchSizing.class;
+	}
+}
@@ -122,7 +122,7 @@ private PersistentCollection<?> loadEmbeddable(
 			);
 		}
 
-		final int length = getDomainBatchSize();
+		final int length = getEffectiveBatchSize();
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				jdbcParameter.getExpressionType()
 						.getSingleJdbcMapping()
@@ -146,6 +146,7 @@ private PersistentCollection<?> loadEmbeddable(
 				);
 		// now trim down the array to the number of keys we found
 		final Object[] keys = trimIdBatch( length, keysToInitialize );
+		recordInitialization( session );
 
 		if ( hasSingleId( keys ) ) {
 			return singleKeyLoader.load( keyBeingLoaded, session );
@@ -158,6 +159,7 @@ private PersistentCollection<?> loadEmbeddable(
 				finishInitializingKey( initializedKey, session );
 			}
 		}
+		markPrefetched( embeddedKeys, session );
 		final CollectionKey collectionKey = new CollectionKey(
 				getLoadable().getCollectionDescriptor(),
 				keyBeingLoaded
@@ -217,7 +219,7 @@ Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImp
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
 		if( keyDescriptor.isEmbedded()){
 			assert keyDescriptor.getJdbcTypeCount() == 1;
-			final int length = getDomainBatchSize();
+			final int length = getEffectiveBatchSize();
 			final Object[] keysToInitialize = (Object[]) Array.newInstance( keyDescriptor.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass(), length );
 			session.getPersistenceContextInternal().getBatchFetchQueue()
 					.collectBatchLoadableCollectionKeys(
@@ -21,7 +21,6 @@
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
-import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
 /**
@@ -111,7 +110,7 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 
 		chunker.processChunks(
 				keysToInitialize,
-				countIds( keysToInitialize ),
+				keysToInitialize.length,
 				(jdbcParameterBindings, session1) -> {
 					// Create a RegistrationHandler for handling any subselect fetches we encounter handling this chunk
 					final SubselectFetch.RegistrationHandler registrationHandler = SubselectFetch.createRegistrationHandler(
@@ -109,15 +109,16 @@ public int getDomainBatchSize() {
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
 		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
-		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, domainBatchSize );
+		final int batchSize = getEffectiveBatchSize();
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, batchSize );
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableEntityIds(
-						domainBatchSize,
+						batchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
 						getLoadable()
 				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		return trimIdBatch( batchSize, idsToLoad );
 	}
 
 	@Override
@@ -115,7 +115,7 @@ public final T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, S
 
 	protected Object[] resolveIdsToInitialize(Object id, SharedSessionContractImplementor session) {
 		return session.getPersistenceContextInternal().getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), id, domainBatchSize );
+				.getBatchLoadableEntityIds( getLoadable(), id, getEffectiveBatchSize() );
 	}
 
 	@Override
@@ -143,7 +143,7 @@ protected void initializeEntities(
 
 		chunker.processChunks(
 				idsToInitialize,
-				sqlBatchSize,
+				idsToInitialize.length,
 				(jdbcParameterBindings, session1) -> {
 					// Create a RegistrationHandler for handling any subselect fetches we encounter handling this chunk
 					final SubselectFetch.RegistrationHandler registrationHandler = SubselectFetch.createRegistrationHandler(
@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.Service;
+
+import static org.hibernate.loader.internal.CacheLoadHelper.loadFromCacheEntry;
+import static org.hibernate.sql.results.LoadingLogger.LOADING_LOGGER;
+
+/**
+ * Coalesces concurrent loads by id of the same entity by different sessions, when
+ * {@linkplain org.hibernate.cfg.FetchSettings#LOAD_COALESCING_WINDOW load coalescing}
+ * is enabled.
+ * <p>
+ * A session which requests an instance of an entity while no other session is loading
+ * instances of the entity loads its instance directly, without waiting. Otherwise, the
+ * first session to request an instance opens a batch, waits for the coalescing window
+ * to elapse, and then closes the batch and loads every id added to the batch in the
+ * meantime in a single query, using a separate session. The state of each instance is
+ * disassembled, just like it would be for the second-level cache, and each waiting
+ * session assembles its own instance from this state.
+ * <p>
+ * Since the batch is loaded outside the transaction of the waiting sessions, if the
+ * batch cannot be loaded, or if an instance is not found by the batch, the waiting
+ * session falls back to loading its own instance. A waiting session also falls back
+ * when the batch was not loaded within {@value #BATCH_TIMEOUT_MILLIS} milliseconds
+ * of the end of the window, so that sessions holding pooled connections never wait
+ * for a batch which is itself waiting for one of these connections.
+ *
+ * @since 7.0
+ */
+public final class LoadCoalescing implements Service {
+	private static final long BATCH_TIMEOUT_MILLIS = 1000;
+
+	private final long windowNanos;
+	private final Map<BatchKey, Batch> openBatches = new ConcurrentHashMap<>();
+	private final Map<BatchKey, AtomicInteger> activeLoads = new ConcurrentHashMap<>();
+
+	public LoadCoalescing(long windowMillis) {
+		this.windowNanos = TimeUnit.MILLISECONDS.toNanos( Math.max( 0, windowMillis ) );
+	}
+
+	public boolean isEnabled() {
+		return windowNanos > 0;
+	}
+
+	/**
+	 * Load the instance of the given entity with the given id, along with the
+	 * instances requested concurrently by other sessions.
+	 *
+	 * @param persister The persister of the immutable entity
+	 * @param id The basic identifier of the instance
+	 * @param readOnly Whether the instance should be read-only, or null to use the
+	 * default of the session
+	 * @param session The session requesting the instance
+	 * @param fallback Loads the instance in the given session, if no other session
+	 * is loading instances of the entity, if the batch is not loaded, or if the
+	 * instance was not found by the batch
+	 *
+	 * @return The instance, or null if it does not exist
+	 */
+	public Object load(
+			EntityPersister persister,
+			Object id,
+			Boolean readOnly,
+			SharedSessionContractImplementor session,
+			Supplier<?> fallback) {
+		final BatchKey batchKey = new BatchKey( persister.getEntityName(), session.getTenantIdentifierValue() );
+		final AtomicInteger loads = activeLoads.computeIfAbsent( batchKey, k -> new AtomicInteger() );
+		try {
+			if ( loads.getAndIncrement() == 0 ) {
+				// nobody else is loading the entity, so don't wait for them
+				return fallback.get();
+			}
+			else {
+				return coalesce( batchKey, persister, id, readOnly, session, fallback );
+			}
+		}
+		finally {
+			loads.decrementAndGet();
+		}
+	}
+
+	private Object coalesce(
+			BatchKey batchKey,
+			EntityPersister persister,
+			Object id,
+			Boolean readOnly,
+			SharedSessionContractImplementor session,
+			Supplier<?> fallback) {
+		while ( true ) {
+			final Batch newBatch = new Batch();
+			final Batch existingBatch = openBatches.putIfAbsent( batchKey, newBatch );
+			final Batch batch = existingBatch == null ? newBatch : existingBatch;
+			final CompletableFuture<CacheEntry> result = batch.join( id );
+			if ( result != null ) {
+				if ( batch == newBatch ) {
+					LockSupport.parkNanos( windowNanos );
+					openBatches.remove( batchKey, batch );
+					final Map<Object, CompletableFuture<CacheEntry>> results = batch.close();
+					if ( batch.sessions == 1 ) {
+						// nobody else is interested, so load it as usual
+						return fallback.get();
+					}
+					loadBatch( persister, results, session );
+				}
+				return assemble( persister, id, readOnly, session, fallback, result,
+						windowNanos + TimeUnit.MILLISECONDS.toNanos( BATCH_TIMEOUT_MILLIS ) );
+			}
+			// else the batch was closed by its leader in the meantime
+		}
+	}
+
+	private static void loadBatch(
+			EntityPersister persister,
+			Map<Object, CompletableFuture<CacheEntry>> results,
+			SharedSessionContractImplementor session) {
+		final List<Object> ids = new ArrayList<>( results.keySet() );
+		try {
+			final CacheEntry[] entries = readBatch( persister, ids, session );
+			for ( int i = 0; i < entries.length; i++ ) {
+				results.get( ids.get( i ) ).complete( entries[i] );
+			}
+		}
+		catch (Throwable e) {
+			// the waiting sessions fall back to loading their own instances
+			results.values().forEach( result -> result.completeExceptionally( e ) );
+			if ( e instanceof Error error ) {
+				throw error;
+			}
+			LOADING_LOGGER.debugf( e, "Unable to load coalesced batch of '%s'", persister.getEntityName() );
+		}
+	}
+
+	private static CacheEntry[] readBatch(
+			EntityPersister persister,
+			List<Object> ids,
+			SharedSessionContractImplementor session) {
+		try ( SessionImplementor batchSession = (SessionImplementor) session.getFactory().withOptions()
+				.tenantIdentifier( session.getTenantIdentifierValue() )
+				.openSession() ) {
+			// the instances are returned in the order of the ids
+			final List<?> entities = batchSession.byMultipleIds( persister.getEntityName() ).multiLoad( ids );
+			final PersistenceContext persistenceContext = batchSession.getPersistenceContextInternal();
+			final CacheEntry[] entries = new CacheEntry[ids.size()];
+			for ( int i = 0; i < entries.length; i++ ) {
+				final Object entity = entities.get( i );
+				if ( entity != null ) {
+					final EntityEntry entry = persistenceContext.getEntry( entity );
+					final EntityPersister subclassPersister = entry.getPersister();
+					final Object[] state = entry.getLoadedState() == null
+							? subclassPersister.getValues( entity )
+							: entry.getLoadedState();
+					entries[i] = new StandardCacheEntryImpl( state, subclassPersister, entry.getVersion(),
+							batchSession, entity );
+				}
+			}
+			return entries;
+		}
+	}
+
+	private static Object assemble(
+			EntityPersister persister,
+			Object id,
+			Boolean readOnly,
+			SharedSessionContractImplementor session,
+			Supplier<?> fallback,
+			CompletableFuture<CacheEntry> result,
+			long timeoutNanos) {
+		final CacheEntry entry;
+		try {
+			entry = result.get( timeoutNanos, TimeUnit.NANOSECONDS );
+		}
+		catch (ExecutionException e) {
+			return fallback.get();
+		}
+		catch (TimeoutException e) {
+			LOADING_LOGGER.debugf( "Coalesced batch of '%s' not loaded in time", persister.getEntityName() );
+			return fallback.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return fallback.get();
+		}
+		if ( entry == null ) {
+			// the instance might have been inserted by the
+			// transaction of the session, or since the batch
+			return fallback.get();
+		}
+		else {
+			final Object entity = loadFromCacheEntry( entry, null, persister, session, new EntityKey( id, persister ) );
+			if ( entity != null && readOnly == Boolean.TRUE ) {
+				session.getPersistenceContextInternal().setReadOnly( entity, true );
+			}
+			return entity;
+		}
+	}
+
+	private record BatchKey(String entityName, Object tenantId) {
+	}
+
+	/**
+	 * The ids requested by the sessions waiting for a batch.
+	 */
+	private static final class Batch {
+		private final Map<Object, CompletableFuture<CacheEntry>> results = new HashMap<>();
+		private int sessions;
+		private boolean closed;
+
+		/**
+		 * @return the eventual state of the instance, or null if the batch is closed
+		 */
+		private synchronized CompletableFuture<CacheEntry> join(Object id) {
+			if ( closed ) {
+				return null;
+			}
+			sessions++;
+			return results.computeIfAbsent( Objects.requireNonNull( id ), k -> new CompletableFuture<>() );
+		}
+
+		private synchronized Map<Object, CompletableFuture<CacheEntry>> close() {
+			closed = true;
+			return results;
+		}
+	}
+}
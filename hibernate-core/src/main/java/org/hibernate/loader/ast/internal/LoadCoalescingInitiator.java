@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+import static org.hibernate.cfg.FetchSettings.LOAD_COALESCING_WINDOW;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * Initiator for {@link LoadCoalescing}
+ *
+ * @since 7.0
+ */
+public class LoadCoalescingInitiator implements SessionFactoryServiceInitiator<LoadCoalescing> {
+	/**
+	 * Singleton access
+	 */
+	public static final LoadCoalescingInitiator INSTANCE = new LoadCoalescingInitiator();
+
+	@Override
+	public LoadCoalescing initiateService(SessionFactoryServiceInitiatorContext context) {
+		return new LoadCoalescing(
+				getLong(
+						LOAD_COALESCING_WINDOW,
+						context.getServiceRegistry().requireService( ConfigurationService.class ).getSettings(),
+						0
+				)
+		);
+	}
+
+	@Override
+	public Class<LoadCoalescing> getServiceInitiated() {
+		return LoadCoalescing.class;
+	}
+}
@@ -4,9 +4,16 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -18,12 +25,18 @@
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.ast.spi.MultiKeyLoadSizingStrategy;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.AsyncQueryExecutor;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl.PrefetchedSelect;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesPrefetched;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
 import static java.lang.Boolean.TRUE;
@@ -42,6 +55,8 @@
 public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<T> {
 
 	private final int idJdbcTypeCount;
+	// set once the rows of this entity turn out to contain LOB locators
+	private volatile boolean readAheadUnsupported;
 
 	public MultiIdEntityLoaderStandard(
 			EntityPersister entityDescriptor,
@@ -129,7 +144,28 @@ private List<T> performRegularMultiLoad(
 			MULTI_KEY_LOAD_LOGGER.tracef( "#loadEntitiesById(`%s`, `%s`, ..)",
 					getLoadable().getEntityName(), numberOfIdsInBatch );
 		}
+		final ChunkLoad chunk = prepareChunkLoad( idsInBatch, lockOptions, loadOptions, session );
+		return listEntities( chunk );
+	}
+
+	private List<T> listEntities(ChunkLoad chunk) {
+		return getJdbcSelectExecutor().list(
+				chunk.jdbcSelect,
+				chunk.jdbcParameterBindings,
+				chunk.executionContext,
+				RowTransformerStandardImpl.instance(),
+				null,
+				ListResultsConsumer.UniqueSemantic.FILTER,
+				chunk.idsInBatch.size()
+		);
+	}
 
+	private ChunkLoad prepareChunkLoad(
+			List<Object> idsInBatch,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			EventSource session) {
+		final int numberOfIdsInBatch = idsInBatch.size();
 		final JdbcParametersList.Builder jdbcParametersBuilder =
 				JdbcParametersList.newBuilder( numberOfIdsInBatch * idJdbcTypeCount );
 
@@ -161,7 +197,8 @@ private List<T> performRegularMultiLoad(
 		// we should have used all the JdbcParameter references (created bindings for all)
 		assert offset == jdbcParameters.size();
 
-		return getJdbcSelectExecutor().list(
+		return new ChunkLoad(
+				idsInBatch,
 				getSqlAstTranslatorFactory().buildSelectTranslator( getSessionFactory(), sqlAst )
 						.translate( jdbcParameterBindings, new QueryOptionsAdapter() {
 							@Override
@@ -175,14 +212,191 @@ public LockOptions getLockOptions() {
 						fetchableKeysHandler( session, sqlAst, jdbcParameters, jdbcParameterBindings ),
 						TRUE.equals( loadOptions.getReadOnly( session ) ),
 						lockOptions
-				),
-				RowTransformerStandardImpl.instance(),
-				null,
-				ListResultsConsumer.UniqueSemantic.FILTER,
-				idsInBatch.size()
+				)
 		);
 	}
 
+	/**
+	 * Whether the rows of the chunks of a multi-load may be
+	 * {@linkplain org.hibernate.cfg.FetchSettings#MULTI_LOAD_PARALLELISM read ahead}.
+	 */
+	private boolean isReadAheadEnabled(LockOptions lockOptions, EventSource session) {
+		return getSessionFactory().getSessionFactoryOptions().getMultiLoadParallelism() > 1
+			&& !readAheadUnsupported
+			// locks must be acquired by the transaction of the session
+			&& lockOptions.findGreatestLockMode() == LockMode.NONE
+			&& getJdbcSelectExecutor() instanceof JdbcSelectExecutorStandardImpl
+			&& isTransactionIsolated( session );
+	}
+
+	/**
+	 * The chunks read ahead are read over other connections, which must neither
+	 * join the JTA transaction of the session, nor miss changes already flushed
+	 * by its current transaction.
+	 */
+	private static boolean isTransactionIsolated(EventSource session) {
+		return !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta()
+			&& !( session.isTransactionInProgress()
+					&& session.getActionQueue().hasExecutedWritesInTransaction() );
+	}
+
+	@Override
+	protected boolean isBatchLoadingDeferred(LockOptions lockOptions, EventSource session) {
+		return isReadAheadEnabled( lockOptions, session );
+	}
+
+	@Override
+	protected void loadEntitiesInBatches(
+			List<List<Object>> batches,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			EventSource session) {
+		listEntitiesReadingAhead( batches, lockOptions, loadOptions, session, entities -> {} );
+	}
+
+	/**
+	 * Load the entities with the given batches of ids, processing the batches one after
+	 * the other, in order, while the rows of up to {@code parallelism} batches are read
+	 * ahead over separate connections.
+	 */
+	private void listEntitiesReadingAhead(
+			List<List<Object>> batches,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			EventSource session,
+			Consumer<List<T>> entitiesConsumer) {
+		final int parallelism = getSessionFactory().getSessionFactoryOptions().getMultiLoadParallelism();
+		final JdbcSelectExecutorStandardImpl jdbcSelectExecutor = (JdbcSelectExecutorStandardImpl) getJdbcSelectExecutor();
+		final Executor executor =
+				getSessionFactory().getServiceRegistry().requireService( AsyncQueryExecutor.class ).getExecutor();
+		final JdbcConnectionAccess connectionAccess = session.getJdbcConnectionAccess();
+
+		final ChunkLoad[] chunks = new ChunkLoad[batches.size()];
+		int prepared = 0;
+		try {
+			for ( int i = 0; i < chunks.length; i++ ) {
+				while ( prepared < chunks.length && prepared < i + parallelism ) {
+					final List<Object> idsInBatch = batches.get( prepared );
+					if ( idsInBatch.size() > 1 ) {
+						final ChunkLoad chunk = prepareChunkLoad( idsInBatch, lockOptions, loadOptions, session );
+						if ( !readAheadUnsupported ) {
+							// prepared by the thread of the session, and read by the executor
+							final PrefetchedSelect prefetchedSelect = jdbcSelectExecutor.preparePrefetch(
+									chunk.jdbcSelect,
+									chunk.jdbcParameterBindings,
+									chunk.executionContext,
+									connectionAccess
+							);
+							chunk.prefetchedSelect = prefetchedSelect;
+							chunk.prefetchedRows = CompletableFuture.supplyAsync( prefetchedSelect::read, executor );
+						}
+						chunks[prepared] = chunk;
+					}
+					prepared++;
+				}
+
+				final ChunkLoad chunk = chunks[i];
+				if ( chunk == null ) {
+					entitiesConsumer.accept( performSingleMultiLoad( batches.get( i ).get( 0 ), lockOptions, session ) );
+				}
+				else {
+					final JdbcValuesPrefetched rows;
+					if ( chunk.prefetchedSelect == null ) {
+						rows = null;
+					}
+					else {
+						try {
+							rows = join( chunk.prefetchedRows );
+						}
+						finally {
+							chunks[i] = null;
+							chunk.prefetchedSelect.release();
+						}
+					}
+					if ( rows != null ) {
+						entitiesConsumer.accept( jdbcSelectExecutor.processPrefetchedRows(
+								chunk.jdbcSelect,
+								rows,
+								chunk.executionContext,
+								RowTransformerStandardImpl.instance(),
+								null,
+								ListResultsConsumer.instance( ListResultsConsumer.UniqueSemantic.FILTER )
+						) );
+					}
+					else {
+						if ( chunk.prefetchedSelect != null ) {
+							// some values of the rows cannot be read without the session
+							readAheadUnsupported = true;
+						}
+						entitiesConsumer.accept( listEntities( chunk ) );
+					}
+					chunks[i] = null;
+				}
+			}
+		}
+		finally {
+			// stop reading chunks which will never be processed
+			for ( ChunkLoad chunk : chunks ) {
+				if ( chunk != null && chunk.prefetchedSelect != null ) {
+					chunk.cancel();
+				}
+			}
+		}
+	}
+
+	private static JdbcValuesPrefetched join(CompletableFuture<JdbcValuesPrefetched> prefetchedRows) {
+		try {
+			return prefetchedRows.join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException cause ) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * The select for a batch of ids, ready to be executed.
+	 */
+	private static class ChunkLoad {
+		private final List<Object> idsInBatch;
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final JdbcParameterBindings jdbcParameterBindings;
+		private final ExecutionContext executionContext;
+		// the select and its rows, when read ahead
+		private PrefetchedSelect prefetchedSelect;
+		private CompletableFuture<JdbcValuesPrefetched> prefetchedRows;
+
+		private ChunkLoad(
+				List<Object> idsInBatch,
+				JdbcOperationQuerySelect jdbcSelect,
+				JdbcParameterBindings jdbcParameterBindings,
+				ExecutionContext executionContext) {
+			this.idsInBatch = idsInBatch;
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcParameterBindings = jdbcParameterBindings;
+			this.executionContext = executionContext;
+		}
+
+		/**
+		 * Stop reading the rows ahead, and release the connection once they are no longer being read.
+		 */
+		private void cancel() {
+			if ( prefetchedRows != null && !prefetchedRows.cancel( false ) ) {
+				// the rows are already being read
+				prefetchedSelect.cancel();
+				try {
+					prefetchedRows.join();
+				}
+				catch (RuntimeException e) {
+					// the failure of a cancelled read is expected
+				}
+			}
+			prefetchedSelect.release();
+		}
+	}
+
 	private SubselectFetch.RegistrationHandler fetchableKeysHandler(
 			EventSource session,
 			SelectStatement sqlAst,
@@ -208,16 +422,26 @@ protected void loadEntitiesWithUnresolvedIds(
 			Object[] unresolvableIds,
 			List<T> result) {
 		final int maxBatchSize = maxBatchSize( unresolvableIds, loadOptions );
+		final boolean readAhead = isReadAheadEnabled( lockOptions, session );
+		final List<List<Object>> batches = readAhead ? new ArrayList<>() : null;
 		int numberOfIdsLeft = unresolvableIds.length;
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
 			final int batchSize =  Math.min( numberOfIdsLeft, maxBatchSize );
 			final Object[] idsInBatch = new Object[batchSize];
 			arraycopy( unresolvableIds, idPosition, idsInBatch, 0, batchSize );
-			result.addAll( listEntitiesById( asList( idsInBatch ), lockOptions, loadOptions, session ) );
+			if ( readAhead ) {
+				batches.add( asList( idsInBatch ) );
+			}
+			else {
+				result.addAll( listEntitiesById( asList( idsInBatch ), lockOptions, loadOptions, session ) );
+			}
 			numberOfIdsLeft = numberOfIdsLeft - batchSize;
 			idPosition += batchSize;
 		}
+		if ( readAhead ) {
+			listEntitiesReadingAhead( batches, lockOptions, loadOptions, session, result::addAll );
+		}
 	}
 
 	@Override
@@ -14,6 +14,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
@@ -29,6 +30,7 @@
 	private EnumMap<CascadingFetchProfile, SingleIdLoadPlan<T>> selectByInternalCascadeProfile;
 
 	private final BiFunction<LockOptions, LoadQueryInfluencers, SingleIdLoadPlan<T>> loadPlanCreator;
+	private LoadCoalescing loadCoalescing;
 
 	public SingleIdEntityLoaderStandardImpl(
 			EntityMappingType entityDescriptor,
@@ -65,6 +67,22 @@ protected SingleIdEntityLoaderStandardImpl(
 
 	@Override
 	public T load(Object key, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
+		if ( canCoalesce( lockOptions, session ) ) {
+			//noinspection unchecked
+			return (T) getLoadCoalescing().load(
+					getLoadable().getEntityPersister(),
+					key,
+					readOnly,
+					session,
+					() -> loadDirectly( key, lockOptions, readOnly, session )
+			);
+		}
+		else {
+			return loadDirectly( key, lockOptions, readOnly, session );
+		}
+	}
+
+	private T loadDirectly(Object key, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
 		final SingleIdLoadPlan<T> loadPlan = resolveLoadPlan(
 				lockOptions,
 				session.getLoadQueryInfluencers(),
@@ -165,6 +183,42 @@ private SingleIdLoadPlan<T> getInternalCascadeLoadPlan(
 		return plan;
 	}
 
+	private LoadCoalescing getLoadCoalescing() {
+		if ( loadCoalescing == null ) {
+			loadCoalescing = sessionFactory.getServiceRegistry().requireService( LoadCoalescing.class );
+		}
+		return loadCoalescing;
+	}
+
+	/**
+	 * Loads may be {@linkplain LoadCoalescing coalesced} with loads by other sessions
+	 * only if the instances are immutable, and if the standard load plan applies.
+	 */
+	private boolean canCoalesce(LockOptions lockOptions, SharedSessionContractImplementor session) {
+		final EntityMappingType loadable = getLoadable();
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		return getLoadCoalescing().isEnabled()
+			&& !session.isStatelessSession()
+			&& !loadable.getEntityPersister().isMutable()
+			&& loadable.getIdentifierMapping() instanceof BasicEntityIdentifierMapping
+			&& lockOptions.getLockMode().lessThan( LockMode.READ )
+			&& !influencers.hasEnabledCascadingFetchProfile()
+			&& !loadable.isAffectedByEnabledFilters( influencers, true )
+			&& isLoadPlanReusable( lockOptions, influencers )
+			&& isTransactionIsolated( session );
+	}
+
+	/**
+	 * The coalesced batch is loaded by a separate session, which must neither join
+	 * the JTA transaction of the calling thread, nor miss changes made by the current
+	 * transaction of the session.
+	 */
+	private static boolean isTransactionIsolated(SharedSessionContractImplementor session) {
+		return !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta()
+			&& !( session.isTransactionInProgress()
+					&& session.asSessionImplementor().getActionQueue().hasExecutedWritesInTransaction() );
+	}
+
 	private boolean isLoadPlanReusable(LockOptions lockOptions, LoadQueryInfluencers loadQueryInfluencers) {
 		return lockOptions.getTimeOut() == LockOptions.WAIT_FOREVER
 			&& !getLoadable().isAffectedByEntityGraph( loadQueryInfluencers )
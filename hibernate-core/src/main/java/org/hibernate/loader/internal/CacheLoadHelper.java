@@ -183,24 +183,46 @@ private static Object processCachedEntry(
 			}
 		}
 		else {
-			final Object entity =
-					convertCacheEntryToEntity(
-							entry,
-							entityKey.getIdentifier(),
-							source,
-							persister,
-							instanceToLoad,
-							entityKey
-					);
-			if ( !persister.isInstance( entity ) ) {
-				// Cleanup the inconsistent return class entity from the persistence context
-				final PersistenceContext persistenceContext = source.getPersistenceContext();
-				persistenceContext.removeEntry( entity );
-				persistenceContext.removeEntity( entityKey );
-				return null;
-			}
-			return entity;
+			return loadFromCacheEntry( entry, instanceToLoad, persister, source, entityKey );
+		}
+	}
+
+	/**
+	 * Assembles an entity from a disassembled {@link CacheEntry}, which was not
+	 * necessarily obtained from the second-level cache, and adds it to the
+	 * persistence context of the given session.
+	 *
+	 * @param entry The disassembled state of the entity
+	 * @param instanceToLoad The instance to initialize, or null
+	 * @param persister The persister for the entity being requested for load
+	 * @param source The originating session
+	 * @param entityKey The entity key
+	 *
+	 * @return The entity, or null if the entry is not an instance of the requested entity
+	 */
+	public static Object loadFromCacheEntry(
+			final CacheEntry entry,
+			final Object instanceToLoad,
+			final EntityPersister persister,
+			final SharedSessionContractImplementor source,
+			final EntityKey entityKey) {
+		final Object entity =
+				convertCacheEntryToEntity(
+						entry,
+						entityKey.getIdentifier(),
+						source,
+						persister,
+						instanceToLoad,
+						entityKey
+				);
+		if ( !persister.isInstance( entity ) ) {
+			// Cleanup the inconsistent return class entity from the persistence context
+			final PersistenceContext persistenceContext = source.getPersistenceContext();
+			persistenceContext.removeEntry( entity );
+			persistenceContext.removeEntity( entityKey );
+			return null;
 		}
+		return entity;
 	}
 
 	private static Object convertCacheReferenceEntryToEntity(
@@ -5,13 +5,18 @@
 package org.hibernate.metamodel.model.domain.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -76,6 +81,9 @@
 import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.Metamodel;
 
+import static java.util.Comparator.comparing;
+import static org.hibernate.cfg.MappingSettings.PERSISTER_INITIALIZATION_PARALLELISM;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.metamodel.internal.JpaMetamodelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetamodelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
@@ -173,16 +181,22 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 
 		MappingModelCreationProcess.process( entityPersisterMap, collectionPersisterMap, context );
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
+		final int parallelism = persisterInitializationParallelism( context.getSettings() );
+		if ( parallelism > 1 ) {
+			initializePersistersInParallel( parallelism );
 		}
+		else {
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.postInstantiate();
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.prepareLoaders();
-		}
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.prepareLoaders();
+			}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+		}
 
 		registerEmbeddableMappingType( bootModel );
 
@@ -198,6 +212,91 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 		);
 	}
 
+	private static int persisterInitializationParallelism(Map<String, Object> settings) {
+		final int parallelism = getInt( PERSISTER_INITIALIZATION_PARALLELISM, settings, 1 );
+		return parallelism < 1 ? Runtime.getRuntime().availableProcessors() : parallelism;
+	}
+
+	/**
+	 * Perform the same phases of initialization of the persisters as the
+	 * bootstrap thread would, one after the other, but initialize the
+	 * persisters within each phase concurrently. Once the mapping model
+	 * is complete, each persister only builds its own operations and
+	 * loaders, so this does not affect the resulting persisters.
+	 */
+	private void initializePersistersInParallel(int parallelism) {
+		final List<EntityPersister> entityPersisters = distinctEntityPersisters();
+		final List<CollectionPersister> collectionPersisters = new ArrayList<>( collectionPersisterMap.values() );
+		collectionPersisters.sort( comparing( CollectionPersister::getRole ) );
+
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		final ForkJoinPool pool = new ForkJoinPool(
+				parallelism,
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setContextClassLoader( classLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+		try {
+			forEachInParallel( pool, entityPersisters, EntityPersister::postInstantiate );
+			for ( EntityPersister persister : entityPersisters ) {
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
+			forEachInParallel( pool, entityPersisters, EntityPersister::prepareLoaders );
+			forEachInParallel( pool, collectionPersisters, CollectionPersister::postInstantiate );
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * The entity persisters, each once, even if registered under both its
+	 * entity name and its class name, in the order of their entity names.
+	 */
+	private List<EntityPersister> distinctEntityPersisters() {
+		final Map<String, EntityPersister> persisters = new TreeMap<>();
+		for ( EntityPersister persister : entityPersisterMap.values() ) {
+			persisters.putIfAbsent( persister.getEntityName(), persister );
+		}
+		return new ArrayList<>( persisters.values() );
+	}
+
+	/**
+	 * Apply the given action to every item on the given pool, waiting for
+	 * all of them to complete, and then rethrow the failure of the first
+	 * item that failed, so that the reported failure does not depend on
+	 * the scheduling of the threads.
+	 */
+	private static <T> void forEachInParallel(ForkJoinPool pool, List<T> items, Consumer<T> action) {
+		final RuntimeException[] failures = new RuntimeException[items.size()];
+		final List<ForkJoinTask<?>> tasks = new ArrayList<>( items.size() );
+		for ( int i = 0; i < items.size(); i++ ) {
+			final int index = i;
+			final T item = items.get( i );
+			tasks.add( pool.submit( () -> {
+				try {
+					action.accept( item );
+				}
+				catch (RuntimeException e) {
+					failures[index] = e;
+				}
+			} ) );
+		}
+		for ( ForkJoinTask<?> task : tasks ) {
+			task.join();
+		}
+		for ( RuntimeException failure : failures ) {
+			if ( failure != null ) {
+				throw failure;
+			}
+		}
+	}
+
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
 		bootModel.visitRegisteredComponents(
 				composite -> {
@@ -365,6 +365,7 @@
 	private final String[][] propertyColumnFormulaTemplates;
 	private final boolean[][] propertyColumnUpdateable;
 	private final boolean[][] propertyColumnInsertable;
+	private final DirtyCheckPlan dirtyCheckPlan;
 	private final Set<String> sharedColumnNames;
 
 	//information about lazy properties of this class
@@ -659,6 +660,7 @@ public AbstractEntityPersister(
 			propertyColumnInsertable[i] = prop.getValue().getColumnInsertability();
 		}
 		hasFormulaProperties = foundFormula;
+		dirtyCheckPlan = DirtyCheckPlan.create( entityMetamodel.getDirtyCheckablePropertyTypes(), propertyColumnUpdateable );
 		lazyPropertyNames = toStringArray( lazyNames );
 		lazyPropertyNumbers = toIntArray( lazyNumbers );
 		lazyPropertyTypes = toTypeArray( lazyTypes );
@@ -3643,6 +3645,7 @@ public boolean isAffectedByEnabledFilters(
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
 		int[] props = DirtyHelper.findDirty(
+				dirtyCheckPlan,
 				entityMetamodel.getDirtyCheckablePropertyTypes(),
 				currentState,
 				previousState,
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.persister.entity;
+
+import org.hibernate.Internal;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The properties of an entity which take part in dirty checking, determined
+ * once per persister, as bitsets indexed by property number.
+ * <p>
+ * A property of an immutable basic type whose values are compared with
+ * {@link Object#equals(Object)} is compared directly, without going through
+ * {@link Type#isDirty(Object, Object, boolean[], org.hibernate.engine.spi.SharedSessionContractImplementor)}.
+ * Any other property is compared by its {@link Type}.
+ *
+ * @see DirtyHelper#findDirty(DirtyCheckPlan, Type[], Object[], Object[], boolean[][], org.hibernate.engine.spi.SharedSessionContractImplementor)
+ */
+@Internal
+final class DirtyCheckPlan {
+	private final int span;
+	private final long[] checked;
+	private final long[] comparedByEquals;
+
+	private DirtyCheckPlan(int span, long[] checked, long[] comparedByEquals) {
+		this.span = span;
+		this.checked = checked;
+		this.comparedByEquals = comparedByEquals;
+	}
+
+	/**
+	 * @param propertyTypes The property types that are dirty checkable. null entry for non-dirty checkable properties
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 */
+	static DirtyCheckPlan create(@Nullable Type[] propertyTypes, boolean[][] includeColumns) {
+		final int span = propertyTypes.length;
+		final long[] checked = new long[words( span )];
+		final long[] comparedByEquals = new long[words( span )];
+		for ( int i = 0; i < span; i++ ) {
+			final Type propertyType = propertyTypes[i];
+			if ( propertyType != null ) {
+				if ( isComparedByEquals( propertyType ) && includeColumns[i].length == 1 ) {
+					// a property whose only column is not updatable is never dirty
+					if ( includeColumns[i][0] ) {
+						set( checked, i );
+						set( comparedByEquals, i );
+					}
+				}
+				else {
+					set( checked, i );
+				}
+			}
+		}
+		return new DirtyCheckPlan( span, checked, comparedByEquals );
+	}
+
+	/**
+	 * Whether {@link AbstractStandardBasicType#isDirty} amounts to {@code !Objects.equals(old, current)}
+	 * for the given type.
+	 */
+	private static boolean isComparedByEquals(Type propertyType) {
+		return propertyType instanceof AbstractStandardBasicType<?> basicType
+			&& !basicType.isMutable()
+			&& basicType.getJavaTypeDescriptor().useObjectEqualsHashCode();
+	}
+
+	int getSpan() {
+		return span;
+	}
+
+	int getWordCount() {
+		return checked.length;
+	}
+
+	/**
+	 * The properties of the given word of the bitset which need to be checked.
+	 */
+	long getChecked(int word) {
+		return checked[word];
+	}
+
+	boolean isComparedByEquals(int property) {
+		return ( comparedByEquals[property >>> 6] & ( 1L << property ) ) != 0;
+	}
+
+	static int words(int span) {
+		return ( span + 63 ) >>> 6;
+	}
+
+	static void set(long[] bits, int index) {
+		bits[index >>> 6] |= 1L << index;
+	}
+}
@@ -110,6 +110,81 @@ public static int[] findDirty(
 		return count == 0 ? null : ArrayHelper.trim( results, count );
 	}
 
+	/**
+	 * Determine if any of the given field values are dirty, returning an array containing
+	 * indices of the dirty fields, like {@link #findDirty(Type[], Object[], Object[], boolean[][], SharedSessionContractImplementor)},
+	 * but visiting only the properties the {@link DirtyCheckPlan} says need to be checked.
+	 * <p>
+	 * The dirty properties are recorded in a bitset, so that the returned array is
+	 * allocated only once their number is known.
+	 *
+	 * @param plan The properties to check, and how to compare them
+	 * @param propertyTypes The property types that are dirty checkable. null entry for non-dirty checkable properties
+	 * @param currentState The current state of the entity
+	 * @param previousState The baseline state of the entity
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 * @param session The session from which the dirty check request originated.
+	 *
+	 * @return Array containing indices of the dirty properties, or null if no properties considered dirty.
+	 */
+	public static int[] findDirty(
+			final DirtyCheckPlan plan,
+			final @Nullable Type[] propertyTypes,
+			final Object[] currentState,
+			final Object[] previousState,
+			final boolean[][] includeColumns,
+			final SharedSessionContractImplementor session) {
+		final int words = plan.getWordCount();
+		long[] dirty = null;
+		int count = 0;
+
+		for ( int word = 0; word < words; word++ ) {
+			long remaining = plan.getChecked( word );
+			while ( remaining != 0 ) {
+				final int i = ( word << 6 ) + Long.numberOfTrailingZeros( remaining );
+				remaining &= remaining - 1;
+				final boolean propertyDirty = plan.isComparedByEquals( i )
+						? isDirtyByEquals( currentState[i], previousState[i] )
+						: isDirty( propertyTypes, currentState, previousState, includeColumns, session, i );
+				if ( propertyDirty ) {
+					if ( dirty == null ) {
+						dirty = new long[words];
+					}
+					dirty[word] |= 1L << i;
+					count++;
+				}
+			}
+		}
+
+		if ( count == 0 ) {
+			return null;
+		}
+		else {
+			final int[] results = new int[count];
+			int position = 0;
+			for ( int word = 0; word < words; word++ ) {
+				long remaining = dirty[word];
+				while ( remaining != 0 ) {
+					results[position++] = ( word << 6 ) + Long.numberOfTrailingZeros( remaining );
+					remaining &= remaining - 1;
+				}
+			}
+			return results;
+		}
+	}
+
+	private static boolean isDirtyByEquals(Object current, Object previous) {
+		if ( current == previous || current == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			return false;
+		}
+		else if ( current == null || previous == null || previous == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			return true;
+		}
+		else {
+			return !current.equals( previous );
+		}
+	}
+
 	private static boolean isDirty(
 			@Nullable Type[] propertyTypes,
 			Object[] currentState,
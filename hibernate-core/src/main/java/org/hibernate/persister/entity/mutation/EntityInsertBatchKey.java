@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.persister.entity.mutation;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.DiscriminatedAssociationModelPart;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.ManagedMappingType;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * The {@link BatchKey} of the inserts of an entity type, aware of the entity
+ * types the inserted rows may reference via foreign keys.
+ * <p>
+ * An insert {@linkplain #dependsOn depends on} the inserts of another entity
+ * type if the inserted entity, or an embeddable it contains, has a to-one
+ * association owning a foreign key which targets the hierarchy of that other
+ * entity type, or if the inserted entity is the target of a unidirectional
+ * one-to-many association of that other entity type, whose non-nullable join
+ * column is written by the insert.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+ */
+public class EntityInsertBatchKey extends BasicBatchKey {
+	private final EntityPersister entityPersister;
+
+	// the root entity names of the hierarchies referenced via foreign keys,
+	// or null if an association might reference any entity type;
+	// resolved lazily, once the mapping model is complete
+	private volatile Set<String> referencedRootEntityNames;
+	private volatile boolean resolved;
+
+	public EntityInsertBatchKey(EntityPersister entityPersister) {
+		super( entityPersister.getEntityName() + "#INSERT" );
+		this.entityPersister = entityPersister;
+	}
+
+	public EntityPersister getEntityPersister() {
+		return entityPersister;
+	}
+
+	@Override
+	public boolean dependsOn(BatchKey key) {
+		if ( key instanceof EntityInsertBatchKey insertBatchKey ) {
+			final Set<String> referencedRootEntityNames = resolveReferencedRootEntityNames();
+			return referencedRootEntityNames == null
+				|| referencedRootEntityNames.contains( insertBatchKey.entityPersister.getRootEntityName() );
+		}
+		else {
+			return true;
+		}
+	}
+
+	private Set<String> resolveReferencedRootEntityNames() {
+		if ( !resolved ) {
+			final Set<String> rootEntityNames = new HashSet<>();
+			final MappingMetamodelImplementor metamodel = entityPersister.getFactory().getMappingMetamodel();
+			boolean bounded = collectReferencedRootEntityNames( entityPersister, rootEntityNames, metamodel );
+			final EntityIdentifierMapping identifierMapping = entityPersister.getIdentifierMapping();
+			if ( bounded && identifierMapping instanceof EmbeddableValuedModelPart embeddedIdentifier ) {
+				// key-many-to-one associations of a composite identifier
+				bounded = collectReferencedRootEntityNames( embeddedIdentifier.getEmbeddableTypeDescriptor(),
+						rootEntityNames, metamodel );
+			}
+			referencedRootEntityNames = bounded ? rootEntityNames : null;
+			resolved = true;
+		}
+		return referencedRootEntityNames;
+	}
+
+	/**
+	 * @return {@code false} if an attribute might reference any entity type
+	 */
+	private static boolean collectReferencedRootEntityNames(
+			ManagedMappingType mappingType,
+			Set<String> rootEntityNames,
+			MappingMetamodelImplementor metamodel) {
+		for ( int i = 0; i < mappingType.getNumberOfAttributeMappings(); i++ ) {
+			final AttributeMapping attributeMapping = mappingType.getAttributeMapping( i );
+			if ( attributeMapping instanceof ToOneAttributeMapping toOneAttributeMapping ) {
+				if ( toOneAttributeMapping.getSideNature() == ForeignKeyDescriptor.Nature.KEY ) {
+					rootEntityNames.add( toOneAttributeMapping.getAssociatedEntityMappingType().getRootEntityDescriptor()
+							.getEntityName() );
+				}
+			}
+			else if ( attributeMapping.getPropertyAccess().getPropertyAccessStrategy()
+					instanceof PropertyAccessStrategyBackRefImpl backRef ) {
+				// the join column of a unidirectional one-to-many association
+				final EntityPersister owner = metamodel.findEntityDescriptor( backRef.getEntityName() );
+				if ( owner == null ) {
+					return false;
+				}
+				rootEntityNames.add( owner.getRootEntityName() );
+			}
+			else if ( attributeMapping instanceof DiscriminatedAssociationModelPart ) {
+				return false;
+			}
+			else if ( attributeMapping instanceof EmbeddableValuedModelPart embeddedAttribute ) {
+				if ( !collectReferencedRootEntityNames( embeddedAttribute.getEmbeddableTypeDescriptor(),
+						rootEntityNames, metamodel ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
@@ -64,7 +64,7 @@ public InsertCoordinatorStandard(EntityPersister entityPersister, SessionFactory
 			batchKey = null;
 		}
 		else {
-			batchKey = new BasicBatchKey( entityPersister.getEntityName() + "#INSERT" );
+			batchKey = new EntityInsertBatchKey( entityPersister );
 		}
 
 		if ( entityPersister.getEntityMetamodel().isDynamicInsert() ) {
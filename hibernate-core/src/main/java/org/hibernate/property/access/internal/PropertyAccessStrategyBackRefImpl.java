@@ -46,6 +46,13 @@ public PropertyAccessStrategyBackRefImpl(String collectionRole, String entityNam
 		this.propertyName = collectionRole.substring( entityName.length() + 1 );
 	}
 
+	/**
+	 * The name of the entity owning the collection, which the back reference references.
+	 */
+	public String getEntityName() {
+		return entityName;
+	}
+
 	@Override
 	public PropertyAccess buildPropertyAccess(Class<?> containerJavaType, String propertyName, boolean setterRequired) {
 		return new PropertyAccessBackRefImpl( this );
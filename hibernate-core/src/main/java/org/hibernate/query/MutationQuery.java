@@ -9,6 +9,8 @@
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Incubating;
@@ -79,6 +81,37 @@ public interface MutationQuery extends CommonQueryContract {
 	 */
 	int executeUpdate();
 
+	/**
+	 * Execute the statement asynchronously, using the executor specified by
+	 * {@value org.hibernate.cfg.QuerySettings#QUERY_ASYNC_EXECUTOR}, and
+	 * return a {@link CompletionStage} of the number of affected entities.
+	 * <p>
+	 * The session which created this query must not be used until the
+	 * returned stage completes. Queries executed asynchronously against the
+	 * same session are executed one after the other, never concurrently.
+	 * Asynchronous execution is not supported when the session uses JTA
+	 * transactions.
+	 *
+	 * @return a stage completing with the number of affected entity instances
+	 *
+	 * @implNote The default implementation defined here executes the statement
+	 *           in the calling thread. Concrete implementations execute it
+	 *           using {@link org.hibernate.query.spi.AsyncQueryExecutor}.
+	 *
+	 * @see #executeUpdate()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default CompletionStage<Integer> executeUpdateAsync() {
+		try {
+			return CompletableFuture.completedFuture( executeUpdate() );
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Covariant returns
@@ -11,6 +11,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -152,6 +154,35 @@ default List<R> getResultList() {
 		return list();
 	}
 
+	/**
+	 * Execute the query asynchronously, using the executor specified by
+	 * {@value org.hibernate.cfg.QuerySettings#QUERY_ASYNC_EXECUTOR}, and
+	 * return a {@link CompletionStage} of the query results as a {@link List}.
+	 * <p>
+	 * The session which created this query must not be used until the
+	 * returned stage completes. Queries executed asynchronously against the
+	 * same session are executed one after the other, never concurrently.
+	 * Asynchronous execution is not supported when the session uses JTA
+	 * transactions.
+	 *
+	 * @return a stage completing with the result list
+	 *
+	 * @implNote The default implementation defined here executes the query
+	 *           in the calling thread. Concrete implementations execute it
+	 *           using {@link org.hibernate.query.spi.AsyncQueryExecutor}.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default CompletionStage<List<R>> getResultListAsync() {
+		try {
+			return CompletableFuture.completedFuture( getResultList() );
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
 	/**
 	 * Returns scrollable access to the query results.
 	 * <p>
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.query.spi.AsyncQueryExecutor;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Standard implementation of {@link AsyncQueryExecutor}.
+ *
+ * @see AsyncQueryExecutorInitiator
+ */
+public class AsyncQueryExecutorImpl implements AsyncQueryExecutor, Stoppable {
+	private final Executor executor;
+	private final boolean shutdownOnStop;
+
+	/**
+	 * @param executor the executor to use
+	 * @param shutdownOnStop whether the executor is owned by Hibernate,
+	 * and should be shut down along with the service registry
+	 */
+	public AsyncQueryExecutorImpl(Executor executor, boolean shutdownOnStop) {
+		this.executor = executor;
+		this.shutdownOnStop = shutdownOnStop;
+	}
+
+	@Override
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	@Override
+	public void stop() {
+		if ( shutdownOnStop && executor instanceof ExecutorService executorService ) {
+			executorService.shutdown();
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.query.spi.AsyncQueryExecutor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_ASYNC_EXECUTOR;
+
+/**
+ * Initiator for the {@link AsyncQueryExecutor} service.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_ASYNC_EXECUTOR
+ */
+public class AsyncQueryExecutorInitiator implements StandardServiceInitiator<AsyncQueryExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final AsyncQueryExecutorInitiator INSTANCE = new AsyncQueryExecutorInitiator();
+
+	@Override
+	public Class<AsyncQueryExecutor> getServiceInitiated() {
+		return AsyncQueryExecutor.class;
+	}
+
+	@Override
+	public AsyncQueryExecutor initiateService(
+			Map<String, Object> configurationValues,
+			ServiceRegistryImplementor registry) {
+		final Object setting = configurationValues.get( QUERY_ASYNC_EXECUTOR );
+		if ( setting == null ) {
+			return new AsyncQueryExecutorImpl( createDefaultExecutor(), true );
+		}
+		else {
+			final Executor executor =
+					registry.requireService( StrategySelector.class )
+							.resolveStrategy( Executor.class, setting );
+			// only shut down executors we instantiated ourselves
+			return new AsyncQueryExecutorImpl( executor, !( setting instanceof Executor ) );
+		}
+	}
+
+	private static ExecutorService createDefaultExecutor() {
+		try {
+			// Executors.newVirtualThreadPerTaskExecutor() is only available on JDK 21+
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (NoSuchMethodException e) {
+			return Executors.newCachedThreadPool( new DaemonThreadFactory() );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new HibernateException( "Could not create virtual thread executor for asynchronous queries", e );
+		}
+	}
+
+	private static class DaemonThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable, "hibernate-async-query-" + count.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.query.spi.QueryPlanCacheStore;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The historical {@link QueryPlanCacheStore}, based on a
+ * {@link BoundedConcurrentHashMap} using {@linkplain BoundedConcurrentHashMap.Eviction#LIRS LIRS}
+ * eviction.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_STORE
+ */
+public class LirsQueryPlanCacheStore<K, V> implements QueryPlanCacheStore<K, V> {
+	private static final int CONCURRENCY_LEVEL = 20;
+
+	private final BoundedConcurrentHashMap<K, V> map;
+	private final int maxSize;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	// the map does not report evictions, so derive them from the number of insertions
+	private final LongAdder insertions = new LongAdder();
+
+	public LirsQueryPlanCacheStore(String cacheName, int maxSize) {
+		this.map = new BoundedConcurrentHashMap<>( maxSize, CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public @Nullable V get(K key) {
+		final V value = map.get( key );
+		if ( value == null ) {
+			misses.increment();
+		}
+		else {
+			hits.increment();
+		}
+		return value;
+	}
+
+	@Override
+	public @Nullable V peek(K key) {
+		return map.get( key );
+	}
+
+	@Override
+	public void put(K key, V value) {
+		if ( map.put( key, value ) == null ) {
+			insertions.increment();
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V existing = get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final V created = mappingFunction.apply( key );
+		final V raced = map.putIfAbsent( key, created );
+		if ( raced != null ) {
+			return raced;
+		}
+		insertions.increment();
+		return created;
+	}
+
+	@Override
+	public int size() {
+		return map.size();
+	}
+
+	@Override
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return Math.max( 0, insertions.sum() - map.size() );
+	}
+
+	@Override
+	public void clear() {
+		map.clear();
+		insertions.reset();
+	}
+}
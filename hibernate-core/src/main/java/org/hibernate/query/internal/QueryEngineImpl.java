@@ -7,6 +7,7 @@
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
@@ -24,6 +25,7 @@
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryEngineOptions;
 import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryPlanCacheStoreFactory;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
 import org.hibernate.query.sqm.internal.SqmCreationOptionsStandard;
@@ -186,7 +188,11 @@ private static QueryInterpretationCache buildInterpretationCache(
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			return new QueryInterpretationCacheStandardImpl(
+					size,
+					resolveQueryPlanCacheStoreFactory( serviceRegistry, properties ),
+					serviceRegistry
+			);
 		}
 		else {
 			// disabled
@@ -194,6 +200,21 @@ private static QueryInterpretationCache buildInterpretationCache(
 		}
 	}
 
+	private static QueryPlanCacheStoreFactory resolveQueryPlanCacheStoreFactory(
+			ServiceRegistry serviceRegistry, Map<String, Object> properties) {
+		final Object setting = properties.get( AvailableSettings.QUERY_PLAN_CACHE_STORE );
+		if ( setting == null || "lirs".equals( setting ) ) {
+			return LirsQueryPlanCacheStore::new;
+		}
+		else if ( "tinylfu".equals( setting ) ) {
+			return TinyLfuQueryPlanCacheStore::new;
+		}
+		else {
+			return serviceRegistry.requireService( StrategySelector.class )
+					.resolveStrategy( QueryPlanCacheStoreFactory.class, setting );
+		}
+	}
+
 	@Override
 	public void validateNamedQueries() {
 		namedObjectRepository.validateNamedQueries( this );
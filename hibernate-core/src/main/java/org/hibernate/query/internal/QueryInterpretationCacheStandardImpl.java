@@ -8,7 +8,6 @@
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -16,14 +15,19 @@
 import org.hibernate.query.spi.ParameterMetadataImplementor;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryPlan;
+import org.hibernate.query.spi.QueryPlanCacheStore;
+import org.hibernate.query.spi.QueryPlanCacheStoreFactory;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.QueryPlanCacheStatistics;
+import org.hibernate.stat.internal.QueryPlanCacheStatisticsImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
 /**
@@ -37,20 +41,27 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final QueryPlanCacheStore<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final QueryPlanCacheStore<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final QueryPlanCacheStore<String, ParameterInterpretation> nativeQueryParamCache;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, LirsQueryPlanCacheStore::new, serviceRegistry );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			QueryPlanCacheStoreFactory storeFactory,
+			ServiceRegistry serviceRegistry) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = storeFactory.createStore( QUERY_PLAN_CACHE, maxQueryPlanCount );
+		this.hqlInterpretationCache = storeFactory.createStore( HQL_INTERPRETATION_CACHE, maxQueryPlanCount );
+		this.nativeQueryParamCache = storeFactory.createStore( NATIVE_QUERY_PARAMETER_CACHE, maxQueryPlanCount );
 		this.serviceRegistry = serviceRegistry;
 	}
 
@@ -127,7 +138,8 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 			return (HqlInterpretation<R>) existing;
 		}
 		else if ( expectedResultType != null ) {
-			final HqlInterpretation<?> existingQueryOnly = hqlInterpretationCache.get( queryString );
+			// a single lookup, already counted by the store
+			final HqlInterpretation<?> existingQueryOnly = hqlInterpretationCache.peek( queryString );
 			if ( existingQueryOnly != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
@@ -192,6 +204,21 @@ public boolean isEnabled() {
 		return true;
 	}
 
+	@Override
+	public String[] getCacheNames() {
+		return new String[] { HQL_INTERPRETATION_CACHE, QUERY_PLAN_CACHE, NATIVE_QUERY_PARAMETER_CACHE };
+	}
+
+	@Override
+	public @Nullable QueryPlanCacheStatistics getCacheStatistics(String cacheName) {
+		return switch ( cacheName ) {
+			case HQL_INTERPRETATION_CACHE -> new QueryPlanCacheStatisticsImpl( cacheName, hqlInterpretationCache );
+			case QUERY_PLAN_CACHE -> new QueryPlanCacheStatisticsImpl( cacheName, queryPlanCache );
+			case NATIVE_QUERY_PARAMETER_CACHE -> new QueryPlanCacheStatisticsImpl( cacheName, nativeQueryParamCache );
+			default -> null;
+		};
+	}
+
 	@Override
 	public void close() {
 		// todo (6.0) : clear maps/caches and LOG
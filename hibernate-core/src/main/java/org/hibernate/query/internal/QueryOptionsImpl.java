@@ -44,6 +44,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private String resultCacheRegionName;
 	private Boolean readOnlyEnabled;
 	private Boolean queryPlanCachingEnabled;
+	private boolean detachStreamedResults;
 
 	private TupleTransformer<?> tupleTransformer;
 	private ResultListTransformer<?> resultListTransformer;
@@ -199,6 +200,16 @@ public void setReadOnly(boolean readOnly) {
 		this.readOnlyEnabled = readOnly;
 	}
 
+	@Override
+	public boolean isDetachStreamedResults() {
+		return detachStreamedResults;
+	}
+
+	@Override
+	public void setDetachStreamedResults(boolean detachStreamedResults) {
+		this.detachStreamedResults = detachStreamedResults;
+	}
+
 	@Override
 	public Boolean isReadOnly() {
 		return readOnlyEnabled;
@@ -0,0 +1,298 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.hibernate.query.spi.QueryPlanCacheStore;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link QueryPlanCacheStore} using a frequency-aware eviction policy modeled
+ * after W-TinyLFU.
+ * <p>
+ * Lookups never take a lock: they read from a {@link ConcurrentHashMap}, mark the
+ * entry as recently accessed, and record the access in a {@link FrequencySketch}.
+ * New entries enter a small FIFO admission window; an entry leaving the window
+ * is only admitted to the main region, which uses a CLOCK approximation of LRU,
+ * if the sketch estimates it to be used more frequently than the main region's
+ * victim. This keeps a burst of one-off queries from flushing out the plans of
+ * the queries executed over and over again, which is typical of applications
+ * generating many distinct HQL strings.
+ * <p>
+ * Insertions and evictions are serialized by a lock, which is acceptable as an
+ * insertion always follows the comparatively expensive creation of the cached
+ * interpretation or plan.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_STORE
+ */
+public class TinyLfuQueryPlanCacheStore<K, V> implements QueryPlanCacheStore<K, V> {
+	private static final int WINDOW_PERCENTAGE = 1;
+
+	private final int maxSize;
+	private final int maxWindowSize;
+	private final int maxMainSize;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final FrequencySketch sketch;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	// guarded by evictionLock
+	private final ArrayDeque<Node<K, V>> window = new ArrayDeque<>();
+	private final ArrayDeque<Node<K, V>> main = new ArrayDeque<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+		// racy on purpose: a lost update only affects the eviction order
+		private boolean accessed;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	public TinyLfuQueryPlanCacheStore(String cacheName, int maxSize) {
+		if ( maxSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size of cache '" + cacheName + "' must be positive" );
+		}
+		this.maxSize = maxSize;
+		this.maxWindowSize = Math.max( 1, maxSize * WINDOW_PERCENTAGE / 100 );
+		this.maxMainSize = maxSize - maxWindowSize;
+		this.data = new ConcurrentHashMap<>( Math.min( maxSize, 1024 ) );
+		this.sketch = new FrequencySketch( maxSize );
+	}
+
+	@Override
+	public @Nullable V get(K key) {
+		final Node<K, V> node = data.get( key );
+		sketch.increment( key.hashCode() );
+		if ( node == null ) {
+			misses.increment();
+			return null;
+		}
+		else {
+			if ( !node.accessed ) {
+				node.accessed = true;
+			}
+			hits.increment();
+			return node.value;
+		}
+	}
+
+	@Override
+	public @Nullable V peek(K key) {
+		final Node<K, V> node = data.get( key );
+		return node == null ? null : node.value;
+	}
+
+	@Override
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing != null ) {
+			existing.value = value;
+		}
+		else {
+			admit( node );
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V cached = get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+		final Node<K, V> node = new Node<>( key, mappingFunction.apply( key ) );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing != null ) {
+			return existing.value;
+		}
+		admit( node );
+		return node.value;
+	}
+
+	private void admit(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			window.addLast( node );
+			while ( window.size() > maxWindowSize ) {
+				final Node<K, V> candidate = window.pollFirst();
+				if ( data.get( candidate.key ) != candidate ) {
+					// removed by clear() in the meantime
+					continue;
+				}
+				if ( main.size() < maxMainSize ) {
+					main.addLast( candidate );
+				}
+				else {
+					final Node<K, V> victim = selectMainVictim();
+					if ( victim != null
+							&& sketch.frequency( candidate.key.hashCode() ) > sketch.frequency( victim.key.hashCode() ) ) {
+						evict( victim );
+						main.addLast( candidate );
+					}
+					else {
+						if ( victim != null ) {
+							main.addFirst( victim );
+						}
+						evict( candidate );
+					}
+				}
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * CLOCK: give recently accessed entries of the main region a second chance.
+	 */
+	private @Nullable Node<K, V> selectMainVictim() {
+		for ( int i = main.size(); i > 0; i-- ) {
+			final Node<K, V> node = main.pollFirst();
+			if ( node.accessed ) {
+				node.accessed = false;
+				main.addLast( node );
+			}
+			else {
+				return node;
+			}
+		}
+		return main.pollFirst();
+	}
+
+	private void evict(Node<K, V> node) {
+		if ( data.remove( node.key, node ) ) {
+			evictions.increment();
+		}
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			data.clear();
+			window.clear();
+			main.clear();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * A count-min sketch of 4-bit counters, estimating how often each key was
+	 * looked up recently. All counters are halved once the number of recorded
+	 * accesses reaches ten times the size of the cache, so that the estimates
+	 * favor recent history.
+	 * <p>
+	 * Updates are not synchronized: concurrent increments may get lost, which
+	 * only makes the estimates slightly less accurate.
+	 */
+	static final class FrequencySketch {
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final int MAX_COUNT = 15;
+		private static final int[] SEEDS = { 0x97cb3127, 0xb0f8ab3b, 0xe2ae2a97, 0x9e3779b9 };
+
+		private final long[] table;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int maxSize) {
+			int length = 8;
+			while ( length < maxSize && length < ( 1 << 24 ) ) {
+				length <<= 1;
+			}
+			table = new long[length];
+			sampleSize = 10 * Math.max( maxSize, 8 );
+		}
+
+		int frequency(int hash) {
+			int frequency = MAX_COUNT;
+			for ( int i = 0; i < SEEDS.length; i++ ) {
+				final int h = rehash( hash, i );
+				frequency = Math.min( frequency, (int) ( ( table[index( h )] >>> offset( h, i ) ) & 0xF ) );
+			}
+			return frequency;
+		}
+
+		void increment(int hash) {
+			boolean added = false;
+			for ( int i = 0; i < SEEDS.length; i++ ) {
+				final int h = rehash( hash, i );
+				final int index = index( h );
+				final int offset = offset( h, i );
+				// read before writing, so that hot entries with saturated
+				// counters don't keep invalidating the cache line
+				if ( ( ( table[index] >>> offset ) & 0xF ) < MAX_COUNT ) {
+					table[index] += 1L << offset;
+					added = true;
+				}
+			}
+			if ( added && ++additions >= sampleSize ) {
+				reset();
+			}
+		}
+
+		private void reset() {
+			additions = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+		}
+
+		private static int rehash(int hash, int i) {
+			final int h = hash * SEEDS[i];
+			return h ^ ( h >>> 16 );
+		}
+
+		private int index(int h) {
+			return ( h >>> 8 ) & ( table.length - 1 );
+		}
+
+		private static int offset(int h, int i) {
+			// each long holds 16 counters, use a different quarter per hash function
+			return ( ( ( h & 3 ) + ( i << 2 ) ) ) << 2;
+		}
+	}
+}
@@ -64,6 +64,7 @@
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
 import static org.hibernate.jpa.HibernateHints.HINT_COMMENT;
+import static org.hibernate.jpa.HibernateHints.HINT_DETACH_STREAMED_RESULTS;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
@@ -180,6 +181,9 @@ protected void collectHints(Map<String, Object> hints) {
 
 		putIfNotNull( hints, HINT_READONLY, getQueryOptions().isReadOnly() );
 		putIfNotNull( hints, HINT_FETCH_SIZE, getQueryOptions().getFetchSize() );
+		if ( getQueryOptions().isDetachStreamedResults() ) {
+			hints.put( HINT_DETACH_STREAMED_RESULTS, true );
+		}
 		putIfNotNull( hints, HINT_CACHEABLE, getQueryOptions().isResultCachingEnabled() );
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
@@ -300,6 +304,9 @@ protected final boolean applySelectionHint(String hintName, Object value) {
 				case HINT_FETCH_SIZE:
 					queryOptions.setFetchSize( getInteger( value ) );
 					return true;
+				case HINT_DETACH_STREAMED_RESULTS:
+					queryOptions.setDetachStreamedResults( getBoolean( value ) );
+					return true;
 				case HINT_QUERY_PLAN_CACHEABLE:
 					queryOptions.setQueryPlanCachingEnabled( getBoolean( value ) );
 					return true;
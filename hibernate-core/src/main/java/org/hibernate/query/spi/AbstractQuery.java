@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -664,6 +665,11 @@ public int executeUpdate() throws HibernateException {
 
 	protected abstract int doExecuteUpdate();
 
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync() {
+		return getSession().executeAsync( this::executeUpdate );
+	}
+
 	@Override
 	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> keyedPage) {
 		throw new UnsupportedOperationException("Getting keyed result list is not supported by this query.");
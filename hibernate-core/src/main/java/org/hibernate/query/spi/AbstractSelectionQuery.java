@@ -13,6 +13,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -154,6 +155,11 @@ public List<R> list() {
 		}
 	}
 
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		return getSession().executeAsync( this::getResultList );
+	}
+
 	protected HashSet<String> beforeQueryHandlingFetchProfiles() {
 		beforeQuery();
 		final MutableQueryOptions options = getQueryOptions();
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import java.util.concurrent.Executor;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * Service providing the {@link Executor} which runs asynchronously
+ * executed queries.
+ *
+ * @see org.hibernate.query.SelectionQuery#getResultListAsync()
+ * @see org.hibernate.query.MutationQuery#executeUpdateAsync()
+ * @see org.hibernate.cfg.QuerySettings#QUERY_ASYNC_EXECUTOR
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface AsyncQueryExecutor extends Service {
+	/**
+	 * The executor running asynchronously executed queries.
+	 */
+	Executor getExecutor();
+}
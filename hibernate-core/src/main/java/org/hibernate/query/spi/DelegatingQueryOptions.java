@@ -148,4 +148,9 @@ public boolean hasLimit() {
 	public ListResultsConsumer.UniqueSemantic getUniqueSemantic() {
 		return queryOptions.getUniqueSemantic();
 	}
+
+	@Override
+	public boolean isDetachStreamedResults() {
+		return queryOptions.isDetachStreamedResults();
+	}
 }
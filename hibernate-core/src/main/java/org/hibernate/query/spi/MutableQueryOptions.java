@@ -77,6 +77,11 @@ default void setCacheMode(CacheMode cacheMode) {
 	 */
 	void setReadOnly(boolean readOnly);
 
+	/**
+	 * Corollary to {@link #isDetachStreamedResults()}
+	 */
+	void setDetachStreamedResults(boolean detachStreamedResults);
+
 	/**
 	 * Corollary to {@link #getComment()}
 	 */
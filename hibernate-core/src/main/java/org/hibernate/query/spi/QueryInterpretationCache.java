@@ -8,8 +8,12 @@
 import java.util.function.Supplier;
 
 import org.hibernate.Incubating;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
+import org.hibernate.stat.QueryPlanCacheStatistics;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Cache for various parts of translating or interpreting queries.
@@ -21,6 +25,19 @@
  */
 @Incubating
 public interface QueryInterpretationCache {
+	/**
+	 * The name of the cache of {@linkplain HqlInterpretation HQL interpretations}.
+	 */
+	String HQL_INTERPRETATION_CACHE = "hql-interpretation";
+	/**
+	 * The name of the cache of {@linkplain SelectQueryPlan query plans}.
+	 */
+	String QUERY_PLAN_CACHE = "query-plan";
+	/**
+	 * The name of the cache of {@linkplain ParameterInterpretation native query parameters}.
+	 */
+	String NATIVE_QUERY_PARAMETER_CACHE = "native-parameters";
+
 	interface Key {
 		/**
 		 * The possibility for a cache key to do defensive copying in case it has mutable state.
@@ -45,6 +62,27 @@ default Key prepareForStore() {
 
 	boolean isEnabled();
 
+	/**
+	 * The names of the caches for which {@linkplain #getCacheStatistics statistics}
+	 * are available.
+	 *
+	 * @since 7.0
+	 */
+	default String[] getCacheNames() {
+		return ArrayHelper.EMPTY_STRING_ARRAY;
+	}
+
+	/**
+	 * Statistics about the named cache, or {@code null} if there is no such cache.
+	 *
+	 * @see org.hibernate.stat.Statistics#getQueryPlanCacheStatistics(String)
+	 *
+	 * @since 7.0
+	 */
+	default @Nullable QueryPlanCacheStatistics getCacheStatistics(String cacheName) {
+		return null;
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
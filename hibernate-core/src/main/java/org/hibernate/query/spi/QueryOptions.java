@@ -193,6 +193,20 @@ default ListResultsConsumer.UniqueSemantic getUniqueSemantic(){
 		return null;
 	}
 
+	/**
+	 * Should entities loaded while {@linkplain org.hibernate.query.SelectionQuery#scroll
+	 * scrolling} or {@linkplain org.hibernate.query.SelectionQuery#stream streaming} the
+	 * results be detached from the persistence context once the results which loaded
+	 * them have been consumed?
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_STREAMED_RESULTS
+	 *
+	 * @since 7.0
+	 */
+	default boolean isDetachStreamedResults() {
+		return false;
+	}
+
 	/**
 	 * Provide singleton access for frequently needed options:
 	 */
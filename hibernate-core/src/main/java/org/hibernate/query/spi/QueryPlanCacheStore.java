@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded, thread-safe store backing one of the caches maintained by the
+ * {@link QueryInterpretationCache}.
+ * <p>
+ * Implementations decide which entries to evict once {@linkplain #getMaxSize()
+ * the maximum size} is reached, and keep track of their own hit, miss and
+ * eviction counts, which are reported through
+ * {@link org.hibernate.stat.Statistics#getQueryPlanCacheStatistics(String)}.
+ *
+ * @param <K> the type of the cache keys
+ * @param <V> the type of the cached values
+ *
+ * @see QueryPlanCacheStoreFactory
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface QueryPlanCacheStore<K, V> {
+	/**
+	 * The cached value for the given key, or {@code null} if there is none.
+	 */
+	@Nullable V get(K key);
+
+	/**
+	 * The cached value for the given key, or {@code null} if there is none,
+	 * without counting the lookup as a hit or a miss. A store which admits
+	 * entries based on how often they are looked up does not count it either.
+	 */
+	@Nullable V peek(K key);
+
+	/**
+	 * Add a value to the store, possibly evicting other entries.
+	 */
+	void put(K key, V value);
+
+	/**
+	 * The cached value for the given key, creating and caching it with the
+	 * given function if there is none.
+	 */
+	V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+	/**
+	 * The number of entries currently held by the store.
+	 */
+	int size();
+
+	/**
+	 * The maximum number of entries held by the store.
+	 */
+	int getMaxSize();
+
+	/**
+	 * The number of lookups which found a cached value.
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of lookups which did not find a cached value.
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of entries evicted to respect the maximum size.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * Remove all entries from the store.
+	 */
+	void clear();
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Creates the {@linkplain QueryPlanCacheStore stores} backing the caches of the
+ * standard {@link QueryInterpretationCache}: the cache of HQL interpretations,
+ * the cache of query plans, and the cache of native query parameters.
+ * <p>
+ * A custom implementation may be specified using
+ * {@value org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_STORE}.
+ *
+ * @since 7.0
+ */
+@Incubating
+@FunctionalInterface
+public interface QueryPlanCacheStoreFactory {
+	/**
+	 * Create a store for the named cache.
+	 *
+	 * @param cacheName one of {@link QueryInterpretationCache#HQL_INTERPRETATION_CACHE},
+	 * {@link QueryInterpretationCache#QUERY_PLAN_CACHE} or
+	 * {@link QueryInterpretationCache#NATIVE_QUERY_PARAMETER_CACHE}
+	 * @param maxSize the maximum number of entries to keep
+	 */
+	<K, V> QueryPlanCacheStore<K, V> createStore(String cacheName, int maxSize);
+}
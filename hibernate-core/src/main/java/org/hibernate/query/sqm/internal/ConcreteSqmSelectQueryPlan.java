@@ -7,6 +7,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 
@@ -17,6 +19,8 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
@@ -73,6 +77,7 @@
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
@@ -80,6 +85,7 @@
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final Lock interpretationLock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -89,6 +95,7 @@ public ConcreteSqmSelectQueryPlan(
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
@@ -377,16 +384,22 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		//		to protect access.  However, a simple lock is enough here.  We use a Lock rather
+		//		than the monitor lock to avoid pinning when using virtual threads.
 
 		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
 		JdbcParameterBindings jdbcParameterBindings = null;
 
-		executionContext.getSession().autoPreFlush();
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		session.autoPreFlush();
+
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent translationEvent = eventMonitor.beginQueryTranslationEvent();
+		boolean cacheHit = true;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			interpretationLock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
@@ -397,6 +410,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
 					cacheableSqmInterpretation = localCopy;
+					cacheHit = false;
 				}
 				else {
 					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -415,9 +429,13 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 						jdbcParameterBindings = localCopy.firstParameterBindings;
 						localCopy.firstParameterBindings = null;
 						cacheableSqmInterpretation = localCopy;
+						cacheHit = false;
 					}
 				}
 			}
+			finally {
+				interpretationLock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -436,6 +454,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
 				cacheableSqmInterpretation = localCopy;
+				cacheHit = false;
 			}
 		}
 
@@ -443,6 +462,8 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 		}
 
+		eventMonitor.completeQueryTranslationEvent( translationEvent, session, hql, cacheHit );
+
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -106,6 +107,11 @@ public List<R> getResultList() {
 		return getDelegate().getResultList();
 	}
 
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		return getDelegate().getResultListAsync();
+	}
+
 	@Override
 	public long getResultCount() {
 		return getDelegate().getResultCount();
@@ -45,6 +45,16 @@ public interface JdbcSessionContext {
 	 */
 	boolean isJtaTrackByThread();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 */
+	boolean isBatchPipeliningEnabled();
+
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 */
+	boolean isMultiRowInsertsEnabled();
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	StatementInspector getStatementInspector();
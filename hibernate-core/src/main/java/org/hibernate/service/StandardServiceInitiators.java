@@ -32,6 +32,7 @@
 import org.hibernate.persister.internal.PersisterClassResolverInitiator;
 import org.hibernate.persister.internal.PersisterFactoryInitiator;
 import org.hibernate.property.access.internal.PropertyAccessStrategyResolverInitiator;
+import org.hibernate.query.internal.AsyncQueryExecutorInitiator;
 import org.hibernate.query.sqm.mutation.internal.SqmMultiTableMutationStrategyProviderInitiator;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistryInitiator;
 import org.hibernate.resource.transaction.internal.TransactionCoordinatorBuilderInitiator;
@@ -156,6 +157,9 @@ private static List<StandardServiceInitiator<?>> buildStandardServiceInitiatorLi
 		serviceInitiators.add( ParameterMarkerStrategyInitiator.INSTANCE );
 		serviceInitiators.add( BatchLoaderFactoryInitiator.INSTANCE );
 
+		// AsyncQueryExecutor
+		serviceInitiators.add( AsyncQueryExecutorInitiator.INSTANCE );
+
 		serviceInitiators.trimToSize();
 
 		return unmodifiableList( serviceInitiators );
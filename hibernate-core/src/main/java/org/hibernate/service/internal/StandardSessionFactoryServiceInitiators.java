@@ -9,6 +9,8 @@
 
 import org.hibernate.engine.query.spi.NativeQueryInterpreterInitiator;
 import org.hibernate.engine.spi.CacheInitiator;
+import org.hibernate.loader.ast.internal.AdaptiveBatchSizingInitiator;
+import org.hibernate.loader.ast.internal.LoadCoalescingInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.stat.internal.StatisticsInitiator;
 
@@ -26,6 +28,8 @@ public static List<SessionFactoryServiceInitiator<?>> buildStandardServiceInitia
 		serviceInitiators.add( StatisticsInitiator.INSTANCE );
 		serviceInitiators.add( CacheInitiator.INSTANCE );
 		serviceInitiators.add( NativeQueryInterpreterInitiator.INSTANCE );
+		serviceInitiators.add( AdaptiveBatchSizingInitiator.INSTANCE );
+		serviceInitiators.add( LoadCoalescingInitiator.INSTANCE );
 
 		return serviceInitiators;
 	}
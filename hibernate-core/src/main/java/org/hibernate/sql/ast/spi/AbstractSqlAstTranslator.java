@@ -26,6 +26,7 @@
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.QueryException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.DmlTargetColumnQualifierSupport;
 import org.hibernate.dialect.RowLockStrategy;
@@ -201,6 +202,7 @@
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBinding;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelectKeyRestriction;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.ColumnWriteFragment;
@@ -855,10 +857,18 @@ protected JdbcOperationQuerySelect translateSelect(SelectStatement selectStateme
 				getAppliedParameterBindings(),
 				getJdbcLockStrategy(),
 				getOffsetParameter(),
-				getLimitParameter()
+				getLimitParameter(),
+				resolveKeyRestriction( selectStatement )
 		);
 	}
 
+	private JdbcSelectKeyRestriction resolveKeyRestriction(SelectStatement selectStatement) {
+		final SessionFactoryOptions options = getSessionFactory().getSessionFactoryOptions();
+		return options.isQueryCacheEnabled() && options.isQueryCacheKeyInvalidationEnabled()
+				? JdbcSelectKeyRestriction.from( selectStatement, getAffectedTableNames() )
+				: null;
+	}
+
 	private JdbcValuesMappingProducer buildJdbcValuesMappingProducer(SelectStatement selectStatement) {
 		return getSessionFactory().getJdbcValuesMappingProducerProvider()
 				.buildMappingProducer( selectStatement, getSessionFactory() );
@@ -4,31 +4,50 @@
  */
 package org.hibernate.sql.exec.internal;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
+import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QuerySpacePartition;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.sql.exec.SqlExecLogger;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.exec.spi.JdbcSelectKeyRestriction;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
+import org.hibernate.sql.results.jdbc.internal.AbstractResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesPrefetched;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
@@ -42,7 +61,9 @@
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.FormatMapper;
 import org.hibernate.type.spi.TypeConfiguration;
 
 /**
@@ -88,6 +109,356 @@ public <T, R> T executeQuery(
 			int resultCountEstimate,
 			StatementCreator statementCreator,
 			ResultsConsumer<T, R> resultsConsumer) {
+		return withQueryReadOnlyMode(
+				executionContext,
+				() -> doExecuteQuery(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						rowTransformer,
+						domainResultType,
+						resultCountEstimate,
+						statementCreator,
+						resultsConsumer
+				)
+		);
+	}
+
+	/**
+	 * Process rows which were {@linkplain JdbcValuesPrefetched#read read ahead of time}
+	 * from the results of the given select, in the same way as the rows of the
+	 * {@link java.sql.ResultSet} of a select executed by {@link #executeQuery}.
+	 *
+	 * @since 7.0
+	 */
+	public <T, R> T processPrefetchedRows(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcValuesPrefetched jdbcValues,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer) {
+		return withQueryReadOnlyMode(
+				executionContext,
+				() -> consumeJdbcValues(
+						jdbcSelect,
+						jdbcValues,
+						executionContext,
+						rowTransformer,
+						domainResultType,
+						resultsConsumer,
+						executionContext.getSession().getEventMonitor().beginQueryExecutionEvent()
+				)
+		);
+	}
+
+	/**
+	 * Prepare the given select over a connection obtained from the given
+	 * {@link JdbcConnectionAccess}, rather than over the connection of the session,
+	 * so that all its rows may be {@linkplain PrefetchedSelect#read read} by a thread
+	 * other than the thread of the session, and later
+	 * {@linkplain #processPrefetchedRows processed} by the thread of the session.
+	 * The select must not have a limit or a lock.
+	 * <p>
+	 * The statement is prepared as by the {@link org.hibernate.engine.jdbc.spi.StatementPreparer}
+	 * of the session, and its parameters are bound, by the calling thread, which must be
+	 * the thread of the session. So must the thread which
+	 * {@linkplain PrefetchedSelect#release releases} the returned select.
+	 *
+	 * @since 7.0
+	 */
+	public PrefetchedSelect preparePrefetch(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			JdbcConnectionAccess connectionAccess) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final String sql = prefetchSql( jdbcSelect, executionContext );
+		try {
+			final Connection connection = connectionAccess.obtainConnection();
+			try {
+				final PreparedStatement statement = preparePrefetchStatement( connection, sql, session );
+				try {
+					bindPrefetchParameters( statement, jdbcSelect, jdbcParameterBindings, executionContext );
+				}
+				catch (SQLException | RuntimeException e) {
+					statement.close();
+					throw e;
+				}
+				return new PrefetchedSelect( sql, jdbcSelect, connectionAccess, connection, statement, session );
+			}
+			catch (SQLException | RuntimeException e) {
+				connectionAccess.releaseConnection( connection );
+				throw e;
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "JDBC exception executing SQL [" + sql + "]", sql );
+		}
+	}
+
+	private static String prefetchSql(JdbcOperationQuerySelect jdbcSelect, ExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final String sql = queryOptions == null
+				? jdbcSelect.getSqlString()
+				: session.getJdbcServices().getDialect().addSqlHintOrComment(
+						jdbcSelect.getSqlString(),
+						queryOptions,
+						session.getFactory().getSessionFactoryOptions().isCommentsEnabled()
+				);
+		final String inspectedSql = session.getJdbcSessionContext().getStatementInspector().inspect( sql );
+		return inspectedSql == null ? sql : inspectedSql;
+	}
+
+	private static PreparedStatement preparePrefetchStatement(
+			Connection connection,
+			String sql,
+			SharedSessionContractImplementor session) throws SQLException {
+		final JdbcSessionContext jdbcSessionContext = session.getJdbcSessionContext();
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+		final JdbcEventHandler eventHandler = jdbcSessionContext.getEventHandler();
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
+		final PreparedStatement statement;
+		try {
+			eventHandler.jdbcPrepareStatementStart();
+			statement = connection.prepareStatement( sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY );
+		}
+		finally {
+			eventMonitor.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+			eventHandler.jdbcPrepareStatementEnd();
+		}
+		try {
+			final int remainingTransactionTimeOutPeriod =
+					session.getJdbcCoordinator().determineRemainingTransactionTimeOutPeriod();
+			if ( remainingTransactionTimeOutPeriod > 0 ) {
+				statement.setQueryTimeout( remainingTransactionTimeOutPeriod );
+			}
+			if ( jdbcSessionContext.getFetchSizeOrNull() != null ) {
+				statement.setFetchSize( jdbcSessionContext.getFetchSizeOrNull() );
+			}
+		}
+		catch (SQLException | RuntimeException e) {
+			statement.close();
+			throw e;
+		}
+		return statement;
+	}
+
+	private static void bindPrefetchParameters(
+			PreparedStatement statement,
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) throws SQLException {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( queryOptions != null ) {
+			if ( queryOptions.getFetchSize() != null ) {
+				statement.setFetchSize( queryOptions.getFetchSize() );
+			}
+			if ( queryOptions.getTimeout() != null ) {
+				statement.setQueryTimeout( queryOptions.getTimeout() );
+			}
+		}
+		int paramBindingPosition = 1;
+		for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+			parameterBinder.bindParameterValue(
+					statement,
+					paramBindingPosition++,
+					jdbcParameterBindings,
+					executionContext
+			);
+		}
+	}
+
+	/**
+	 * A select {@linkplain #preparePrefetch prepared} over a connection other than the
+	 * connection of the session, whose rows may be {@linkplain #read read} by any thread.
+	 *
+	 * @since 7.0
+	 */
+	public static final class PrefetchedSelect {
+		private final String sql;
+		private final JdbcValuesMappingProducer jdbcValuesMappingProducer;
+		private final JdbcConnectionAccess connectionAccess;
+		private final Connection connection;
+		private final PreparedStatement statement;
+		// the state of the session needed to read the rows, captured by the thread of the session
+		private final LoadQueryInfluencers loadQueryInfluencers;
+		private final SessionFactoryImplementor factory;
+		private final WrapperOptions wrapperOptions;
+		private final PrefetchResultSetAccess resultSetAccess;
+
+		private PrefetchedSelect(
+				String sql,
+				JdbcOperationQuerySelect jdbcSelect,
+				JdbcConnectionAccess connectionAccess,
+				Connection connection,
+				PreparedStatement statement,
+				SharedSessionContractImplementor session) {
+			this.sql = sql;
+			this.jdbcValuesMappingProducer = jdbcSelect.getJdbcValuesMappingProducer();
+			this.connectionAccess = connectionAccess;
+			this.connection = connection;
+			this.statement = statement;
+			this.loadQueryInfluencers = session.getLoadQueryInfluencers();
+			this.factory = session.getFactory();
+			this.wrapperOptions = new PrefetchWrapperOptions( session );
+			this.resultSetAccess = new PrefetchResultSetAccess( session );
+		}
+
+		/**
+		 * Execute the select and read all its rows. This may be called by a thread
+		 * other than the thread of the session, but at most once.
+		 *
+		 * @return the rows, or {@code null} if some values of the rows, such as LOB locators
+		 *         or values of user types, could not be read without the session
+		 */
+		public JdbcValuesPrefetched read() {
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				resultSetAccess.resultSet = resultSet;
+				final JdbcValuesMapping jdbcValuesMapping =
+						jdbcValuesMappingProducer.resolve( resultSetAccess, loadQueryInfluencers, factory );
+				return JdbcValuesPrefetched.canBePrefetched( jdbcValuesMapping )
+						? JdbcValuesPrefetched.read( resultSet, jdbcValuesMapping, wrapperOptions )
+						: null;
+			}
+			catch (SQLException e) {
+				throw factory.getJdbcServices().getSqlExceptionHelper()
+						.convert( e, "JDBC exception executing SQL [" + sql + "]", sql );
+			}
+			finally {
+				resultSetAccess.resultSet = null;
+			}
+		}
+
+		/**
+		 * Ask the database to stop executing the select, if it is being {@linkplain #read read}.
+		 * This may be called by any thread.
+		 */
+		public void cancel() {
+			try {
+				statement.cancel();
+			}
+			catch (SQLException e) {
+				SqlExecLogger.SQL_EXEC_LOGGER.debugf( "Unable to cancel JDBC statement [%s]", e.getMessage() );
+			}
+		}
+
+		/**
+		 * Close the statement and release the connection, once the select is no longer
+		 * being {@linkplain #read read}. This must be called by the thread of the session.
+		 */
+		public void release() {
+			try {
+				statement.close();
+			}
+			catch (SQLException e) {
+				SqlExecLogger.SQL_EXEC_LOGGER.debugf( "Unable to release JDBC statement [%s]", e.getMessage() );
+			}
+			try {
+				if ( !connection.getAutoCommit() ) {
+					// end the transaction in which the rows were read
+					connection.rollback();
+				}
+			}
+			catch (SQLException e) {
+				SqlExecLogger.SQL_EXEC_LOGGER.debugf( "Unable to roll back JDBC connection [%s]", e.getMessage() );
+			}
+			finally {
+				try {
+					connectionAccess.releaseConnection( connection );
+				}
+				catch (SQLException e) {
+					SqlExecLogger.SQL_EXEC_LOGGER.debugf( "Unable to release JDBC connection [%s]", e.getMessage() );
+				}
+			}
+		}
+	}
+
+	private static class PrefetchResultSetAccess extends AbstractResultSetAccess {
+		private final SessionFactoryImplementor factory;
+		private ResultSet resultSet;
+
+		private PrefetchResultSetAccess(SharedSessionContractImplementor session) {
+			super( session );
+			this.factory = session.getFactory();
+		}
+
+		@Override
+		public ResultSet getResultSet() {
+			return resultSet;
+		}
+
+		@Override
+		public SessionFactoryImplementor getFactory() {
+			return factory;
+		}
+
+		@Override
+		protected ResultSetMetaData getMetaData() {
+			try {
+				return resultSet.getMetaData();
+			}
+			catch (SQLException e) {
+				throw factory.getJdbcServices().getSqlExceptionHelper()
+						.convert( e, "Unable to access ResultSetMetaData" );
+			}
+		}
+
+		@Override
+		public void release() {
+			// the ResultSet is closed by PrefetchedSelect.read()
+		}
+	}
+
+	/**
+	 * The options of the session, captured by the thread of the session, for
+	 * reading values on another thread. There is no session to use for LOBs, user
+	 * types, arrays, structs or XML, which are never
+	 * {@linkplain JdbcValuesPrefetched#canBePrefetched prefetched}.
+	 */
+	private static class PrefetchWrapperOptions implements WrapperOptions {
+		private final SessionFactoryImplementor factory;
+		private final TimeZone jdbcTimeZone;
+		private final FormatMapper xmlFormatMapper;
+		private final FormatMapper jsonFormatMapper;
+
+		private PrefetchWrapperOptions(SharedSessionContractImplementor session) {
+			this.factory = session.getFactory();
+			this.jdbcTimeZone = session.getJdbcTimeZone();
+			this.xmlFormatMapper = session.getXmlFormatMapper();
+			this.jsonFormatMapper = session.getJsonFormatMapper();
+		}
+
+		@Override
+		public SharedSessionContractImplementor getSession() {
+			throw new UnsupportedOperationException( "No session" );
+		}
+
+		@Override
+		public SessionFactoryImplementor getSessionFactory() {
+			return factory;
+		}
+
+		@Override
+		public TimeZone getJdbcTimeZone() {
+			return jdbcTimeZone;
+		}
+
+		@Override
+		public FormatMapper getXmlFormatMapper() {
+			return xmlFormatMapper;
+		}
+
+		@Override
+		public FormatMapper getJsonFormatMapper() {
+			return jsonFormatMapper;
+		}
+	}
+
+	private static <T> T withQueryReadOnlyMode(ExecutionContext executionContext, Supplier<T> action) {
 		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		Boolean readOnly = executionContext.getQueryOptions().isReadOnly();
@@ -97,16 +468,7 @@ public <T, R> T executeQuery(
 			persistenceContext.setDefaultReadOnly( readOnly );
 		}
 		try {
-			return doExecuteQuery(
-					jdbcSelect,
-					jdbcParameterBindings,
-					executionContext,
-					rowTransformer,
-					domainResultType,
-					resultCountEstimate,
-					statementCreator,
-					resultsConsumer
-			);
+			return action.get();
 		}
 		finally {
 			if ( readOnly != null ) {
@@ -125,6 +487,8 @@ private <T, R> T doExecuteQuery(
 			StatementCreator statementCreator,
 			ResultsConsumer<T, R> resultsConsumer) {
 
+		final DiagnosticEvent executionEvent =
+				executionContext.getSession().getEventMonitor().beginQueryExecutionEvent();
 		final DeferredResultSetAccess deferredResultSetAccess = new DeferredResultSetAccess(
 				jdbcSelect,
 				jdbcParameterBindings,
@@ -132,14 +496,42 @@ private <T, R> T doExecuteQuery(
 				statementCreator,
 				resultCountEstimate
 		);
-		final JdbcValues jdbcValues = resolveJdbcValuesSource(
-				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
+		final JdbcValues jdbcValues;
+		try {
+			jdbcValues = resolveJdbcValuesSource(
+					executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
+					jdbcSelect,
+					jdbcParameterBindings,
+					resultsConsumer.canResultsBeCached(),
+					executionContext,
+					deferredResultSetAccess
+			);
+		}
+		catch (RuntimeException e) {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			session.getEventMonitor()
+					.completeQueryExecutionEvent( executionEvent, session, jdbcSelect.getSqlString(), 0, -1 );
+			throw e;
+		}
+		return consumeJdbcValues(
 				jdbcSelect,
-				resultsConsumer.canResultsBeCached(),
+				jdbcValues,
 				executionContext,
-				deferredResultSetAccess
+				rowTransformer,
+				domainResultType,
+				resultsConsumer,
+				executionEvent
 		);
+	}
 
+	private <T, R> T consumeJdbcValues(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcValues jdbcValues,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer,
+			DiagnosticEvent executionEvent) {
 		if ( rowTransformer == null ) {
 			@SuppressWarnings("unchecked")
 			final TupleTransformer<R> tupleTransformer = (TupleTransformer<R>) executionContext
@@ -219,23 +611,37 @@ public boolean shouldReturnProxies() {
 				jdbcValues
 		);
 
-		final T result = resultsConsumer.consume(
-				jdbcValues,
-				session,
-				processingOptions,
-				valuesProcessingState,
-				rowProcessingState,
-				rowReader
-		);
+		T result = null;
+		try {
+			result = resultsConsumer.consume(
+					jdbcValues,
+					session,
+					processingOptions,
+					valuesProcessingState,
+					rowProcessingState,
+					rowReader
+			);
+		}
+		finally {
+			session.getEventMonitor().completeQueryExecutionEvent(
+					executionEvent,
+					session,
+					jdbcSelect.getSqlString(),
+					rowProcessingState.getProcessedRowCount(),
+					getResultSize( result )
+			);
+		}
 
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+			final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSqlString() );
 			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+					queryIdentifier,
 					getResultSize( result ),
 					milliseconds
 			);
+			statistics.queryExecutionLatency( queryIdentifier, endTime - startTime );
 		}
 
 		return result;
@@ -248,9 +654,18 @@ private <T> int getResultSize(T result) {
 		return -1;
 	}
 
+	private static QuerySpacePartition[] resolveSpacePartitions(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			SharedSessionContractImplementor session) {
+		final JdbcSelectKeyRestriction keyRestriction = jdbcSelect.getKeyRestriction();
+		return keyRestriction == null ? null : keyRestriction.resolvePartitions( jdbcParameterBindings, session );
+	}
+
 	private JdbcValues resolveJdbcValuesSource(
 			String queryIdentifier,
 			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
 			boolean canBeCached,
 			ExecutionContext executionContext,
 			DeferredResultSetAccess resultSetAccess) {
@@ -283,6 +698,7 @@ private JdbcValues resolveJdbcValuesSource(
 					jdbcSelect.getSqlString(),
 					executionContext.getQueryOptions().getLimit(),
 					executionContext.getQueryParameterBindings(),
+					resolveSpacePartitions( jdbcSelect, jdbcParameterBindings, session ),
 					session
 			);
 
@@ -323,6 +739,7 @@ private JdbcValues resolveJdbcValuesSource(
 						jdbcSelect.getSqlString(),
 						executionContext.getQueryOptions().getLimit(),
 						executionContext.getQueryParameterBindings(),
+						resolveSpacePartitions( jdbcSelect, jdbcParameterBindings, session ),
 						session
 				);
 			}
@@ -27,6 +27,7 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 	private final JdbcParameter offsetParameter;
 	private final JdbcParameter limitParameter;
 	private final JdbcLockStrategy jdbcLockStrategy;
+	private final JdbcSelectKeyRestriction keyRestriction;
 
 	public JdbcOperationQuerySelect(
 			String sql,
@@ -58,6 +59,33 @@ public JdbcOperationQuerySelect(
 			JdbcLockStrategy jdbcLockStrategy,
 			JdbcParameter offsetParameter,
 			JdbcParameter limitParameter) {
+		this(
+				sql,
+				parameterBinders,
+				jdbcValuesMappingProducer,
+				affectedTableNames,
+				rowsToSkip,
+				maxRows,
+				appliedParameters,
+				jdbcLockStrategy,
+				offsetParameter,
+				limitParameter,
+				null
+		);
+	}
+
+	public JdbcOperationQuerySelect(
+			String sql,
+			List<JdbcParameterBinder> parameterBinders,
+			JdbcValuesMappingProducer jdbcValuesMappingProducer,
+			Set<String> affectedTableNames,
+			int rowsToSkip,
+			int maxRows,
+			Map<JdbcParameter, JdbcParameterBinding> appliedParameters,
+			JdbcLockStrategy jdbcLockStrategy,
+			JdbcParameter offsetParameter,
+			JdbcParameter limitParameter,
+			JdbcSelectKeyRestriction keyRestriction) {
 		super( sql, parameterBinders, affectedTableNames, appliedParameters );
 		this.jdbcValuesMappingProducer = jdbcValuesMappingProducer;
 		this.rowsToSkip = rowsToSkip;
@@ -65,6 +93,7 @@ public JdbcOperationQuerySelect(
 		this.jdbcLockStrategy = jdbcLockStrategy;
 		this.offsetParameter = offsetParameter;
 		this.limitParameter = limitParameter;
+		this.keyRestriction = keyRestriction;
 	}
 
 	public JdbcValuesMappingProducer getJdbcValuesMappingProducer() {
@@ -95,6 +124,14 @@ public JdbcLockStrategy getLockStrategy() {
 		return jdbcLockStrategy;
 	}
 
+	/**
+	 * The restriction of this query to rows with particular primary key
+	 * values, if any, used for key-level invalidation of cached results.
+	 */
+	public JdbcSelectKeyRestriction getKeyRestriction() {
+		return keyRestriction;
+	}
+
 	@Override
 	public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		if ( !appliedParameters.isEmpty() ) {
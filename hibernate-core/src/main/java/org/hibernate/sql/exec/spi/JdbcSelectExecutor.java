@@ -207,6 +207,7 @@ class ScrollableExecutionContext extends BaseExecutionContext implements QueryOp
 			private final String comment;
 			private final List<String> databaseHints;
 			private final Integer fetchSize;
+			private final boolean detachStreamedResults;
 			private final Limit limit;
 			private final ExecutionContext context;
 
@@ -225,6 +226,7 @@ public ScrollableExecutionContext(
 					String comment,
 					List<String> databaseHints,
 					Integer fetchSize,
+					boolean detachStreamedResults,
 					Limit limit,
 					ExecutionContext context) {
 				super( context.getSession() );
@@ -242,6 +244,7 @@ public ScrollableExecutionContext(
 				this.comment = comment;
 				this.databaseHints = databaseHints;
 				this.fetchSize = fetchSize;
+				this.detachStreamedResults = detachStreamedResults;
 				this.limit = limit;
 				this.context = context;
 			}
@@ -331,6 +334,11 @@ public Integer getFetchSize() {
 				return fetchSize;
 			}
 
+			@Override
+			public boolean isDetachStreamedResults() {
+				return detachStreamedResults;
+			}
+
 			@Override
 			public Limit getLimit() {
 				return limit;
@@ -380,6 +388,7 @@ public Set<String> getDisabledFetchProfiles() {
 				options.getComment(),
 				options.getDatabaseHints(),
 				options.getFetchSize(),
+				options.isDetachStreamedResults(),
 				options.getLimit(),
 				context
 		);
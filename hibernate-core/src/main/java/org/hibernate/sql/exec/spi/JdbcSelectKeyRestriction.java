@@ -0,0 +1,303 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.QuerySpacePartition;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.Literal;
+import org.hibernate.sql.ast.tree.expression.SqlSelectionExpression;
+import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.predicate.BetweenPredicate;
+import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.InListPredicate;
+import org.hibernate.sql.ast.tree.predicate.Junction;
+import org.hibernate.sql.ast.tree.predicate.LikePredicate;
+import org.hibernate.sql.ast.tree.predicate.NullnessPredicate;
+import org.hibernate.sql.ast.tree.predicate.Predicate;
+import org.hibernate.sql.ast.tree.select.QueryPart;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.ast.tree.select.SortSpecification;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * The restriction of a query to rows with particular primary key values,
+ * which lets the {@linkplain org.hibernate.cache.spi.QueryResultsCache
+ * query cache} ignore changes to the other rows of the queried table.
+ * <p>
+ * Only a query against a single table, without joins, which selects plain
+ * columns and restricts the primary key using {@code =} or {@code in},
+ * has a key restriction. Any other restriction is ignored, since a change
+ * to a row which does not have one of the given primary key values cannot
+ * affect the result of such a query.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_INVALIDATION
+ *
+ * @since 7.0
+ */
+@Incubating
+public class JdbcSelectKeyRestriction {
+	/**
+	 * The maximum number of key values of a restriction, beyond which
+	 * we may as well consider every row of the table.
+	 */
+	private static final int MAX_KEY_VALUES = 64;
+
+	private final String space;
+	private final JavaType<Object> keyJavaType;
+	private final List<Expression> keyValues;
+
+	private JdbcSelectKeyRestriction(String space, JavaType<Object> keyJavaType, List<Expression> keyValues) {
+		this.space = space;
+		this.keyJavaType = keyJavaType;
+		this.keyValues = keyValues;
+	}
+
+	/**
+	 * The key restriction of the given statement, or {@code null} if the
+	 * statement does not have a restriction we can make use of.
+	 */
+	public static @Nullable JdbcSelectKeyRestriction from(
+			SelectStatement statement,
+			Set<String> affectedTableNames) {
+		if ( statement.getCteStatements() != null && !statement.getCteStatements().isEmpty() ) {
+			return null;
+		}
+		final QueryPart queryPart = statement.getQueryPart();
+		if ( !( queryPart instanceof QuerySpec querySpec ) ) {
+			return null;
+		}
+		if ( querySpec.getFromClause().getRoots().size() != 1
+				|| querySpec.getFromClause().hasJoins()
+				|| !querySpec.getGroupByClauseExpressions().isEmpty()
+				|| querySpec.getHavingClauseRestrictions() != null ) {
+			return null;
+		}
+		final TableGroup root = querySpec.getFromClause().getRoots().get( 0 );
+		if ( !( root.getModelPart() instanceof EntityMappingType entityMappingType ) ) {
+			return null;
+		}
+		final EntityPersister persister = entityMappingType.getEntityPersister();
+		final JavaType<Object> keyJavaType = keyJavaType( persister );
+		if ( keyJavaType == null
+				|| affectedTableNames.size() != 1
+				|| !affectedTableNames.contains( (String) persister.getQuerySpaces()[0] ) ) {
+			return null;
+		}
+		for ( SqlSelection sqlSelection : querySpec.getSelectClause().getSqlSelections() ) {
+			if ( !isColumn( sqlSelection.getExpression() ) ) {
+				return null;
+			}
+		}
+		if ( querySpec.hasSortSpecifications() ) {
+			for ( SortSpecification sortSpecification : querySpec.getSortSpecifications() ) {
+				final Expression sortExpression = sortSpecification.getSortExpression();
+				if ( !( sortExpression instanceof SqlSelectionExpression ) && !isColumn( sortExpression ) ) {
+					return null;
+				}
+			}
+		}
+		final List<Predicate> predicates = new ArrayList<>();
+		if ( !collectConjuncts( querySpec.getWhereClauseRestrictions(), predicates ) ) {
+			return null;
+		}
+		final BasicEntityIdentifierMapping identifierMapping =
+				(BasicEntityIdentifierMapping) persister.getIdentifierMapping();
+		List<Expression> keyValues = null;
+		for ( Predicate predicate : predicates ) {
+			if ( !isSimple( predicate ) ) {
+				return null;
+			}
+			if ( keyValues == null ) {
+				keyValues = keyValues( predicate, identifierMapping );
+			}
+		}
+		return keyValues == null || keyValues.size() > MAX_KEY_VALUES
+				? null
+				: new JdbcSelectKeyRestriction( (String) persister.getQuerySpaces()[0], keyJavaType, keyValues );
+	}
+
+	/**
+	 * The type of the primary key of the given entity, if changes to rows
+	 * of its table may be tracked by primary key, or {@code null} if they
+	 * may not.
+	 */
+	@SuppressWarnings("unchecked")
+	public static @Nullable JavaType<Object> keyJavaType(EntityPersister persister) {
+		final EntityIdentifierMapping identifierMapping = persister.getIdentifierMapping();
+		if ( identifierMapping instanceof BasicEntityIdentifierMapping basicIdentifierMapping
+				&& !basicIdentifierMapping.isFormula()
+				&& basicIdentifierMapping.getJdbcMapping().getValueConverter() == null
+				&& persister.getQuerySpaces().length == 1 ) {
+			return (JavaType<Object>) basicIdentifierMapping.getJavaType();
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * The partitions of the queried table holding the rows the query is
+	 * restricted to, including the {@linkplain QuerySpacePartition#unknownRows
+	 * unknown rows}, or {@code null} if the bound key values cannot be hashed.
+	 */
+	public QuerySpacePartition @Nullable [] resolvePartitions(
+			JdbcParameterBindings jdbcParameterBindings,
+			SharedSessionContractImplementor session) {
+		final Set<QuerySpacePartition> partitions = new LinkedHashSet<>();
+		partitions.add( QuerySpacePartition.unknownRows( space ) );
+		for ( Expression keyValue : keyValues ) {
+			final Object value;
+			if ( keyValue instanceof Literal literal ) {
+				value = literal.getLiteralValue();
+			}
+			else {
+				final JdbcParameterBinding binding =
+						jdbcParameterBindings == null
+								? null
+								: jdbcParameterBindings.getBinding( (JdbcParameter) keyValue );
+				if ( binding == null ) {
+					return null;
+				}
+				value = binding.getBindValue();
+			}
+			if ( value != null ) {
+				final Integer hashCode = keyHashCode( value, session );
+				if ( hashCode == null ) {
+					return null;
+				}
+				partitions.add( QuerySpacePartition.forKeyHashCode( space, hashCode ) );
+			}
+		}
+		return partitions.toArray( new QuerySpacePartition[0] );
+	}
+
+	private @Nullable Integer keyHashCode(Object value, SharedSessionContractImplementor session) {
+		try {
+			final Object key = keyJavaType.isInstance( value ) ? value : keyJavaType.wrap( value, session );
+			return keyJavaType.extractHashCode( key );
+		}
+		catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static boolean collectConjuncts(@Nullable Predicate predicate, List<Predicate> predicates) {
+		if ( predicate == null ) {
+			return true;
+		}
+		else if ( predicate instanceof Junction junction ) {
+			if ( junction.getNature() != Junction.Nature.CONJUNCTION ) {
+				return false;
+			}
+			for ( Predicate conjunct : junction.getPredicates() ) {
+				if ( !collectConjuncts( conjunct, predicates ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			predicates.add( predicate );
+			return true;
+		}
+	}
+
+	private static boolean isSimple(Predicate predicate) {
+		if ( predicate instanceof ComparisonPredicate comparison ) {
+			return isOperand( comparison.getLeftHandExpression() )
+				&& isOperand( comparison.getRightHandExpression() );
+		}
+		else if ( predicate instanceof InListPredicate inList ) {
+			if ( !isOperand( inList.getTestExpression() ) ) {
+				return false;
+			}
+			for ( Expression expression : inList.getListExpressions() ) {
+				if ( !isOperand( expression ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else if ( predicate instanceof NullnessPredicate nullness ) {
+			return isOperand( nullness.getExpression() );
+		}
+		else if ( predicate instanceof BetweenPredicate between ) {
+			return isOperand( between.getExpression() )
+				&& isOperand( between.getLowerBound() )
+				&& isOperand( between.getUpperBound() );
+		}
+		else if ( predicate instanceof LikePredicate like ) {
+			return isOperand( like.getMatchExpression() )
+				&& isOperand( like.getPattern() )
+				&& ( like.getEscapeCharacter() == null || isOperand( like.getEscapeCharacter() ) );
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static @Nullable List<Expression> keyValues(
+			Predicate predicate,
+			BasicEntityIdentifierMapping identifierMapping) {
+		if ( predicate instanceof ComparisonPredicate comparison
+				&& comparison.getOperator() == ComparisonOperator.EQUAL ) {
+			if ( isKeyColumn( comparison.getLeftHandExpression(), identifierMapping )
+					&& isValue( comparison.getRightHandExpression() ) ) {
+				return List.of( comparison.getRightHandExpression() );
+			}
+			else if ( isKeyColumn( comparison.getRightHandExpression(), identifierMapping )
+					&& isValue( comparison.getLeftHandExpression() ) ) {
+				return List.of( comparison.getLeftHandExpression() );
+			}
+		}
+		else if ( predicate instanceof InListPredicate inList
+				&& !inList.isNegated()
+				&& isKeyColumn( inList.getTestExpression(), identifierMapping ) ) {
+			for ( Expression expression : inList.getListExpressions() ) {
+				if ( !isValue( expression ) ) {
+					return null;
+				}
+			}
+			return inList.getListExpressions();
+		}
+		return null;
+	}
+
+	private static boolean isKeyColumn(Expression expression, BasicEntityIdentifierMapping identifierMapping) {
+		return expression instanceof ColumnReference columnReference
+			&& !columnReference.isColumnExpressionFormula()
+			&& columnReference.getColumnExpression().equals( identifierMapping.getSelectionExpression() );
+	}
+
+	private static boolean isColumn(Expression expression) {
+		return expression instanceof ColumnReference columnReference
+			&& !columnReference.isColumnExpressionFormula();
+	}
+
+	private static boolean isValue(Expression expression) {
+		return expression instanceof JdbcParameter || expression instanceof Literal;
+	}
+
+	private static boolean isOperand(Expression expression) {
+		return isColumn( expression ) || isValue( expression );
+	}
+}
@@ -9,11 +9,14 @@
 
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
+import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ast.AbstractTableInsert;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * @author Steve Ebersole
@@ -51,6 +54,23 @@ public boolean isCallable() {
 		return false;
 	}
 
+	@Override
+	protected JdbcInsertMutation createMutationOperation(
+			TableMapping tableDetails,
+			String sql,
+			List<JdbcParameterBinder> effectiveBinders) {
+		return new JdbcInsertMutation(
+				tableDetails,
+				getMutationTarget(),
+				sql,
+				isCallable(),
+				getExpectation(),
+				effectiveBinders,
+				// the values tuple comes last, unless the dialect renders the returning columns
+				getNumberOfReturningColumns() == 0 && getNumberOfValueBindings() != 0
+		);
+	}
+
 	@Override
 	public void accept(SqlAstWalker walker) {
 		walker.visitStandardTableInsert( this );
@@ -18,6 +18,11 @@
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private static final String VALUES_TUPLE_MARKER = ") values (";
+
+	// The position of the values tuple within the SQL, or -1 if the tuple can't be repeated
+	private final int valuesTupleStart;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?> mutationTarget,
@@ -25,7 +30,67 @@ public JdbcInsertMutation(
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, false );
+	}
+
+	/**
+	 * @param multiRow Whether the SQL ends with a {@code values} tuple, which may be
+	 * repeated to insert several rows
+	 *
+	 * @since 7.0
+	 */
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			boolean multiRow) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		this.valuesTupleStart = multiRow && !callable ? determineValuesTupleStart( sql ) : -1;
+	}
+
+	private static int determineValuesTupleStart(String sql) {
+		// skip the comment, if any
+		final int start = sql.startsWith( "/*" ) ? sql.indexOf( "*/" ) : 0;
+		final int marker = start < 0 ? -1 : sql.indexOf( VALUES_TUPLE_MARKER, start );
+		return marker < 0 || !sql.endsWith( ")" )
+				? -1
+				: marker + VALUES_TUPLE_MARKER.length() - 1;
+	}
+
+	/**
+	 * Whether this insert may be rendered as a {@linkplain #getMultiRowSqlString multi-row insert}.
+	 *
+	 * @since 7.0
+	 */
+	public boolean isMultiRowCapable() {
+		return valuesTupleStart >= 0;
+	}
+
+	/**
+	 * The SQL inserting the given number of rows, with the {@code values} tuple repeated
+	 * for each row. The JDBC parameters of each row follow the parameters of the previous
+	 * row, and so the parameters of row {@code n} start at the position
+	 * {@code n * getParameterBinders().size() + 1}.
+	 *
+	 * @see #isMultiRowCapable()
+	 *
+	 * @since 7.0
+	 */
+	public String getMultiRowSqlString(int rows) {
+		if ( !isMultiRowCapable() ) {
+			throw new UnsupportedOperationException( "Insert can't be rendered as a multi-row insert: " + getSqlString() );
+		}
+		final String sql = getSqlString();
+		final String valuesTuple = sql.substring( valuesTupleStart );
+		final StringBuilder multiRowSql = new StringBuilder( sql.length() + ( valuesTuple.length() + 1 ) * ( rows - 1 ) );
+		multiRowSql.append( sql );
+		for ( int i = 1; i < rows; i++ ) {
+			multiRowSql.append( ',' ).append( valuesTuple );
+		}
+		return multiRowSql.toString();
 	}
 
 	@Override
@@ -52,6 +52,29 @@ public Object extractRawValue(RowProcessingState rowProcessingState) {
 		return rowProcessingState.getJdbcValue( valuesArrayPosition );
 	}
 
+	/**
+	 * The position of the JDBC value in the current row, if the assembled
+	 * value is that JDBC value as is, so that it may be read as a primitive.
+	 *
+	 * @return The position, or {@code -1} if the JDBC value is converted
+	 *
+	 * @see RowProcessingState#getJdbcLongValue(int)
+	 * @see #isUnwrapRowProcessingState()
+	 */
+	@Internal
+	public int getUnconvertedValuesArrayPosition() {
+		return valueConverter == null ? valuesArrayPosition : -1;
+	}
+
+	/**
+	 * Whether the JDBC value is read from the {@linkplain RowProcessingState#unwrap unwrapped}
+	 * row processing state.
+	 */
+	@Internal
+	public boolean isUnwrapRowProcessingState() {
+		return unwrapRowProcessingState;
+	}
+
 	@Override
 	public J assemble(
 			RowProcessingState rowProcessingState) {
@@ -24,6 +24,12 @@ public CoercingResultAssembler(
 		super( valuesArrayPosition, assembledJavaType, valueConverter, nestedInAggregateComponent );
 	}
 
+	@Override
+	public int getUnconvertedValuesArrayPosition() {
+		// the JDBC value is coerced
+		return -1;
+	}
+
 	/**
 	 * Access to the row value, coerced to expected type
 	 */
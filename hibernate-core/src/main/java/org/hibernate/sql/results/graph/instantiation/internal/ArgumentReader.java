@@ -32,6 +32,10 @@ public String getAlias() {
 		return alias;
 	}
 
+	public DomainResultAssembler<A> getDelegateAssembler() {
+		return delegateAssembler;
+	}
+
 	@Override
 	public @Nullable A assemble(RowProcessingState rowProcessingState) {
 		return delegateAssembler.assemble( rowProcessingState );
@@ -0,0 +1,235 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.graph.instantiation.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Invokes a constructor with arguments read from the current row, passing the
+ * unconverted JDBC values of basic types to primitive parameters without boxing
+ * them, by reading them via the primitive accessors of {@link RowProcessingState},
+ * such as {@link RowProcessingState#getJdbcLongValue(int)}.
+ * <p>
+ * The arguments of other parameters are {@linkplain DomainResultAssembler#assemble
+ * assembled} as usual.
+ *
+ * @see DynamicInstantiationAssemblerConstructorImpl
+ * @see org.hibernate.sql.results.internal.RowTransformerConstructorImpl
+ */
+public final class ConstructorInvoker<R> {
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodHandle ASSEMBLE;
+	private static final MethodHandle READ_LONG;
+	private static final MethodHandle READ_INT;
+	private static final MethodHandle READ_DOUBLE;
+	private static final MethodHandle READ_BOOLEAN;
+
+	static {
+		try {
+			ASSEMBLE = LOOKUP.findVirtual( DomainResultAssembler.class, "assemble",
+					methodType( Object.class, RowProcessingState.class ) );
+			READ_LONG = LOOKUP.findStatic( ConstructorInvoker.class, "readLong",
+					methodType( long.class, int.class, boolean.class, RowProcessingState.class ) );
+			READ_INT = LOOKUP.findStatic( ConstructorInvoker.class, "readInt",
+					methodType( int.class, int.class, boolean.class, RowProcessingState.class ) );
+			READ_DOUBLE = LOOKUP.findStatic( ConstructorInvoker.class, "readDouble",
+					methodType( double.class, int.class, boolean.class, RowProcessingState.class ) );
+			READ_BOOLEAN = LOOKUP.findStatic( ConstructorInvoker.class, "readBoolean",
+					methodType( boolean.class, int.class, boolean.class, RowProcessingState.class ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	private final Class<R> resultClass;
+	// (RowProcessingState)Object
+	private final MethodHandle invoker;
+
+	private ConstructorInvoker(Class<R> resultClass, MethodHandle invoker) {
+		this.resultClass = resultClass;
+		this.invoker = invoker;
+	}
+
+	/**
+	 * Create an invoker for the given constructor, with the arguments assembled by the
+	 * given assemblers, if the value of any primitive parameter may be read without
+	 * boxing it.
+	 *
+	 * @param constructor An {@linkplain Constructor#setAccessible accessible} constructor
+	 *
+	 * @return The invoker, or {@code null} if there is no benefit over reflection
+	 */
+	public static <R> @Nullable ConstructorInvoker<R> create(
+			Constructor<R> constructor,
+			List<? extends DomainResultAssembler<?>> argumentAssemblers) {
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		if ( parameterTypes.length != argumentAssemblers.size() ) {
+			return null;
+		}
+
+		final MethodHandle[] argumentReaders = new MethodHandle[parameterTypes.length];
+		boolean readsPrimitives = false;
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			final MethodHandle primitiveReader =
+					primitiveReader( parameterTypes[i], argumentAssemblers.get( i ) );
+			if ( primitiveReader != null ) {
+				argumentReaders[i] = primitiveReader;
+				readsPrimitives = true;
+			}
+			else {
+				// unboxes the assembled value of a primitive parameter,
+				// applying the same conversions as reflection
+				argumentReaders[i] = ASSEMBLE.bindTo( argumentAssemblers.get( i ) )
+						.asType( methodType( parameterTypes[i], RowProcessingState.class ) );
+			}
+		}
+		if ( !readsPrimitives ) {
+			return null;
+		}
+
+		final MethodHandle target;
+		try {
+			target = LOOKUP.unreflectConstructor( constructor );
+		}
+		catch (IllegalAccessException e) {
+			return null;
+		}
+		// (RowProcessingState, ..., RowProcessingState)R -> (RowProcessingState)Object
+		final MethodHandle invoker = MethodHandles.permuteArguments(
+				MethodHandles.filterArguments( target, 0, argumentReaders ),
+				methodType( constructor.getDeclaringClass(), RowProcessingState.class ),
+				new int[parameterTypes.length]
+		).asType( methodType( Object.class, RowProcessingState.class ) );
+		return new ConstructorInvoker<>( constructor.getDeclaringClass(), invoker );
+	}
+
+	private static @Nullable MethodHandle primitiveReader(Class<?> parameterType, DomainResultAssembler<?> assembler) {
+		if ( !parameterType.isPrimitive() ) {
+			return null;
+		}
+		final DomainResultAssembler<?> delegate = assembler instanceof ArgumentReader<?> argumentReader
+				? argumentReader.getDelegateAssembler()
+				: assembler;
+		if ( delegate instanceof BasicResultAssembler<?> basicResultAssembler ) {
+			final int position = basicResultAssembler.getUnconvertedValuesArrayPosition();
+			if ( position >= 0 ) {
+				final MethodHandle reader = primitiveReader(
+						parameterType,
+						basicResultAssembler.getAssembledJavaType().getJavaTypeClass()
+				);
+				return reader == null
+						? null
+						: MethodHandles.insertArguments( reader, 0, position, basicResultAssembler.isUnwrapRowProcessingState() );
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The reader for a parameter of the given type, if a value of the given
+	 * type may be passed to it by identity or by a widening conversion.
+	 */
+	private static @Nullable MethodHandle primitiveReader(Class<?> parameterType, Class<?> valueType) {
+		if ( parameterType == long.class ) {
+			return valueType == Long.class || isIntValue( valueType ) ? READ_LONG : null;
+		}
+		else if ( parameterType == int.class ) {
+			return isIntValue( valueType ) ? READ_INT : null;
+		}
+		else if ( parameterType == double.class ) {
+			return valueType == Double.class || valueType == Float.class
+					|| valueType == Long.class || isIntValue( valueType )
+					? READ_DOUBLE
+					: null;
+		}
+		else if ( parameterType == boolean.class ) {
+			return valueType == Boolean.class ? READ_BOOLEAN : null;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static boolean isIntValue(Class<?> valueType) {
+		return valueType == Integer.class || valueType == Short.class || valueType == Byte.class;
+	}
+
+	private static long readLong(int position, boolean unwrap, RowProcessingState rowProcessingState) {
+		if ( unwrap ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		final long value = rowProcessingState.getJdbcLongValue( position );
+		if ( value == 0L && rowProcessingState.isJdbcValueNull( position ) ) {
+			throw nullArgument( position );
+		}
+		return value;
+	}
+
+	private static int readInt(int position, boolean unwrap, RowProcessingState rowProcessingState) {
+		if ( unwrap ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		final int value = rowProcessingState.getJdbcIntValue( position );
+		if ( value == 0 && rowProcessingState.isJdbcValueNull( position ) ) {
+			throw nullArgument( position );
+		}
+		return value;
+	}
+
+	private static double readDouble(int position, boolean unwrap, RowProcessingState rowProcessingState) {
+		if ( unwrap ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		final double value = rowProcessingState.getJdbcDoubleValue( position );
+		if ( value == 0d && rowProcessingState.isJdbcValueNull( position ) ) {
+			throw nullArgument( position );
+		}
+		return value;
+	}
+
+	private static boolean readBoolean(int position, boolean unwrap, RowProcessingState rowProcessingState) {
+		if ( unwrap ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		final boolean value = rowProcessingState.getJdbcBooleanValue( position );
+		if ( !value && rowProcessingState.isJdbcValueNull( position ) ) {
+			throw nullArgument( position );
+		}
+		return value;
+	}
+
+	private static IllegalArgumentException nullArgument(int position) {
+		return new IllegalArgumentException( "Null value at position " + position + " for a primitive parameter" );
+	}
+
+	public Class<R> getResultClass() {
+		return resultClass;
+	}
+
+	/**
+	 * Invoke the constructor with the arguments read from the current row.
+	 *
+	 * @throws Throwable Any exception thrown while reading the arguments, or by the constructor
+	 */
+	public R invoke(RowProcessingState rowProcessingState) throws Throwable {
+		final Object result = invoker.invokeExact( rowProcessingState );
+		//noinspection unchecked
+		return (R) result;
+	}
+}
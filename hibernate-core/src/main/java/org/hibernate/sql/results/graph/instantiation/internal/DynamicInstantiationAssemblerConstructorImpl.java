@@ -9,12 +9,15 @@
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hibernate.HibernateException;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Steve Ebersole
  */
@@ -22,6 +25,7 @@
 	private final Constructor<R> targetConstructor;
 	private final JavaType<R> resultType;
 	private final List<ArgumentReader<?>> argumentReaders;
+	private final @Nullable ConstructorInvoker<R> constructorInvoker;
 
 	public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
@@ -30,6 +34,7 @@ public DynamicInstantiationAssemblerConstructorImpl(
 		this.targetConstructor = targetConstructor;
 		this.resultType = resultType;
 		this.argumentReaders = argumentReaders;
+		this.constructorInvoker = ConstructorInvoker.create( targetConstructor, argumentReaders );
 	}
 
 	@Override
@@ -39,6 +44,20 @@ public JavaType<R> getAssembledJavaType() {
 
 	@Override
 	public R assemble(RowProcessingState rowProcessingState) {
+		if ( constructorInvoker != null ) {
+			try {
+				return constructorInvoker.invoke( rowProcessingState );
+			}
+			catch (HibernateException e) {
+				// thrown while assembling an argument
+				throw e;
+			}
+			catch (Throwable e) {
+				throw new InstantiationException( "Error instantiating class '"
+						+ targetConstructor.getDeclaringClass().getName() + "'", e );
+			}
+		}
+
 		final int numberOfArgs = argumentReaders.size();
 		Object[] args = new Object[ numberOfArgs ];
 		for ( int i = 0; i < numberOfArgs; i++ ) {
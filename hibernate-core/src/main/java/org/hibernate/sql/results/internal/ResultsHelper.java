@@ -24,6 +24,7 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingResolutionImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
@@ -53,6 +54,15 @@ public static <R> RowReader<R> createRowReader(
 			Class<R> transformedResultJavaType,
 			JdbcValuesMapping jdbcValuesMapping) {
 		final JdbcValuesMappingResolution jdbcValuesMappingResolution = jdbcValuesMapping.resolveAssemblers( sessionFactory );
+		if ( sessionFactory.getSessionFactoryOptions().isCompiledRowReadersEnabled()
+				&& jdbcValuesMappingResolution instanceof JdbcValuesMappingResolutionImpl resolution ) {
+			return RowReaderCompiler.createRowReader(
+					sessionFactory,
+					resolution,
+					rowTransformer,
+					transformedResultJavaType
+			);
+		}
 		return new StandardRowReader<>(
 				jdbcValuesMappingResolution,
 				rowTransformer,
@@ -37,6 +37,8 @@ public class RowProcessingStateStandardImpl extends BaseExecutionContext impleme
 
 	private final InitializerData[] initializerData;
 
+	private int processedRowCount;
+
 	public RowProcessingStateStandardImpl(
 			JdbcValuesSourceProcessingStateStandardImpl resultSetProcessingState,
 			ExecutionContext executionContext,
@@ -94,7 +96,20 @@ public RowReader<?> getRowReader() {
 	}
 
 	public boolean next() {
-		return jdbcValues.next( this );
+		if ( jdbcValues.next( this ) ) {
+			processedRowCount++;
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * The number of rows read by {@link #next()}.
+	 */
+	public int getProcessedRowCount() {
+		return processedRowCount;
 	}
 
 	public boolean previous() {
@@ -150,6 +165,31 @@ public Object getJdbcValue(int position) {
 		return jdbcValues.getCurrentRowValue( position );
 	}
 
+	@Override
+	public long getJdbcLongValue(int position) {
+		return jdbcValues.getCurrentRowLongValue( position );
+	}
+
+	@Override
+	public int getJdbcIntValue(int position) {
+		return jdbcValues.getCurrentRowIntValue( position );
+	}
+
+	@Override
+	public double getJdbcDoubleValue(int position) {
+		return jdbcValues.getCurrentRowDoubleValue( position );
+	}
+
+	@Override
+	public boolean getJdbcBooleanValue(int position) {
+		return jdbcValues.getCurrentRowBooleanValue( position );
+	}
+
+	@Override
+	public boolean isJdbcValueNull(int position) {
+		return jdbcValues.isCurrentRowValueNull( position );
+	}
+
 	@Override
 	public void registerNonExists(EntityFetch fetch) {
 	}
@@ -0,0 +1,383 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.internal;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.build.AllowReflection;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingResolutionImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hibernate.sql.results.ResultsLogger.RESULTS_LOGGER;
+
+/**
+ * Generates, for a {@link JdbcValuesMappingResolution}, a subclass of {@link StandardRowReader}
+ * in which the loops over the initializers and result assemblers are unrolled.
+ * <p>
+ * In the {@code StandardRowReader}, each of these loops has a single call site which
+ * dispatches to every kind of initializer or assembler used by any query, so the JIT
+ * compiler can't inline the calls. In the generated class, each initializer and assembler
+ * of the result gets its own call site, which is usually monomorphic.
+ * <p>
+ * A class is generated only once the same resolution has been used to create a number of
+ * row readers, since the resolution of a mapping which is not cached is used just once.
+ *
+ * @see org.hibernate.cfg.QuerySettings#COMPILED_ROW_READERS_ENABLED
+ */
+final class RowReaderCompiler {
+	private static final String NAMING_SUFFIX = "HibernateRowReader";
+
+	/**
+	 * The number of row readers to create for a resolution before generating its class.
+	 */
+	static final int COMPILE_THRESHOLD = 10;
+
+	/**
+	 * The maximum length of an unrolled loop, which keeps the generated methods
+	 * well within the limit on the size of a method.
+	 */
+	private static final int MAX_UNROLLED_LENGTH = 256;
+
+	private static final String OWNER = Type.getInternalName( StandardRowReader.class );
+	private static final String INITIALIZER = Type.getInternalName( Initializer.class );
+	private static final String INITIALIZER_DATA = Type.getInternalName( InitializerData.class );
+	private static final String STATE = Type.getInternalName( Initializer.State.class );
+	private static final String ASSEMBLER = Type.getInternalName( DomainResultAssembler.class );
+	private static final String INITIALIZER_ARRAY_DESCRIPTOR = Type.getDescriptor( Initializer[].class );
+	private static final String INITIALIZER_DATA_ARRAY_DESCRIPTOR = Type.getDescriptor( InitializerData[].class );
+	private static final String ASSEMBLER_ARRAY_DESCRIPTOR = Type.getDescriptor( DomainResultAssembler[].class );
+	private static final String STATE_DESCRIPTOR = Type.getDescriptor( Initializer.State.class );
+	private static final String INITIALIZER_METHOD_DESCRIPTOR =
+			Type.getMethodDescriptor( Type.VOID_TYPE, Type.getType( InitializerData.class ) );
+
+	private static final Class<?>[] CONSTRUCTOR_PARAMETER_TYPES = {
+			JdbcValuesMappingResolution.class,
+			RowTransformer.class,
+			Class.class
+	};
+
+	private RowReaderCompiler() {
+	}
+
+	@AllowReflection
+	static <T> RowReader<T> createRowReader(
+			SessionFactoryImplementor sessionFactory,
+			JdbcValuesMappingResolutionImpl resolution,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType) {
+		Constructor<?> constructor = resolution.getRowReaderConstructor();
+		if ( constructor == null ) {
+			if ( resolution.incrementRowReaderCount() < COMPILE_THRESHOLD ) {
+				return new StandardRowReader<>( resolution, rowTransformer, domainResultJavaType );
+			}
+			constructor = compile( sessionFactory, resolution );
+			resolution.setRowReaderConstructor( constructor );
+		}
+		try {
+			//noinspection unchecked
+			return (RowReader<T>) constructor.newInstance( resolution, rowTransformer, domainResultJavaType );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new HibernateException( "Unable to instantiate row reader", e );
+		}
+	}
+
+	@AllowReflection
+	private static Constructor<?> compile(
+			SessionFactoryImplementor sessionFactory,
+			JdbcValuesMappingResolution resolution) {
+		final BytecodeProvider bytecodeProvider =
+				sessionFactory.getServiceRegistry().getService( BytecodeProvider.class );
+		try {
+			if ( bytecodeProvider instanceof BytecodeProviderImpl byteBuddyBytecodeProvider
+					&& canUnroll( resolution ) ) {
+				return byteBuddyBytecodeProvider.getByteBuddyState()
+						.load( StandardRowReader.class, byteBuddy -> byteBuddy
+								.with( new NamingStrategy.SuffixingRandom(
+										NAMING_SUFFIX,
+										new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue(
+												StandardRowReader.class.getName()
+										)
+								) )
+								.subclass( StandardRowReader.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS )
+								.method( named( "coordinateInitializers" ) )
+								.intercept( new Implementation.Simple( new CoordinateInitializers( resolution ) ) )
+								.method( named( "finishUpRow" ) )
+								.intercept( new Implementation.Simple( new FinishUpRow( resolution ) ) )
+								.method( named( "assembleResult" ) )
+								.intercept( new Implementation.Simple( new AssembleResult( resolution ) ) )
+								.method( named( "assembleResultRow" ) )
+								.intercept( new Implementation.Simple( new AssembleResultRow( resolution ) ) )
+						)
+						.getConstructor( CONSTRUCTOR_PARAMETER_TYPES );
+			}
+			RESULTS_LOGGER.debug( "Row reader not generated, using StandardRowReader" );
+		}
+		catch (RuntimeException | ReflectiveOperationException e) {
+			RESULTS_LOGGER.debugf( e, "Unable to generate row reader, using StandardRowReader" );
+		}
+		try {
+			return StandardRowReader.class.getConstructor( CONSTRUCTOR_PARAMETER_TYPES );
+		}
+		catch (NoSuchMethodException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	private static boolean canUnroll(JdbcValuesMappingResolution resolution) {
+		return resolution.getDomainResultAssemblers().length <= MAX_UNROLLED_LENGTH
+			&& resolution.getResultInitializers().length <= MAX_UNROLLED_LENGTH
+			&& resolution.getSortedForResolveInstance().length <= MAX_UNROLLED_LENGTH
+			&& resolution.getInitializers().length <= MAX_UNROLLED_LENGTH;
+	}
+
+	private static void pushIndex(MethodVisitor methodVisitor, int index) {
+		if ( index <= 5 ) {
+			methodVisitor.visitInsn( Opcodes.ICONST_0 + index );
+		}
+		else if ( index <= Byte.MAX_VALUE ) {
+			methodVisitor.visitIntInsn( Opcodes.BIPUSH, index );
+		}
+		else {
+			methodVisitor.visitIntInsn( Opcodes.SIPUSH, index );
+		}
+	}
+
+	/**
+	 * Push the element at the given index of an array field of the {@link StandardRowReader}.
+	 */
+	private static void loadElement(MethodVisitor methodVisitor, String field, String descriptor, int index) {
+		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+		methodVisitor.visitFieldInsn( Opcodes.GETFIELD, OWNER, field, descriptor );
+		pushIndex( methodVisitor, index );
+		methodVisitor.visitInsn( Opcodes.AALOAD );
+	}
+
+	/**
+	 * Unrolled {@link StandardRowReader#coordinateInitializers(RowProcessingState)}.
+	 */
+	private static class CoordinateInitializers implements ByteCodeAppender {
+		private final int resultInitializerCount;
+		private final int sortedForResolveInstanceCount;
+		private final int initializerCount;
+
+		private CoordinateInitializers(JdbcValuesMappingResolution resolution) {
+			this.resultInitializerCount = resolution.getResultInitializers().length;
+			this.sortedForResolveInstanceCount = resolution.getSortedForResolveInstance().length;
+			this.initializerCount = resolution.getInitializers().length;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < resultInitializerCount; i++ ) {
+				loadElement( methodVisitor, "resultInitializers", INITIALIZER_ARRAY_DESCRIPTOR, i );
+				loadElement( methodVisitor, "resultInitializersData", INITIALIZER_DATA_ARRAY_DESCRIPTOR, i );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEINTERFACE,
+						INITIALIZER,
+						"resolveKey",
+						INITIALIZER_METHOD_DESCRIPTOR,
+						true
+				);
+			}
+			for ( int i = 0; i < sortedForResolveInstanceCount; i++ ) {
+				visitIfState(
+						methodVisitor,
+						implementationContext,
+						"sortedForResolveInstance",
+						"sortedForResolveInstanceData",
+						i,
+						Initializer.State.KEY_RESOLVED,
+						"resolveInstance"
+				);
+			}
+			for ( int i = 0; i < initializerCount; i++ ) {
+				visitIfState(
+						methodVisitor,
+						implementationContext,
+						"initializers",
+						"initializersData",
+						i,
+						Initializer.State.RESOLVED,
+						"initializeInstance"
+				);
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 3, instrumentedMethod.getStackSize() );
+		}
+
+		/**
+		 * Call the given method of an initializer if its data is in the given state.
+		 */
+		private static void visitIfState(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				String initializersField,
+				String dataField,
+				int index,
+				Initializer.State state,
+				String methodName) {
+			final Label skip = new Label();
+			loadElement( methodVisitor, dataField, INITIALIZER_DATA_ARRAY_DESCRIPTOR, index );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					INITIALIZER_DATA,
+					"getState",
+					Type.getMethodDescriptor( Type.getType( Initializer.State.class ) ),
+					false
+			);
+			methodVisitor.visitFieldInsn( Opcodes.GETSTATIC, STATE, state.name(), STATE_DESCRIPTOR );
+			methodVisitor.visitJumpInsn( Opcodes.IF_ACMPNE, skip );
+			loadElement( methodVisitor, initializersField, INITIALIZER_ARRAY_DESCRIPTOR, index );
+			loadElement( methodVisitor, dataField, INITIALIZER_DATA_ARRAY_DESCRIPTOR, index );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEINTERFACE,
+					INITIALIZER,
+					methodName,
+					INITIALIZER_METHOD_DESCRIPTOR,
+					true
+			);
+			methodVisitor.visitLabel( skip );
+			implementationContext.getFrameGeneration().full(
+					methodVisitor,
+					Collections.emptyList(),
+					Arrays.asList(
+							implementationContext.getInstrumentedType(),
+							TypeDescription.ForLoadedType.of( RowProcessingState.class )
+					)
+			);
+		}
+	}
+
+	/**
+	 * Unrolled {@link StandardRowReader#finishUpRow()}.
+	 */
+	private static class FinishUpRow implements ByteCodeAppender {
+		private final int initializerCount;
+
+		private FinishUpRow(JdbcValuesMappingResolution resolution) {
+			this.initializerCount = resolution.getInitializers().length;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < initializerCount; i++ ) {
+				loadElement( methodVisitor, "initializersData", INITIALIZER_DATA_ARRAY_DESCRIPTOR, i );
+				methodVisitor.visitFieldInsn(
+						Opcodes.GETSTATIC,
+						STATE,
+						Initializer.State.UNINITIALIZED.name(),
+						STATE_DESCRIPTOR
+				);
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEVIRTUAL,
+						INITIALIZER_DATA,
+						"setState",
+						Type.getMethodDescriptor( Type.VOID_TYPE, Type.getType( Initializer.State.class ) ),
+						false
+				);
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 2, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	/**
+	 * {@link StandardRowReader#assembleResult(RowProcessingState)}, which is only
+	 * called when there is a single result assembler.
+	 */
+	private static class AssembleResult implements ByteCodeAppender {
+		private final boolean hasResultAssembler;
+
+		private AssembleResult(JdbcValuesMappingResolution resolution) {
+			this.hasResultAssembler = resolution.getDomainResultAssemblers().length > 0;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			if ( hasResultAssembler ) {
+				loadElement( methodVisitor, "resultAssemblers", ASSEMBLER_ARRAY_DESCRIPTOR, 0 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				visitAssemble( methodVisitor );
+			}
+			else {
+				methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 2, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	/**
+	 * Unrolled {@link StandardRowReader#assembleResultRow(Object[], RowProcessingState)}.
+	 */
+	private static class AssembleResultRow implements ByteCodeAppender {
+		private final int resultAssemblerCount;
+
+		private AssembleResultRow(JdbcValuesMappingResolution resolution) {
+			this.resultAssemblerCount = resolution.getDomainResultAssemblers().length;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < resultAssemblerCount; i++ ) {
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				pushIndex( methodVisitor, i );
+				loadElement( methodVisitor, "resultAssemblers", ASSEMBLER_ARRAY_DESCRIPTOR, i );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				visitAssemble( methodVisitor );
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static void visitAssemble(MethodVisitor methodVisitor) {
+		methodVisitor.visitMethodInsn(
+				Opcodes.INVOKEINTERFACE,
+				ASSEMBLER,
+				"assemble",
+				Type.getMethodDescriptor( Type.getType( Object.class ), Type.getType( RowProcessingState.class ) ),
+				true
+		);
+	}
+}
@@ -59,6 +59,10 @@ private static Class<?> resolveElementJavaType(TupleElement<?> element) {
 		return element.getJavaType();
 	}
 
+	public Constructor<T> getConstructor() {
+		return constructor;
+	}
+
 	@Override
 	public T transformRow(Object[] row) {
 		try {
@@ -6,14 +6,18 @@
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.hibernate.HibernateException;
+import org.hibernate.InstantiationException;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.internal.build.AllowReflection;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.InitializerData;
 import org.hibernate.sql.results.graph.entity.EntityInitializer;
+import org.hibernate.sql.results.graph.instantiation.internal.ConstructorInvoker;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.sql.results.spi.RowReader;
@@ -27,15 +31,18 @@
  */
 @SuppressWarnings("rawtypes")
 public class StandardRowReader<T> implements RowReader<T> {
-	private final DomainResultAssembler<?>[] resultAssemblers;
-	private final Initializer<InitializerData>[] resultInitializers;
-	private final InitializerData[] resultInitializersData;
-	private final Initializer<InitializerData>[] initializers;
-	private final InitializerData[] initializersData;
-	private final Initializer<InitializerData>[] sortedForResolveInstance;
-	private final InitializerData[] sortedForResolveInstanceData;
+	// package-private for the subclasses generated by RowReaderCompiler
+	final DomainResultAssembler<?>[] resultAssemblers;
+	final Initializer<InitializerData>[] resultInitializers;
+	final InitializerData[] resultInitializersData;
+	final Initializer<InitializerData>[] initializers;
+	final InitializerData[] initializersData;
+	final Initializer<InitializerData>[] sortedForResolveInstance;
+	final InitializerData[] sortedForResolveInstanceData;
 	private final boolean hasCollectionInitializers;
 	private final @Nullable RowTransformer<T> rowTransformer;
+	// instantiates the result directly from the current row, instead of the rowTransformer
+	private final @Nullable ConstructorInvoker<T> constructorInvoker;
 	private final Class<T> domainResultJavaType;
 
 	private final ComponentType componentType;
@@ -91,6 +98,10 @@ public StandardRowReader(
 			this.resultElementClass = domainResultJavaType.getComponentType();
 			this.componentType = ComponentType.determineComponentType( domainResultJavaType );
 		}
+		this.constructorInvoker = componentType == ComponentType.OBJECT
+				&& this.rowTransformer instanceof RowTransformerConstructorImpl<T> constructorTransformer
+				? ConstructorInvoker.create( constructorTransformer.getConstructor(), Arrays.asList( resultAssemblers ) )
+				: null;
 	}
 
 	@Override
@@ -140,15 +151,16 @@ public T readRow(RowProcessingState rowProcessingState) {
 			result = readPrimitiveRow( rowProcessingState );
 		}
 		else {
-			if ( resultAssemblers.length == 1 && rowTransformer == null ) {
+			if ( constructorInvoker != null ) {
+				result = instantiate( rowProcessingState );
+			}
+			else if ( resultAssemblers.length == 1 && rowTransformer == null ) {
 				//noinspection unchecked
-				result = (T) resultAssemblers[0].assemble( rowProcessingState );
+				result = (T) assembleResult( rowProcessingState );
 			}
 			else {
 				final Object[] resultRow = (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
-				for ( int i = 0; i < resultAssemblers.length; i++ ) {
-					resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
-				}
+				assembleResultRow( resultRow, rowProcessingState );
 				//noinspection unchecked
 				result = rowTransformer == null
 						? (T) resultRow
@@ -160,6 +172,32 @@ public T readRow(RowProcessingState rowProcessingState) {
 		return result;
 	}
 
+	// these methods, finishUpRow() and coordinateInitializers() are overridden
+	// by the subclasses generated by RowReaderCompiler
+	@Nullable Object assembleResult(RowProcessingState rowProcessingState) {
+		return resultAssemblers[0].assemble( rowProcessingState );
+	}
+
+	void assembleResultRow(Object[] resultRow, RowProcessingState rowProcessingState) {
+		for ( int i = 0; i < resultAssemblers.length; i++ ) {
+			resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
+		}
+	}
+
+	private T instantiate(RowProcessingState rowProcessingState) {
+		try {
+			return constructorInvoker.invoke( rowProcessingState );
+		}
+		catch (HibernateException e) {
+			// thrown while assembling an argument
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new InstantiationException( "Cannot instantiate query result type",
+					constructorInvoker.getResultClass(), e );
+		}
+	}
+
 	private T readPrimitiveRow(RowProcessingState rowProcessingState) {
 		// The following is ugly, but unfortunately necessary to not hurt performance.
 		// This implementation was micro-benchmarked and discussed with Francesco Nigro,
@@ -219,13 +257,13 @@ private T readPrimitiveRow(RowProcessingState rowProcessingState) {
 		}
 	}
 
-	private void finishUpRow() {
+	void finishUpRow() {
 		for ( InitializerData data : initializersData ) {
 			data.setState( Initializer.State.UNINITIALIZED );
 		}
 	}
 
-	private void coordinateInitializers(RowProcessingState rowProcessingState) {
+	void coordinateInitializers(RowProcessingState rowProcessingState) {
 		for ( int i = 0; i < resultInitializers.length; i++ ) {
 			resultInitializers[i].resolveKey( resultInitializersData[i] );
 		}
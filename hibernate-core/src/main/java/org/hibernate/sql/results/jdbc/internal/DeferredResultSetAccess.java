@@ -41,6 +41,13 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			DeferredResultSetAccess.class
 	);
 
+	/**
+	 * The fetch size applied to the statement of a query whose results
+	 * are {@linkplain QueryOptions#isDetachStreamedResults detached}
+	 * once consumed, if no fetch size was specified.
+	 */
+	public static final int DEFAULT_DETACHED_RESULTS_FETCH_SIZE = 100;
+
 	private final JdbcOperationQuerySelect jdbcSelect;
 	private final JdbcParameterBindings jdbcParameterBindings;
 	private final ExecutionContext executionContext;
@@ -195,6 +202,11 @@ protected void bindParameters(PreparedStatement preparedStatement) throws SQLExc
 			if ( queryOptions.getFetchSize() != null ) {
 				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
+			else if ( queryOptions.isDetachStreamedResults() && preparedStatement.getFetchSize() == 0 ) {
+				// read ahead a bounded number of rows, instead of letting
+				// the driver decide, which often means reading all of them
+				preparedStatement.setFetchSize( DEFAULT_DETACHED_RESULTS_FETCH_SIZE );
+			}
 			if ( queryOptions.getTimeout() != null ) {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
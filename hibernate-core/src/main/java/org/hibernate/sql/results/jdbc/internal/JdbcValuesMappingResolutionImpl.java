@@ -4,6 +4,7 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.lang.reflect.Constructor;
 import java.util.LinkedHashSet;
 
 import org.hibernate.sql.results.graph.DomainResultAssembler;
@@ -11,6 +12,8 @@
 import org.hibernate.sql.results.internal.InitializersList;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolution {
 
 	private final DomainResultAssembler<?>[] domainResultAssemblers;
@@ -18,6 +21,10 @@ public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolut
 	private final boolean hasCollectionInitializers;
 	private final InitializersList initializersList;
 
+	// used by RowReaderCompiler; the count is only a heuristic, so is updated racily
+	private int rowReaderCount;
+	private volatile @Nullable Constructor<?> rowReaderConstructor;
+
 	public JdbcValuesMappingResolutionImpl(
 			DomainResultAssembler<?>[] domainResultAssemblers,
 			boolean hasCollectionInitializers,
@@ -69,4 +76,23 @@ public Initializer<?>[] getSortedForResolveInstance() {
 		return initializersList.getSortedForResolveInstance();
 	}
 
+	/**
+	 * Register the creation of a row reader for this resolution.
+	 *
+	 * @return the approximate number of row readers created so far
+	 */
+	public int incrementRowReaderCount() {
+		return ++rowReaderCount;
+	}
+
+	/**
+	 * The constructor of the row reader class generated for this resolution, if any.
+	 */
+	public @Nullable Constructor<?> getRowReaderConstructor() {
+		return rowReaderConstructor;
+	}
+
+	public void setRowReaderConstructor(Constructor<?> rowReaderConstructor) {
+		this.rowReaderConstructor = rowReaderConstructor;
+	}
 }
@@ -0,0 +1,235 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.jdbc.AggregateJdbcType;
+import org.hibernate.type.descriptor.jdbc.ArrayJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.internal.UserTypeJdbcTypeAdapter;
+
+/**
+ * An {@link AbstractJdbcValues} implementation for rows which were read from a JDBC
+ * {@link ResultSet} ahead of time, possibly by a different thread and over a different
+ * connection than the ones of the session which processes them.
+ * <p>
+ * Unlike a {@link JdbcValuesCacheHit}, every value of every row is kept, at the
+ * {@linkplain SqlSelection#getValuesArrayPosition() position} of its selection.
+ */
+public class JdbcValuesPrefetched extends AbstractJdbcValues {
+	private List<Object[]> rows;
+	private final int numberOfRows;
+	private final JdbcValuesMapping resolvedMapping;
+	private int position = -1;
+
+	public JdbcValuesPrefetched(List<Object[]> rows, JdbcValuesMapping resolvedMapping) {
+		this.rows = rows;
+		this.numberOfRows = rows.size();
+		this.resolvedMapping = resolvedMapping;
+	}
+
+	/**
+	 * Read all the rows of the given {@link ResultSet}.
+	 * <p>
+	 * The values are extracted using only the given {@link WrapperOptions},
+	 * so this may be called by a thread other than the one of the session,
+	 * when they do not depend on the session.
+	 */
+	public static JdbcValuesPrefetched read(
+			ResultSet resultSet,
+			JdbcValuesMapping resolvedMapping,
+			WrapperOptions options) throws SQLException {
+		final int rowSize = resolvedMapping.getRowSize();
+		final SqlSelection[] sqlSelections = new SqlSelection[rowSize];
+		for ( SqlSelection selection : resolvedMapping.getSqlSelections() ) {
+			sqlSelections[selection.getValuesArrayPosition()] = selection;
+		}
+		final List<Object[]> rows = new ArrayList<>();
+		while ( resultSet.next() ) {
+			final Object[] row = new Object[rowSize];
+			for ( int i = 0; i < rowSize; i++ ) {
+				final SqlSelection sqlSelection = sqlSelections[i];
+				if ( sqlSelection != null ) {
+					row[i] = sqlSelection.getJdbcValueExtractor()
+							.extract( resultSet, sqlSelection.getJdbcResultSetIndex(), options );
+				}
+			}
+			rows.add( row );
+		}
+		return new JdbcValuesPrefetched( rows, resolvedMapping );
+	}
+
+	/**
+	 * Whether the values of the given mapping may be read without the session, and
+	 * remain usable once the connection they were read from has been released.
+	 */
+	public static boolean canBePrefetched(JdbcValuesMapping resolvedMapping) {
+		for ( SqlSelection selection : resolvedMapping.getSqlSelections() ) {
+			final JdbcMappingContainer expressionType = selection.getExpressionType();
+			if ( expressionType != null ) {
+				for ( int i = 0; i < expressionType.getJdbcTypeCount(); i++ ) {
+					if ( !canBePrefetched( expressionType.getJdbcMapping( i ) ) ) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * LOB locators are not usable once the connection was released, while the values
+	 * of user types, arrays, structs and XML may need the session to be extracted.
+	 */
+	private static boolean canBePrefetched(JdbcMapping jdbcMapping) {
+		final Class<?> javaTypeClass = jdbcMapping.getJdbcJavaType().getJavaTypeClass();
+		final JdbcType jdbcType = jdbcMapping.getJdbcType();
+		final int sqlTypeCode = jdbcType.getDefaultSqlTypeCode();
+		return !Blob.class.isAssignableFrom( javaTypeClass )
+			&& !Clob.class.isAssignableFrom( javaTypeClass )
+			&& !( jdbcMapping instanceof CustomType<?> )
+			&& !( jdbcType instanceof UserTypeJdbcTypeAdapter<?> )
+			&& !( jdbcType instanceof AggregateJdbcType )
+			&& !( jdbcType instanceof ArrayJdbcType )
+			&& !SqlTypes.isXmlType( sqlTypeCode )
+			&& sqlTypeCode != SqlTypes.ARRAY
+			&& sqlTypeCode != SqlTypes.STRUCT
+			&& sqlTypeCode != SqlTypes.STRUCT_ARRAY
+			&& sqlTypeCode != SqlTypes.STRUCT_TABLE;
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		position++;
+		if ( position >= numberOfRows ) {
+			position = numberOfRows;
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		position--;
+		if ( position < 0 ) {
+			position = -1;
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		return processPosition( position + numberOfRows, rowProcessingState );
+	}
+
+	@Override
+	public int getPosition() {
+		return position;
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		if ( position < 0 ) {
+			position = numberOfRows + position;
+		}
+		if ( position >= numberOfRows ) {
+			this.position = numberOfRows;
+			return false;
+		}
+		this.position = position;
+		return true;
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return position < 0;
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		position = -1;
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return position == 0;
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		position = 0;
+		return numberOfRows > 0;
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return position >= numberOfRows;
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		position = numberOfRows;
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		return position == numberOfRows - 1;
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		position = numberOfRows - 1;
+		return numberOfRows > 0;
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return resolvedMapping;
+	}
+
+	@Override
+	public boolean usesFollowOnLocking() {
+		return false;
+	}
+
+	@Override
+	public Object getCurrentRowValue(int valueIndex) {
+		return position < 0 || position >= numberOfRows ? null : rows.get( position )[valueIndex];
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		rows = null;
+	}
+
+	@Override
+	public void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded) {
+		// No-op
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) {}
+
+	@Override
+	public int getResultCountEstimate() {
+		return numberOfRows;
+	}
+}
@@ -9,6 +9,7 @@
 import java.util.Arrays;
 import java.util.BitSet;
 
+import org.hibernate.AssertionFailure;
 import org.hibernate.JDBCException;
 import org.hibernate.QueryTimeoutException;
 import org.hibernate.cache.spi.QueryKey;
@@ -26,9 +27,23 @@
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.BooleanJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.FloatJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.TinyIntJdbcType;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
+ * <p>
+ * The values of selections of the basic numeric and boolean types are extracted as
+ * primitives, and kept in primitive "lanes" of the row buffer, when they are read
+ * via the primitive accessors, such as {@link #getCurrentRowLongValue(int)}. They are
+ * only boxed if they are also read via {@link #getCurrentRowValue(int)}.
  *
  * @author Steve Ebersole
  */
@@ -52,6 +67,25 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final int rowToCacheSize;
 	private int resultCount;
 
+	// The kind of primitive each value may be extracted as, or null if none
+	// may be extracted as a primitive
+	private final byte[] primitiveKinds;
+	// The lane of integral and boolean values
+	private final long[] currentRowIntegralValues;
+	// The lane of floating point values
+	private final double[] currentRowFloatingPointValues;
+	private final BitSet extractedPrimitiveIndexes;
+	private final BitSet nullPrimitiveIndexes;
+
+	private static final byte NOT_PRIMITIVE = 0;
+	private static final byte LONG = 1;
+	private static final byte INT = 2;
+	private static final byte SHORT = 3;
+	private static final byte BYTE = 4;
+	private static final byte BOOLEAN = 5;
+	private static final byte DOUBLE = 6;
+	private static final byte FLOAT = 7;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -82,6 +116,19 @@ public JdbcValuesResultSetImpl(
 		}
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
+		this.primitiveKinds = determinePrimitiveKinds( sqlSelections );
+		if ( primitiveKinds == null ) {
+			this.currentRowIntegralValues = null;
+			this.currentRowFloatingPointValues = null;
+			this.extractedPrimitiveIndexes = null;
+			this.nullPrimitiveIndexes = null;
+		}
+		else {
+			this.currentRowIntegralValues = new long[rowSize];
+			this.currentRowFloatingPointValues = new double[rowSize];
+			this.extractedPrimitiveIndexes = new BitSet( rowSize );
+			this.nullPrimitiveIndexes = new BitSet( rowSize );
+		}
 		if ( queryCachePutManager == null ) {
 			this.valueIndexesToCacheIndexes = null;
 			this.rowToCacheSize = -1;
@@ -104,6 +151,58 @@ public JdbcValuesResultSetImpl(
 		}
 	}
 
+	private static byte[] determinePrimitiveKinds(SqlSelection[] sqlSelections) {
+		if ( JdbcExtractingLogging.LOGGER.isTraceEnabled() ) {
+			// let the extractors log the extracted values
+			return null;
+		}
+		byte[] primitiveKinds = null;
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final SqlSelection sqlSelection = sqlSelections[i];
+			final byte primitiveKind = sqlSelection == null ? NOT_PRIMITIVE : determinePrimitiveKind( sqlSelection );
+			if ( primitiveKind != NOT_PRIMITIVE ) {
+				if ( primitiveKinds == null ) {
+					primitiveKinds = new byte[sqlSelections.length];
+				}
+				primitiveKinds[i] = primitiveKind;
+			}
+		}
+		return primitiveKinds;
+	}
+
+	/**
+	 * Only the standard extractors are known to be equivalent to reading the primitive
+	 * value via the corresponding {@link ResultSet} getter and boxing it.
+	 */
+	private static byte determinePrimitiveKind(SqlSelection sqlSelection) {
+		if ( sqlSelection.getJdbcValueExtractor() instanceof BasicExtractor<?> extractor ) {
+			final Class<?> jdbcTypeClass = extractor.getJdbcType().getClass();
+			final Class<?> javaTypeClass = extractor.getJavaType().getJavaTypeClass();
+			if ( jdbcTypeClass == BigIntJdbcType.class && javaTypeClass == Long.class ) {
+				return LONG;
+			}
+			else if ( jdbcTypeClass == IntegerJdbcType.class && javaTypeClass == Integer.class ) {
+				return INT;
+			}
+			else if ( jdbcTypeClass == SmallIntJdbcType.class && javaTypeClass == Short.class ) {
+				return SHORT;
+			}
+			else if ( jdbcTypeClass == TinyIntJdbcType.class && javaTypeClass == Byte.class ) {
+				return BYTE;
+			}
+			else if ( jdbcTypeClass == BooleanJdbcType.class && javaTypeClass == Boolean.class ) {
+				return BOOLEAN;
+			}
+			else if ( jdbcTypeClass == DoubleJdbcType.class && javaTypeClass == Double.class ) {
+				return DOUBLE;
+			}
+			else if ( jdbcTypeClass == FloatJdbcType.class && javaTypeClass == Float.class ) {
+				return FLOAT;
+			}
+		}
+		return NOT_PRIMITIVE;
+	}
+
 	private int determineResultCountEstimate(
 			ResultSetAccess resultSetAccess,
 			QueryOptions queryOptions,
@@ -325,6 +424,10 @@ private ExecutionException makeExecutionException(String message, SQLException c
 
 	public void readCurrentRowValues() {
 		initializedIndexes.clear();
+		if ( primitiveKinds != null ) {
+			extractedPrimitiveIndexes.clear();
+			nullPrimitiveIndexes.clear();
+		}
 	}
 
 	@Override
@@ -351,6 +454,9 @@ public void finishRowProcessing(RowProcessingState rowProcessingState, boolean w
 			if ( wasAdded ) {
 				resultCount++;
 			}
+			if ( primitiveKinds != null ) {
+				boxPrimitiveValues();
+			}
 			final Object objectToCache;
 			if ( valueIndexesToCacheIndexes == null ) {
 				objectToCache = Arrays.copyOf( currentRowJdbcValues, currentRowJdbcValues.length );
@@ -376,10 +482,20 @@ else if ( rowToCacheSize < 1 ) {
 		}
 	}
 
+	private void boxPrimitiveValues() {
+		for ( int i = extractedPrimitiveIndexes.nextSetBit( 0 ); i >= 0; i = extractedPrimitiveIndexes.nextSetBit( i + 1 ) ) {
+			getCurrentRowValue( i );
+		}
+	}
+
 	@Override
 	public Object getCurrentRowValue(int valueIndex) {
 		if ( !initializedIndexes.get( valueIndex ) ) {
 			initializedIndexes.set( valueIndex );
+			if ( primitiveKinds != null && extractedPrimitiveIndexes.get( valueIndex ) ) {
+				currentRowJdbcValues[valueIndex] = boxPrimitiveValue( valueIndex );
+				return currentRowJdbcValues[valueIndex];
+			}
 			final SqlSelection sqlSelection = sqlSelections[valueIndex];
 			try {
 				currentRowJdbcValues[valueIndex] = sqlSelection.getJdbcValueExtractor().extract(
@@ -399,6 +515,174 @@ public Object getCurrentRowValue(int valueIndex) {
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	private byte primitiveKind(int valueIndex) {
+		return primitiveKinds == null ? NOT_PRIMITIVE : primitiveKinds[valueIndex];
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int valueIndex) {
+		final byte primitiveKind = primitiveKind( valueIndex );
+		if ( primitiveKind == NOT_PRIMITIVE ) {
+			final Object value = getCurrentRowValue( valueIndex );
+			return value == null ? 0L : ( (Number) value ).longValue();
+		}
+		else {
+			extractPrimitiveValue( valueIndex, primitiveKind );
+			return primitiveKind >= DOUBLE
+					? (long) currentRowFloatingPointValues[valueIndex]
+					: currentRowIntegralValues[valueIndex];
+		}
+	}
+
+	@Override
+	public int getCurrentRowIntValue(int valueIndex) {
+		final byte primitiveKind = primitiveKind( valueIndex );
+		if ( primitiveKind == NOT_PRIMITIVE ) {
+			final Object value = getCurrentRowValue( valueIndex );
+			return value == null ? 0 : ( (Number) value ).intValue();
+		}
+		else {
+			extractPrimitiveValue( valueIndex, primitiveKind );
+			return primitiveKind >= DOUBLE
+					? (int) currentRowFloatingPointValues[valueIndex]
+					: (int) currentRowIntegralValues[valueIndex];
+		}
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valueIndex) {
+		final byte primitiveKind = primitiveKind( valueIndex );
+		if ( primitiveKind == NOT_PRIMITIVE ) {
+			final Object value = getCurrentRowValue( valueIndex );
+			return value == null ? 0d : ( (Number) value ).doubleValue();
+		}
+		else {
+			extractPrimitiveValue( valueIndex, primitiveKind );
+			return primitiveKind >= DOUBLE
+					? currentRowFloatingPointValues[valueIndex]
+					: (double) currentRowIntegralValues[valueIndex];
+		}
+	}
+
+	@Override
+	public boolean getCurrentRowBooleanValue(int valueIndex) {
+		if ( primitiveKind( valueIndex ) == BOOLEAN ) {
+			extractPrimitiveValue( valueIndex, BOOLEAN );
+			return currentRowIntegralValues[valueIndex] != 0L;
+		}
+		else {
+			final Object value = getCurrentRowValue( valueIndex );
+			return value != null && (Boolean) value;
+		}
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int valueIndex) {
+		final byte primitiveKind = primitiveKind( valueIndex );
+		if ( primitiveKind == NOT_PRIMITIVE || initializedIndexes.get( valueIndex ) ) {
+			return getCurrentRowValue( valueIndex ) == null;
+		}
+		else {
+			extractPrimitiveValue( valueIndex, primitiveKind );
+			return nullPrimitiveIndexes.get( valueIndex );
+		}
+	}
+
+	private void extractPrimitiveValue(int valueIndex, byte primitiveKind) {
+		if ( !extractedPrimitiveIndexes.get( valueIndex ) ) {
+			extractedPrimitiveIndexes.set( valueIndex );
+			if ( initializedIndexes.get( valueIndex ) ) {
+				// the value was already extracted as an object
+				unboxPrimitiveValue( valueIndex, primitiveKind, currentRowJdbcValues[valueIndex] );
+			}
+			else {
+				final int jdbcResultSetIndex = sqlSelections[valueIndex].getJdbcResultSetIndex();
+				try {
+					switch ( primitiveKind ) {
+						case LONG:
+							currentRowIntegralValues[valueIndex] = resultSet.getLong( jdbcResultSetIndex );
+							break;
+						case INT:
+							currentRowIntegralValues[valueIndex] = resultSet.getInt( jdbcResultSetIndex );
+							break;
+						case SHORT:
+							currentRowIntegralValues[valueIndex] = resultSet.getShort( jdbcResultSetIndex );
+							break;
+						case BYTE:
+							currentRowIntegralValues[valueIndex] = resultSet.getByte( jdbcResultSetIndex );
+							break;
+						case BOOLEAN:
+							currentRowIntegralValues[valueIndex] = resultSet.getBoolean( jdbcResultSetIndex ) ? 1L : 0L;
+							break;
+						case DOUBLE:
+							currentRowFloatingPointValues[valueIndex] = resultSet.getDouble( jdbcResultSetIndex );
+							break;
+						case FLOAT:
+							currentRowFloatingPointValues[valueIndex] = resultSet.getFloat( jdbcResultSetIndex );
+							break;
+						default:
+							throw new AssertionFailure( "Unexpected primitive kind: " + primitiveKind );
+					}
+					if ( resultSet.wasNull() ) {
+						nullPrimitiveIndexes.set( valueIndex );
+					}
+				}
+				catch ( SQLException e ) {
+					// do not want to wrap in ExecutionException here
+					throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+							e,
+							"Could not extract column [" + jdbcResultSetIndex + "] from JDBC ResultSet"
+					);
+				}
+			}
+		}
+	}
+
+	private void unboxPrimitiveValue(int valueIndex, byte primitiveKind, Object value) {
+		if ( value == null ) {
+			nullPrimitiveIndexes.set( valueIndex );
+			currentRowIntegralValues[valueIndex] = 0L;
+			currentRowFloatingPointValues[valueIndex] = 0d;
+		}
+		else if ( primitiveKind == BOOLEAN ) {
+			currentRowIntegralValues[valueIndex] = (Boolean) value ? 1L : 0L;
+		}
+		else if ( primitiveKind >= DOUBLE ) {
+			currentRowFloatingPointValues[valueIndex] = ( (Number) value ).doubleValue();
+		}
+		else {
+			currentRowIntegralValues[valueIndex] = ( (Number) value ).longValue();
+		}
+	}
+
+	private Object boxPrimitiveValue(int valueIndex) {
+		if ( nullPrimitiveIndexes.get( valueIndex ) ) {
+			return null;
+		}
+		else {
+			final long integralValue = currentRowIntegralValues[valueIndex];
+			final double floatingPointValue = currentRowFloatingPointValues[valueIndex];
+			switch ( primitiveKinds[valueIndex] ) {
+				case LONG:
+					return integralValue;
+				case INT:
+					return (int) integralValue;
+				case SHORT:
+					return (short) integralValue;
+				case BYTE:
+					return (byte) integralValue;
+				case BOOLEAN:
+					return integralValue != 0L;
+				case DOUBLE:
+					return floatingPointValue;
+				case FLOAT:
+					return (float) floatingPointValue;
+				default:
+					throw new AssertionFailure( "Unexpected primitive kind: " + primitiveKinds[valueIndex] );
+			}
+		}
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
@@ -8,6 +8,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
@@ -125,12 +126,17 @@ public SharedSessionContractImplementor getSession() {
 
 	@Override
 	public void finishUp(boolean registerSubselects) {
+		finishUp( registerSubselects ? executionContext::registerLoadingEntityHolder : null );
+	}
+
+	/**
+	 * Finish up loading, passing the holder of each loaded entity to the given consumer.
+	 */
+	public void finishUp(Consumer<EntityHolder> loadedEntityHolderConsumer) {
 		// now we can finalize loading collections
 		finishLoadingCollections();
 
-		getSession().getPersistenceContextInternal()
-				.postLoad( this,
-						registerSubselects ? executionContext::registerLoadingEntityHolder : null );
+		getSession().getPersistenceContextInternal().postLoad( this, loadedEntityHolderConsumer );
 	}
 
 	private boolean isReadOnly() {
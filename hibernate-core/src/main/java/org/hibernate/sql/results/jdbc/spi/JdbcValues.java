@@ -74,6 +74,76 @@ public interface JdbcValues {
 	 */
 	Object getCurrentRowValue(int valueIndex);
 
+	/**
+	 * Get the JDBC value at the given index for the row currently positioned at within
+	 * this source, as a {@code long}, without boxing it, if possible.
+	 *
+	 * @return The value, or {@code 0} if it is null
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 *
+	 * @since 7.0
+	 */
+	default long getCurrentRowLongValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Get the JDBC value at the given index for the row currently positioned at within
+	 * this source, as an {@code int}, without boxing it, if possible.
+	 *
+	 * @return The value, or {@code 0} if it is null
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 *
+	 * @since 7.0
+	 */
+	default int getCurrentRowIntValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0 : ( (Number) value ).intValue();
+	}
+
+	/**
+	 * Get the JDBC value at the given index for the row currently positioned at within
+	 * this source, as a {@code double}, without boxing it, if possible.
+	 *
+	 * @return The value, or {@code 0} if it is null
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 *
+	 * @since 7.0
+	 */
+	default double getCurrentRowDoubleValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Get the JDBC value at the given index for the row currently positioned at within
+	 * this source, as a {@code boolean}, without boxing it, if possible.
+	 *
+	 * @return The value, or {@code false} if it is null
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 *
+	 * @since 7.0
+	 */
+	default boolean getCurrentRowBooleanValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value != null && (Boolean) value;
+	}
+
+	/**
+	 * Whether the JDBC value at the given index for the row currently positioned at
+	 * within this source is null.
+	 *
+	 * @since 7.0
+	 */
+	default boolean isCurrentRowValueNull(int valueIndex) {
+		return getCurrentRowValue( valueIndex ) == null;
+	}
+
 	void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded);
 
 	/**
@@ -56,6 +56,78 @@ default Object getJdbcValue(SqlSelection sqlSelection) {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Retrieve the value corresponding to the given index as part of the
+	 * "current JDBC row", as a {@code long}, avoiding boxing when possible.
+	 *
+	 * @return The value, or {@code 0} if it is null
+	 *
+	 * @see JdbcValues#getCurrentRowLongValue(int)
+	 *
+	 * @since 7.0
+	 */
+	default long getJdbcLongValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Retrieve the value corresponding to the given index as part of the
+	 * "current JDBC row", as an {@code int}, avoiding boxing when possible.
+	 *
+	 * @return The value, or {@code 0} if it is null
+	 *
+	 * @see JdbcValues#getCurrentRowIntValue(int)
+	 *
+	 * @since 7.0
+	 */
+	default int getJdbcIntValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0 : ( (Number) value ).intValue();
+	}
+
+	/**
+	 * Retrieve the value corresponding to the given index as part of the
+	 * "current JDBC row", as a {@code double}, avoiding boxing when possible.
+	 *
+	 * @return The value, or {@code 0} if it is null
+	 *
+	 * @see JdbcValues#getCurrentRowDoubleValue(int)
+	 *
+	 * @since 7.0
+	 */
+	default double getJdbcDoubleValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Retrieve the value corresponding to the given index as part of the
+	 * "current JDBC row", as a {@code boolean}, avoiding boxing when possible.
+	 *
+	 * @return The value, or {@code false} if it is null
+	 *
+	 * @see JdbcValues#getCurrentRowBooleanValue(int)
+	 *
+	 * @since 7.0
+	 */
+	default boolean getJdbcBooleanValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value != null && (Boolean) value;
+	}
+
+	/**
+	 * Whether the value corresponding to the given index as part of the
+	 * "current JDBC row" is null.
+	 *
+	 * @see JdbcValues#isCurrentRowValueNull(int)
+	 *
+	 * @since 7.0
+	 */
+	default boolean isJdbcValueNull(int position) {
+		return getJdbcValue( position ) == null;
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
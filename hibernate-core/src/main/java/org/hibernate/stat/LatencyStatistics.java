@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * The distribution of the durations of some operation, for example the
+ * executions of a query, recorded as a histogram.
+ * <p>
+ * The durations are kept in buckets whose width grows with the recorded
+ * value, so that any value reported by {@link #getValueAtPercentile(double)}
+ * is within about 6% of an actually recorded duration.
+ *
+ * @see org.hibernate.stat.spi.StatisticsImplementor#getQueryLatencyStatistics(String)
+ * @see org.hibernate.stat.spi.StatisticsImplementor#getFlushLatencyStatistics()
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface LatencyStatistics {
+	/**
+	 * The number of recorded durations.
+	 */
+	long getCount();
+
+	/**
+	 * The sum of the recorded durations, in nanoseconds.
+	 */
+	long getTotalNanoseconds();
+
+	/**
+	 * The longest recorded duration, in nanoseconds.
+	 */
+	long getMaxNanoseconds();
+
+	/**
+	 * The duration, in nanoseconds, which the given percentage of the
+	 * recorded durations does not exceed, or {@code 0} if nothing has
+	 * been recorded.
+	 *
+	 * @param percentile A percentage between {@code 0} and {@code 100},
+	 * for example {@code 99} for the 99th percentile
+	 */
+	long getValueAtPercentile(double percentile);
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * Statistics relating to one of the caches maintained by the
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+ * query interpretation cache}.
+ * <p>
+ * Unlike {@link Statistics#getQueryPlanCacheHitCount()}, these counts
+ * are maintained even when statistics are disabled.
+ *
+ * @see Statistics#getQueryPlanCacheStatistics(String)
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface QueryPlanCacheStatistics extends Serializable {
+	/**
+	 * The name of the cache.
+	 */
+	String getName();
+
+	/**
+	 * The number of entries currently held by the cache.
+	 */
+	long getSize();
+
+	/**
+	 * The maximum number of entries held by the cache.
+	 */
+	long getMaxSize();
+
+	/**
+	 * The number of lookups which found a cached entry.
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of lookups which did not find a cached entry.
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of entries evicted from the cache to respect its
+	 * maximum size.
+	 */
+	long getEvictionCount();
+}
@@ -406,4 +406,46 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The names of all caches maintained by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}.
+	 *
+	 * @since 7.0
+	 */
+	default String[] getQueryPlanCacheNames() {
+		return new String[0];
+	}
+
+	/**
+	 * Statistics about the named cache maintained by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}, including its size and number of
+	 * evictions, or {@code null} if there is no such cache.
+	 *
+	 * @param cacheName one of the names returned by {@link #getQueryPlanCacheNames()}
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_STORE
+	 *
+	 * @since 7.0
+	 */
+	default @Nullable QueryPlanCacheStatistics getQueryPlanCacheStatistics(String cacheName) {
+		return null;
+	}
+
+	/**
+	 * The batch size chosen by {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} for the given entity or collection role, or {@code -1} if
+	 * adaptive batch fetching is disabled, or has not yet chosen a batch size for the role.
+	 *
+	 * @param role an entity name or collection role
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 7.0
+	 */
+	default int getBatchFetchSize(String role) {
+		return -1;
+	}
 }
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.stat.LatencyStatistics;
+
+/**
+ * A {@link LatencyStatistics} which records durations in nanoseconds into
+ * log-linear buckets: 16 buckets of equal width per power of two, in the
+ * manner of an HDR histogram with a precision of one significant hex digit.
+ * <p>
+ * Durations are recorded without locking. A histogram starts with a single
+ * recorder and adds more, up to a limit, when concurrent recordings collide,
+ * so that an uncontended histogram stays small. The recorders are merged
+ * when the histogram is read.
+ */
+public class LatencyHistogram implements LatencyStatistics {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	// values below this are counted exactly
+	private static final int LINEAR_BUCKET_COUNT = 2 * SUB_BUCKET_COUNT;
+	// durations of more than about 18 minutes are counted as 18 minutes
+	private static final int MAX_EXPONENT = 40;
+	private static final long MAX_VALUE = ( 1L << MAX_EXPONENT ) - 1;
+	static final int BUCKET_COUNT =
+			LINEAR_BUCKET_COUNT + ( MAX_EXPONENT - SUB_BUCKET_BITS - 1 ) * SUB_BUCKET_COUNT;
+
+	private static final int MAX_RECORDERS =
+			Math.min( 8, Integer.highestOneBit( Runtime.getRuntime().availableProcessors() * 2 - 1 ) );
+	private static final Recorder[] NO_RECORDERS = new Recorder[0];
+
+	private final AtomicReference<Recorder[]> recorders = new AtomicReference<>( NO_RECORDERS );
+
+	/**
+	 * Record a duration.
+	 *
+	 * @param nanoseconds The duration, in nanoseconds
+	 */
+	public void record(long nanoseconds) {
+		final long value = Math.max( 0, nanoseconds );
+		final int index = bucketIndex( Math.min( value, MAX_VALUE ) );
+		Recorder[] current = recorders.get();
+		while ( current.length == 0 ) {
+			recorders.compareAndSet( current, new Recorder[] { new Recorder() } );
+			// the histogram may have been reset again concurrently
+			current = recorders.get();
+		}
+		if ( !recorder( current ).tryRecord( index, value ) ) {
+			// another thread recorded into the same bucket concurrently
+			if ( current.length < MAX_RECORDERS ) {
+				final Recorder[] expanded = Arrays.copyOf( current, current.length * 2 );
+				for ( int i = current.length; i < expanded.length; i++ ) {
+					expanded[i] = new Recorder();
+				}
+				recorders.compareAndSet( current, expanded );
+				final Recorder[] installed = recorders.get();
+				// when the histogram was reset concurrently, the duration is discarded
+				// along with the recorders it would have been recorded into
+				if ( installed.length > 0 ) {
+					current = installed;
+				}
+			}
+			recorder( current ).record( index, value );
+		}
+	}
+
+	/**
+	 * Discard everything recorded so far.
+	 */
+	public void reset() {
+		recorders.set( NO_RECORDERS );
+	}
+
+	private static Recorder recorder(Recorder[] recorders) {
+		final long threadId = Thread.currentThread().getId();
+		return recorders[(int) ( threadId ^ ( threadId >>> 16 ) ) & ( recorders.length - 1 )];
+	}
+
+	@Override
+	public long getCount() {
+		long count = 0;
+		for ( Recorder recorder : recorders.get() ) {
+			for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+				count += recorder.counts.get( i );
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public long getTotalNanoseconds() {
+		long total = 0;
+		for ( Recorder recorder : recorders.get() ) {
+			total += recorder.total.get();
+		}
+		return total;
+	}
+
+	@Override
+	public long getMaxNanoseconds() {
+		long max = 0;
+		for ( Recorder recorder : recorders.get() ) {
+			max = Math.max( max, recorder.max.get() );
+		}
+		return max;
+	}
+
+	@Override
+	public long getValueAtPercentile(double percentile) {
+		final Recorder[] current = recorders.get();
+		final long[] counts = new long[BUCKET_COUNT];
+		long count = 0;
+		long max = 0;
+		for ( Recorder recorder : current ) {
+			for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+				final long bucketCount = recorder.counts.get( i );
+				counts[i] += bucketCount;
+				count += bucketCount;
+			}
+			max = Math.max( max, recorder.max.get() );
+		}
+		if ( count == 0 ) {
+			return 0;
+		}
+		final double fraction = Math.min( Math.max( percentile, 0.0 ), 100.0 ) / 100.0;
+		final long rank = Math.max( 1, (long) Math.ceil( fraction * count ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			seen += counts[i];
+			if ( seen >= rank ) {
+				return Math.min( highestValueInBucket( i ), max );
+			}
+		}
+		return max;
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < LINEAR_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		else {
+			final int shift = 63 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+			final int subBucket = (int) ( value >>> shift ) - SUB_BUCKET_COUNT;
+			return LINEAR_BUCKET_COUNT + ( shift - 1 ) * SUB_BUCKET_COUNT + subBucket;
+		}
+	}
+
+	static long highestValueInBucket(int index) {
+		if ( index < LINEAR_BUCKET_COUNT ) {
+			return index;
+		}
+		else {
+			final int offset = index - LINEAR_BUCKET_COUNT;
+			final int shift = offset / SUB_BUCKET_COUNT + 1;
+			final long subBucket = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+			return ( ( subBucket + 1 ) << shift ) - 1;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyStatistics"
+				+ "[count=" + getCount()
+				+ ",p50=" + getValueAtPercentile( 50 )
+				+ ",p99=" + getValueAtPercentile( 99 )
+				+ ",max=" + getMaxNanoseconds()
+				+ ']';
+	}
+
+	private static final class Recorder {
+		private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+		private final AtomicLong total = new AtomicLong();
+		private final AtomicLong max = new AtomicLong();
+
+		boolean tryRecord(int index, long value) {
+			final long count = counts.get( index );
+			if ( counts.compareAndSet( index, count, count + 1 ) ) {
+				recordValue( value );
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		void record(int index, long value) {
+			counts.incrementAndGet( index );
+			recordValue( value );
+		}
+
+		private void recordValue(long value) {
+			total.addAndGet( value );
+			//noinspection StatementWithEmptyBody
+			for ( long old = max.get(); value > old && !max.compareAndSet( old, value ); old = max.get() ) {
+				// nothing to do
+			}
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import org.hibernate.query.spi.QueryPlanCacheStore;
+import org.hibernate.stat.QueryPlanCacheStatistics;
+
+/**
+ * Statistics of a {@link QueryPlanCacheStore}, read directly from the store.
+ */
+public class QueryPlanCacheStatisticsImpl implements QueryPlanCacheStatistics {
+	private final String name;
+	private final transient QueryPlanCacheStore<?, ?> store;
+
+	public QueryPlanCacheStatisticsImpl(String name, QueryPlanCacheStore<?, ?> store) {
+		this.name = name;
+		this.store = store;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public long getSize() {
+		return store.size();
+	}
+
+	@Override
+	public long getMaxSize() {
+		return store.getMaxSize();
+	}
+
+	@Override
+	public long getHitCount() {
+		return store.getHitCount();
+	}
+
+	@Override
+	public long getMissCount() {
+		return store.getMissCount();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return store.getEvictionCount();
+	}
+
+	@Override
+	public String toString() {
+		return "QueryPlanCacheStatistics"
+				+ "[name=" + name
+				+ ",size=" + getSize()
+				+ ",maxSize=" + getMaxSize()
+				+ ",hitCount=" + getHitCount()
+				+ ",missCount=" + getMissCount()
+				+ ",evictionCount=" + getEvictionCount()
+				+ ']';
+	}
+}
@@ -22,10 +22,13 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.NullnessUtil;
+import org.hibernate.loader.ast.internal.AdaptiveBatchSizing;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.LatencyStatistics;
+import org.hibernate.stat.QueryPlanCacheStatistics;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -44,6 +47,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private static final CoreMessageLogger log = messageLogger( StatisticsImpl.class );
 
+	private final SessionFactoryImplementor sessionFactory;
 	private final MappingMetamodelImplementor metamodel;
 	private final CacheImplementor cache;
 
@@ -126,13 +130,26 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
 
+	/**
+	 * Keyed by query string
+	 */
+	private final StatsNamedContainer<LatencyHistogram> queryLatencyMap;
+	private final StatsNamedContainer<LatencyHistogram> entityLoadLatencyMap = new StatsNamedContainer<>();
+	private final StatsNamedContainer<LatencyHistogram> collectionFetchLatencyMap = new StatsNamedContainer<>();
+	private final LatencyHistogram flushLatency = new LatencyHistogram();
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
+		this.sessionFactory = sessionFactory;
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
 		this.queryStatsMap = new StatsNamedContainer<>(
 				sessionFactoryOptions.getQueryStatisticsMaxSize(),
 				20
 		);
+		this.queryLatencyMap = new StatsNamedContainer<>(
+				sessionFactoryOptions.getQueryStatisticsMaxSize(),
+				20
+		);
 		resetStart();
 		metamodel = sessionFactory.getMappingMetamodel();
 		cache = sessionFactory.getCache();
@@ -207,6 +224,11 @@ public void clear() {
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
 
+		queryLatencyMap.clear();
+		entityLoadLatencyMap.clear();
+		collectionFetchLatencyMap.clear();
+		flushLatency.reset();
+
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
@@ -304,6 +326,16 @@ public void fetchEntity(String entityName) {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityLoadLatency(String entityName, long nanoseconds) {
+		recordLatency( entityLoadLatencyMap, entityName, nanoseconds );
+	}
+
+	@Override
+	public @Nullable LatencyStatistics getEntityLoadLatencyStatistics(String entityName) {
+		return entityLoadLatencyMap.get( entityName );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -411,6 +443,16 @@ public void fetchCollection(String role) {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void collectionFetchLatency(String role, long nanoseconds) {
+		recordLatency( collectionFetchLatencyMap, role, nanoseconds );
+	}
+
+	@Override
+	public @Nullable LatencyStatistics getCollectionFetchLatencyStatistics(String role) {
+		return collectionFetchLatencyMap.get( role );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -735,6 +777,18 @@ public void queryExecuted(String hql, int rows, long time) {
 		}
 	}
 
+	@Override
+	public void queryExecutionLatency(String hql, long nanoseconds) {
+		if ( hql != null ) {
+			recordLatency( queryLatencyMap, hql, nanoseconds );
+		}
+	}
+
+	@Override
+	public @Nullable LatencyStatistics getQueryLatencyStatistics(String hql) {
+		return queryLatencyMap.get( hql );
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		queryCacheHitCount.increment();
@@ -778,6 +832,23 @@ public long getQueryPlanCacheMissCount() {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public String[] getQueryPlanCacheNames() {
+		return sessionFactory.getQueryEngine().getInterpretationCache().getCacheNames();
+	}
+
+	@Override
+	public @Nullable QueryPlanCacheStatistics getQueryPlanCacheStatistics(String cacheName) {
+		return sessionFactory.getQueryEngine().getInterpretationCache().getCacheStatistics( cacheName );
+	}
+
+	@Override
+	public int getBatchFetchSize(String role) {
+		final AdaptiveBatchSizing adaptiveBatchSizing =
+				sessionFactory.getServiceRegistry().requireService( AdaptiveBatchSizing.class );
+		return adaptiveBatchSizing.isEnabled() ? adaptiveBatchSizing.getChosenBatchSize( role ) : -1;
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -872,6 +943,16 @@ public void flush() {
 		flushCount.increment();
 	}
 
+	@Override
+	public void flushLatency(long nanoseconds) {
+		flushLatency.record( nanoseconds );
+	}
+
+	@Override
+	public LatencyStatistics getFlushLatencyStatistics() {
+		return flushLatency;
+	}
+
 	@Override
 	public void connect() {
 		connectCount.increment();
@@ -985,6 +1066,16 @@ public String toString() {
 				']';
 	}
 
+	private static void recordLatency(
+			StatsNamedContainer<LatencyHistogram> histograms,
+			String name,
+			long nanoseconds) {
+		final LatencyHistogram histogram = histograms.getOrCompute( name, key -> new LatencyHistogram() );
+		if ( histogram != null ) {
+			histogram.record( nanoseconds );
+		}
+	}
+
 	private EntityStatisticsImpl instantiateEntityStatistics(final String entityName) {
 		return new EntityStatisticsImpl( metamodel.getEntityDescriptor( entityName ) );
 	}
@@ -4,10 +4,14 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.LatencyStatistics;
 import org.hibernate.stat.Statistics;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
@@ -298,4 +302,109 @@ default Map<String, Long> getSlowQueries() {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	/**
+	 * Callback indicating the duration of an execution of a query, in addition
+	 * to {@link #queryExecuted(String, int, long)}, with nanosecond precision.
+	 *
+	 * @param hql The query
+	 * @param nanoseconds The duration of the execution
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void queryExecutionLatency(String hql, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the duration of the load of an entity from the database.
+	 *
+	 * @param entityName The name of the entity
+	 * @param nanoseconds The duration of the load
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void entityLoadLatency(String entityName, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the duration of the fetch of a collection from the database,
+	 * in addition to {@link #fetchCollection(String)}.
+	 *
+	 * @param role The collection role
+	 * @param nanoseconds The duration of the fetch
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void collectionFetchLatency(String role, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the duration of a flush, in addition to {@link #flush()}.
+	 *
+	 * @param nanoseconds The duration of the flush
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void flushLatency(long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * The distribution of the execution times of the given query, or {@code null}
+	 * if no execution was recorded.
+	 *
+	 * @see #queryExecutionLatency(String, long)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable LatencyStatistics getQueryLatencyStatistics(String hql) {
+		return null;
+	}
+
+	/**
+	 * The distribution of the times taken to load the given entity from the database,
+	 * or {@code null} if no load was recorded.
+	 *
+	 * @see #entityLoadLatency(String, long)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable LatencyStatistics getEntityLoadLatencyStatistics(String entityName) {
+		return null;
+	}
+
+	/**
+	 * The distribution of the times taken to fetch the given collection from the
+	 * database, or {@code null} if no fetch was recorded.
+	 *
+	 * @see #collectionFetchLatency(String, long)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable LatencyStatistics getCollectionFetchLatencyStatistics(String role) {
+		return null;
+	}
+
+	/**
+	 * The distribution of the times taken by flushes, or {@code null} if this
+	 * implementation does not record them.
+	 *
+	 * @see #flushLatency(long)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable LatencyStatistics getFlushLatencyStatistics() {
+		return null;
+	}
 }
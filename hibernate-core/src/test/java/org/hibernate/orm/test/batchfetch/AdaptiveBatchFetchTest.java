@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@value FetchSettings#ADAPTIVE_BATCH_FETCH}.
+ */
+@DomainModel(annotatedClasses = { AdaptiveBatchFetchTest.Employee.class, AdaptiveBatchFetchTest.Department.class })
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = FetchSettings.ADAPTIVE_BATCH_FETCH, value = "true"),
+		@Setting(name = FetchSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE, value = "2"),
+		@Setting(name = FetchSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE, value = "64")
+})
+public class AdaptiveBatchFetchTest {
+	private static final int DEPARTMENTS = 40;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= DEPARTMENTS; id++ ) {
+				final Department department = new Department( id, "Department " + id );
+				session.persist( department );
+				session.persist( new Employee( id, department ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testBatchSizeFollowsInitializations(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String role = Department.class.getName();
+		assertThat( statistics.getBatchFetchSize( role ) ).isEqualTo( -1 );
+
+		// the static batch size is used until a session completes
+		scope.inTransaction( session -> {
+			final List<Employee> employees = loadEmployees( session );
+			Hibernate.initialize( employees.get( 0 ).department );
+			assertThat( countLoadedDepartments( session ) ).isEqualTo( 4 );
+			employees.forEach( employee -> Hibernate.initialize( employee.department ) );
+		} );
+		assertThat( statistics.getBatchFetchSize( role ) ).isEqualTo( DEPARTMENTS );
+
+		scope.inTransaction( session -> {
+			final List<Employee> employees = loadEmployees( session );
+			Hibernate.initialize( employees.get( 0 ).department );
+			assertThat( countLoadedDepartments( session ) ).isEqualTo( DEPARTMENTS );
+			Hibernate.initialize( employees.get( 1 ).department );
+		} );
+		// 40 + (2 - 40) / 4
+		assertThat( statistics.getBatchFetchSize( role ) ).isEqualTo( 31 );
+	}
+
+	@Test
+	public void testCollectionBatchSizeFollowsAccesses(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String role = Department.class.getName() + ".employees";
+
+		scope.inTransaction( session -> {
+			final List<Department> departments = session.createSelectionQuery(
+					"from Department order by id",
+					Department.class
+			).getResultList();
+			departments.get( 0 ).employees.size();
+			assertThat( Hibernate.isInitialized( departments.get( 1 ).employees ) ).isTrue();
+			departments.get( 1 ).employees.size();
+		} );
+		// the collections which were loaded along with the first one,
+		// but never accessed, are not counted
+		assertThat( statistics.getBatchFetchSize( role ) ).isEqualTo( 2 );
+	}
+
+	private static List<Employee> loadEmployees(SessionImplementor session) {
+		return session.createSelectionQuery( "from Employee order by id", Employee.class ).getResultList();
+	}
+
+	private static long countLoadedDepartments(SessionImplementor session) {
+		final EntityPersister persister =
+				session.getFactory().getMappingMetamodel().getEntityDescriptor( Department.class );
+		long count = 0;
+		for ( long id = 1; id <= DEPARTMENTS; id++ ) {
+			if ( session.getPersistenceContextInternal().getEntity( new EntityKey( id, persister ) ) != null ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Department")
+	@BatchSize(size = 4)
+	public static class Department {
+		@Id
+		private Long id;
+		private String name;
+		@OneToMany(mappedBy = "department")
+		@BatchSize(size = 4)
+		private List<Employee> employees = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the selection of entity ids by {@link BatchFetchQueue}.
+ */
+@DomainModel(annotatedClasses = {
+		BatchFetchQueueSelectionTest.Item.class,
+		BatchFetchQueueSelectionTest.CachedItem.class,
+		BatchFetchQueueSelectionTest.Owner.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"))
+public class BatchFetchQueueSelectionTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testSelectionAroundLoadingId(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Item> references = new ArrayList<>();
+			for ( long id = 1; id <= 10_000; id++ ) {
+				references.add( session.getReference( Item.class, id ) );
+			}
+			assertThat( references ).hasSize( 10_000 );
+
+			final EntityPersister persister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( Item.class );
+			final BatchFetchQueue queue = session.getPersistenceContextInternal().getBatchFetchQueue();
+
+			// the ids registered after the loading id come first
+			assertThat( queue.getBatchLoadableEntityIds( persister, 5_000L, 4 ) )
+					.containsExactly( 5_000L, 5_001L, 5_002L, 5_003L );
+
+			// then the ids registered before it
+			assertThat( queue.getBatchLoadableEntityIds( persister, 9_999L, 4 ) )
+					.containsExactly( 9_999L, 10_000L, 9_998L, 9_997L );
+
+			queue.removeBatchLoadableEntityKey( new EntityKey( 5_001L, persister ) );
+			assertThat( queue.containsEntityKey( new EntityKey( 5_001L, persister ) ) ).isFalse();
+			assertThat( queue.getBatchLoadableEntityIds( persister, 5_000L, 4 ) )
+					.containsExactly( 5_000L, 5_002L, 5_003L, 5_004L );
+
+			// an id which is not queued gets the most recently registered ids
+			assertThat( queue.getBatchLoadableEntityIds( persister, 20_000L, 3 ) )
+					.containsExactly( 20_000L, 10_000L, 9_999L );
+		} );
+	}
+
+	@Test
+	public void testCachedIdsAreParked(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new CachedItem( id ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData( CachedItem.class );
+		scope.inSession( session -> {
+			session.find( CachedItem.class, 2L );
+			session.find( CachedItem.class, 4L );
+		} );
+
+		scope.inSession( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.getReference( CachedItem.class, id );
+			}
+			final EntityPersister persister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( CachedItem.class );
+			final BatchFetchQueue queue = session.getPersistenceContextInternal().getBatchFetchQueue();
+
+			// the cached ids are skipped, and parked
+			assertThat( queue.getBatchLoadableEntityIds( persister, 1L, 4 ) )
+					.containsExactly( 1L, 3L, 5L, 6L );
+			assertThat( queue.containsEntityKey( new EntityKey( 2L, persister ) ) ).isTrue();
+			assertThat( queue.getBatchLoadableEntityIds( persister, 9L, 4 ) )
+					.containsExactly( 9L, 10L, 8L, 7L );
+
+			// a parked id which was evicted from the cache is selected again
+			scope.getSessionFactory().getCache().evictEntityData( CachedItem.class, 2L );
+			assertThat( queue.getBatchLoadableEntityIds( persister, 9L, 12 ) )
+					.containsExactly( 9L, 10L, 8L, 7L, 6L, 5L, 3L, 1L, 2L, null, null, null );
+			assertThat( queue.getBatchLoadableEntityIds( persister, 1L, 4 ) )
+					.containsExactly( 1L, 3L, 5L, 6L );
+			assertThat( queue.getBatchLoadableEntityIds( persister, 10L, 4 ) )
+					.containsExactly( 10L, 2L, 9L, 8L );
+
+			// a parked id is no longer queued once removed
+			queue.removeBatchLoadableEntityKey( new EntityKey( 4L, persister ) );
+			assertThat( queue.containsEntityKey( new EntityKey( 4L, persister ) ) ).isFalse();
+			scope.getSessionFactory().getCache().evictEntityData( CachedItem.class, 4L );
+			assertThat( queue.getBatchLoadableEntityIds( persister, 9L, 12 ) )
+					.doesNotContain( 4L );
+		} );
+	}
+
+	@Test
+	public void testCollectionSelectionAroundLoadingKey(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				final Owner owner = new Owner( id );
+				owner.tags.add( "tag " + id );
+				session.persist( owner );
+			}
+		} );
+
+		scope.inSession( session -> {
+			final List<Owner> owners =
+					session.createSelectionQuery( "from Owner order by id", Owner.class ).getResultList();
+			assertThat( owners ).hasSize( 10 );
+
+			final CollectionPersister persister = session.getFactory().getMappingMetamodel()
+					.getCollectionDescriptor( Owner.class.getName() + ".tags" );
+			final BatchFetchQueue queue = session.getPersistenceContextInternal().getBatchFetchQueue();
+
+			// the keys registered after the key being loaded come first
+			assertThat( queue.getCollectionBatch( persister, 5L, 4 ) )
+					.containsExactly( 5L, 6L, 7L, 8L );
+
+			// then the keys registered before it
+			assertThat( queue.getCollectionBatch( persister, 10L, 4 ) )
+					.containsExactly( 10L, 9L, 8L, 7L );
+
+			final Object[] keys = new Object[4];
+			queue.collectBatchLoadableCollectionKeys( 4, (i, key) -> keys[i] = key, 3L, persister.getAttributeMapping() );
+			assertThat( keys ).containsExactly( 3L, 4L, 5L, 6L );
+
+			// the collections initialized by a batch are no longer queued
+			Hibernate.initialize( owners.get( 5 ).tags );
+			assertThat( Hibernate.isInitialized( owners.get( 8 ).tags ) ).isTrue();
+			assertThat( queue.getCollectionBatch( persister, 10L, 4 ) )
+					.containsExactly( 10L, 5L, 4L, 3L );
+		} );
+	}
+
+	@Entity(name = "Item")
+	@BatchSize(size = 4)
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+	}
+
+	@Entity(name = "CachedItem")
+	@BatchSize(size = 4)
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class CachedItem {
+		@Id
+		private Long id;
+		private String name;
+
+		public CachedItem() {
+		}
+
+		public CachedItem(Long id) {
+			this.id = id;
+			this.name = "Item " + id;
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Long id;
+		@ElementCollection
+		@BatchSize(size = 4)
+		private List<String> tags = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.cfg.SchemaToolingSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tool.schema.Action;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@value MappingSettings#PERSISTER_INITIALIZATION_PARALLELISM}, with a model
+ * of many entity types, each with a many-to-one association, and most of them
+ * with a one-to-many association, comparing the resulting metamodel with the one
+ * resulting from sequential initialization.
+ */
+@BaseUnitTest
+public class ParallelPersisterInitializationTest {
+	private static final int ENTITY_COUNT = 100;
+
+	@Test
+	public void testSameMetamodelAsSequentialInitialization() {
+		final List<String> sequential = new ArrayList<>();
+		final List<String> parallel = new ArrayList<>();
+		withSessionFactory( 1, sessionFactory -> sequential.addAll( describe( sessionFactory ) ) );
+		withSessionFactory( 4, sessionFactory -> parallel.addAll( describe( sessionFactory ) ) );
+
+		assertThat( sequential ).hasSizeGreaterThan( 2 * ENTITY_COUNT );
+		assertThat( parallel ).containsExactlyElementsOf( sequential );
+	}
+
+	@Test
+	public void testPersistAndLoad() {
+		withSessionFactory( 4, sessionFactory -> {
+			sessionFactory.inTransaction( session -> {
+				final Map<String, Object> root = node( 0L, "root", null );
+				session.persist( "Node0", root );
+				session.persist( "Node1", node( 1L, "first", root ) );
+				session.persist( "Node1", node( 2L, "second", root ) );
+			} );
+
+			sessionFactory.inTransaction( session -> {
+				@SuppressWarnings("unchecked")
+				final Map<String, Object> root = (Map<String, Object>) session.find( "Node0", 0L );
+				assertThat( root.get( "name" ) ).isEqualTo( "root" );
+				assertThat( (List<?>) root.get( "children" ) ).hasSize( 2 );
+
+				final List<String> names = session.createSelectionQuery(
+								"select n.name from Node1 n where n.parent.name = :name order by n.id",
+								String.class
+						)
+						.setParameter( "name", "root" )
+						.getResultList();
+				assertThat( names ).containsExactly( "first", "second" );
+			} );
+		} );
+	}
+
+	private static Map<String, Object> node(Long id, String name, Map<String, Object> parent) {
+		final Map<String, Object> node = new HashMap<>();
+		node.put( "id", id );
+		node.put( "name", name );
+		node.put( "parent", parent );
+		return node;
+	}
+
+	private static void withSessionFactory(int parallelism, Consumer<SessionFactoryImplementor> action) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( MappingSettings.PERSISTER_INITIALIZATION_PARALLELISM, parallelism )
+				.applySetting( SchemaToolingSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, Action.CREATE_DROP )
+				.build();
+		try {
+			try ( SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) new MetadataSources( registry )
+					.addInputStream( new ByteArrayInputStream( mapping().getBytes( StandardCharsets.UTF_8 ) ) )
+					.buildMetadata()
+					.buildSessionFactory() ) {
+				action.accept( sessionFactory );
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	/**
+	 * Entity {@code i} has a many-to-one association to entity {@code i / 2},
+	 * and so entity {@code i} has a one-to-many association to entity
+	 * {@code 2 * i + 1}, when it exists.
+	 */
+	private static String mapping() {
+		final StringBuilder mapping = new StringBuilder( """
+				<?xml version="1.0"?>
+				<!DOCTYPE hibernate-mapping PUBLIC
+					"-//Hibernate/Hibernate Mapping DTD 3.0//EN"
+					"http://www.hibernate.org/dtd/hibernate-mapping-3.0.dtd">
+				<hibernate-mapping>
+				""" );
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			mapping.append( "<class entity-name=\"Node" ).append( i ).append( "\" table=\"node_" ).append( i ).append( "\">" )
+					.append( "<id name=\"id\" type=\"long\"/>" )
+					.append( "<property name=\"name\" type=\"string\"/>" )
+					.append( "<property name=\"amount\" type=\"big_decimal\"/>" )
+					.append( "<property name=\"created\" type=\"LocalDate\"/>" )
+					.append( "<many-to-one name=\"parent\" entity-name=\"Node" ).append( i / 2 )
+					.append( "\" column=\"parent_id\"/>" );
+			if ( 2 * i + 1 < ENTITY_COUNT ) {
+				mapping.append( "<bag name=\"children\" inverse=\"true\"><key column=\"parent_id\"/>" )
+						.append( "<one-to-many entity-name=\"Node" ).append( 2 * i + 1 ).append( "\"/></bag>" );
+			}
+			mapping.append( "</class>" );
+		}
+		return mapping.append( "</hibernate-mapping>" ).toString();
+	}
+
+	private static List<String> describe(SessionFactoryImplementor sessionFactory) {
+		final MappingMetamodel metamodel = sessionFactory.getMappingMetamodel();
+		final List<String> description = new ArrayList<>();
+		metamodel.streamEntityDescriptors()
+				.sorted( (first, second) -> first.getEntityName().compareTo( second.getEntityName() ) )
+				.forEach( persister -> describe( persister, description ) );
+		final List<CollectionPersister> collectionPersisters = new ArrayList<>();
+		metamodel.forEachCollectionDescriptor( collectionPersisters::add );
+		collectionPersisters.stream()
+				.sorted( (first, second) -> first.getRole().compareTo( second.getRole() ) )
+				.forEach( persister -> description.add( persister.getRole() + " " + persister.getTableName()
+						+ " inverse=" + persister.isInverse()
+						+ " element=" + persister.getElementType().getName() ) );
+		return description;
+	}
+
+	private static void describe(EntityPersister persister, List<String> description) {
+		description.add( persister.getEntityName() + " " + persister.getSqlAliasStem() );
+		persister.forEachAttributeMapping( attributeMapping -> {
+			final StringBuilder attribute = new StringBuilder( persister.getEntityName() )
+					.append( '.' ).append( attributeMapping.getAttributeName() )
+					.append( ' ' ).append( attributeMapping.getClass().getSimpleName() )
+					.append( ' ' ).append( attributeMapping.getAttributeMetadata().isNullable() );
+			attributeMapping.forEachSelectable( (index, selectable) -> attribute.append( ' ' )
+					.append( selectable.getContainingTableExpression() )
+					.append( '.' ).append( selectable.getSelectionExpression() ) );
+			description.add( attribute.toString() );
+		} );
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.archive.scan.internal.MappingFileDescriptorImpl;
+import org.hibernate.archive.scan.internal.PackageDescriptorImpl;
+import org.hibernate.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.internal.FileInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.CachingScanner;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link CachingScanner}.
+ */
+public class CachingScannerTest {
+	private static final String ORM_XML = "<entity-mappings/>";
+
+	@TempDir
+	private Path directory;
+
+	private Path archive;
+	private Path cacheFile;
+	private final AtomicInteger scans = new AtomicInteger();
+
+	@BeforeEach
+	public void createArchive() throws IOException {
+		archive = Files.createDirectories( directory.resolve( "archive" ) );
+		Files.createDirectories( archive.resolve( "org/example" ) );
+		Files.createDirectories( archive.resolve( "META-INF" ) );
+		Files.writeString( archive.resolve( "org/example/Book.class" ), "book" );
+		Files.writeString( archive.resolve( "org/example/package-info.class" ), "package" );
+		Files.writeString( archive.resolve( "META-INF/orm.xml" ), ORM_XML );
+		cacheFile = directory.resolve( "scan.bin" );
+	}
+
+	@Test
+	public void testScanResultIsReused() throws IOException {
+		final ScanResult scanResult = scan();
+		assertThat( scans ).hasValue( 1 );
+		assertThat( cacheFile ).exists();
+
+		final ScanResult cachedResult = scan();
+		assertThat( scans ).hasValue( 1 );
+
+		assertThat( cachedResult.getLocatedPackages() ).hasSize( 1 );
+		assertThat( cachedResult.getLocatedPackages().iterator().next().getName() ).isEqualTo( "org.example" );
+
+		assertThat( cachedResult.getLocatedClasses() ).hasSize( 1 );
+		final ClassDescriptor classDescriptor = cachedResult.getLocatedClasses().iterator().next();
+		assertThat( classDescriptor.getName() ).isEqualTo( "org.example.Book" );
+		assertThat( classDescriptor.getCategorization() ).isEqualTo( ClassDescriptor.Categorization.MODEL );
+		try ( InputStream stream = classDescriptor.getStreamAccess().accessInputStream() ) {
+			assertThat( stream ).hasContent( "book" );
+		}
+
+		assertThat( cachedResult.getLocatedMappingFiles() ).hasSize( 1 );
+		final MappingFileDescriptor mappingFile = cachedResult.getLocatedMappingFiles().iterator().next();
+		assertThat( mappingFile.getName() ).isEqualTo( "META-INF/orm.xml" );
+		try ( InputStream stream = mappingFile.getStreamAccess().accessInputStream() ) {
+			assertThat( stream ).hasContent( ORM_XML );
+		}
+
+		assertThat( scanResult.getLocatedClasses() ).hasSameSizeAs( cachedResult.getLocatedClasses() );
+	}
+
+	@Test
+	public void testChangedArchiveIsScannedAgain() throws IOException {
+		scan();
+		scan();
+		assertThat( scans ).hasValue( 1 );
+
+		Files.writeString( archive.resolve( "org/example/Author.class" ), "author" );
+		scan();
+		assertThat( scans ).hasValue( 2 );
+
+		scan();
+		assertThat( scans ).hasValue( 2 );
+	}
+
+	@Test
+	public void testCorruptCacheFileIsIgnored() throws IOException {
+		Files.writeString( cacheFile, "garbage" );
+		scan();
+		assertThat( scans ).hasValue( 1 );
+
+		scan();
+		assertThat( scans ).hasValue( 1 );
+	}
+
+	private ScanResult scan() {
+		final Scanner delegate = (environment, options, parameters) -> {
+			scans.incrementAndGet();
+			return new ScanResultImpl(
+					Set.of( new PackageDescriptorImpl(
+							"org.example",
+							new FileInputStreamAccess(
+									"package-info.class",
+									archive.resolve( "org/example/package-info.class" ).toFile()
+							)
+					) ),
+					Set.of( new ClassDescriptorImpl(
+							"org.example.Book",
+							ClassDescriptor.Categorization.MODEL,
+							new FileInputStreamAccess( "Book.class", archive.resolve( "org/example/Book.class" ).toFile() )
+					) ),
+					Set.of( new MappingFileDescriptorImpl(
+							"META-INF/orm.xml",
+							new ByteArrayInputStreamAccess( "orm.xml", ORM_XML.getBytes( StandardCharsets.UTF_8 ) )
+					) )
+			);
+		};
+		return new CachingScanner( delegate, cacheFile )
+				.scan( new Environment( archive ), new StandardScanOptions(), StandardScanParameters.INSTANCE );
+	}
+
+	private static class Environment implements ScanEnvironment {
+		private final URL rootUrl;
+
+		private Environment(Path root) {
+			try {
+				this.rootUrl = root.toUri().toURL();
+			}
+			catch (MalformedURLException e) {
+				throw new IllegalStateException( e );
+			}
+		}
+
+		@Override
+		public URL getRootUrl() {
+			return rootUrl;
+		}
+
+		@Override
+		public List<URL> getNonRootUrls() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedClassNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedMappingFiles() {
+			return Collections.emptyList();
+		}
+	}
+}
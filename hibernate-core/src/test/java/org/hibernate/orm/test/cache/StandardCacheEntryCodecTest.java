@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistry;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.JavaSerializationCacheEntryCodec;
+import org.hibernate.cache.spi.entry.StandardCacheEntryCodec;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link StandardCacheEntryCodec}.
+ */
+@DomainModel(annotatedClasses = StandardCacheEntryCodecTest.Product.class)
+@SessionFactory
+public class StandardCacheEntryCodecTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testEntityEntry(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		scope.inTransaction( session -> {
+			final Product product = new Product( 1L, "Widget", Status.ACTIVE, new BigDecimal( "19.99" ),
+					LocalDate.of( 2024, 5, 17 ), new Dimensions( 2.5, 4.0 ) );
+			product.tags.add( "blue" );
+			product.tags.add( "small" );
+			session.persist( product );
+		} );
+
+		scope.inSession( session -> {
+			final Product product = session.find( Product.class, 1L );
+			final CacheEntry entry = buildCacheEntry( session, product );
+
+			final byte[] bytes = StandardCacheEntryCodec.INSTANCE.encode( entry, factory );
+			assertThat( bytes ).isNotNull();
+			assertThat( bytes.length )
+					.isLessThan( JavaSerializationCacheEntryCodec.INSTANCE.encode( entry, factory ).length / 3 );
+
+			final CacheEntry decoded = (CacheEntry) StandardCacheEntryCodec.INSTANCE.decode( bytes, factory );
+			assertThat( decoded.getSubclass() ).isEqualTo( entry.getSubclass() );
+			assertThat( decoded.getVersion() ).isEqualTo( entry.getVersion() );
+			assertThat( decoded.getDisassembledState() ).containsExactly( entry.getDisassembledState() );
+		} );
+	}
+
+	@Test
+	public void testCollectionEntry(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		scope.inTransaction( session -> {
+			final Product product = new Product( 1L, "Widget", Status.ACTIVE, BigDecimal.ONE,
+					LocalDate.of( 2024, 5, 17 ), new Dimensions( 2.5, 4.0 ) );
+			product.tags.add( "blue" );
+			product.tags.add( "small" );
+			session.persist( product );
+		} );
+
+		scope.inSession( session -> {
+			final Product product = session.find( Product.class, 1L );
+			Hibernate.initialize( product.tags );
+			final CollectionPersister persister = factory.getMappingMetamodel()
+					.getCollectionDescriptor( Product.class.getName() + ".tags" );
+			final CollectionCacheEntry entry =
+					new CollectionCacheEntry( (PersistentCollection<?>) product.tags, persister );
+
+			final byte[] bytes = StandardCacheEntryCodec.INSTANCE.encode( entry, factory );
+			final CollectionCacheEntry decoded =
+					(CollectionCacheEntry) StandardCacheEntryCodec.INSTANCE.decode( bytes, factory );
+			assertThat( decoded.getState() ).containsExactlyInAnyOrder( "blue", "small" );
+		} );
+	}
+
+	@Test
+	public void testIncompatibleFormat(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final byte[] bytes = StandardCacheEntryCodec.INSTANCE.encode( new Object[] { 1L, "one" }, factory );
+		assertThat( (Object[]) StandardCacheEntryCodec.INSTANCE.decode( bytes, factory ) )
+				.containsExactly( 1L, "one" );
+
+		bytes[0] = 99;
+		assertThat( StandardCacheEntryCodec.INSTANCE.decode( bytes, factory ) ).isNull();
+	}
+
+	@Test
+	public void testReadWriteItemAndLock(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		scope.inTransaction( session -> session.persist( new Product( 1L, "Widget", Status.ACTIVE, BigDecimal.ONE,
+				LocalDate.of( 2024, 5, 17 ), new Dimensions( 2.5, 4.0 ) ) ) );
+
+		scope.inSession( session -> {
+			final Product product = session.find( Product.class, 1L );
+			final CacheEntry entry = buildCacheEntry( session, product );
+			final AbstractReadWriteAccess.Item item =
+					new AbstractReadWriteAccess.Item( entry, entry.getVersion(), 12345L );
+
+			final AbstractReadWriteAccess.Item decodedItem = (AbstractReadWriteAccess.Item)
+					StandardCacheEntryCodec.INSTANCE.decode( StandardCacheEntryCodec.INSTANCE.encode( item, factory ), factory );
+			assertThat( decodedItem.getTimestamp() ).isEqualTo( 12345L );
+			assertThat( decodedItem.getVersion() ).isEqualTo( entry.getVersion() );
+			assertThat( decodedItem.isReadable( 12346L ) ).isTrue();
+			final CacheEntry decodedEntry = (CacheEntry) decodedItem.getValue();
+			assertThat( decodedEntry.getDisassembledState() ).containsExactly( entry.getDisassembledState() );
+
+			final AbstractReadWriteAccess.SoftLockImpl lock = item.lock( 67890L, UUID.randomUUID(), 7L );
+			final AbstractReadWriteAccess.SoftLockImpl decodedLock = (AbstractReadWriteAccess.SoftLockImpl)
+					StandardCacheEntryCodec.INSTANCE.decode( StandardCacheEntryCodec.INSTANCE.encode( lock, factory ), factory );
+			assertThat( decodedLock ).isEqualTo( lock );
+			assertThat( decodedLock.isUnlockable( lock ) ).isTrue();
+			assertThat( decodedLock.isReadable( 12346L ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testReorderedEnumConstants() {
+		final byte[] bytes;
+		try ( SessionFactoryImplementor factory = buildShipmentFactory( "PENDING", "SHIPPED", "DELIVERED" ) ) {
+			bytes = encodeShipment( factory, "SHIPPED" );
+		}
+		try ( SessionFactoryImplementor factory = buildShipmentFactory( "PENDING", "SHIPPED", "DELIVERED" ) ) {
+			final CacheEntry decoded = (CacheEntry) StandardCacheEntryCodec.INSTANCE.decode( bytes, factory );
+			assertThat( decoded ).isNotNull();
+			assertThat( decoded.getDisassembledState()[0] ).hasToString( "SHIPPED" );
+		}
+		try ( SessionFactoryImplementor factory = buildShipmentFactory( "SHIPPED", "PENDING", "DELIVERED" ) ) {
+			// the ordinal would now be read as PENDING
+			assertThat( StandardCacheEntryCodec.INSTANCE.decode( bytes, factory ) ).isNull();
+		}
+	}
+
+	private static byte[] encodeShipment(SessionFactoryImplementor factory, String status) {
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( "Shipment" );
+		final Object[] state = new Object[1];
+		for ( Object constant : persister.getPropertyTypes()[0].getReturnedClass().getEnumConstants() ) {
+			if ( ( (Enum<?>) constant ).name().equals( status ) ) {
+				state[0] = constant;
+			}
+		}
+		try ( SessionImplementor session = (SessionImplementor) factory.openSession() ) {
+			final CacheEntry entry = new StandardCacheEntryImpl( state, persister, null, session, null );
+			return StandardCacheEntryCodec.INSTANCE.encode( entry, factory );
+		}
+	}
+
+	/**
+	 * Builds a session factory for an entity with an attribute of an enumerated type
+	 * with the given constants, both classes being defined by a new class loader, so
+	 * that the enumerated type has the same name whatever the order of its constants.
+	 */
+	private static SessionFactoryImplementor buildShipmentFactory(String... statuses) {
+		final DynamicType.Unloaded<?> statusType = new ByteBuddy()
+				.makeEnumeration( statuses )
+				.name( StandardCacheEntryCodecTest.class.getPackageName() + ".ShipmentStatus" )
+				.make();
+		final Class<?> shipmentType = new ByteBuddy()
+				.subclass( Object.class )
+				.name( StandardCacheEntryCodecTest.class.getPackageName() + ".Shipment" )
+				.annotateType( AnnotationDescription.Builder.ofType( Entity.class ).define( "name", "Shipment" ).build() )
+				.defineField( "id", Long.class, Visibility.PRIVATE )
+				.annotateField( AnnotationDescription.Builder.ofType( Id.class ).build() )
+				.defineField( "status", statusType.getTypeDescription(), Visibility.PRIVATE )
+				.annotateField( AnnotationDescription.Builder.ofType( Enumerated.class )
+						.define( "value", EnumType.STRING ).build() )
+				.make()
+				.include( statusType )
+				.load( StandardCacheEntryCodecTest.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER )
+				.getLoaded();
+		final BootstrapServiceRegistry bootstrapRegistry = new BootstrapServiceRegistryBuilder()
+				.applyClassLoader( shipmentType.getClassLoader() )
+				.build();
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder( bootstrapRegistry ).build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( shipmentType )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	private static CacheEntry buildCacheEntry(SessionImplementor session, Product product) {
+		final EntityPersister persister = session.getEntityPersister( null, product );
+		final Object[] state = persister.getValues( product );
+		return persister.buildCacheEntry( product, state, persister.getVersion( product ), session );
+	}
+
+	public enum Status {
+		DRAFT, ACTIVE, RETIRED
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private double width;
+		private double height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double width, double height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+		@Version
+		private Integer version;
+		private String name;
+		@Enumerated(EnumType.STRING)
+		private Status status;
+		private BigDecimal price;
+		private LocalDate released;
+		private Dimensions dimensions;
+		@ElementCollection
+		private List<String> tags = new ArrayList<>();
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, Status status, BigDecimal price, LocalDate released, Dimensions dimensions) {
+			this.id = id;
+			this.name = name;
+			this.status = status;
+			this.price = price;
+			this.released = released;
+			this.dimensions = dimensions;
+		}
+	}
+}
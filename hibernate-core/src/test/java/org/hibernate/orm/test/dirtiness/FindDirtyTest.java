@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link EntityPersister#findDirty} for properties which are compared
+ * by {@code equals()} and for properties which are compared by their type.
+ */
+@DomainModel(annotatedClasses = FindDirtyTest.Item.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"))
+public class FindDirtyTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1L, "first", 1, new BigDecimal( "1.50" ), new byte[] { 1, 2 } ) );
+			session.persist( new Item( 2L, "second", 2, new BigDecimal( "2.50" ), new byte[] { 3, 4 } ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testFindDirty(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( item );
+			final EntityPersister persister = entry.getPersister();
+
+			// equal values in new instances are not dirty
+			item.name = new String( item.name );
+			item.price = new BigDecimal( "1.5" );
+			item.since = LocalDate.of( 2024, 1, 1 );
+			assertThat( persister.findDirty( persister.getValues( item ), entry.getLoadedState(), item, session ) )
+					.isNull();
+
+			item.name = "changed";
+			item.quantity = 7;
+			item.data[0] = 9;
+			// not updatable
+			item.code = "other";
+			assertThat( persister.findDirty( persister.getValues( item ), entry.getLoadedState(), item, session ) )
+					.containsExactly(
+							persister.getPropertyIndex( "data" ),
+							persister.getPropertyIndex( "name" ),
+							persister.getPropertyIndex( "quantity" )
+					);
+
+			item.name = null;
+			assertThat( persister.findDirty( persister.getValues( item ), entry.getLoadedState(), item, session ) )
+					.contains( persister.getPropertyIndex( "name" ) );
+		} );
+	}
+
+	@Test
+	public void testFlushUpdatesOnlyDirtyEntities(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Item first = session.find( Item.class, 1L );
+			session.find( Item.class, 2L );
+			first.quantity = 5;
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 1L ).quantity ).isEqualTo( 5 );
+			assertThat( session.find( Item.class, 2L ).quantity ).isEqualTo( 2 );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+		private int quantity;
+		private BigDecimal price;
+		private byte[] data;
+		private LocalDate since;
+		@Column(updatable = false)
+		private String code;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, int quantity, BigDecimal price, byte[] data) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+			this.price = price;
+			this.data = data;
+			this.since = LocalDate.of( 2024, 1, 1 );
+			this.code = "code";
+		}
+	}
+}
@@ -4,6 +4,15 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -15,6 +24,7 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -302,6 +312,86 @@ public void testBasicPooledThreadLocalLoOptimizerUsage() {
 
 	}
 
+	@Test
+	public void testBasicConcurrentPooledLoOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildConcurrentPooledLoOptimizer( 1, 10 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		for ( int i = 2; i <= 5; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// the low-water mark of the first block, where the next block is reserved
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 6, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+
+		for ( int i = 7; i <= 15; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 16, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoOptimizerFromManyThreads() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 1000;
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final AccessCallback callback = new AccessCallback() {
+			@Override
+			public synchronized IntegralDataTypeHolder getNextValue() {
+				return sequence.getNextValue();
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+		final Optimizer optimizer = buildConcurrentPooledLoOptimizer( 1, 10 );
+
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						values.add( ( Long ) optimizer.generate( callback ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		// every value is unique, and no reserved block is skipped
+		assertEquals( threads * valuesPerThread, values.size() );
+		assertEquals( 1, Collections.min( values ).intValue() );
+		assertTrue( Collections.max( values ) <= sequence.getCurrentValue() + 9 );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -322,6 +412,10 @@ private static Optimizer buildPooledThreadLocalLoOptimizer(long initial, int inc
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildConcurrentPooledLoOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
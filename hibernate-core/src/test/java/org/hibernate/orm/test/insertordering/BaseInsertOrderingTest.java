@@ -102,6 +102,10 @@ void verifyPreparedStatementCount(int expectedBatchCount) {
 				.isEqualTo( expectedBatchCount );
 	}
 
+	List<String> getPreparedStatementSql() {
+		return connectionProvider.getPreparedSQLStatements();
+	}
+
 	void clearBatches() {
 		connectionProvider.clear();
 	}
@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@value AvailableSettings#BATCH_PIPELINING}, without ordering of inserts.
+ */
+public class BatchPipeliningTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				PurchaseOrder.class,
+				OrderLine.class,
+				AuditEntry.class,
+				Address.class,
+				Person.class,
+				Folder.class,
+				Document.class
+		};
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.ORDER_INSERTS, "false" );
+		builder.applySetting( AvailableSettings.BATCH_PIPELINING, "true" );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInterleavedInserts() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				final PurchaseOrder order = new PurchaseOrder( i );
+				session.persist( order );
+				session.persist( new OrderLine( i * 10 + 1, order ) );
+				session.persist( new OrderLine( i * 10 + 2, order ) );
+				session.persist( new AuditEntry( i, order ) );
+			}
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into PurchaseOrder (id) values (?)", 3 ),
+				new Batch( "insert into OrderLine (purchaseOrder_id,id) values (?,?)", 6 ),
+				new Batch( "insert into AuditEntry (purchaseOrder_id,id) values (?,?)", 3 )
+		);
+		verifyPreparedStatementCount( 3 );
+	}
+
+	@Test
+	public void testInsertDependingOnLaterBatch() {
+		sessionFactoryScope().inTransaction( session -> {
+			session.persist( new Person( 1L, null ) );
+			final Address home = new Address( 1L );
+			session.persist( home );
+			// must not be executed along with the first person,
+			// before the address it references
+			session.persist( new Person( 2L, home ) );
+			session.persist( new Address( 2L ) );
+			clearBatches();
+		} );
+
+		// the pipeline was drained before the second person was added
+		verifyPreparedStatementCount( 4 );
+		sessionFactoryScope().inTransaction( session -> {
+			assertThat( session.find( Person.class, 2L ).address.id ).isEqualTo( 1L );
+			assertThat( session.find( Address.class, 2L ) ).isNotNull();
+		} );
+	}
+
+	@Test
+	public void testBatchExecutedByEarlierFlush() {
+		sessionFactoryScope().inTransaction( session -> {
+			session.persist( new Person( 10L, null ) );
+			session.flush();
+			clearBatches();
+
+			// the batch of persons was executed by the flush, and so
+			// must not cause the pipeline to be drained
+			final Address first = new Address( 1L );
+			session.persist( first );
+			session.persist( new Person( 1L, first ) );
+			final Address second = new Address( 2L );
+			session.persist( second );
+			session.persist( new Person( 2L, second ) );
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Address (id) values (?)", 2 ),
+				new Batch( "insert into Person (address_id,id) values (?,?)", 2 )
+		);
+		verifyPreparedStatementCount( 2 );
+	}
+
+	@Test
+	public void testInsertDependingOnLaterBatchViaJoinColumnOfOtherSide() {
+		sessionFactoryScope().inTransaction( session -> session.persist( new Folder( 1L ) ) );
+
+		sessionFactoryScope().inTransaction( session -> {
+			final Document first = new Document( 1L );
+			session.find( Folder.class, 1L ).documents.add( first );
+			session.persist( first );
+			final Folder folder = new Folder( 2L );
+			// the join column of the second document references
+			// the second folder, which is inserted after the first
+			// document, and so the pipeline must be drained
+			folder.documents.add( new Document( 2L ) );
+			session.persist( folder );
+		} );
+
+		sessionFactoryScope().inTransaction( session -> {
+			assertThat( session.find( Folder.class, 1L ).documents ).extracting( document -> document.id )
+					.containsExactly( 1L );
+			assertThat( session.find( Folder.class, 2L ).documents ).extracting( document -> document.id )
+					.containsExactly( 2L );
+		} );
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class PurchaseOrder {
+		@Id
+		private Long id;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	public static class OrderLine {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private PurchaseOrder purchaseOrder;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Long id, PurchaseOrder purchaseOrder) {
+			this.id = id;
+			this.purchaseOrder = purchaseOrder;
+		}
+	}
+
+	@Entity(name = "AuditEntry")
+	public static class AuditEntry {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private PurchaseOrder purchaseOrder;
+
+		public AuditEntry() {
+		}
+
+		public AuditEntry(Long id, PurchaseOrder purchaseOrder) {
+			this.id = id;
+			this.purchaseOrder = purchaseOrder;
+		}
+	}
+
+	@Entity(name = "Address")
+	public static class Address {
+		@Id
+		private Long id;
+
+		public Address() {
+		}
+
+		public Address(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Address address;
+
+		public Person() {
+		}
+
+		public Person(Long id, Address address) {
+			this.id = id;
+			this.address = address;
+		}
+	}
+
+	@Entity(name = "Folder")
+	public static class Folder {
+		@Id
+		private Long id;
+
+		@OneToMany(cascade = CascadeType.PERSIST)
+		@JoinColumn(name = "folder_id", nullable = false)
+		private List<Document> documents = new ArrayList<>();
+
+		public Folder() {
+		}
+
+		public Folder(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		public Document() {
+		}
+
+		public Document(Long id) {
+			this.id = id;
+		}
+	}
+}
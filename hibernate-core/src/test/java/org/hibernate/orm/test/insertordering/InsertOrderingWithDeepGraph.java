@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the ordering of inserts of several entities depending on each other,
+ * persisted in an interleaved order.
+ */
+public class InsertOrderingWithDeepGraph extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				Region.class,
+				Country.class,
+				City.class,
+				Address.class,
+		};
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Address address = new Address();
+				final City city = new City();
+				final Country country = new Country();
+				final Region region = new Region();
+				address.city = city;
+				// also depends on a region, skipping the intermediate entities
+				address.region = region;
+				city.country = country;
+				country.region = region;
+				session.persist( region );
+				session.persist( country );
+				session.persist( city );
+				session.persist( address );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Region (capital_id,name,id) values (?,?,?)", 3 ),
+				new Batch( "insert into Country (name,region_id,id) values (?,?,?)", 3 ),
+				new Batch( "insert into City (country_id,name,id) values (?,?,?)", 3 ),
+				new Batch( "insert into Address (city_id,region_id,id) values (?,?,?)", 3 )
+		);
+		verifyPreparedStatementCount( 4 );
+	}
+
+	@Test
+	public void testBatchingWithTypeCycle() {
+		sessionFactoryScope().inTransaction( session -> {
+			// Region depends on Country, while Country depends on another Region,
+			// so neither can be scheduled before the other
+			final Region region1 = new Region();
+			session.persist( region1 );
+			final Country country1 = new Country();
+			country1.region = region1;
+			session.persist( country1 );
+			final Region region2 = new Region();
+			region2.capital = country1;
+			session.persist( region2 );
+
+			final City city = new City();
+			session.persist( city );
+
+			clearBatches();
+		} );
+
+		// the inserts of the cycle keep their original order, after the other inserts
+		verifyContainsBatches( new Batch( "insert into City (country_id,name,id) values (?,?,?)" ) );
+		verifyPreparedStatementCount( 4 );
+	}
+
+	@Entity(name = "Region")
+	public static class Region {
+		@Id
+		@GeneratedValue
+		Long id;
+		String name;
+		@ManyToOne
+		Country capital;
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		@GeneratedValue
+		Long id;
+		String name;
+		@ManyToOne
+		Region region;
+	}
+
+	@Entity(name = "City")
+	public static class City {
+		@Id
+		@GeneratedValue
+		Long id;
+		String name;
+		@ManyToOne
+		Country country;
+	}
+
+	@Entity(name = "Address")
+	public static class Address {
+		@Id
+		@GeneratedValue
+		Long id;
+		@ManyToOne
+		Region region;
+		@ManyToOne
+		City city;
+	}
+}
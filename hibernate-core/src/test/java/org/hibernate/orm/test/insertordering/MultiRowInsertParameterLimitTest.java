@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@value AvailableSettings#MULTI_ROW_INSERTS} respects the
+ * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit parameter count limit}.
+ */
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertParameterLimitTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { PurchaseOrder.class };
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.DIALECT, TestDialect.class.getName() );
+		builder.applySetting( AvailableSettings.MULTI_ROW_INSERTS, "true" );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testRowsExceedingParameterCountLimit() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long i = 1; i <= 12; i++ ) {
+				session.persist( new PurchaseOrder( i, "order " + i ) );
+			}
+			clearBatches();
+		} );
+
+		// each statement binds at most 5 parameters, that is, 2 rows
+		assertThat( getPreparedStatementSql() ).hasSize( 6 )
+				.containsOnly( "insert into PurchaseOrder (name,id) values (?,?),(?,?)" );
+		sessionFactoryScope().inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from PurchaseOrder", Long.class )
+					.getSingleResult() ).isEqualTo( 12L );
+			assertThat( session.find( PurchaseOrder.class, 12L ).name ).isEqualTo( "order 12" );
+		} );
+	}
+
+	public static class TestDialect extends H2Dialect {
+		@Override
+		public int getParameterCountLimit() {
+			return 5;
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class PurchaseOrder {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
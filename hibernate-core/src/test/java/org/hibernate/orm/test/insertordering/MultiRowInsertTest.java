@@ -0,0 +1,297 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SecondaryTable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@value AvailableSettings#MULTI_ROW_INSERTS}.
+ */
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiRowInsert.class)
+public class MultiRowInsertTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				PurchaseOrder.class,
+				OrderLine.class,
+				Invoice.class,
+				Ticket.class,
+				Parcel.class
+		};
+	}
+
+	private final ExtraRowStatementInspector statementInspector = new ExtraRowStatementInspector();
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.MULTI_ROW_INSERTS, "true" );
+		builder.applySetting( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		statementInspector.enabled = false;
+		sessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testMultiRowInserts() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				final PurchaseOrder order = new PurchaseOrder( i, "order " + i );
+				session.persist( order );
+				session.persist( new OrderLine( i * 10 + 1, "line " + ( i * 10 + 1 ), order ) );
+				session.persist( new OrderLine( i * 10 + 2, "line " + ( i * 10 + 2 ), order ) );
+			}
+			clearBatches();
+		} );
+
+		assertThat( getPreparedStatementSql() ).containsExactly(
+				"insert into PurchaseOrder (name,id) values (?,?),(?,?),(?,?)",
+				"insert into OrderLine (name,purchaseOrder_id,id) values (?,?,?),(?,?,?),(?,?,?),(?,?,?),(?,?,?),(?,?,?)"
+		);
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				assertThat( session.find( PurchaseOrder.class, i ).name ).isEqualTo( "order " + i );
+				final OrderLine line = session.find( OrderLine.class, i * 10 + 2 );
+				assertThat( line.name ).isEqualTo( "line " + ( i * 10 + 2 ) );
+				assertThat( line.purchaseOrder.id ).isEqualTo( i );
+			}
+		} );
+	}
+
+	@Test
+	public void testRowsExceedingBatchSize() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long i = 1; i <= 12; i++ ) {
+				session.persist( new PurchaseOrder( i, "order " + i ) );
+			}
+			clearBatches();
+		} );
+
+		// the batch is executed when it is full
+		assertThat( getPreparedStatementSql() ).containsExactly(
+				"insert into PurchaseOrder (name,id) values (?,?)" + ",(?,?)".repeat( 9 ),
+				"insert into PurchaseOrder (name,id) values (?,?),(?,?)"
+		);
+		sessionFactoryScope().inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from PurchaseOrder", Long.class )
+					.getSingleResult() ).isEqualTo( 12L );
+			assertThat( session.find( PurchaseOrder.class, 12L ).name ).isEqualTo( "order 12" );
+		} );
+	}
+
+	@Test
+	public void testUnexpectedRowCount() {
+		statementInspector.enabled = true;
+		sessionFactoryScope().inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				for ( long i = 1; i <= 3; i++ ) {
+					session.persist( new PurchaseOrder( i, "order " + i ) );
+				}
+				// the statement inserts one more row than the rows of the batch
+				assertThatThrownBy( session::flush ).hasCauseInstanceOf( StaleStateException.class );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+
+	@Test
+	public void testSkippedSecondaryTable() {
+		sessionFactoryScope().inTransaction( session -> {
+			session.persist( new Invoice( 1L, "invoice 1", "note 1" ) );
+			session.persist( new Invoice( 2L, "invoice 2", null ) );
+			session.persist( new Invoice( 3L, "invoice 3", "note 3" ) );
+			clearBatches();
+		} );
+
+		// the optional secondary table has no row for the invoice without a note
+		assertThat( getPreparedStatementSql() ).containsExactly(
+				"insert into Invoice (name,id) values (?,?),(?,?),(?,?)",
+				"insert into InvoiceNote (note,id) values (?,?),(?,?)"
+		);
+		sessionFactoryScope().inTransaction( session -> {
+			assertThat( session.find( Invoice.class, 1L ).note ).isEqualTo( "note 1" );
+			assertThat( session.find( Invoice.class, 2L ).note ).isNull();
+			assertThat( session.find( Invoice.class, 3L ).note ).isEqualTo( "note 3" );
+			assertThat( session.createNativeQuery( "select count(*) from InvoiceNote", Long.class )
+					.getSingleResult() ).isEqualTo( 2L );
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+	public void testIdentityColumn() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Ticket( "ticket " + i ) );
+			}
+			clearBatches();
+		} );
+
+		// the id generated by each insert is needed, so the inserts are not batched
+		assertThat( getPreparedStatementSql() )
+				.filteredOn( sql -> sql.startsWith( "insert" ) )
+				.hasSize( 3 )
+				.allSatisfy( sql -> assertThat( sql ).doesNotContain( "),(" ) );
+		sessionFactoryScope().inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Ticket", Long.class ).getSingleResult()
+		).isEqualTo( 3L ) );
+	}
+
+	@Test
+	public void testGeneratedColumn() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				session.persist( new Parcel( i, "parcel " + i ) );
+			}
+			clearBatches();
+		} );
+
+		// the values generated by each insert are read back, so the inserts are not batched
+		assertThat( getPreparedStatementSql() )
+				.filteredOn( sql -> sql.startsWith( "insert" ) )
+				.hasSize( 3 )
+				.allSatisfy( sql -> assertThat( sql ).doesNotContain( "),(" ) );
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				assertThat( session.find( Parcel.class, i ).status ).isEqualTo( "new" );
+			}
+		} );
+	}
+
+	/**
+	 * Once enabled, appends a row to the multi-row inserts into {@code PurchaseOrder}.
+	 */
+	private static class ExtraRowStatementInspector implements StatementInspector {
+		private volatile boolean enabled;
+
+		@Override
+		public String inspect(String sql) {
+			return enabled && sql.startsWith( "insert into PurchaseOrder " ) && sql.contains( "),(" )
+					? sql + ",('extra',99)"
+					: sql;
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class PurchaseOrder {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	public static class OrderLine {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private PurchaseOrder purchaseOrder;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Long id, String name, PurchaseOrder purchaseOrder) {
+			this.id = id;
+			this.name = name;
+			this.purchaseOrder = purchaseOrder;
+		}
+	}
+
+	@Entity(name = "Invoice")
+	@SecondaryTable(name = "InvoiceNote")
+	public static class Invoice {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@Column(table = "InvoiceNote")
+		private String note;
+
+		public Invoice() {
+		}
+
+		public Invoice(Long id, String name, String note) {
+			this.id = id;
+			this.name = name;
+			this.note = note;
+		}
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		public Ticket() {
+		}
+
+		public Ticket(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Parcel")
+	public static class Parcel {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@Generated
+		@ColumnDefault("'new'")
+		private String status;
+
+		public Parcel() {
+		}
+
+		public Parcel(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.query.spi.AsyncQueryExecutor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs load/flush cycles of many sessions, each in its own virtual thread,
+ * and verifies using JFR that no virtual thread gets pinned to its carrier.
+ * <p>
+ * The virtual threads are obtained from the default {@link AsyncQueryExecutor}.
+ * As many transactions as the connection pool allows run at the same time, so
+ * that the sessions contend for connections and identifiers. A virtual thread
+ * which is deliberately pinned checks that pinning is actually detected, which
+ * is why the test is limited to the JDKs where monitors pin virtual threads.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21, max = JRE.JAVA_23)
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = VirtualThreadPinningTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PREFERRED_POOLED_OPTIMIZER, value = "pooled-lotl"),
+		@Setting(name = AvailableSettings.POOL_SIZE, value = "32")
+})
+@SessionFactory
+public class VirtualThreadPinningTest {
+	private static final int SESSION_COUNT = 10_000;
+	private static final int ALLOCATION_SIZE = 50;
+	// must not exceed the size of the connection pool
+	private static final int MAX_CONCURRENT_TRANSACTIONS = 32;
+
+	private static final Object PINNING_MONITOR = new Object();
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testNoPinningDuringLoadAndFlush(SessionFactoryScope scope) throws Exception {
+		final Executor executor = scope.getSessionFactory().getServiceRegistry()
+				.requireService( AsyncQueryExecutor.class )
+				.getExecutor();
+		final Semaphore transactions = new Semaphore( MAX_CONCURRENT_TRANSACTIONS );
+		final CountDownLatch done = new CountDownLatch( SESSION_COUNT );
+		final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+		final Path dump = Files.createTempFile( "virtual-thread-pinning", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( "jdk.VirtualThreadPinned" ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.start();
+			final CountDownLatch pinned = new CountDownLatch( 1 );
+			executor.execute( () -> {
+				try {
+					pinDeliberately();
+				}
+				finally {
+					pinned.countDown();
+				}
+			} );
+			for ( int i = 0; i < SESSION_COUNT; i++ ) {
+				final String name = "item #" + i;
+				executor.execute( () -> {
+					try {
+						transactions.acquire();
+						try {
+							scope.inTransaction( session -> {
+								final Item item = new Item( name );
+								session.persist( item );
+								session.flush();
+								session.clear();
+								assertThat( session.find( Item.class, item.id ).name ).isEqualTo( name );
+								session.find( Item.class, item.id ).name = name.toUpperCase();
+							} );
+						}
+						finally {
+							transactions.release();
+						}
+					}
+					catch (Throwable e) {
+						failures.add( e );
+					}
+					finally {
+						done.countDown();
+					}
+				} );
+			}
+			assertThat( done.await( 5, TimeUnit.MINUTES ) ).isTrue();
+			assertThat( pinned.await( 1, TimeUnit.MINUTES ) ).isTrue();
+			recording.stop();
+			recording.dump( dump );
+		}
+
+		assertThat( failures ).isEmpty();
+
+		final Map<Boolean, List<String>> pinnedStackTraces = RecordingFile.readAllEvents( dump ).stream()
+				.map( VirtualThreadPinningTest::format )
+				.collect( Collectors.partitioningBy( stackTrace -> stackTrace.contains( ".pinDeliberately" ) ) );
+		Files.delete( dump );
+		// the recording does detect pinning
+		assertThat( pinnedStackTraces.get( true ) ).isNotEmpty();
+		assertThat( pinnedStackTraces.get( false ) ).isEmpty();
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Item where upper(name) = name", Long.class )
+					.getSingleResult() ).isEqualTo( SESSION_COUNT );
+			// virtual threads share the state of the pooled-lo optimizer,
+			// instead of each reserving its own block of identifiers
+			assertThat( session.createSelectionQuery( "select max(id) from Item", Long.class )
+					.getSingleResult() ).isLessThan( SESSION_COUNT + (long) MAX_CONCURRENT_TRANSACTIONS * ALLOCATION_SIZE );
+		} );
+	}
+
+	private static void pinDeliberately() {
+		synchronized ( PINNING_MONITOR ) {
+			try {
+				Thread.sleep( 10 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static String format(RecordedEvent event) {
+		return event.getStackTrace().getFrames().stream()
+				.map( RecordedFrame::getMethod )
+				.map( method -> method.getType().getName() + "." + method.getName() )
+				.collect( Collectors.joining( "\n\tat ", "Pinned virtual thread:\n\tat ", "" ) );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_seq")
+		@SequenceGenerator(name = "item_seq", allocationSize = ALLOCATION_SIZE)
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
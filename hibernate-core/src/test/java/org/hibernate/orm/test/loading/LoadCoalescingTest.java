@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@value FetchSettings#LOAD_COALESCING_WINDOW}.
+ */
+@DomainModel(annotatedClasses = { LoadCoalescingTest.Country.class, LoadCoalescingTest.Customer.class })
+@SessionFactory(
+		generateStatistics = true,
+		statementInspectorClass = LoadCoalescingTest.BlockingStatementInspector.class
+)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.LOAD_COALESCING_WINDOW, value = "500"))
+public class LoadCoalescingTest {
+	private static final int THREADS = 4;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= THREADS; id++ ) {
+				session.persist( new Country( id, "Country " + id ) );
+				session.persist( new Customer( id, "Customer " + id ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testConcurrentLoadsOfImmutableEntity(SessionFactoryScope scope) throws Exception {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<Country> countries = new ArrayList<>();
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		BlockingStatementInspector.block();
+		try {
+			// the first session loads its instance directly, and its
+			// statement is blocked until another statement is executed
+			final Future<Country> direct = executor.submit( () -> findInSession( scope, Country.class, 1L ) );
+			assertThat( BlockingStatementInspector.blocked.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+			// so the others are coalesced while it is loading
+			final List<Future<Country>> coalesced = new ArrayList<>();
+			for ( long id = 2; id <= THREADS; id++ ) {
+				final long countryId = id;
+				coalesced.add( executor.submit( () -> findInSession( scope, Country.class, countryId ) ) );
+			}
+			countries.add( direct.get() );
+			for ( Future<Country> future : coalesced ) {
+				countries.add( future.get() );
+			}
+		}
+		finally {
+			BlockingStatementInspector.unblock();
+			executor.shutdownNow();
+		}
+		for ( int i = 0; i < THREADS; i++ ) {
+			assertThat( countries.get( i ).name ).isEqualTo( "Country " + ( i + 1 ) );
+		}
+		assertThat( statistics.getPrepareStatementCount() ).isLessThan( THREADS );
+	}
+
+	@Test
+	public void testConcurrentLoadsOfMutableEntity(SessionFactoryScope scope) throws Exception {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<Customer> customers = loadConcurrently( scope, Customer.class );
+		for ( int i = 0; i < THREADS; i++ ) {
+			assertThat( customers.get( i ).name ).isEqualTo( "Customer " + ( i + 1 ) );
+		}
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( THREADS );
+	}
+
+	@Test
+	public void testSingleLoad(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final long start = System.nanoTime();
+		scope.inSession( session -> {
+			final Country country = session.find( Country.class, 1L );
+			assertThat( country.name ).isEqualTo( "Country 1" );
+			assertThat( session.find( Country.class, 99L ) ).isNull();
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		// nobody else was loading, so the loads did not wait for the window
+		assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) ).isLessThan( 500L );
+	}
+
+	@Test
+	public void testLoadOfInstanceInsertedByTransaction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Country( 99L, "Country 99" ) );
+			session.flush();
+			session.clear();
+			assertThat( session.find( Country.class, 99L ).name ).isEqualTo( "Country 99" );
+		} );
+	}
+
+	private static <T> List<T> loadConcurrently(SessionFactoryScope scope, Class<T> entityClass) throws Exception {
+		final CyclicBarrier barrier = new CyclicBarrier( THREADS );
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		try {
+			final List<Future<T>> futures = new ArrayList<>();
+			for ( long id = 1; id <= THREADS; id++ ) {
+				final long entityId = id;
+				futures.add( executor.submit( () -> scope.fromSession( session -> {
+					try {
+						barrier.await();
+					}
+					catch (Exception e) {
+						throw new RuntimeException( e );
+					}
+					return find( session, entityClass, entityId );
+				} ) ) );
+			}
+			final List<T> entities = new ArrayList<>();
+			for ( Future<T> future : futures ) {
+				entities.add( future.get() );
+			}
+			return entities;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static <T> T findInSession(SessionFactoryScope scope, Class<T> entityClass, long id) {
+		return scope.fromSession( session -> find( session, entityClass, id ) );
+	}
+
+	private static <T> T find(Session session, Class<T> entityClass, long id) {
+		final T entity = session.find( entityClass, id );
+		assertThat( session.contains( entity ) ).isTrue();
+		return entity;
+	}
+
+	/**
+	 * Once {@linkplain #block() armed}, blocks the first statement until another
+	 * statement is inspected, or for at most ten seconds.
+	 */
+	public static class BlockingStatementInspector implements StatementInspector {
+		private static volatile CountDownLatch blocked;
+		private static volatile CountDownLatch released;
+
+		static void block() {
+			released = new CountDownLatch( 1 );
+			blocked = new CountDownLatch( 1 );
+		}
+
+		static void unblock() {
+			final CountDownLatch released = BlockingStatementInspector.released;
+			blocked = null;
+			if ( released != null ) {
+				released.countDown();
+			}
+		}
+
+		@Override
+		public String inspect(String sql) {
+			final CountDownLatch blocked = BlockingStatementInspector.blocked;
+			final CountDownLatch released = BlockingStatementInspector.released;
+			if ( blocked != null ) {
+				if ( blocked.getCount() > 0 ) {
+					blocked.countDown();
+					try {
+						released.await( 10, TimeUnit.SECONDS );
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				else {
+					released.countDown();
+				}
+			}
+			return sql;
+		}
+	}
+
+	@Entity(name = "Country")
+	@Immutable
+	public static class Country {
+		@Id
+		private Long id;
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Long id;
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
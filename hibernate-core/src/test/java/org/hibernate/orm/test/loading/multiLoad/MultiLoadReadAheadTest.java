@@ -0,0 +1,246 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.annotations.Type;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.usertype.UserType;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@value FetchSettings#MULTI_LOAD_PARALLELISM}.
+ */
+@DomainModel(annotatedClasses = { MultiLoadReadAheadTest.Book.class, MultiLoadReadAheadTest.Shelf.class })
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.MULTI_LOAD_PARALLELISM, value = "3"))
+public class MultiLoadReadAheadTest {
+	private static final int BOOKS = 55;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= BOOKS; id++ ) {
+				session.persist( new Book( id, "Book " + id ) );
+				session.persist( new Shelf( id, "Shelf " + id ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int id = BOOKS + 1; id >= 1; id-- ) {
+			ids.add( id );
+		}
+		scope.inTransaction( session -> {
+			final Book managed = session.find( Book.class, 7 );
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.withBatchSize( 10 )
+					.multiLoad( ids );
+			assertThat( books ).hasSize( BOOKS + 1 );
+			// the id which does not exist
+			assertThat( books.get( 0 ) ).isNull();
+			for ( int i = 1; i < books.size(); i++ ) {
+				final Book book = books.get( i );
+				assertThat( book.id ).isEqualTo( ids.get( i ) );
+				assertThat( book.title ).isEqualTo( "Book " + book.id );
+				assertThat( session.contains( book ) ).isTrue();
+			}
+			assertThat( books ).contains( managed );
+		} );
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int id = 1; id <= BOOKS; id++ ) {
+			ids.add( id );
+		}
+		scope.inTransaction( session -> {
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.withBatchSize( 10 )
+					.enableOrderedReturn( false )
+					.multiLoad( ids );
+			assertThat( books ).hasSize( BOOKS );
+			assertThat( books ).extracting( book -> book.id ).containsExactlyInAnyOrderElementsOf( ids );
+		} );
+	}
+
+	@Test
+	public void testReadAheadStatementsAreInspected(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Integer> ids = new ArrayList<>();
+		for ( int id = 1; id <= BOOKS; id++ ) {
+			ids.add( id );
+		}
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.withBatchSize( 10 )
+					.enableOrderedReturn( false )
+					.multiLoad( ids );
+			assertThat( books ).hasSize( BOOKS );
+			// the statements read ahead are prepared by the thread of the session
+			statementInspector.assertExecutedCount( 6 );
+		} );
+	}
+
+	@Test
+	public void testUserTypeIsReadWithSession(SessionFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int id = 1; id <= BOOKS; id++ ) {
+			ids.add( id );
+		}
+		scope.inTransaction( session -> {
+			final List<Shelf> shelves = session.byMultipleIds( Shelf.class )
+					.withBatchSize( 10 )
+					.multiLoad( ids );
+			assertThat( shelves ).hasSize( BOOKS );
+			for ( int i = 0; i < shelves.size(); i++ ) {
+				assertThat( shelves.get( i ).label ).isEqualTo( "Shelf " + ids.get( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testMultiLoadAfterFlush(SessionFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int id = BOOKS + 1; id <= 2 * BOOKS; id++ ) {
+			ids.add( id );
+		}
+		scope.inTransaction( session -> {
+			for ( Integer id : ids ) {
+				session.persist( new Book( id, "Book " + id ) );
+			}
+			session.flush();
+			session.clear();
+
+			// the rows inserted by the transaction are not visible to other connections
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.withBatchSize( 10 )
+					.multiLoad( ids );
+			assertThat( books ).hasSize( BOOKS );
+			assertThat( books ).doesNotContainNull();
+			assertThat( books ).extracting( book -> book.id ).containsExactlyElementsOf( ids );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Shelf")
+	public static class Shelf {
+		@Id
+		private Integer id;
+		@Type(SessionBoundType.class)
+		private String label;
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+	}
+
+	/**
+	 * A user type which needs the session to read its values.
+	 */
+	public static class SessionBoundType implements UserType<String> {
+		@Override
+		public int getSqlType() {
+			return SqlTypes.VARCHAR;
+		}
+
+		@Override
+		public Class<String> returnedClass() {
+			return String.class;
+		}
+
+		@Override
+		public boolean equals(String x, String y) {
+			return Objects.equals( x, y );
+		}
+
+		@Override
+		public int hashCode(String x) {
+			return Objects.hashCode( x );
+		}
+
+		@Override
+		public String nullSafeGet(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+			assertThat( options.getSession().isOpen() ).isTrue();
+			return rs.getString( position );
+		}
+
+		@Override
+		public void nullSafeSet(PreparedStatement st, String value, int index, WrapperOptions options)
+				throws SQLException {
+			st.setString( index, value );
+		}
+
+		@Override
+		public String deepCopy(String value) {
+			return value;
+		}
+
+		@Override
+		public boolean isMutable() {
+			return false;
+		}
+
+		@Override
+		public Serializable disassemble(String value) {
+			return value;
+		}
+
+		@Override
+		public String assemble(Serializable cached, Object owner) {
+			return (String) cached;
+		}
+	}
+}
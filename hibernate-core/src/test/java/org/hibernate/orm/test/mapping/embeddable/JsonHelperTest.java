@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.embeddable;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.dialect.JsonHelper;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EmbeddableMappingType;
+import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
+import org.hibernate.type.SqlTypes;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link JsonHelper} directly, for the cases which are hard to observe through the database.
+ */
+@DomainModel(annotatedClasses = JsonHelperTest.Holder.class)
+@SessionFactory
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJsonAggregate.class)
+public class JsonHelperTest {
+
+	@Test
+	public void testControlCharactersAreEscapedWithFourDigits(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final EmbeddableMappingType mappingType = mappingType( scope.getSessionFactory() );
+			final Details details = new Details( "a\u0001b\u001fc\"d\n", 5, null );
+
+			final String json = JsonHelper.toString( mappingType, details, session );
+			assertThat( json ).contains( "a\\u0001b\\u001Fc\\\"d\\n" );
+
+			final Details read = fromString( mappingType, json, session );
+			assertThat( read.text ).isEqualTo( details.text );
+			assertThat( read.count ).isEqualTo( 5 );
+			assertThat( read.reference ).isNull();
+		} );
+	}
+
+	@Test
+	public void testKeysInAnyOrder(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final EmbeddableMappingType mappingType = mappingType( scope.getSessionFactory() );
+			final UUID reference = UUID.randomUUID();
+
+			final Details read = fromString(
+					mappingType,
+					"{ \"reference\" : \"" + reference + "\", \"count\": 7 ,\"text\":\"x\" }",
+					session
+			);
+			assertThat( read.text ).isEqualTo( "x" );
+			assertThat( read.count ).isEqualTo( 7 );
+			assertThat( read.reference ).isEqualTo( reference );
+
+			// and the result of a round trip is the same
+			final String json = JsonHelper.toString( mappingType, read, session );
+			final Details reread = fromString( mappingType, json, session );
+			assertThat( reread.reference ).isEqualTo( reference );
+			assertThat( JsonHelper.toString( mappingType, reread, session ) ).isEqualTo( json );
+		} );
+	}
+
+	private static EmbeddableMappingType mappingType(SessionFactoryImplementor sessionFactory) {
+		final EmbeddedAttributeMapping attributeMapping = (EmbeddedAttributeMapping) sessionFactory.getMappingMetamodel()
+				.getEntityDescriptor( Holder.class )
+				.findAttributeMapping( "details" );
+		return attributeMapping.getEmbeddableTypeDescriptor();
+	}
+
+	private static Details fromString(
+			EmbeddableMappingType mappingType,
+			String json,
+			SharedSessionContractImplementor session) {
+		try {
+			return JsonHelper.fromString( mappingType, json, true, session );
+		}
+		catch (SQLException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity(name = "Holder")
+	public static class Holder {
+		@Id
+		private Long id;
+		@JdbcTypeCode(SqlTypes.JSON)
+		private Details details;
+	}
+
+	@Embeddable
+	public static class Details {
+		private String text;
+		private Integer count;
+		private UUID reference;
+
+		public Details() {
+		}
+
+		public Details(String text, Integer count, UUID reference) {
+			this.text = text;
+			this.count = count;
+			this.reference = reference;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = AsyncQueryExecutionTest.Book.class)
+@SessionFactory
+public class AsyncQueryExecutionTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action" ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testGetResultListAsync(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CompletionStage<List<String>> titles =
+					session.createSelectionQuery( "select title from Book order by id", String.class )
+							.getResultListAsync();
+			final CompletionStage<List<Long>> count =
+					session.createSelectionQuery( "select count(*) from Book", Long.class )
+							.getResultListAsync();
+			assertThat( titles.toCompletableFuture().join() )
+					.containsExactly( "Hibernate in Action", "Java Persistence with Hibernate" );
+			assertThat( count.toCompletableFuture().join() ).containsExactly( 2L );
+		} );
+	}
+
+	@Test
+	public void testExecuteUpdateAsync(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CompletableFuture<Integer> updated =
+					session.createMutationQuery( "update Book set title = upper(title)" )
+							.executeUpdateAsync()
+							.toCompletableFuture();
+			// queued behind the update, so it sees its effect
+			final CompletableFuture<List<String>> titles =
+					session.createSelectionQuery( "select title from Book order by id", String.class )
+							.getResultListAsync()
+							.toCompletableFuture();
+			assertThat( updated.join() ).isEqualTo( 2 );
+			assertThat( titles.join() )
+					.containsExactly( "HIBERNATE IN ACTION", "JAVA PERSISTENCE WITH HIBERNATE" );
+		} );
+	}
+
+	@Test
+	public void testFailureCompletesExceptionally(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final CompletableFuture<List<Object>> failed =
+					session.createNativeQuery( "select x from no_such_table", Object.class )
+							.getResultListAsync()
+							.toCompletableFuture();
+			assertThatThrownBy( failed::join ).isInstanceOf( CompletionException.class );
+			// the session remains usable after a failure
+			assertThat( session.createSelectionQuery( "from Book", Book.class ).getResultListAsync()
+					.toCompletableFuture().join() ).hasSize( 2 );
+		} );
+	}
+
+	@Test
+	public void testCompletingStageDoesNotReleaseQueuedWork(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final SessionImplementor sessionImplementor = (SessionImplementor) session;
+			final CountDownLatch release = new CountDownLatch( 1 );
+			final AtomicBoolean firstDone = new AtomicBoolean();
+			final CompletionStage<Object> first = sessionImplementor.executeAsync( () -> {
+				try {
+					release.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				firstDone.set( true );
+				return null;
+			} );
+			// completing the stage returned to the caller must not affect the queue
+			first.toCompletableFuture().complete( null );
+			final CompletableFuture<Boolean> second =
+					sessionImplementor.executeAsync( firstDone::get ).toCompletableFuture();
+			release.countDown();
+			assertThat( second.join() ).isTrue();
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
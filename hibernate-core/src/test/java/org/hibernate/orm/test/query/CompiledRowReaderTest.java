@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@value QuerySettings#COMPILED_ROW_READERS_ENABLED}.
+ * <p>
+ * Each query is executed often enough for its row reader to be generated,
+ * and must return the same results before and after.
+ */
+@DomainModel(annotatedClasses = {
+		CompiledRowReaderTest.Author.class,
+		CompiledRowReaderTest.Book.class
+})
+@ServiceRegistry(settings = @Setting(name = QuerySettings.COMPILED_ROW_READERS_ENABLED, value = "true"))
+@SessionFactory
+public class CompiledRowReaderTest {
+	private static final int EXECUTIONS = 25;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Gavin" );
+			session.persist( author );
+			session.persist( new Book( 1L, "Hibernate in Action", author ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate", author ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testEntityWithFetchedAssociation(SessionFactoryScope scope) {
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			scope.inSession( session -> {
+				final List<Book> books = session.createSelectionQuery(
+								"from Book b join fetch b.author order by b.id",
+								Book.class
+						)
+						.getResultList();
+				assertThat( books ).extracting( book -> book.title )
+						.containsExactly( "Hibernate in Action", "Java Persistence with Hibernate" );
+				assertThat( books.get( 0 ).author ).isSameAs( books.get( 1 ).author );
+				assertThat( books.get( 0 ).author.name ).isEqualTo( "Gavin" );
+			} );
+		}
+	}
+
+	@Test
+	public void testScalars(SessionFactoryScope scope) {
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			scope.inSession( session -> {
+				final List<Object[]> rows = session.createSelectionQuery(
+								"select b.id, b.title, b.author.name from Book b order by b.id",
+								Object[].class
+						)
+						.getResultList();
+				assertThat( rows ).hasSize( 2 );
+				assertThat( rows.get( 1 ) ).containsExactly( 2L, "Java Persistence with Hibernate", "Gavin" );
+			} );
+		}
+	}
+
+	@Test
+	public void testSingleScalar(SessionFactoryScope scope) {
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			scope.inSession( session -> assertThat(
+					session.createSelectionQuery( "select count(b) from Book b", Long.class ).getSingleResult()
+			).isEqualTo( 2L ) );
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
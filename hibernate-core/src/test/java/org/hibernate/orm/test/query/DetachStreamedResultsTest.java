@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@value HibernateHints#HINT_DETACH_STREAMED_RESULTS}.
+ * <p>
+ * Rather than running with a small maximum heap, which cannot be set per test,
+ * asserts that the number of entities held by the persistence context remains
+ * bounded while a large result set is streamed.
+ */
+@DomainModel(annotatedClasses = DetachStreamedResultsTest.Measurement.class)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class DetachStreamedResultsTest {
+	private static final int ROWS = 200_000;
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final int fetchSize = 50;
+			try ( Stream<Measurement> stream = session.createSelectionQuery( "from Measurement order by id", Measurement.class )
+					.setFetchSize( fetchSize )
+					.setHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true )
+					.stream() ) {
+				final long[] count = { 0 };
+				stream.forEach( measurement -> {
+					assertThat( session.contains( measurement ) ).isTrue();
+					assertThat( managedEntities( session ) ).isLessThanOrEqualTo( fetchSize );
+					count[0]++;
+				} );
+				assertThat( count[0] ).isEqualTo( ROWS );
+			}
+			assertThat( managedEntities( session ) ).isZero();
+		} );
+	}
+
+	@Test
+	public void testScrollWithDefaultFetchSize(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Measurement> results = session.createSelectionQuery( "from Measurement", Measurement.class )
+					.setHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				int count = 0;
+				while ( results.next() ) {
+					assertThat( results.get().value ).isEqualTo( "#" + results.get().id );
+					assertThat( managedEntities( session ) )
+							.isLessThanOrEqualTo( DeferredResultSetAccess.DEFAULT_DETACHED_RESULTS_FETCH_SIZE );
+					count++;
+				}
+				assertThat( count ).isEqualTo( ROWS );
+			}
+			assertThat( managedEntities( session ) ).isZero();
+		} );
+	}
+
+	@Test
+	public void testStreamWithoutHint(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Measurement> stream = session.createSelectionQuery( "from Measurement", Measurement.class )
+					.setFetchSize( 50 )
+					.setMaxResults( 500 )
+					.stream() ) {
+				assertThat( stream.count() ).isEqualTo( 500 );
+			}
+			assertThat( managedEntities( session ) ).isEqualTo( 500 );
+		} );
+	}
+
+	private static int managedEntities(SessionImplementor session) {
+		return session.getPersistenceContextInternal().getNumberOfManagedEntities();
+	}
+
+	@Entity(name = "Measurement")
+	@Immutable
+	@Subselect("select x as id, '#' || x as measured_value from system_range(1, " + ROWS + ")")
+	public static class Measurement {
+		@Id
+		private Long id;
+
+		@Column(name = "measured_value")
+		private String value;
+	}
+}
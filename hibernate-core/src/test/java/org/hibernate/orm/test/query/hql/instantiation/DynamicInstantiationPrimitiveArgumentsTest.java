@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import java.util.List;
+
+import org.hibernate.annotations.Imported;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.sqm.sql.internal.InstantiationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the instantiation of results with primitive constructor parameters,
+ * whose arguments are read from the JDBC results without being boxed.
+ */
+@DomainModel( annotatedClasses = {
+		DynamicInstantiationPrimitiveArgumentsTest.Measurement.class,
+		DynamicInstantiationPrimitiveArgumentsTest.MeasurementDto.class,
+		DynamicInstantiationPrimitiveArgumentsTest.WideningDto.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class DynamicInstantiationPrimitiveArgumentsTest {
+	@BeforeAll
+	public void prepareData(final SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Measurement( 1L, 10, (short) 3, 1.5d, 2.5f, true, "first", 7 ) );
+			session.persist( new Measurement( 2L, -20, (short) -4, -0.25d, 0.5f, false, null, null ) );
+		} );
+	}
+
+	@AfterAll
+	public void cleanUpData(final SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	void testExplicitConstructor(final SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<MeasurementDto> results = session.createSelectionQuery(
+					"select new MeasurementDto(id, count, amount, active, label) from Measurement order by id",
+					MeasurementDto.class
+			).getResultList();
+			assertThat( results ).containsExactly(
+					new MeasurementDto( 1L, 10, 1.5d, true, "first" ),
+					new MeasurementDto( 2L, -20, -0.25d, false, null )
+			);
+		} );
+	}
+
+	@Test
+	void testImplicitConstructor(final SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<MeasurementDto> results = session.createSelectionQuery(
+					"select id, count, amount, active, label from Measurement order by id",
+					MeasurementDto.class
+			).getResultList();
+			assertThat( results ).containsExactly(
+					new MeasurementDto( 1L, 10, 1.5d, true, "first" ),
+					new MeasurementDto( 2L, -20, -0.25d, false, null )
+			);
+		} );
+	}
+
+	@Test
+	void testWideningConversions(final SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<WideningDto> results = session.createSelectionQuery(
+					"select new WideningDto(count, small, ratio, count) from Measurement order by id",
+					WideningDto.class
+			).getResultList();
+			assertThat( results ).containsExactly(
+					new WideningDto( 10L, 3, 2.5d, 10d ),
+					new WideningDto( -20L, -4, 0.5d, -20d )
+			);
+		} );
+	}
+
+	@Test
+	void testNullForPrimitive(final SessionFactoryScope scope) {
+		scope.inSession( session -> assertThatThrownBy( () -> session.createSelectionQuery(
+				"select new MeasurementDto(id, optional, amount, active, label) from Measurement where id = 2",
+				MeasurementDto.class
+		).getResultList() ).isInstanceOf( InstantiationException.class ) );
+	}
+
+	@Test
+	void testCachedResults(final SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+		final String hql = "select new MeasurementDto(id, count, amount, active, label) from Measurement order by id";
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inSession( session -> {
+				final List<MeasurementDto> results = session.createSelectionQuery( hql, MeasurementDto.class )
+						.setCacheable( true )
+						.getResultList();
+				assertThat( results ).containsExactly(
+						new MeasurementDto( 1L, 10, 1.5d, true, "first" ),
+						new MeasurementDto( 2L, -20, -0.25d, false, null )
+				);
+			} );
+		}
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() ).isEqualTo( 1L );
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		private Long id;
+		private int count;
+		private short small;
+		private double amount;
+		private float ratio;
+		private boolean active;
+		private String label;
+		private Integer optional;
+
+		public Measurement() {
+		}
+
+		public Measurement(
+				Long id,
+				int count,
+				short small,
+				double amount,
+				float ratio,
+				boolean active,
+				String label,
+				Integer optional) {
+			this.id = id;
+			this.count = count;
+			this.small = small;
+			this.amount = amount;
+			this.ratio = ratio;
+			this.active = active;
+			this.label = label;
+			this.optional = optional;
+		}
+	}
+
+	@Imported
+	public record MeasurementDto(long id, int count, double amount, boolean active, String label) {
+	}
+
+	@Imported
+	public record WideningDto(long count, int small, double ratio, double countAsDouble) {
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.plan;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.query.internal.LirsQueryPlanCacheStore;
+import org.hibernate.query.internal.TinyLfuQueryPlanCacheStore;
+import org.hibernate.query.spi.QueryPlanCacheStore;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryPlanCacheStoreTest {
+
+	@Test
+	public void testTinyLfuIsBounded() {
+		final QueryPlanCacheStore<String, String> store = new TinyLfuQueryPlanCacheStore<>( "test", 100 );
+		for ( int i = 0; i < 1_000; i++ ) {
+			store.put( "query" + i, "plan" + i );
+		}
+		assertThat( store.size() ).isEqualTo( 100 );
+		assertThat( store.getEvictionCount() ).isEqualTo( 900 );
+	}
+
+	@Test
+	public void testTinyLfuKeepsFrequentEntriesDuringScan() {
+		final QueryPlanCacheStore<String, String> store = new TinyLfuQueryPlanCacheStore<>( "test", 100 );
+		for ( int round = 0; round < 5; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				store.computeIfAbsent( "hot" + i, key -> "plan" );
+			}
+		}
+		// a burst of queries executed once each, while the frequent ones keep being used
+		for ( int i = 0; i < 10_000; i++ ) {
+			store.computeIfAbsent( "cold" + i, key -> "plan" );
+			store.computeIfAbsent( "hot" + ( i % 50 ), key -> "plan" );
+		}
+		final long hits = store.getHitCount();
+		for ( int i = 0; i < 50; i++ ) {
+			store.get( "hot" + i );
+		}
+		assertThat( store.getHitCount() - hits ).isEqualTo( 50 );
+		assertThat( store.size() ).isLessThanOrEqualTo( 100 );
+	}
+
+	@Test
+	public void testComputeIfAbsent() {
+		testComputeIfAbsent( new LirsQueryPlanCacheStore<>( "test", 100 ) );
+		testComputeIfAbsent( new TinyLfuQueryPlanCacheStore<>( "test", 100 ) );
+	}
+
+	@Test
+	public void testPeekIsNotCounted() {
+		testPeekIsNotCounted( new LirsQueryPlanCacheStore<>( "test", 100 ) );
+		testPeekIsNotCounted( new TinyLfuQueryPlanCacheStore<>( "test", 100 ) );
+	}
+
+	private static void testPeekIsNotCounted(QueryPlanCacheStore<String, String> store) {
+		assertThat( store.peek( "query" ) ).isNull();
+		store.put( "query", "plan" );
+		assertThat( store.peek( "query" ) ).isEqualTo( "plan" );
+		assertThat( store.getHitCount() ).isZero();
+		assertThat( store.getMissCount() ).isZero();
+	}
+
+	private static void testComputeIfAbsent(QueryPlanCacheStore<String, Integer> store) {
+		final AtomicInteger creations = new AtomicInteger();
+		assertThat( store.computeIfAbsent( "query", key -> creations.incrementAndGet() ) ).isEqualTo( 1 );
+		assertThat( store.computeIfAbsent( "query", key -> creations.incrementAndGet() ) ).isEqualTo( 1 );
+		assertThat( creations ).hasValue( 1 );
+		assertThat( store.getHitCount() ).isEqualTo( 1 );
+		assertThat( store.getMissCount() ).isEqualTo( 1 );
+		assertThat( store.size() ).isEqualTo( 1 );
+
+		store.clear();
+		assertThat( store.size() ).isZero();
+		assertThat( store.get( "query" ) ).isNull();
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import org.hibernate.cache.internal.QueryResultsCacheImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@value CacheSettings#QUERY_CACHE_KEY_INVALIDATION} and
+ * {@value CacheSettings#QUERY_CACHE_MAX_SIZE}.
+ */
+@DomainModel(annotatedClasses = QueryCacheKeyInvalidationTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.QUERY_CACHE_KEY_INVALIDATION, value = "true"),
+		@Setting(name = CacheSettings.QUERY_CACHE_MAX_SIZE, value = "2000")
+})
+public class QueryCacheKeyInvalidationTest {
+	private static final int BOOKS = 50;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= BOOKS; id++ ) {
+				session.persist( new Book( id, "Book " + id ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUpdateOfOtherRowKeepsResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( findTitle( scope, 1L ) ).isEqualTo( "Book 1" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( findTitle( scope, 1L ) ).isEqualTo( "Book 1" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( Book.class, 2L ).title = "Changed" );
+		assertThat( findTitle( scope, 1L ) ).isEqualTo( "Book 1" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Changed" );
+		assertThat( findTitle( scope, 1L ) ).isEqualTo( "Changed" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testUnrestrictedQueryIsInvalidated(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( countByTitle( scope, "Book 1" ) ).isEqualTo( 1L );
+		assertThat( countByTitle( scope, "Book 1" ) ).isEqualTo( 1L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( Book.class, 2L ).title = "Book 1" );
+		assertThat( countByTitle( scope, "Book 1" ) ).isEqualTo( 2L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBulkUpdateInvalidatesRestrictedQuery(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( findTitle( scope, 1L ) ).isEqualTo( "Book 1" );
+		scope.inTransaction( session -> session.createMutationQuery( "update Book set title = 'Changed'" )
+				.executeUpdate() );
+		assertThat( findTitle( scope, 1L ) ).isEqualTo( "Changed" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testSizeBound(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final QueryResultsCacheImpl queryCache =
+				(QueryResultsCacheImpl) scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+
+		for ( long id = 1; id <= BOOKS; id++ ) {
+			findTitle( scope, id );
+			assertThat( queryCache.getSize() ).isBetween( 1L, 2000L );
+		}
+		assertThat( findTitle( scope, (long) BOOKS ) ).isEqualTo( "Book " + BOOKS );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( findTitle( scope, 1L ) ).isEqualTo( "Book 1" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testSizeBoundKeepsRecentlyUsedResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		for ( long id = 1; id <= 20; id++ ) {
+			findTitle( scope, id );
+		}
+		assertThat( findTitle( scope, 1L ) ).isEqualTo( "Book 1" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		for ( long id = 21; id <= 40; id++ ) {
+			findTitle( scope, id );
+		}
+		// the results which were cached first, but used recently, were kept
+		assertThat( findTitle( scope, 1L ) ).isEqualTo( "Book 1" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+		assertThat( findTitle( scope, 2L ) ).isEqualTo( "Book 2" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEvictRegionResetsSize(SessionFactoryScope scope) {
+		final QueryResultsCacheImpl queryCache =
+				(QueryResultsCacheImpl) scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+
+		findTitle( scope, 1L );
+		assertThat( queryCache.getSize() ).isPositive();
+		scope.getSessionFactory().getCache().evictRegion( queryCache.getRegion().getName() );
+		assertThat( queryCache.getSize() ).isZero();
+	}
+
+	private static String findTitle(SessionFactoryScope scope, Long id) {
+		return scope.fromSession( session -> session.createSelectionQuery(
+						"select b.title from Book b where b.id = :id",
+						String.class
+				)
+				.setParameter( "id", id )
+				.setCacheable( true )
+				.getSingleResult() );
+	}
+
+	private static Long countByTitle(SessionFactoryScope scope, String title) {
+		return scope.fromSession( session -> session.createSelectionQuery(
+						"select count(*) from Book b where b.title = :title",
+						Long.class
+				)
+				.setParameter( "title", title )
+				.setCacheable( true )
+				.getSingleResult() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
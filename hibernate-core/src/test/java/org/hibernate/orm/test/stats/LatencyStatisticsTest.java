@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.LatencyStatistics;
+import org.hibernate.stat.internal.LatencyHistogram;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests the latency histograms of {@link StatisticsImplementor}.
+ */
+@DomainModel(annotatedClasses = { LatencyStatisticsTest.Author.class, LatencyStatisticsTest.Book.class })
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"))
+public class LatencyStatisticsTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertThat( histogram.getValueAtPercentile( 99 ) ).isZero();
+
+		for ( long value = 1; value <= 1000; value++ ) {
+			histogram.record( value * 1000 );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getTotalNanoseconds() ).isEqualTo( 500_500_000L );
+		assertThat( histogram.getMaxNanoseconds() ).isEqualTo( 1_000_000L );
+		assertThat( (double) histogram.getValueAtPercentile( 50 ) ).isCloseTo( 500_000, within( 500_000 * 0.07 ) );
+		assertThat( (double) histogram.getValueAtPercentile( 99 ) ).isCloseTo( 990_000, within( 990_000 * 0.07 ) );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 1_000_000L );
+
+		histogram.reset();
+		assertThat( histogram.getCount() ).isZero();
+	}
+
+	@Test
+	public void testConcurrentRecording() throws InterruptedException {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final List<Thread> threads = new ArrayList<>();
+		for ( int i = 0; i < 4; i++ ) {
+			threads.add( new Thread( () -> {
+				for ( int j = 0; j < 10_000; j++ ) {
+					histogram.record( 100 );
+				}
+			} ) );
+		}
+		threads.forEach( Thread::start );
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 40_000 );
+		assertThat( histogram.getTotalNanoseconds() ).isEqualTo( 4_000_000L );
+	}
+
+	@Test
+	public void testConcurrentRecordingAndReset() throws InterruptedException {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final List<Throwable> failures = new CopyOnWriteArrayList<>();
+		final List<Thread> threads = new ArrayList<>();
+		for ( int i = 0; i < 4; i++ ) {
+			threads.add( new Thread( () -> {
+				try {
+					for ( int j = 0; j < 100_000; j++ ) {
+						histogram.record( j );
+					}
+				}
+				catch (Throwable t) {
+					failures.add( t );
+				}
+			} ) );
+		}
+		threads.forEach( Thread::start );
+		while ( threads.stream().anyMatch( Thread::isAlive ) ) {
+			histogram.reset();
+			histogram.getValueAtPercentile( 99 );
+		}
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+		assertThat( failures ).isEmpty();
+
+		histogram.reset();
+		histogram.record( 100 );
+		assertThat( histogram.getCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testRecordedLatencies(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Gavin" );
+			author.books.add( new Book( 1L, "Hibernate in Action", author ) );
+			session.persist( author );
+		} );
+		final String query = "select b from Book b";
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1L );
+			Hibernate.initialize( author.books );
+			session.createSelectionQuery( query, Book.class ).getResultList();
+		} );
+
+		final LatencyStatistics flushes = statistics.getFlushLatencyStatistics();
+		assertThat( flushes ).isNotNull();
+		assertThat( flushes.getCount() ).isEqualTo( statistics.getFlushCount() );
+		assertThat( flushes.getMaxNanoseconds() ).isPositive();
+
+		final LatencyStatistics loads = statistics.getEntityLoadLatencyStatistics( Author.class.getName() );
+		assertThat( loads ).isNotNull();
+		assertThat( loads.getCount() ).isEqualTo( 1 );
+
+		final LatencyStatistics fetches =
+				statistics.getCollectionFetchLatencyStatistics( Author.class.getName() + ".books" );
+		assertThat( fetches ).isNotNull();
+		assertThat( fetches.getCount() ).isEqualTo( 1 );
+
+		final LatencyStatistics executions = statistics.getQueryLatencyStatistics( query );
+		assertThat( executions ).isNotNull();
+		assertThat( executions.getCount() ).isEqualTo( statistics.getQueryStatistics( query ).getExecutionCount() );
+		assertThat( executions.getValueAtPercentile( 99 ) ).isPositive();
+
+		statistics.clear();
+		assertThat( statistics.getQueryLatencyStatistics( query ) ).isNull();
+		assertThat( statistics.getFlushLatencyStatistics().getCount() ).isZero();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+		@OneToMany(mappedBy = "author", cascade = CascadeType.PERSIST)
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class OpenAddressingHashMapTest {
+
+	/**
+	 * Key with a deliberately poor hash, to force long probe sequences.
+	 */
+	private record CollidingKey(int value) {
+		@Override
+		public int hashCode() {
+			return value % 7;
+		}
+	}
+
+	@Test
+	public void testSimpleMapOperations() {
+		final OpenAddressingHashMap<String, Integer> map = new OpenAddressingHashMap<>();
+		map.put( "one", 1 );
+		map.putIfAbsent( "two", 2 );
+		map.putAll( Map.of( "three", 3 ) );
+		assertThat( map ).hasSize( 3 ).containsOnly( entry( "one", 1 ), entry( "two", 2 ), entry( "three", 3 ) );
+
+		assertThat( map.putIfAbsent( "one", 10 ) ).isEqualTo( 1 );
+		assertThat( map.put( "two", 20 ) ).isEqualTo( 2 );
+		assertThat( map.get( "two" ) ).isEqualTo( 20 );
+		assertThat( map.get( "four" ) ).isNull();
+
+		assertThat( map.remove( "one" ) ).isEqualTo( 1 );
+		assertThat( map.remove( "one" ) ).isNull();
+		assertThat( map ).hasSize( 2 ).doesNotContainKey( "one" );
+
+		map.clear();
+		assertThat( map ).isEmpty();
+		map.put( "one", 1 );
+		assertThat( map ).containsExactly( entry( "one", 1 ) );
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		final OpenAddressingHashMap<CollidingKey, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 1_000; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+		assertThat( map ).hasSize( 1_000 );
+		for ( int i = 0; i < 1_000; i += 2 ) {
+			assertThat( map.remove( new CollidingKey( i ) ) ).isEqualTo( i );
+		}
+		assertThat( map ).hasSize( 500 );
+		for ( int i = 0; i < 1_000; i++ ) {
+			assertThat( map.get( new CollidingKey( i ) ) ).isEqualTo( i % 2 == 0 ? null : i );
+		}
+	}
+
+	@Test
+	public void testIteratorRemoval() {
+		final OpenAddressingHashMap<CollidingKey, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 500; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+		int visited = 0;
+		for ( Iterator<Map.Entry<CollidingKey, Integer>> iterator = map.entrySet().iterator(); iterator.hasNext(); ) {
+			final Map.Entry<CollidingKey, Integer> entry = iterator.next();
+			visited++;
+			if ( entry.getValue() % 3 == 0 ) {
+				iterator.remove();
+			}
+		}
+		assertThat( visited ).isEqualTo( 500 );
+		assertThat( map ).hasSize( 333 );
+		assertThat( map.values() ).allMatch( value -> value % 3 != 0 );
+
+		map.values().removeIf( value -> value % 3 == 1 );
+		assertThat( map ).hasSize( 166 );
+		assertThat( map.keySet() ).allMatch( key -> key.value() % 3 == 2 );
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Random random = new Random( 42 );
+		final OpenAddressingHashMap<Long, Long> map = new OpenAddressingHashMap<>();
+		final HashMap<Long, Long> expected = new HashMap<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			final Long key = (long) random.nextInt( 5_000 );
+			switch ( random.nextInt( 3 ) ) {
+				case 0 -> assertThat( map.put( key, (long) i ) ).isEqualTo( expected.put( key, (long) i ) );
+				case 1 -> assertThat( map.remove( key ) ).isEqualTo( expected.remove( key ) );
+				default -> assertThat( map.get( key ) ).isEqualTo( expected.get( key ) );
+			}
+		}
+		assertThat( map ).isEqualTo( expected );
+		assertThat( expected ).isEqualTo( map );
+	}
+}
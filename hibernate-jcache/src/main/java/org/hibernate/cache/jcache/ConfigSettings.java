@@ -13,6 +13,14 @@
 public interface ConfigSettings {
 	String SIMPLE_FACTORY_NAME = "jcache";
 
+	/**
+	 * The short name of the {@link org.hibernate.cache.jcache.internal.OffHeapRegionFactory},
+	 * which keeps entity, collection, and natural id data outside the Java heap.
+	 *
+	 * @since 7.0
+	 */
+	String OFF_HEAP_FACTORY_NAME = "jcache-offheap";
+
 	String PROP_PREFIX = "hibernate.javax.cache.";
 
 	/**
@@ -42,4 +50,15 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * The maximum number of bytes of memory used outside the Java heap by each
+	 * entity, collection, or natural id region, when the {@value #OFF_HEAP_FACTORY_NAME}
+	 * region factory is used. The oldest entries of a full region are evicted.
+	 *
+	 * Default value is 64 MiB.
+	 *
+	 * @since 7.0
+	 */
+	String OFF_HEAP_MAX_SIZE = PROP_PREFIX + "off_heap.max_size";
 }
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.jcache.internal;
+
+import javax.cache.Cache;
+
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A {@link JCacheAccessImpl} which stores the entries of a domain data region
+ * as byte arrays, encoded by a {@link CacheEntryCodec}.
+ * <p>
+ * Values which the codec cannot encode, such as the
+ * {@linkplain org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl reference entries}
+ * of immutable entities, are not cached.
+ *
+ * @since 7.0
+ */
+@SuppressWarnings("unchecked")
+public class EncodingJCacheAccessImpl extends JCacheAccessImpl {
+	private final CacheEntryCodec codec;
+	private final SessionFactoryImplementor sessionFactory;
+
+	public EncodingJCacheAccessImpl(
+			Cache underlyingCache,
+			CacheEntryCodec codec,
+			SessionFactoryImplementor sessionFactory) {
+		super( underlyingCache );
+		this.codec = codec;
+		this.sessionFactory = sessionFactory;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object value = getUnderlyingCache().get( key );
+		return value instanceof byte[] bytes ? codec.decode( bytes, sessionFactory ) : null;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final byte[] bytes = codec.encode( value, sessionFactory );
+		if ( bytes == null ) {
+			getUnderlyingCache().remove( key );
+		}
+		else {
+			getUnderlyingCache().put( key, bytes );
+		}
+	}
+}
@@ -17,6 +17,7 @@
 import javax.cache.spi.CachingProvider;
 
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
@@ -26,10 +27,12 @@
 import org.hibernate.cache.jcache.MissingCacheStrategy;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
 import org.hibernate.cache.spi.support.RegionFactoryTemplate;
 import org.hibernate.cache.spi.support.RegionNameQualifier;
 import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.CacheSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
@@ -42,6 +45,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 
 	private volatile CacheManager cacheManager;
 	private volatile MissingCacheStrategy missingCacheStrategy;
+	private volatile CacheEntryCodec cacheEntryCodec;
 
 	@SuppressWarnings("unused")
 	public JCacheRegionFactory() {
@@ -78,9 +82,22 @@ public DomainDataRegion buildDomainDataRegion(
 	protected DomainDataStorageAccess createDomainDataStorageAccess(
 			DomainDataRegionConfig regionConfig,
 			DomainDataRegionBuildingContext buildingContext) {
-		return new JCacheAccessImpl(
-				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() )
-		);
+		final SessionFactoryImplementor sessionFactory = buildingContext.getSessionFactory();
+		final Cache<Object, Object> cache = getOrCreateCache( regionConfig.getRegionName(), sessionFactory );
+		return cacheEntryCodec == null
+				? new JCacheAccessImpl( cache )
+				: new EncodingJCacheAccessImpl( cache, cacheEntryCodec, sessionFactory );
+	}
+
+	/**
+	 * The {@linkplain CacheSettings#CACHE_ENTRY_CODEC codec} which encodes the
+	 * entries of domain data regions, or {@code null} if none was specified, in
+	 * which case the entries are stored as they are.
+	 *
+	 * @since 7.0
+	 */
+	protected CacheEntryCodec getCacheEntryCodec() {
+		return cacheEntryCodec;
 	}
 
 	protected Cache<Object, Object> getOrCreateCache(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
@@ -190,6 +207,11 @@ protected void prepareForUse(SessionFactoryOptions settings, Map<String,Object>
 		this.missingCacheStrategy = MissingCacheStrategy.interpretSetting(
 				getProp( configValues, ConfigSettings.MISSING_CACHE_STRATEGY )
 		);
+		final Object codecSetting = configValues == null ? null : configValues.get( CacheSettings.CACHE_ENTRY_CODEC );
+		this.cacheEntryCodec = codecSetting == null
+				? null
+				: settings.getServiceRegistry().requireService( StrategySelector.class )
+						.resolveStrategy( CacheEntryCodec.class, codecSetting );
 	}
 
 	protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String,Object> properties) {
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.jcache.internal;
+
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+
+/**
+ * A domain data region whose entries are kept in an {@link OffHeapStore},
+ * and which reports the number and size of its entries to
+ * {@link org.hibernate.stat.CacheRegionStatistics}.
+ *
+ * @since 7.0
+ */
+public class OffHeapDomainDataRegionImpl extends JCacheDomainDataRegionImpl implements ExtendedStatisticsSupport {
+	private final OffHeapStore store;
+
+	public OffHeapDomainDataRegionImpl(
+			DomainDataRegionConfig regionConfig,
+			RegionFactoryTemplate regionFactory,
+			OffHeapStorageAccess storageAccess,
+			CacheKeysFactory defaultKeysFactory,
+			DomainDataRegionBuildingContext buildingContext) {
+		super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+		this.store = storageAccess.getStore();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return store.getEntryCount();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return store.getUsedBytes();
+	}
+
+	/**
+	 * The number of entries evicted to make room for newer entries.
+	 */
+	public long getEvictionCount() {
+		return store.getEvictionCount();
+	}
+
+	/**
+	 * The number of bytes of memory allocated outside the heap.
+	 */
+	public long getAllocatedSize() {
+		return store.getAllocatedBytes();
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
+import org.hibernate.cache.spi.entry.StandardCacheEntryCodec;
+import org.hibernate.cfg.CacheSettings;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link JCacheRegionFactory} which keeps the entries of entity, collection,
+ * and natural id regions in memory outside the Java heap, encoded by the
+ * {@linkplain CacheEntryCodec codec} specified by
+ * {@value CacheSettings#CACHE_ENTRY_CODEC}, so that
+ * a large second-level cache does not lengthen garbage collection pauses.
+ * Each such region uses at most {@value ConfigSettings#OFF_HEAP_MAX_SIZE}
+ * bytes, and evicts its oldest entries when it is full.
+ * <p>
+ * The query results and update timestamps regions are still JCache caches.
+ *
+ * @since 7.0
+ */
+public class OffHeapRegionFactory extends JCacheRegionFactory {
+	/**
+	 * The default maximum size of a region, 64 MiB.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+	private final CacheKeysFactory cacheKeysFactory;
+
+	private volatile long maxSize = DEFAULT_MAX_SIZE;
+
+	@SuppressWarnings("unused")
+	public OffHeapRegionFactory() {
+		this( DefaultCacheKeysFactory.INSTANCE );
+	}
+
+	public OffHeapRegionFactory(CacheKeysFactory cacheKeysFactory) {
+		super( cacheKeysFactory );
+		this.cacheKeysFactory = cacheKeysFactory;
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+		return new OffHeapDomainDataRegionImpl(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				cacheKeysFactory,
+				buildingContext
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		final CacheEntryCodec cacheEntryCodec = getCacheEntryCodec();
+		return new OffHeapStorageAccess(
+				new OffHeapStore( maxSize ),
+				cacheEntryCodec == null ? StandardCacheEntryCodec.INSTANCE : cacheEntryCodec,
+				buildingContext.getSessionFactory()
+		);
+	}
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String,Object> configValues) {
+		super.prepareForUse( settings, configValues );
+		this.maxSize = configValues == null
+				? DEFAULT_MAX_SIZE
+				: getLong( ConfigSettings.OFF_HEAP_MAX_SIZE, configValues, DEFAULT_MAX_SIZE );
+		if ( maxSize <= 0 ) {
+			throw new CacheException( "Maximum size of off-heap regions must be positive ["
+					+ ConfigSettings.OFF_HEAP_MAX_SIZE + "=" + maxSize + "]" );
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.jcache.internal;
+
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess implementation which keeps cache entries in an
+ * {@link OffHeapStore}, encoded by a {@link CacheEntryCodec}.
+ * <p>
+ * Values which the codec cannot encode, such as the
+ * {@linkplain org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl reference entries}
+ * of immutable entities, are not cached.
+ *
+ * @since 7.0
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private final OffHeapStore store;
+	private final CacheEntryCodec codec;
+	private final SessionFactoryImplementor sessionFactory;
+
+	OffHeapStorageAccess(OffHeapStore store, CacheEntryCodec codec, SessionFactoryImplementor sessionFactory) {
+		this.store = store;
+		this.codec = codec;
+		this.sessionFactory = sessionFactory;
+	}
+
+	OffHeapStore getStore() {
+		return store;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return store.containsKey( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes = store.get( key );
+		return bytes == null ? null : codec.decode( bytes, sessionFactory );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final byte[] bytes = codec.encode( value, sessionFactory );
+		if ( bytes == null ) {
+			store.remove( key );
+		}
+		else {
+			store.put( key, bytes );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		store.remove( key );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		store.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		store.clear();
+	}
+
+	@Override
+	public void evictData() {
+		store.clear();
+	}
+
+	@Override
+	public void release() {
+		store.release();
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A map from keys held on the heap to values held as bytes in direct
+ * {@link ByteBuffer}s, using at most a fixed number of bytes of memory
+ * outside the heap.
+ * <p>
+ * The memory is divided into segments of equal size, which are filled
+ * one after the other, like a log. When every segment has been filled,
+ * the oldest segment is recycled, and the entries written to it are
+ * evicted. An entry which is read while it lives in one of the oldest
+ * segments is written again to the newest segment, so that entries
+ * which are read often survive the recycling of their segment.
+ * <p>
+ * Writes are serialized by a lock, but reads are not: a read copies the
+ * bytes of the entry, and then checks that the segment holding them was
+ * not recycled in the meantime.
+ *
+ * @since 7.0
+ */
+class OffHeapStore {
+	// segments are at most 1 GiB, since a ByteBuffer is indexed by int
+	private static final int MAX_SEGMENT_SIZE = 1 << 30;
+	private static final int DEFAULT_SEGMENT_COUNT = 16;
+
+	private final int segmentSize;
+	private final ByteBuffer[] segments;
+	private final AtomicIntegerArray generations;
+	private final List<Location>[] residents;
+
+	private final ConcurrentHashMap<Object, Location> index = new ConcurrentHashMap<>();
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final AtomicLong usedBytes = new AtomicLong();
+	private final LongAdder evictionCount = new LongAdder();
+
+	// guarded by writeLock
+	private int head;
+	private int headOffset;
+
+	@SuppressWarnings("unchecked")
+	OffHeapStore(long maxSize) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size of off-heap store must be positive: " + maxSize );
+		}
+		final long size = Math.max( 1, Math.min( maxSize / DEFAULT_SEGMENT_COUNT, MAX_SEGMENT_SIZE ) );
+		this.segmentSize = (int) size;
+		final int segmentCount = (int) Math.max( 1, maxSize / segmentSize );
+		this.segments = new ByteBuffer[segmentCount];
+		this.generations = new AtomicIntegerArray( segmentCount );
+		this.residents = new List[segmentCount];
+	}
+
+	/**
+	 * The bytes of the entry for the given key, or {@code null} if there is none.
+	 */
+	byte[] get(Object key) {
+		final Location location = index.get( key );
+		if ( location == null ) {
+			return null;
+		}
+		final ByteBuffer segment = segments[location.segment];
+		if ( segment == null ) {
+			// the store was released
+			return null;
+		}
+		final byte[] bytes = new byte[location.length];
+		segment.get( location.offset, bytes );
+		// the bytes must be read before the generation is checked
+		VarHandle.loadLoadFence();
+		if ( generations.get( location.segment ) != location.generation ) {
+			// the segment was recycled while the bytes were read
+			return null;
+		}
+		if ( isOld( location.segment ) ) {
+			promote( location, bytes );
+		}
+		return bytes;
+	}
+
+	boolean containsKey(Object key) {
+		return index.containsKey( key );
+	}
+
+	/**
+	 * Store the given bytes as the entry for the given key, replacing any
+	 * previous entry. Bytes which do not fit in a segment are not stored.
+	 */
+	void put(Object key, byte[] bytes) {
+		if ( bytes.length > segmentSize ) {
+			remove( key );
+			return;
+		}
+		writeLock.lock();
+		try {
+			final Location location = append( key, bytes );
+			final Location previous = index.put( key, location );
+			usedBytes.addAndGet( previous == null ? bytes.length : bytes.length - previous.length );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	void remove(Object key) {
+		final Location previous = index.remove( key );
+		if ( previous != null ) {
+			usedBytes.addAndGet( -previous.length );
+		}
+	}
+
+	void clear() {
+		writeLock.lock();
+		try {
+			for ( int i = 0; i < segments.length; i++ ) {
+				generations.incrementAndGet( i );
+				residents[i] = segments[i] == null ? null : new ArrayList<>();
+			}
+			index.clear();
+			usedBytes.set( 0 );
+			head = 0;
+			headOffset = 0;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Clear the store, and give up the memory it uses.
+	 */
+	void release() {
+		writeLock.lock();
+		try {
+			clear();
+			for ( int i = 0; i < segments.length; i++ ) {
+				segments[i] = null;
+				residents[i] = null;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	long getEntryCount() {
+		return index.size();
+	}
+
+	/**
+	 * The number of bytes of the live entries.
+	 */
+	long getUsedBytes() {
+		return usedBytes.get();
+	}
+
+	/**
+	 * The number of bytes of memory allocated outside the heap.
+	 */
+	long getAllocatedBytes() {
+		long allocated = 0;
+		for ( ByteBuffer segment : segments ) {
+			if ( segment != null ) {
+				allocated += segment.capacity();
+			}
+		}
+		return allocated;
+	}
+
+	long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	private boolean isOld(int segment) {
+		// the oldest quarter of the segments, which will be recycled next
+		final int age = ( head - segment + segments.length ) % segments.length;
+		return segments.length > 1 && age >= segments.length - Math.max( 1, segments.length / 4 );
+	}
+
+	private void promote(Location location, byte[] bytes) {
+		if ( writeLock.tryLock() ) {
+			try {
+				if ( index.get( location.key ) == location ) {
+					index.replace( location.key, location, append( location.key, bytes ) );
+				}
+			}
+			finally {
+				writeLock.unlock();
+			}
+		}
+	}
+
+	// must be called with the write lock held
+	private Location append(Object key, byte[] bytes) {
+		if ( segments[head] == null ) {
+			allocate( head );
+		}
+		else if ( headOffset + bytes.length > segmentSize ) {
+			head = ( head + 1 ) % segments.length;
+			headOffset = 0;
+			if ( segments[head] == null ) {
+				allocate( head );
+			}
+			else {
+				recycle( head );
+			}
+		}
+		segments[head].put( headOffset, bytes );
+		final Location location =
+				new Location( key, head, generations.get( head ), headOffset, bytes.length );
+		residents[head].add( location );
+		headOffset += bytes.length;
+		return location;
+	}
+
+	private void allocate(int segment) {
+		segments[segment] = ByteBuffer.allocateDirect( segmentSize );
+		residents[segment] = new ArrayList<>();
+	}
+
+	private void recycle(int segment) {
+		generations.incrementAndGet( segment );
+		// the generation must change before the bytes are overwritten
+		VarHandle.storeStoreFence();
+		final List<Location> evicted = residents[segment];
+		if ( evicted != null ) {
+			for ( Location location : evicted ) {
+				if ( index.remove( location.key, location ) ) {
+					usedBytes.addAndGet( -location.length );
+					evictionCount.increment();
+				}
+			}
+		}
+		residents[segment] = new ArrayList<>();
+	}
+
+	private static final class Location {
+		private final Object key;
+		private final int segment;
+		private final int generation;
+		private final int offset;
+		private final int length;
+
+		private Location(Object key, int segment, int generation, int offset, int length) {
+			this.key = key;
+			this.segment = segment;
+			this.generation = generation;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+}
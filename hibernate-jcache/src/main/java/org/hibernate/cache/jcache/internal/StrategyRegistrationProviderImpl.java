@@ -4,7 +4,7 @@
  */
 package org.hibernate.cache.jcache.internal;
 
-import java.util.Collections;
+import java.util.List;
 
 import org.hibernate.boot.registry.selector.SimpleStrategyRegistrationImpl;
 import org.hibernate.boot.registry.selector.StrategyRegistration;
@@ -34,6 +34,14 @@ public Iterable<StrategyRegistration> getStrategyRegistrations() {
 				"org.hibernate.cache.jcache.JCacheRegionFactory"
 		);
 
-		return Collections.singleton( simpleStrategyRegistration );
+		final SimpleStrategyRegistrationImpl offHeapStrategyRegistration = new SimpleStrategyRegistrationImpl(
+				RegionFactory.class,
+				OffHeapRegionFactory.class,
+				ConfigSettings.OFF_HEAP_FACTORY_NAME,
+				OffHeapRegionFactory.class.getName(),
+				OffHeapRegionFactory.class.getSimpleName()
+		);
+
+		return List.of( simpleStrategyRegistration, offHeapStrategyRegistration );
 	}
 }
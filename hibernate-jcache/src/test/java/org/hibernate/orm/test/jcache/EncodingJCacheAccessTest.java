@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jcache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.EncodingJCacheAccessImpl;
+import org.hibernate.cache.spi.entry.StandardCacheEntryCodec;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.testing.orm.junit.ExtraAssertions.assertTyping;
+
+/**
+ * Tests the domain data regions of {@link org.hibernate.cache.jcache.internal.JCacheRegionFactory}
+ * when {@value CacheSettings#CACHE_ENTRY_CODEC} is specified.
+ */
+@DomainModel(annotatedClasses = EncodingJCacheAccessTest.Country.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = ConfigSettings.SIMPLE_FACTORY_NAME),
+		@Setting(name = ConfigSettings.MISSING_CACHE_STRATEGY, value = "create"),
+		@Setting(name = CacheSettings.CACHE_ENTRY_CODEC, value = StandardCacheEntryCodec.SHORT_NAME)
+})
+public class EncodingJCacheAccessTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntriesAreEncoded(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Country( 1L, "Mauritius" ) ) );
+
+		final EncodingJCacheAccessImpl storageAccess = assertTyping(
+				EncodingJCacheAccessImpl.class,
+				( (DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( Country.class.getName() ) )
+						.getCacheStorageAccess()
+		);
+		final List<Object> values = new ArrayList<>();
+		for ( Object entry : storageAccess.getUnderlyingCache() ) {
+			values.add( ( (javax.cache.Cache.Entry<?, ?>) entry ).getValue() );
+		}
+		assertThat( values ).hasSize( 1 ).allMatch( value -> value instanceof byte[] );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Country country = session.find( Country.class, 1L );
+			assertThat( country.name ).isEqualTo( "Mauritius" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUpdatedEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Country( 1L, "Mauritius" ) ) );
+		// the read-write access strategy locks the entry, then replaces it by the new state
+		scope.inTransaction( session -> session.find( Country.class, 1L ).name = "Republic of Mauritius" );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Country country = session.find( Country.class, 1L );
+			assertThat( country.name ).isEqualTo( "Republic of Mauritius" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Country {
+		@Id
+		private Long id;
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
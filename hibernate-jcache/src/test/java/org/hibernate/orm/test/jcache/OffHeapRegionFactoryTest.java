@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jcache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.OffHeapDomainDataRegionImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.testing.orm.junit.ExtraAssertions.assertTyping;
+
+/**
+ * Tests the off-heap domain data regions of {@link org.hibernate.cache.jcache.internal.OffHeapRegionFactory}.
+ */
+@DomainModel(annotatedClasses = OffHeapRegionFactoryTest.Country.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = ConfigSettings.OFF_HEAP_FACTORY_NAME),
+		@Setting(name = ConfigSettings.MISSING_CACHE_STRATEGY, value = "create"),
+		@Setting(name = ConfigSettings.OFF_HEAP_MAX_SIZE, value = "65536")
+})
+public class OffHeapRegionFactoryTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCachedEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Country( 1L, "Mauritius" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Country country = session.find( Country.class, 1L );
+			assertThat( country.name ).isEqualTo( "Mauritius" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+
+		final CacheRegionStatistics regionStatistics =
+				statistics.getDomainDataRegionStatistics( Country.class.getName() );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getSizeInMemory() ).isPositive();
+
+		scope.getSessionFactory().getCache().evictEntityData( Country.class, 1L );
+		assertThat( regionStatistics.getElementCountInMemory() ).isZero();
+		assertThat( regionStatistics.getSizeInMemory() ).isZero();
+	}
+
+	@Test
+	public void testEviction(SessionFactoryScope scope) {
+		final int count = 5_000;
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= count; id++ ) {
+				session.persist( new Country( id, "Country number " + id ) );
+			}
+		} );
+
+		final OffHeapDomainDataRegionImpl region = assertTyping(
+				OffHeapDomainDataRegionImpl.class,
+				scope.getSessionFactory().getCache().getRegion( Country.class.getName() )
+		);
+		assertThat( region.getElementCountInMemory() ).isPositive().isLessThan( count );
+		assertThat( region.getEvictionCount() ).isPositive();
+		assertThat( region.getAllocatedSize() ).isLessThanOrEqualTo( 65536 );
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= count; id++ ) {
+				assertThat( session.find( Country.class, id ).name ).isEqualTo( "Country number " + id );
+			}
+		} );
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Country {
+		@Id
+		private Long id;
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ActionQueueSortEvent.NAME)
+@Label("Action Queue Sort")
+@Category("Hibernate ORM")
+@Description("Action Queue Sort")
+@StackTrace
+@AllowNonPortable
+public class ActionQueueSortEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.ActionQueueSort";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Number Of Insertions")
+	public int insertCount;
+
+	@Label("Number Of Updates")
+	public int updateCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
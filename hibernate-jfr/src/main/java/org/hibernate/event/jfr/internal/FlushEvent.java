@@ -32,6 +32,12 @@ public class FlushEvent extends Event implements DiagnosticEvent {
 	@Label("Number Of Processed Collections")
 	public int numberOfCollectionsProcessed;
 
+	@Label("Number Of Managed Entities")
+	public int numberOfManagedEntities;
+
+	@Label("Number Of Managed Collections")
+	public int numberOfManagedCollections;
+
 	@Label("Auto Flush")
 	public boolean isAutoFlush;
 
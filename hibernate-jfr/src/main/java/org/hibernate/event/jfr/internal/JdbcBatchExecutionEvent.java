@@ -26,6 +26,9 @@ public class JdbcBatchExecutionEvent extends Event implements DiagnosticEvent {
 	@Label("PreparedStatement SQL")
 	public String sql;
 
+	@Label("Batch Size")
+	public int batchSize;
+
 	@Override
 	public String toString() {
 		return NAME;
@@ -8,6 +8,7 @@
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.monitor.spi.EventMonitor;
@@ -50,6 +51,9 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType collectionRecreateEventType = EventType.getEventType( CollectionRecreateEvent.class );
 	private static final EventType collectionUpdateEventType = EventType.getEventType( CollectionUpdateEvent.class );
 	private static final EventType collectionRemoveEventType = EventType.getEventType( CollectionRemoveEvent.class );
+	private static final EventType queryTranslationEventType = EventType.getEventType( QueryTranslationEvent.class );
+	private static final EventType queryExecutionEventType = EventType.getEventType( QueryExecutionEvent.class );
+	private static final EventType actionQueueSortEventType = EventType.getEventType( ActionQueueSortEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -241,6 +245,84 @@ public void completeJdbcBatchExecutionEvent(
 		}
 	}
 
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent monitoringEvent,
+			String statementSql,
+			int batchSize) {
+		if ( monitoringEvent != null ) {
+			final JdbcBatchExecutionEvent jdbcBatchExecutionEvent = (JdbcBatchExecutionEvent) monitoringEvent;
+			jdbcBatchExecutionEvent.end();
+			if ( jdbcBatchExecutionEvent.shouldCommit() ) {
+				jdbcBatchExecutionEvent.sql = statementSql;
+				jdbcBatchExecutionEvent.batchSize = batchSize;
+				jdbcBatchExecutionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public QueryTranslationEvent beginQueryTranslationEvent() {
+		if ( queryTranslationEventType.isEnabled() ) {
+			final QueryTranslationEvent queryTranslationEvent = new QueryTranslationEvent();
+			queryTranslationEvent.begin();
+			return queryTranslationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryTranslationEvent(
+			DiagnosticEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			String queryString,
+			boolean cacheHit) {
+		if ( monitoringEvent != null ) {
+			final QueryTranslationEvent queryTranslationEvent = (QueryTranslationEvent) monitoringEvent;
+			queryTranslationEvent.end();
+			if ( queryTranslationEvent.shouldCommit() ) {
+				queryTranslationEvent.sessionIdentifier = getSessionIdentifier( session );
+				queryTranslationEvent.query = queryString;
+				queryTranslationEvent.cacheHit = cacheHit;
+				queryTranslationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public QueryExecutionEvent beginQueryExecutionEvent() {
+		if ( queryExecutionEventType.isEnabled() ) {
+			final QueryExecutionEvent queryExecutionEvent = new QueryExecutionEvent();
+			queryExecutionEvent.begin();
+			return queryExecutionEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryExecutionEvent(
+			DiagnosticEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			String sql,
+			int rowCount,
+			int resultCount) {
+		if ( monitoringEvent != null ) {
+			final QueryExecutionEvent queryExecutionEvent = (QueryExecutionEvent) monitoringEvent;
+			queryExecutionEvent.end();
+			if ( queryExecutionEvent.shouldCommit() ) {
+				queryExecutionEvent.sessionIdentifier = getSessionIdentifier( session );
+				queryExecutionEvent.sql = sql;
+				queryExecutionEvent.rowCount = rowCount;
+				queryExecutionEvent.resultCount = resultCount;
+				queryExecutionEvent.commit();
+			}
+		}
+	}
+
 	@Override
 	public DiagnosticEvent beginCachePutEvent() {
 		if ( cachePutEventType.isEnabled() ) {
@@ -441,6 +523,10 @@ public void completeFlushEvent(
 				jfrFlushEvent.sessionIdentifier = getSessionIdentifier( hibernateFlushEvent.getSession() );
 				jfrFlushEvent.numberOfEntitiesProcessed = hibernateFlushEvent.getNumberOfEntitiesProcessed();
 				jfrFlushEvent.numberOfCollectionsProcessed = hibernateFlushEvent.getNumberOfCollectionsProcessed();
+				final PersistenceContext persistenceContext =
+						hibernateFlushEvent.getSession().getPersistenceContextInternal();
+				jfrFlushEvent.numberOfManagedEntities = persistenceContext.getNumberOfManagedEntities();
+				jfrFlushEvent.numberOfManagedCollections = persistenceContext.getCollectionEntriesSize();
 				jfrFlushEvent.isAutoFlush = autoFlush;
 				jfrFlushEvent.commit();
 			}
@@ -534,6 +620,36 @@ public void completePrePartialFlush(
 		}
 	}
 
+	@Override
+	public ActionQueueSortEvent beginActionQueueSortEvent() {
+		if ( actionQueueSortEventType.isEnabled() ) {
+			final ActionQueueSortEvent actionQueueSortEvent = new ActionQueueSortEvent();
+			actionQueueSortEvent.begin();
+			return actionQueueSortEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeActionQueueSortEvent(
+			DiagnosticEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			int insertCount,
+			int updateCount) {
+		if ( monitoringEvent != null ) {
+			final ActionQueueSortEvent actionQueueSortEvent = (ActionQueueSortEvent) monitoringEvent;
+			actionQueueSortEvent.end();
+			if ( actionQueueSortEvent.shouldCommit() ) {
+				actionQueueSortEvent.sessionIdentifier = getSessionIdentifier( session );
+				actionQueueSortEvent.insertCount = insertCount;
+				actionQueueSortEvent.updateCount = updateCount;
+				actionQueueSortEvent.commit();
+			}
+		}
+	}
+
 	@Override
 	public DiagnosticEvent beginEntityInsertEvent() {
 		if ( entityInsertEventType.isEnabled() ) {
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(QueryExecutionEvent.NAME)
+@Label("Query Execution")
+@Category("Hibernate ORM")
+@Description("Query Execution")
+@StackTrace
+@AllowNonPortable
+public class QueryExecutionEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.QueryExecution";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("SQL")
+	public String sql;
+
+	@Label("Number Of Rows Read")
+	public int rowCount;
+
+	@Label("Number Of Results")
+	public int resultCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(QueryTranslationEvent.NAME)
+@Label("Query Translation")
+@Category("Hibernate ORM")
+@Description("Query Translation")
+@StackTrace
+@AllowNonPortable
+public class QueryTranslationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.QueryTranslation";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Query")
+	public String query;
+
+	@Label("Interpretation Cache Hit")
+	public boolean cacheHit;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
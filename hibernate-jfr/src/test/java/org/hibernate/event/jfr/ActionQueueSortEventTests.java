@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.ActionQueueSortEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		ActionQueueSortEventTests.TestEntity.class
+})
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.ORDER_INSERTS, value = "true"),
+				@Setting(name = AvailableSettings.ORDER_UPDATES, value = "true")
+		}
+)
+public class ActionQueueSortEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	@EnableEvent(ActionQueueSortEvent.NAME)
+	public void testActionQueueSortEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.persist( new TestEntity( i, "name_" + i ) );
+					}
+					session.flush();
+
+					List<RecordedEvent> events = actionQueueSortEvents();
+					assertThat( events ).hasSize( 1 );
+					RecordedEvent event = events.get( 0 );
+					assertThat( event.getString( "sessionIdentifier" ) )
+							.isEqualTo( session.getSessionIdentifier().toString() );
+					assertThat( event.getInt( "insertCount" ) ).isEqualTo( 3 );
+					assertThat( event.getInt( "updateCount" ) ).isZero();
+
+					jfrEvents.reset();
+					session.find( TestEntity.class, 1 ).name = "other_1";
+					session.find( TestEntity.class, 2 ).name = "other_2";
+					session.flush();
+
+					events = actionQueueSortEvents();
+					assertThat( events ).hasSize( 1 );
+					event = events.get( 0 );
+					assertThat( event.getInt( "insertCount" ) ).isZero();
+					assertThat( event.getInt( "updateCount" ) ).isEqualTo( 2 );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(ActionQueueSortEvent.NAME)
+	public void testNoActionQueueSortEventWithoutActions(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction( session -> session.flush() );
+
+		assertThat( actionQueueSortEvents() ).isEmpty();
+	}
+
+	private List<RecordedEvent> actionQueueSortEvents() {
+		return jfrEvents.events()
+				.filter(
+						recordedEvent ->
+						{
+							String eventName = recordedEvent.getEventType().getName();
+							return eventName.equals( ActionQueueSortEvent.NAME );
+						}
+				).toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -65,6 +65,7 @@ public void testJdbcBatchExecutionEvent(SessionFactoryScope scope) {
 					assertThat( jdbcBatchExecutionEvent.getDuration() ).isPositive();
 					assertThat( jdbcBatchExecutionEvent.getString( "sql" ).toLowerCase( Locale.ROOT ) )
 							.contains( "insert into " );
+					assertThat( jdbcBatchExecutionEvent.getInt( "batchSize" ) ).isEqualTo( 5 );
 
 					jdbcBatchExecutionEvent = events.get( 1 );
 					assertThat( jdbcBatchExecutionEvent.getEventType().getName() )
@@ -72,6 +73,7 @@ public void testJdbcBatchExecutionEvent(SessionFactoryScope scope) {
 					assertThat( jdbcBatchExecutionEvent.getDuration() ).isPositive();
 					assertThat( jdbcBatchExecutionEvent.getString( "sql" ).toLowerCase( Locale.ROOT ) )
 							.contains( "insert into " );
+					assertThat( jdbcBatchExecutionEvent.getInt( "batchSize" ) ).isEqualTo( 3 );
 				}
 		);
 
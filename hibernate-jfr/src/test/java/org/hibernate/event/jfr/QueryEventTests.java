@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.event.jfr.internal.QueryExecutionEvent;
+import org.hibernate.event.jfr.internal.QueryTranslationEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceException;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		QueryEventTests.TestEntity.class
+})
+@SessionFactory
+public class QueryEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.persist( new TestEntity( i, "name_" + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	@EnableEvent(QueryTranslationEvent.NAME)
+	public void testQueryTranslationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		final String hql = "select t.name from TestEntity t where t.id > :id";
+		scope.inTransaction(
+				session -> {
+					session.createSelectionQuery( hql, String.class ).setParameter( "id", 0 ).getResultList();
+					session.createSelectionQuery( hql, String.class ).setParameter( "id", 1 ).getResultList();
+				}
+		);
+
+		final List<RecordedEvent> events = jfrEvents.events()
+				.filter(
+						recordedEvent ->
+						{
+							String eventName = recordedEvent.getEventType().getName();
+							return eventName.equals( QueryTranslationEvent.NAME );
+						}
+				).toList();
+		assertThat( events ).hasSize( 2 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getString( "query" ) ).isEqualTo( hql );
+		assertThat( event.getString( "sessionIdentifier" ) ).isNotNull();
+		assertThat( event.getBoolean( "cacheHit" ) ).isFalse();
+
+		event = events.get( 1 );
+		assertThat( event.getString( "query" ) ).isEqualTo( hql );
+		assertThat( event.getBoolean( "cacheHit" ) ).isTrue();
+	}
+
+	@Test
+	@EnableEvent(QueryExecutionEvent.NAME)
+	public void testQueryExecutionEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					session.createSelectionQuery( "from TestEntity", TestEntity.class ).getResultList();
+				}
+		);
+
+		final List<RecordedEvent> events = jfrEvents.events()
+				.filter(
+						recordedEvent ->
+						{
+							String eventName = recordedEvent.getEventType().getName();
+							return eventName.equals( QueryExecutionEvent.NAME );
+						}
+				).toList();
+		assertThat( events ).hasSize( 1 );
+
+		final RecordedEvent event = events.get( 0 );
+		assertThat( event.getDuration() ).isPositive();
+		assertThat( event.getString( "sql" ).toLowerCase( Locale.ROOT ) ).contains( "select " );
+		assertThat( event.getInt( "rowCount" ) ).isEqualTo( 3 );
+		assertThat( event.getInt( "resultCount" ) ).isEqualTo( 3 );
+	}
+
+	@Test
+	@EnableEvent(QueryExecutionEvent.NAME)
+	@RequiresDialect(H2Dialect.class)
+	public void testFailedQueryExecutionEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> assertThatThrownBy(
+						() -> session.createSelectionQuery( "select 1 / (t.id - t.id) from TestEntity t", Integer.class )
+								.getResultList()
+				).isInstanceOf( PersistenceException.class )
+		);
+
+		final List<RecordedEvent> events = jfrEvents.events()
+				.filter(
+						recordedEvent ->
+						{
+							String eventName = recordedEvent.getEventType().getName();
+							return eventName.equals( QueryExecutionEvent.NAME );
+						}
+				).toList();
+		assertThat( events ).hasSize( 1 );
+
+		final RecordedEvent event = events.get( 0 );
+		assertThat( event.getString( "sql" ).toLowerCase( Locale.ROOT ) ).contains( "select " );
+		assertThat( event.getInt( "resultCount" ) ).isEqualTo( -1 );
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+}
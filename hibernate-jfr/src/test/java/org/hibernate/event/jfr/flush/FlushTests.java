@@ -62,6 +62,7 @@ public void testFlushEvent(SessionFactoryScope scope) {
 		assertThat( event.getInt( "numberOfEntitiesProcessed" ) )
 				.isEqualTo( 1 );
 		assertThat( event.getInt( "numberOfCollectionsProcessed" ) ).isEqualTo( 0 );
+		assertThat( event.getInt( "numberOfManagedEntities" ) ).isEqualTo( 1 );
 		assertThat( event.getBoolean( "isAutoFlush" ) ).isFalse();
 	}
 
@@ -14,6 +14,7 @@
 import io.micrometer.core.instrument.binder.MeterBinder;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -335,6 +336,38 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+
+		// Latency histograms
+		if ( statistics instanceof StatisticsImplementor statisticsImplementor ) {
+			LatencyMeters.register(
+					registry,
+					"hibernate.flushes.latency",
+					"The time taken by flushes",
+					statisticsImplementor,
+					StatisticsImplementor::getFlushLatencyStatistics,
+					tags
+			);
+			for ( String entityName : statistics.getEntityNames() ) {
+				LatencyMeters.register(
+						registry,
+						"hibernate.entities.loads.latency",
+						"The time taken to load an entity from the database",
+						statisticsImplementor,
+						stats -> stats.getEntityLoadLatencyStatistics( entityName ),
+						Tags.concat( tags, "entity", entityName )
+				);
+			}
+			for ( String role : statistics.getCollectionRoleNames() ) {
+				LatencyMeters.register(
+						registry,
+						"hibernate.collections.fetches.latency",
+						"The time taken to fetch a collection from the database",
+						statisticsImplementor,
+						stats -> stats.getCollectionFetchLatencyStatistics( role ),
+						Tags.concat( tags, "role", role )
+				);
+			}
+		}
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
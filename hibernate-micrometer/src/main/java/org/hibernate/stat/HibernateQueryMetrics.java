@@ -15,6 +15,7 @@
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import java.util.concurrent.TimeUnit;
 
@@ -179,6 +180,17 @@ void registerQueryMetric(Statistics statistics) {
 						.tags( "query", query )
 						.description( "Number of rows processed for a query" )
 						.register( meterRegistry );
+
+				if ( statistics instanceof StatisticsImplementor statisticsImplementor ) {
+					LatencyMeters.register(
+							meterRegistry,
+							"hibernate.query.execution.latency",
+							"Query execution time",
+							statisticsImplementor,
+							stats -> stats.getQueryLatencyStatistics( query ),
+							Tags.concat( tags, "query", query )
+					);
+				}
 			}
 		}
 	}
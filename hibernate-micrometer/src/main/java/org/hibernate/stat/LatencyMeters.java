@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import io.micrometer.common.lang.NonNullApi;
+import io.micrometer.common.lang.NonNullFields;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Publishes a {@link LatencyStatistics} the way Micrometer publishes a
+ * {@link io.micrometer.core.instrument.Timer} with client-side percentiles:
+ * a {@link FunctionTimer} for the count and total time, a {@link TimeGauge}
+ * for the maximum, and a {@code .percentile} {@link TimeGauge} tagged with
+ * {@code phi} for each percentile.
+ * <p>
+ * The percentiles are computed by Hibernate, from the histograms it records,
+ * since Micrometer cannot compute them from a count and a total.
+ */
+@NonNullApi
+@NonNullFields
+final class LatencyMeters {
+
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+	private LatencyMeters() {
+	}
+
+	static void register(
+			MeterRegistry registry,
+			String name,
+			String description,
+			StatisticsImplementor statistics,
+			Function<StatisticsImplementor, @Nullable LatencyStatistics> latency,
+			Iterable<Tag> tags) {
+		FunctionTimer.builder(
+				name,
+				statistics,
+				s -> {
+					final LatencyStatistics latencyStatistics = latency.apply( s );
+					return latencyStatistics == null ? 0 : latencyStatistics.getCount();
+				},
+				s -> {
+					final LatencyStatistics latencyStatistics = latency.apply( s );
+					return latencyStatistics == null ? 0 : latencyStatistics.getTotalNanoseconds();
+				},
+				TimeUnit.NANOSECONDS
+		)
+				.tags( tags )
+				.description( description )
+				.register( registry );
+
+		TimeGauge.builder(
+				name + ".max",
+				statistics,
+				TimeUnit.NANOSECONDS,
+				s -> {
+					final LatencyStatistics latencyStatistics = latency.apply( s );
+					return latencyStatistics == null ? 0 : latencyStatistics.getMaxNanoseconds();
+				}
+		)
+				.tags( tags )
+				.description( description + " (maximum)" )
+				.register( registry );
+
+		for ( double percentile : PERCENTILES ) {
+			TimeGauge.builder(
+					name + ".percentile",
+					statistics,
+					TimeUnit.NANOSECONDS,
+					s -> {
+						final LatencyStatistics latencyStatistics = latency.apply( s );
+						return latencyStatistics == null ? 0 : latencyStatistics.getValueAtPercentile( percentile * 100 );
+					}
+			)
+					.tags( tags )
+					.tag( "phi", String.valueOf( percentile ) )
+					.description( description + " (percentile)" )
+					.register( registry );
+		}
+	}
+}
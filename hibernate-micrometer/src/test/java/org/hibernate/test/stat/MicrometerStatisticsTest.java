@@ -135,6 +135,38 @@ public void testMicrometerMetrics() {
 		Assert.assertEquals( 2, registry.get("hibernate.transactions").tags("result", "success").functionCounter().count(), 0 );
 	}
 
+	@Test
+	public void testLatencyMetrics() {
+		sessionFactory().getStatistics().clear();
+
+		Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Account( new AccountId( 2 ), "latencyAcct" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		Account account = session.find( Account.class, new AccountId( 2 ) );
+		session.remove( account );
+		session.getTransaction().commit();
+		session.close();
+
+		Assert.assertEquals( 2, registry.get( "hibernate.flushes.latency" ).functionTimer().count(), 0 );
+		Assert.assertTrue( registry.get( "hibernate.flushes.latency.max" ).timeGauge().value() > 0 );
+		Assert.assertTrue(
+				registry.get( "hibernate.flushes.latency.percentile" ).tags( "phi", "0.99" ).timeGauge().value() > 0
+		);
+		Assert.assertEquals(
+				1,
+				registry.get( "hibernate.entities.loads.latency" )
+						.tags( "entity", Account.class.getName() )
+						.functionTimer()
+						.count(),
+				0
+		);
+	}
+
 	void verifyMeterNotFoundException(String name) {
 		try {
 			registry.get(name).meter();